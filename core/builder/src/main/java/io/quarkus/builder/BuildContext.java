@@ -3,9 +3,11 @@
 import static io.quarkus.builder.Execution.*;
 
 import java.time.LocalTime;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
@@ -182,6 +184,35 @@ public boolean isConsumed(Class<? extends BuildItem> type) {
         return execution.getBuildChain().getConsumed().contains(new ItemId(type));
     }
 
+    /**
+     * Get the build step being executed.
+     *
+     * @return the build step being executed (not {@code null})
+     */
+    public BuildStep getBuildStep() {
+        return stepInfo.getBuildStep();
+    }
+
+    /**
+     * Get the build steps which depend, directly or transitively, on the build step being executed. These steps are
+     * only executed once this step has completed.
+     *
+     * @return the dependent build steps (not {@code null})
+     */
+    public Set<BuildStep> getDependentBuildSteps() {
+        final Set<BuildStep> result = new HashSet<>();
+        final ArrayDeque<StepInfo> toVisit = new ArrayDeque<>(stepInfo.getDependents());
+        final Set<StepInfo> visited = new HashSet<>();
+        StepInfo current;
+        while ((current = toVisit.poll()) != null) {
+            if (visited.add(current)) {
+                result.add(current.getBuildStep());
+                toVisit.addAll(current.getDependents());
+            }
+        }
+        return result;
+    }
+
     /**
      * Emit a build note. This indicates information that the user may be interested in.
      *
@@ -901,6 +901,10 @@ public void execute(final BuildContext bc) {
                                                     return null;
                                                 })
                                         : null;
+                                if (bri != null && recordAnnotation.value() == ExecutionTime.RUNTIME_INIT) {
+                                    bri.setBuildStep(bc.getBuildStep(), bc.getDependentBuildSteps(),
+                                            recordAnnotation.orderSensitive());
+                                }
                                 for (int i = 0; i < methodArgs.length; i++) {
                                     methodArgs[i] = methodParamFns.get(i).apply(bc, bri);
                                 }
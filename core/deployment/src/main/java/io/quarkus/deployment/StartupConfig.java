@@ -0,0 +1,30 @@
+package io.quarkus.deployment;
+
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+@ConfigRoot(phase = ConfigPhase.BUILD_TIME)
+public class StartupConfig {
+
+    /**
+     * If set to true, the bytecode recorded for {@code RUNTIME_INIT} by independent build steps runs concurrently when the
+     * application starts.
+     * <p>
+     * Two build steps are independent if neither of them consumes, directly or transitively, a build item produced by the
+     * other one. The steps marked with {@code @Record(orderSensitive = true)}, as well as the configuration setup, still run
+     * sequentially on the main thread.
+     * <p>
+     * When {@code -Dquarkus.debug.print-startup-times=true} is set, the duration of each step and the critical path of the
+     * concurrent steps are printed.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean parallelRuntimeInit;
+
+    /**
+     * The maximum number of build steps running at the same time when {@code quarkus.startup.parallel-runtime-init} is
+     * enabled.
+     */
+    @ConfigItem(defaultValue = "4")
+    public int parallelRuntimeInitThreads;
+}
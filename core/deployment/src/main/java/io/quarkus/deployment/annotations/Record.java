@@ -64,4 +64,15 @@
      */
     boolean useIdentityComparisonForParameters() default true;
 
+    /**
+     * If this is set to true then the bytecode recorded for {@link ExecutionTime#RUNTIME_INIT} is never run concurrently
+     * with the bytecode recorded by other build steps, even when {@code quarkus.startup.parallel-runtime-init} is enabled.
+     * It runs on the main thread, after the bytecode of all the build steps that were recorded before it, and before the
+     * bytecode of all the build steps that are recorded after it.
+     *
+     * This should be used by recorders which rely on state that is not expressed by the build items consumed and produced
+     * by their build step, for instance a static field set by another recorder.
+     */
+    boolean orderSensitive() default false;
+
 }
@@ -136,6 +136,30 @@ public class PackageConfig {
     @ConfigItem
     public Optional<String> appcdsBuilderImage;
 
+    /**
+     * This option only applies when using fast-jar or mutable-jar. If this option is true, an index of every class and
+     * resource of the application jars is written to {@code quarkus/quarkus-resources.dat} and memory-mapped when the
+     * application starts.
+     * <p>
+     * The class files are stored uncompressed in the index so that they can be defined without opening the jars, and the
+     * lookup of a class or resource which is not part of the application never opens a jar. This makes the startup faster
+     * at the cost of a larger distribution on disk.
+     */
+    @ConfigItem
+    public boolean mappedResourceIndex;
+
+    /**
+     * This option only applies when using fast-jar or mutable-jar. The path of a class loading profile, recorded by
+     * launching the application with {@code -Dquarkus.launch.record-class-loading-profile=true}, which writes the
+     * classes and resources loaded during startup to {@code quarkus/quarkus-class-loading.lst}.
+     * <p>
+     * The profile is included in the application, which then loads these classes and resources on a background thread
+     * while it starts. If {@code quarkus.package.mapped-resource-index} is enabled, the index is also ordered to follow the
+     * profile.
+     */
+    @ConfigItem
+    public Optional<String> classLoadingProfile;
+
     /**
      * Whether creation of the AppCDS archive should run in a container if available.
      *
@@ -52,6 +52,8 @@
 import org.jboss.logging.Logger;
 
 import io.quarkus.bootstrap.model.MutableJarApplicationModel;
+import io.quarkus.bootstrap.runner.ClassLoadingProfile;
+import io.quarkus.bootstrap.runner.MappedResourceIndex;
 import io.quarkus.bootstrap.runner.QuarkusEntryPoint;
 import io.quarkus.bootstrap.runner.SerializedApplication;
 import io.quarkus.bootstrap.util.IoUtils;
@@ -718,6 +720,19 @@ private JarBuildItem buildThinJar(CurateOutcomeBuildItem curateOutcomeBuildItem,
             SerializedApplication.write(out, mainClassBuildItem.getClassName(), buildDir, jars, parentFirst,
                     nonExistentResources);
         }
+        List<String> profileEntries = Collections.emptyList();
+        if (packageConfig.classLoadingProfile.isPresent()) {
+            Path profile = Paths.get(packageConfig.classLoadingProfile.get());
+            Files.copy(profile, buildDir.resolve(QuarkusEntryPoint.QUARKUS_CLASS_LOADING_PROFILE),
+                    StandardCopyOption.REPLACE_EXISTING);
+            profileEntries = ClassLoadingProfile.readEntryNames(profile);
+        }
+        Path resourcesIndex = buildDir.resolve(QuarkusEntryPoint.QUARKUS_RESOURCES_DAT);
+        if (packageConfig.mappedResourceIndex) {
+            MappedResourceIndex.write(resourcesIndex, jars, profileEntries);
+        } else {
+            Files.deleteIfExists(resourcesIndex);
+        }
 
         runnerJar.toFile().setReadable(true, false);
         Path initJar = buildDir.resolve(QUARKUS_RUN_JAR);
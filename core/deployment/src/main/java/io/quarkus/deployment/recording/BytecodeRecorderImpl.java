@@ -52,6 +52,7 @@
 import org.wildfly.common.Assert;
 
 import io.quarkus.bootstrap.classloading.QuarkusClassLoader;
+import io.quarkus.builder.BuildStep;
 import io.quarkus.deployment.proxy.ProxyConfiguration;
 import io.quarkus.deployment.proxy.ProxyFactory;
 import io.quarkus.deployment.recording.AnnotationProxyProvider.AnnotationProxy;
@@ -147,6 +148,11 @@ public class BytecodeRecorderImpl implements RecorderContext {
     private int deferredParameterCount = 0;
     private boolean loadComplete;
 
+    // the following fields are used to order the RUNTIME_INIT startup tasks, see MainClassBuildStep
+    private BuildStep buildStep;
+    private Set<BuildStep> dependentBuildSteps = Collections.emptySet();
+    private boolean orderSensitive;
+
     public BytecodeRecorderImpl(boolean staticInit, String buildStepName, String methodName, String uniqueHash,
             boolean useIdentityComparison) {
         this(staticInit, buildStepName, methodName, uniqueHash, useIdentityComparison, (s) -> null);
@@ -452,6 +458,31 @@ public String getClassName() {
         return className;
     }
 
+    /**
+     * Records the build step which produced this recorder, and the build steps which depend on it.
+     */
+    public void setBuildStep(BuildStep buildStep, Set<BuildStep> dependentBuildSteps, boolean orderSensitive) {
+        this.buildStep = buildStep;
+        this.dependentBuildSteps = dependentBuildSteps;
+        this.orderSensitive = orderSensitive;
+    }
+
+    public BuildStep getBuildStep() {
+        return buildStep;
+    }
+
+    /**
+     * @return {@code true} if the build step of the given recorder depends, directly or transitively, on the build step of
+     *         this recorder
+     */
+    public boolean isDependency(BytecodeRecorderImpl recorder) {
+        return recorder.buildStep != null && dependentBuildSteps.contains(recorder.buildStep);
+    }
+
+    public boolean isOrderSensitive() {
+        return orderSensitive;
+    }
+
     private Map.Entry<ClassCreator, MethodCreator> prepareBytecodeWriting(ClassOutput classOutput) {
         ClassCreator file = classCreatorFunction.apply(classOutput);
         MethodCreator mainMethod = methodCreatorFunction.apply(file);
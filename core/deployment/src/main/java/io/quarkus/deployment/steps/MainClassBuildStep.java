@@ -28,6 +28,7 @@
 import io.quarkus.bootstrap.runner.Timing;
 import io.quarkus.builder.Version;
 import io.quarkus.deployment.GeneratedClassGizmoAdaptor;
+import io.quarkus.deployment.StartupConfig;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.builditem.AllowJNDIBuildItem;
@@ -70,6 +71,7 @@
 import io.quarkus.runtime.ApplicationLifecycleManager;
 import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.NativeImageRuntimePropertiesRecorder;
+import io.quarkus.runtime.ParallelStartupTasks;
 import io.quarkus.runtime.Quarkus;
 import io.quarkus.runtime.QuarkusApplication;
 import io.quarkus.runtime.StartupContext;
@@ -99,6 +101,12 @@ public class MainClassBuildStep {
     public static final MethodDescriptor CONFIGURE_STEP_TIME_START = ofMethod(StepTiming.class.getName(), "configureStart",
             void.class);
 
+    private static final MethodDescriptor PARALLEL_ADD_TASK = ofMethod(ParallelStartupTasks.class, "addTask", void.class,
+            String.class, StartupTask.class);
+    private static final MethodDescriptor PARALLEL_ADD_DEPENDENCY = ofMethod(ParallelStartupTasks.class, "addDependency",
+            void.class, int.class, int.class);
+    private static final MethodDescriptor PARALLEL_RUN = ofMethod(ParallelStartupTasks.class, "run", void.class, int.class);
+
     @BuildStep
     void build(List<StaticBytecodeRecorderBuildItem> staticInitTasks,
             List<ObjectSubstitutionBuildItem> substitutions,
@@ -116,7 +124,8 @@ void build(List<StaticBytecodeRecorderBuildItem> staticInitTasks,
             ApplicationInfoBuildItem applicationInfo,
             List<AllowJNDIBuildItem> allowJNDIBuildItems,
             Optional<AppCDSRequestedBuildItem> appCDSRequested,
-            NamingConfig namingConfig) {
+            NamingConfig namingConfig,
+            StartupConfig startupConfig) {
 
         appClassNameProducer.produce(new ApplicationClassNameBuildItem(Application.APP_CLASS_NAME));
 
@@ -247,10 +256,15 @@ void build(List<StaticBytecodeRecorderBuildItem> staticInitTasks,
 
         tryBlock = mv.tryBlock();
         tryBlock.invokeStaticMethod(CONFIGURE_STEP_TIME_START);
-        for (MainBytecodeRecorderBuildItem holder : mainMethod) {
-            writeRecordedBytecode(holder.getBytecodeRecorder(), holder.getGeneratedStartupContextClassName(), substitutions,
-                    recordableConstructorBuildItems,
-                    loaders, constants, gizmoOutput, startupContext, tryBlock);
+        if (startupConfig.parallelRuntimeInit) {
+            writeParallelRecordedBytecode(mainMethod, substitutions, recordableConstructorBuildItems, loaders, constants,
+                    gizmoOutput, startupContext, tryBlock, startupConfig.parallelRuntimeInitThreads);
+        } else {
+            for (MainBytecodeRecorderBuildItem holder : mainMethod) {
+                writeRecordedBytecode(holder.getBytecodeRecorder(), holder.getGeneratedStartupContextClassName(),
+                        substitutions, recordableConstructorBuildItems,
+                        loaders, constants, gizmoOutput, startupContext, tryBlock);
+            }
         }
 
         // Startup log messages
@@ -429,20 +443,7 @@ private void writeRecordedBytecode(BytecodeRecorderImpl recorder, String fallbac
         }
 
         if ((recorder != null) && !recorder.isEmpty()) {
-            for (ObjectSubstitutionBuildItem sub : substitutions) {
-                ObjectSubstitutionBuildItem.Holder holder1 = sub.holder;
-                recorder.registerSubstitution(holder1.from, holder1.to, holder1.substitution);
-            }
-            for (BytecodeRecorderObjectLoaderBuildItem item : loaders) {
-                recorder.registerObjectLoader(item.getObjectLoader());
-            }
-            for (var item : recordableConstructorBuildItems) {
-                recorder.markClassAsConstructorRecordable(item.getClazz());
-            }
-            for (BytecodeRecorderConstantDefinitionBuildItem constant : constants) {
-                constant.register(recorder);
-            }
-            recorder.writeBytecode(gizmoOutput);
+            writeRecorderClass(recorder, substitutions, recordableConstructorBuildItems, loaders, constants, gizmoOutput);
         }
 
         ResultHandle dup = bytecodeCreator
@@ -452,6 +453,93 @@ private void writeRecordedBytecode(BytecodeRecorderImpl recorder, String fallbac
         bytecodeCreator.invokeStaticMethod(PRINT_STEP_TIME_METHOD, startupContext);
     }
 
+    private void writeRecorderClass(BytecodeRecorderImpl recorder, List<ObjectSubstitutionBuildItem> substitutions,
+            List<RecordableConstructorBuildItem> recordableConstructorBuildItems,
+            List<BytecodeRecorderObjectLoaderBuildItem> loaders,
+            List<BytecodeRecorderConstantDefinitionBuildItem> constants,
+            GeneratedClassGizmoAdaptor gizmoOutput) {
+        for (ObjectSubstitutionBuildItem sub : substitutions) {
+            ObjectSubstitutionBuildItem.Holder holder1 = sub.holder;
+            recorder.registerSubstitution(holder1.from, holder1.to, holder1.substitution);
+        }
+        for (BytecodeRecorderObjectLoaderBuildItem item : loaders) {
+            recorder.registerObjectLoader(item.getObjectLoader());
+        }
+        for (var item : recordableConstructorBuildItems) {
+            recorder.markClassAsConstructorRecordable(item.getClazz());
+        }
+        for (BytecodeRecorderConstantDefinitionBuildItem constant : constants) {
+            constant.register(recorder);
+        }
+        recorder.writeBytecode(gizmoOutput);
+    }
+
+    /**
+     * Writes the RUNTIME_INIT bytecode so that the recorders of independent build steps run concurrently.
+     * <p>
+     * The recorders are split into groups separated by the order-sensitive ones, which run sequentially, like the
+     * generated startup tasks that do not come from a recorder (e.g. the configuration setup). Within a group, a recorder
+     * waits for the recorders of the build steps it depends on, according to the build step graph, whatever their position
+     * in the list. The shutdown tasks are still registered in the order of the list, see {@link ParallelStartupTasks}.
+     */
+    private void writeParallelRecordedBytecode(List<MainBytecodeRecorderBuildItem> mainMethod,
+            List<ObjectSubstitutionBuildItem> substitutions,
+            List<RecordableConstructorBuildItem> recordableConstructorBuildItems,
+            List<BytecodeRecorderObjectLoaderBuildItem> loaders,
+            List<BytecodeRecorderConstantDefinitionBuildItem> constants,
+            GeneratedClassGizmoAdaptor gizmoOutput,
+            ResultHandle startupContext, BytecodeCreator bytecodeCreator, int maxThreads) {
+        List<BytecodeRecorderImpl> group = new ArrayList<>();
+        for (MainBytecodeRecorderBuildItem holder : mainMethod) {
+            BytecodeRecorderImpl recorder = holder.getBytecodeRecorder();
+            if (recorder == null || recorder.getBuildStep() == null || recorder.isOrderSensitive()) {
+                writeParallelGroup(group, substitutions, recordableConstructorBuildItems, loaders, constants, gizmoOutput,
+                        startupContext, bytecodeCreator, maxThreads);
+                group.clear();
+                writeRecordedBytecode(recorder, holder.getGeneratedStartupContextClassName(), substitutions,
+                        recordableConstructorBuildItems, loaders, constants, gizmoOutput, startupContext, bytecodeCreator);
+            } else if (!recorder.isEmpty()) {
+                group.add(recorder);
+            }
+        }
+        writeParallelGroup(group, substitutions, recordableConstructorBuildItems, loaders, constants, gizmoOutput,
+                startupContext, bytecodeCreator, maxThreads);
+    }
+
+    private void writeParallelGroup(List<BytecodeRecorderImpl> group,
+            List<ObjectSubstitutionBuildItem> substitutions,
+            List<RecordableConstructorBuildItem> recordableConstructorBuildItems,
+            List<BytecodeRecorderObjectLoaderBuildItem> loaders,
+            List<BytecodeRecorderConstantDefinitionBuildItem> constants,
+            GeneratedClassGizmoAdaptor gizmoOutput,
+            ResultHandle startupContext, BytecodeCreator bytecodeCreator, int maxThreads) {
+        if (group.size() < 2) {
+            for (BytecodeRecorderImpl recorder : group) {
+                writeRecordedBytecode(recorder, null, substitutions, recordableConstructorBuildItems, loaders, constants,
+                        gizmoOutput, startupContext, bytecodeCreator);
+            }
+            return;
+        }
+        ResultHandle tasks = bytecodeCreator.newInstance(ofConstructor(ParallelStartupTasks.class, StartupContext.class),
+                startupContext);
+        for (int i = 0; i < group.size(); i++) {
+            BytecodeRecorderImpl recorder = group.get(i);
+            writeRecorderClass(recorder, substitutions, recordableConstructorBuildItems, loaders, constants, gizmoOutput);
+            bytecodeCreator.invokeVirtualMethod(PARALLEL_ADD_TASK, tasks,
+                    bytecodeCreator.load(recorder.getBuildStep().toString()),
+                    bytecodeCreator.newInstance(ofConstructor(recorder.getClassName())));
+        }
+        for (int i = 0; i < group.size(); i++) {
+            for (int j = 0; j < group.size(); j++) {
+                if (j != i && group.get(j).isDependency(group.get(i))) {
+                    bytecodeCreator.invokeVirtualMethod(PARALLEL_ADD_DEPENDENCY, tasks, bytecodeCreator.load(i),
+                            bytecodeCreator.load(j));
+                }
+            }
+        }
+        bytecodeCreator.invokeVirtualMethod(PARALLEL_RUN, tasks, bytecodeCreator.load(maxThreads));
+    }
+
     /**
      * registers the generated application class for reflection, needed when launching via the Quarkus launcher
      */
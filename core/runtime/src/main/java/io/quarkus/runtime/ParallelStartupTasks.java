@@ -0,0 +1,195 @@
+package io.quarkus.runtime;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.quarkus.runtime.util.StepTiming;
+
+/**
+ * Runs a group of {@link StartupTask}s recorded for {@code RUNTIME_INIT} concurrently, on a bounded pool.
+ * <p>
+ * The dependencies between the tasks are computed at build time from the build steps which recorded them: a task only
+ * starts once the tasks recorded by the build steps it depends on have completed. The startup fails with the first
+ * exception thrown by a task, the tasks which have not started yet are not run.
+ * <p>
+ * The shutdown tasks registered by the tasks are registered in the order the tasks were added once they are all done, so
+ * that the application shuts down in the same order whether the startup tasks run concurrently or not.
+ * <p>
+ * This is used by the generated application class when {@code quarkus.startup.parallel-runtime-init} is enabled, and should
+ * not be used directly.
+ */
+public final class ParallelStartupTasks {
+
+    private final StartupContext startupContext;
+    private final List<Task> tasks = new ArrayList<>();
+    private final AtomicInteger completed = new AtomicInteger();
+    private final CompletableFuture<Void> done = new CompletableFuture<>();
+    private ExecutorService executor;
+    private long started;
+
+    public ParallelStartupTasks(StartupContext startupContext) {
+        this.startupContext = startupContext;
+    }
+
+    /**
+     * Adds a task.
+     *
+     * @param name the name of the build step which recorded the task
+     * @param task the task
+     */
+    public void addTask(String name, StartupTask task) {
+        tasks.add(new Task(name, task));
+    }
+
+    /**
+     * Adds a dependency between two tasks.
+     *
+     * @param task the index of the dependent task
+     * @param dependency the index of the task that must complete before the dependent task starts
+     */
+    public void addDependency(int task, int dependency) {
+        Task dependent = tasks.get(task);
+        Task dependencyTask = tasks.get(dependency);
+        dependencyTask.dependents.add(dependent);
+        dependent.dependencies.add(dependencyTask);
+        dependent.remainingDependencies.incrementAndGet();
+    }
+
+    /**
+     * Runs the tasks and waits for their completion.
+     *
+     * @param maxThreads the maximum number of tasks running at the same time
+     */
+    public void run(int maxThreads) throws Exception {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        executor = Executors.newFixedThreadPool(Math.max(1, Math.min(maxThreads, tasks.size())), new ThreadFactory() {
+            private final AtomicInteger count = new AtomicInteger();
+
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "quarkus-startup-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                thread.setContextClassLoader(classLoader);
+                return thread;
+            }
+        });
+        started = System.nanoTime();
+        try {
+            for (Task task : tasks) {
+                if (task.remainingDependencies.get() == 0) {
+                    submit(task);
+                }
+            }
+            done.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new RuntimeException(cause);
+        } finally {
+            executor.shutdownNow();
+            for (Task task : tasks) {
+                startupContext.flushShutdownTasks(task.shutdownTasks);
+            }
+        }
+        StepTiming.printCriticalPath(criticalPath());
+    }
+
+    private void submit(Task task) {
+        if (done.isDone()) {
+            // another task has failed and the executor is being shut down
+            return;
+        }
+        try {
+            doSubmit(task);
+        } catch (RejectedExecutionException e) {
+            // another task has failed in the meantime
+        }
+    }
+
+    private void doSubmit(Task task) {
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                if (done.isDone()) {
+                    // another task has failed
+                    return;
+                }
+                task.started = System.nanoTime();
+                startupContext.setShutdownTasksBuffer(task.shutdownTasks);
+                try {
+                    task.task.deploy(startupContext);
+                } catch (Throwable t) {
+                    done.completeExceptionally(t);
+                    return;
+                } finally {
+                    startupContext.setShutdownTasksBuffer(null);
+                }
+                task.ended = System.nanoTime();
+                StepTiming.printStepTime(task.name, task.started - started, task.ended - task.started);
+                for (Task dependent : task.dependents) {
+                    if (dependent.remainingDependencies.decrementAndGet() == 0) {
+                        submit(dependent);
+                    }
+                }
+                if (completed.incrementAndGet() == tasks.size()) {
+                    done.complete(null);
+                }
+            }
+        });
+    }
+
+    /**
+     * Returns the names of the tasks of the longest chain of dependent tasks, the one which bounded the duration.
+     */
+    private List<String> criticalPath() {
+        Task last = null;
+        for (Task task : tasks) {
+            if (last == null || task.ended > last.ended) {
+                last = task;
+            }
+        }
+        List<String> path = new ArrayList<>();
+        while (last != null) {
+            path.add(0, String.format("%s (%sms)", last.name, StepTiming.toMillis(last.ended - last.started)));
+            Task previous = null;
+            for (Task dependency : last.dependencies) {
+                if (previous == null || dependency.ended > previous.ended) {
+                    previous = dependency;
+                }
+            }
+            last = previous;
+        }
+        return path;
+    }
+
+    private static final class Task {
+
+        private final String name;
+        private final StartupTask task;
+        private final AtomicInteger remainingDependencies = new AtomicInteger();
+        private final List<Task> dependencies = new ArrayList<>();
+        private final List<Task> dependents = new ArrayList<>();
+        private final StartupContext.ShutdownTasksBuffer shutdownTasks = new StartupContext.ShutdownTasksBuffer();
+        private volatile long started;
+        private volatile long ended;
+
+        private Task(String name, StartupTask task) {
+            this.name = name;
+            this.task = task;
+        }
+    }
+}
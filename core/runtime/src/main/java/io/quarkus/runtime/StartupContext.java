@@ -23,19 +23,33 @@ public class StartupContext implements Closeable {
     // the initial capacity was determined experimentally for a standard set of extensions
     private final List<Runnable> shutdownTasks = new ArrayList<>(9);
     private final List<Runnable> lastShutdownTasks = new ArrayList<>(7);
+    // the shutdown tasks registered by a startup task running concurrently with others, see ParallelStartupTasks
+    private final ThreadLocal<ShutdownTasksBuffer> shutdownTasksBuffer = new ThreadLocal<>();
     private String[] commandLineArgs;
-    private String currentBuildStepName;
+    private volatile String currentBuildStepName;
 
     public StartupContext() {
         ShutdownContext shutdownContext = new ShutdownContext() {
             @Override
             public void addShutdownTask(Runnable runnable) {
-                shutdownTasks.add(runnable);
+                ShutdownTasksBuffer buffer = shutdownTasksBuffer.get();
+                if (buffer != null && buffer.add(buffer.shutdownTasks, runnable)) {
+                    return;
+                }
+                synchronized (shutdownTasks) {
+                    shutdownTasks.add(runnable);
+                }
             }
 
             @Override
             public void addLastShutdownTask(Runnable runnable) {
-                lastShutdownTasks.add(runnable);
+                ShutdownTasksBuffer buffer = shutdownTasksBuffer.get();
+                if (buffer != null && buffer.add(buffer.lastShutdownTasks, runnable)) {
+                    return;
+                }
+                synchronized (lastShutdownTasks) {
+                    lastShutdownTasks.add(runnable);
+                }
             }
         };
         values.put(ShutdownContext.class.getName(), shutdownContext);
@@ -50,34 +64,42 @@ public String[] get() {
         });
     }
 
-    public void putValue(String name, Object value) {
+    // the recorded startup tasks may run concurrently, see ParallelStartupTasks
+    public synchronized void putValue(String name, Object value) {
         values.put(name, value);
         lastValueSet = true;
         this.lastValue = value;
     }
 
-    public Object getValue(String name) {
+    public synchronized Object getValue(String name) {
         return values.get(name);
     }
 
-    public Object getLastValue() {
+    public synchronized Object getLastValue() {
         return lastValue;
     }
 
-    public boolean isLastValueSet() {
+    public synchronized boolean isLastValueSet() {
         return lastValueSet;
     }
 
     @Override
     public void close() {
         runAllInReverseOrder(shutdownTasks);
-        shutdownTasks.clear();
+        synchronized (shutdownTasks) {
+            shutdownTasks.clear();
+        }
         runAllInReverseOrder(lastShutdownTasks);
-        lastShutdownTasks.clear();
+        synchronized (lastShutdownTasks) {
+            lastShutdownTasks.clear();
+        }
     }
 
     private void runAllInReverseOrder(List<Runnable> tasks) {
-        List<Runnable> toClose = new ArrayList<>(tasks);
+        List<Runnable> toClose;
+        synchronized (tasks) {
+            toClose = new ArrayList<>(tasks);
+        }
         Collections.reverse(toClose);
         for (Runnable r : toClose) {
             try {
@@ -88,6 +110,34 @@ private void runAllInReverseOrder(List<Runnable> tasks) {
         }
     }
 
+    /**
+     * Buffers the shutdown tasks registered by the current thread, or stops buffering them if {@code buffer} is null.
+     */
+    void setShutdownTasksBuffer(ShutdownTasksBuffer buffer) {
+        if (buffer == null) {
+            shutdownTasksBuffer.remove();
+        } else {
+            shutdownTasksBuffer.set(buffer);
+        }
+    }
+
+    /**
+     * Registers the shutdown tasks of the given buffer. The tasks added to the buffer afterwards are registered directly.
+     */
+    void flushShutdownTasks(ShutdownTasksBuffer buffer) {
+        synchronized (buffer) {
+            synchronized (shutdownTasks) {
+                shutdownTasks.addAll(buffer.shutdownTasks);
+            }
+            synchronized (lastShutdownTasks) {
+                lastShutdownTasks.addAll(buffer.lastShutdownTasks);
+            }
+            buffer.shutdownTasks.clear();
+            buffer.lastShutdownTasks.clear();
+            buffer.flushed = true;
+        }
+    }
+
     @SuppressWarnings("unused")
     public void setCommandLineArguments(String[] commandLineArguments) {
         this.commandLineArgs = commandLineArguments;
@@ -102,4 +152,23 @@ public String getCurrentBuildStepName() {
     public void setCurrentBuildStepName(String currentBuildStepName) {
         this.currentBuildStepName = currentBuildStepName;
     }
+
+    /**
+     * The shutdown tasks registered by a startup task, so that the startup tasks running concurrently register their
+     * shutdown tasks in the order they would have run sequentially.
+     */
+    static final class ShutdownTasksBuffer {
+
+        private final List<Runnable> shutdownTasks = new ArrayList<>();
+        private final List<Runnable> lastShutdownTasks = new ArrayList<>();
+        private boolean flushed;
+
+        private synchronized boolean add(List<Runnable> tasks, Runnable runnable) {
+            if (flushed) {
+                return false;
+            }
+            tasks.add(runnable);
+            return true;
+        }
+    }
 }
@@ -24,4 +24,45 @@ public class AsyncConfig {
      */
     @ConfigItem(defaultValue = "block")
     OverflowAction overflow;
+
+    /**
+     * Ring buffer config
+     */
+    RingBufferConfig ringBuffer;
+
+    @ConfigGroup
+    public static class RingBufferConfig {
+
+        /**
+         * Indicates whether to use a lock-free ring buffer instead of a blocking queue.
+         * <p>
+         * The records are written in batches by a single consumer thread and the handler is flushed once per batch.
+         * The capacity of the ring buffer is the queue length rounded up to the next power of two.
+         */
+        @ConfigItem(name = ConfigItem.PARENT)
+        boolean enable;
+
+        /**
+         * Determine what happens when the ring buffer is filling up.
+         * <p>
+         * {@code block} blocks the publisher until there is space in the ring buffer. {@code discard} drops the records
+         * below {@code INFO} once the ring buffer is three quarters full. {@code sample} only keeps one in
+         * {@code sample-rate} records below {@code WARN} once the ring buffer is three quarters full. With both
+         * {@code discard} and {@code sample}, all records are dropped when the ring buffer is full.
+         */
+        @ConfigItem(defaultValue = "block")
+        RingBufferHandler.OverflowPolicy overflow;
+
+        /**
+         * One in {@code sample-rate} records is kept when the {@code sample} overflow policy is used.
+         */
+        @ConfigItem(defaultValue = "10")
+        int sampleRate;
+
+        /**
+         * The maximum number of records written before the handler is flushed
+         */
+        @ConfigItem(defaultValue = "256")
+        int batchSize;
+    }
 }
@@ -30,6 +30,11 @@ public class CategoryConfig {
     @ConfigItem(defaultValue = "true")
     boolean useParentHandlers;
 
+    /**
+     * Rate limiting of repeated log records
+     */
+    RateLimitConfig rateLimit;
+
     // for method refs
     public InheritableLevel getLevel() {
         return level;
@@ -15,6 +15,8 @@
  * level.
  * <p>
  * Non-standard levels are counted with the lower standard level.
+ * <p>
+ * The records dropped by the asynchronous {@link RingBufferHandler}s are counted separately.
  */
 public class LogMetricsHandler extends Handler {
 
@@ -27,13 +29,29 @@ public LogMetricsHandler(NavigableMap<Integer, LongAdder> logCounters) {
     @Override
     public void publish(LogRecord record) {
         if (isLoggable(record)) {
-            Entry<Integer, LongAdder> counter = logCounters.floorEntry(record.getLevel().intValue());
-            if (counter != null) {
-                counter.getValue().increment();
-            } else {
-                // Default to TRACE for anything lower
-                logCounters.get(Level.TRACE.intValue()).increment();
-            }
+            increment(logCounters, record);
+        }
+    }
+
+    /**
+     * Counts a record dropped by a {@link RingBufferHandler} because of its overflow policy.
+     *
+     * @param record
+     */
+    static void countDropped(LogRecord record) {
+        NavigableMap<Integer, LongAdder> droppedCounters = LogMetricsHandlerRecorder.DROPPED_COUNTERS;
+        if (!droppedCounters.isEmpty()) {
+            increment(droppedCounters, record);
+        }
+    }
+
+    private static void increment(NavigableMap<Integer, LongAdder> counters, LogRecord record) {
+        Entry<Integer, LongAdder> counter = counters.floorEntry(record.getLevel().intValue());
+        if (counter != null) {
+            counter.getValue().increment();
+        } else {
+            // Default to TRACE for anything lower
+            counters.get(Level.TRACE.intValue()).increment();
         }
     }
 
@@ -25,13 +25,19 @@ public class LogMetricsHandlerRecorder {
     static final List<Level> STANDARD_LEVELS = Arrays.asList(Level.FATAL, Level.ERROR, Level.WARN, Level.INFO, Level.DEBUG,
             Level.TRACE);
 
+    static final String DROPPED_METRIC_NAME = "log.dropped";
+
+    static final String DROPPED_METRIC_DESCRIPTION = "Number of log events dropped by the asynchronous ring buffer handlers, per log level.";
+
     static final NavigableMap<Integer, LongAdder> COUNTERS = new TreeMap<>();
 
+    static final NavigableMap<Integer, LongAdder> DROPPED_COUNTERS = new TreeMap<>();
+
     public void initCounters() {
         for (Level level : STANDARD_LEVELS) {
-            LongAdder counter = new LongAdder();
             // Use integer value to match any non-standard equivalent level
-            COUNTERS.put(level.intValue(), counter);
+            COUNTERS.put(level.intValue(), new LongAdder());
+            DROPPED_COUNTERS.put(level.intValue(), new LongAdder());
         }
     }
 
@@ -42,6 +48,9 @@ public void accept(MetricsFactory metricsFactory) {
                 for (Level level : STANDARD_LEVELS) {
                     metricsFactory.builder(METRIC_NAME).description(METRIC_DESCRIPTION).tag("level", level.getName())
                             .buildCounter(COUNTERS.get(level.intValue())::sum);
+                    metricsFactory.builder(DROPPED_METRIC_NAME).description(DROPPED_METRIC_DESCRIPTION)
+                            .tag("level", level.getName())
+                            .buildCounter(DROPPED_COUNTERS.get(level.intValue())::sum);
                 }
             }
         };
@@ -0,0 +1,287 @@
+package io.quarkus.runtime.logging;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.logging.Filter;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.LogContext;
+
+/**
+ * Limits the rate of the log records of the categories with an enabled {@link RateLimitConfig}.
+ * <p>
+ * The records are limited per logger and message template, i.e. the unformatted message. Each template has a token bucket
+ * implemented as a generic cell rate algorithm: a single timestamp updated with a CAS, so that the filter does not take any
+ * lock. Once records were suppressed, a summary with the number of suppressed records is logged at most once per period,
+ * together with the next record that is let through. The summaries of the templates that are not logged again are logged
+ * by a timer once {@link #start() started}, and when the filter is {@link #close() closed}.
+ * <p>
+ * The same instance is set on the root handler and on the named handlers of the categories, so that a record reaching
+ * several of them is only checked once: the decision for the last record checked by a thread is reused for the same
+ * record, identified by its sequence number.
+ */
+public class LogRateLimitFilter implements Filter {
+
+    static final String SUMMARY_MESSAGE = "Suppressed %d similar messages: %s";
+    // Messages that are not constant would otherwise create an unbounded number of buckets
+    private static final int MAX_TEMPLATES_PER_LOGGER = 1024;
+    private static final LoggerLimiter NO_LIMIT = new LoggerLimiter(null, 0);
+
+    private final Map<String, RateLimitConfig> categories;
+    private final ConcurrentMap<String, LoggerLimiter> loggers;
+    private final LongSupplier nanoTime;
+    private final Consumer<ExtLogRecord> summaryPublisher;
+    private final ThreadLocal<LastDecision> lastDecision;
+    private ScheduledExecutorService summaryTimer;
+
+    public LogRateLimitFilter(Map<String, RateLimitConfig> categories) {
+        this(categories, System::nanoTime, LogRateLimitFilter::publishSummary);
+    }
+
+    LogRateLimitFilter(Map<String, RateLimitConfig> categories, LongSupplier nanoTime,
+            Consumer<ExtLogRecord> summaryPublisher) {
+        this.categories = categories;
+        this.loggers = new ConcurrentHashMap<>();
+        this.nanoTime = nanoTime;
+        this.summaryPublisher = summaryPublisher;
+        this.lastDecision = ThreadLocal.withInitial(LastDecision::new);
+    }
+
+    /**
+     *
+     * @param categories the configuration of the categories
+     * @return the filter or {@code null} if rate limiting is not enabled for any category
+     */
+    static LogRateLimitFilter create(Map<String, CategoryConfig> categories) {
+        Map<String, RateLimitConfig> rateLimits = new HashMap<>();
+        for (Map.Entry<String, CategoryConfig> entry : categories.entrySet()) {
+            if (entry.getValue().rateLimit.enable) {
+                rateLimits.put(entry.getKey(), entry.getValue().rateLimit);
+            }
+        }
+        return rateLimits.isEmpty() ? null : new LogRateLimitFilter(rateLimits);
+    }
+
+    @Override
+    public boolean isLoggable(LogRecord record) {
+        String template = record.getMessage();
+        if (template == SUMMARY_MESSAGE) {
+            return true;
+        }
+        LastDecision last = lastDecision.get();
+        if (last.checked && last.sequenceNumber == record.getSequenceNumber()) {
+            return last.loggable;
+        }
+        boolean loggable = check(record, template);
+        last.checked = true;
+        last.sequenceNumber = record.getSequenceNumber();
+        last.loggable = loggable;
+        return loggable;
+    }
+
+    private boolean check(LogRecord record, String template) {
+        String loggerName = record.getLoggerName() == null ? "" : record.getLoggerName();
+        LoggerLimiter limiter = loggers.get(loggerName);
+        if (limiter == null) {
+            limiter = loggers.computeIfAbsent(loggerName, this::createLimiter);
+        }
+        if (limiter == NO_LIMIT) {
+            return true;
+        }
+        long now = nanoTime.getAsLong();
+        Bucket bucket = limiter.getBucket(template == null ? "" : template, now);
+        if (!bucket.tryAcquire(now)) {
+            if (bucket.level != record.getLevel()) {
+                bucket.level = record.getLevel();
+            }
+            bucket.suppressed.increment();
+            return false;
+        }
+        if (bucket.isSummaryDue(now)) {
+            publishSummary(record.getLoggerName(), record.getLevel(), bucket);
+        }
+        return true;
+    }
+
+    /**
+     * Logs the summaries every period of the shortest rate limit, until the filter is closed.
+     */
+    synchronized void start() {
+        if (summaryTimer != null) {
+            return;
+        }
+        long periodNanos = Long.MAX_VALUE;
+        for (RateLimitConfig config : categories.values()) {
+            periodNanos = Math.min(periodNanos, Math.max(1, config.period.toNanos()));
+        }
+        summaryTimer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Log rate limit summaries");
+            thread.setDaemon(true);
+            return thread;
+        });
+        summaryTimer.scheduleWithFixedDelay(() -> flushSummaries(false), periodNanos, periodNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Stops the timer and logs the summaries of all the records suppressed since the last summaries.
+     */
+    synchronized void close() {
+        if (summaryTimer != null) {
+            summaryTimer.shutdownNow();
+            summaryTimer = null;
+        }
+        flushSummaries(true);
+    }
+
+    /**
+     *
+     * @param all whether the summaries are logged even if the previous summary of the same template was logged less than a
+     *        period ago
+     */
+    void flushSummaries(boolean all) {
+        long now = nanoTime.getAsLong();
+        for (Map.Entry<String, LoggerLimiter> entry : loggers.entrySet()) {
+            LoggerLimiter limiter = entry.getValue();
+            if (limiter == NO_LIMIT) {
+                continue;
+            }
+            for (Bucket bucket : limiter.buckets.values()) {
+                if (all || bucket.isSummaryDue(now)) {
+                    publishSummary(entry.getKey(), null, bucket);
+                }
+            }
+            if (all || limiter.other.isSummaryDue(now)) {
+                publishSummary(entry.getKey(), null, limiter.other);
+            }
+        }
+    }
+
+    /**
+     *
+     * @param level the level of the summary or {@code null} for the level of the last suppressed record
+     */
+    private void publishSummary(String loggerName, Level level, Bucket bucket) {
+        long suppressed = bucket.suppressed.sumThenReset();
+        if (suppressed > 0) {
+            // The level of a suppressed record is set before it is counted
+            ExtLogRecord summary = new ExtLogRecord(level == null ? bucket.level : level, SUMMARY_MESSAGE,
+                    ExtLogRecord.FormatStyle.PRINTF, LogRateLimitFilter.class.getName());
+            summary.setLoggerName(loggerName);
+            summary.setParameters(new Object[] { suppressed, bucket.template });
+            summaryPublisher.accept(summary);
+        }
+    }
+
+    private LoggerLimiter createLimiter(String loggerName) {
+        String category = loggerName;
+        for (;;) {
+            RateLimitConfig config = categories.get(category);
+            if (config != null) {
+                return new LoggerLimiter(config, nanoTime.getAsLong());
+            }
+            int lastDotIndex = category.lastIndexOf('.');
+            if (lastDotIndex == -1) {
+                return NO_LIMIT;
+            }
+            category = category.substring(0, lastDotIndex);
+        }
+    }
+
+    private static void publishSummary(ExtLogRecord summary) {
+        LogContext.getLogContext().getLogger(summary.getLoggerName()).logRaw(summary);
+    }
+
+    private static final class LastDecision {
+
+        boolean checked;
+        long sequenceNumber;
+        boolean loggable;
+    }
+
+    private static final class LoggerLimiter {
+
+        private final long intervalNanos;
+        private final long toleranceNanos;
+        private final long periodNanos;
+        private final ConcurrentMap<String, Bucket> buckets;
+        // Shared by the templates that exceed the limit
+        private final Bucket other;
+
+        LoggerLimiter(RateLimitConfig config, long now) {
+            if (config == null) {
+                this.intervalNanos = 0;
+                this.toleranceNanos = 0;
+                this.periodNanos = 0;
+                this.buckets = null;
+                this.other = null;
+            } else {
+                this.periodNanos = Math.max(1, config.period.toNanos());
+                // A record is let through every interval, with bursts of up to permits records
+                this.intervalNanos = Math.max(1, periodNanos / Math.max(1, config.permits));
+                this.toleranceNanos = periodNanos - intervalNanos;
+                this.buckets = new ConcurrentHashMap<>();
+                this.other = new Bucket(this, "<other>", now);
+            }
+        }
+
+        Bucket getBucket(String template, long now) {
+            Bucket bucket = buckets.get(template);
+            if (bucket == null) {
+                if (buckets.size() >= MAX_TEMPLATES_PER_LOGGER) {
+                    return other;
+                }
+                bucket = buckets.computeIfAbsent(template, t -> new Bucket(this, t, now));
+            }
+            return bucket;
+        }
+    }
+
+    private static final class Bucket {
+
+        private final LoggerLimiter limiter;
+        private final String template;
+        // The theoretical arrival time of the next record
+        private final AtomicLong nextArrival;
+        private final AtomicLong nextSummary;
+        private final LongAdder suppressed;
+        // The level of the last suppressed record, used by the summaries logged without a record of the template
+        private volatile Level level;
+
+        Bucket(LoggerLimiter limiter, String template, long now) {
+            this.limiter = limiter;
+            this.template = template;
+            this.nextArrival = new AtomicLong(now);
+            this.nextSummary = new AtomicLong(now);
+            this.suppressed = new LongAdder();
+        }
+
+        boolean tryAcquire(long now) {
+            for (;;) {
+                long next = nextArrival.get();
+                long arrival = next - now > 0 ? next : now;
+                if (arrival - now > limiter.toleranceNanos) {
+                    return false;
+                }
+                if (nextArrival.compareAndSet(next, arrival + limiter.intervalNanos)) {
+                    return true;
+                }
+            }
+        }
+
+        boolean isSummaryDue(long now) {
+            long next = nextSummary.get();
+            return now - next >= 0 && suppressed.sum() > 0 && nextSummary.compareAndSet(next, now + limiter.periodNanos);
+        }
+    }
+}
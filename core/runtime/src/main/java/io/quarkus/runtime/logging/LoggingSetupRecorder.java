@@ -27,6 +27,7 @@
 
 import org.graalvm.nativeimage.ImageInfo;
 import org.jboss.logmanager.EmbeddedConfigurator;
+import org.jboss.logmanager.ExtHandler;
 import org.jboss.logmanager.LogContext;
 import org.jboss.logmanager.Logger;
 import org.jboss.logmanager.errormanager.OnlyOnceErrorManager;
@@ -137,7 +138,7 @@ public void accept(String loggerName, CleanupFilterConfig config) {
                 3 + additionalHandlers.size() + (config.handlers.isPresent() ? config.handlers.get().size() : 0));
 
         if (config.console.enable) {
-            final Handler consoleHandler = configureConsoleHandler(config.console, consoleRuntimeConfig.getValue(),
+            final Handler consoleHandler = configureConsoleHandler("console", config.console, consoleRuntimeConfig.getValue(),
                     errorManager, cleanupFiler, namedFilters, possibleConsoleFormatters, possibleBannerSupplier,
                     launchMode, validateFilters);
             errorManager = consoleHandler.getErrorManager();
@@ -164,12 +165,12 @@ public void close() throws SecurityException {
 
         if (config.file.enable) {
             handlers.add(
-                    configureFileHandler(config.file, errorManager, cleanupFiler, namedFilters, possibleFileFormatters,
-                            validateFilters));
+                    configureFileHandler("file", config.file, errorManager, cleanupFiler, namedFilters,
+                            possibleFileFormatters, validateFilters));
         }
 
         if (config.syslog.enable) {
-            final Handler syslogHandler = configureSyslogHandler(config.syslog, errorManager, cleanupFiler,
+            final Handler syslogHandler = configureSyslogHandler("syslog", config.syslog, errorManager, cleanupFiler,
                     namedFilters, validateFilters);
             if (syslogHandler != null) {
                 handlers.add(syslogHandler);
@@ -192,6 +193,12 @@ public void close() throws SecurityException {
             handlers.add(handler);
         }
 
+        // The rate limits are shared by all the handlers
+        LogRateLimitFilter rateLimitFilter = LogRateLimitFilter.create(categories);
+        if (rateLimitFilter != null) {
+            rateLimitFilter.start();
+            shutdownNotifier.rateLimitFilter = rateLimitFilter;
+        }
         Map<String, Handler> namedHandlers = shouldCreateNamedHandlers(config, additionalNamedHandlers)
                 ? createNamedHandlers(config, consoleRuntimeConfig.getValue(), additionalNamedHandlers,
                         possibleConsoleFormatters, possibleFileFormatters, errorManager, cleanupFiler, namedFilters, launchMode,
@@ -212,6 +219,14 @@ public void close() throws SecurityException {
 
             namedHandlers.putAll(additionalNamedHandlersMap);
 
+            if (rateLimitFilter != null) {
+                // The records of a category may only reach its named handlers
+                for (Handler handler : namedHandlers.values()) {
+                    Filter filter = handler.getFilter();
+                    handler.setFilter(filter == null ? rateLimitFilter : new AllFilter(List.of(filter, rateLimitFilter)));
+                }
+            }
+
             categories.forEach(new BiConsumer<>() {
                 @Override
                 public void accept(String categoryName, CategoryConfig config) {
@@ -243,6 +258,7 @@ public void accept(String categoryName, CategoryConfig config) {
         }
         addNamedHandlersToRootHandlers(config.handlers, namedHandlers, handlers, errorManager);
         InitialConfigurator.DELAYED_HANDLER.setAutoFlush(false);
+        InitialConfigurator.DELAYED_HANDLER.setFilter(rateLimitFilter);
         InitialConfigurator.DELAYED_HANDLER.setHandlers(handlers.toArray(EmbeddedConfigurator.NO_HANDLERS));
         return shutdownNotifier;
     }
@@ -295,7 +311,7 @@ public static void initializeBuildTimeLogging(LogConfig config, LogBuildTimeConf
         final ArrayList<Handler> handlers = new ArrayList<>(3);
 
         if (config.console.enable) {
-            final Handler consoleHandler = configureConsoleHandler(config.console, consoleConfig, errorManager,
+            final Handler consoleHandler = configureConsoleHandler("console", config.console, consoleConfig, errorManager,
                     logCleanupFilter, Collections.emptyMap(), Collections.emptyList(),
                     new RuntimeValue<>(Optional.empty()), launchMode, false);
             errorManager = consoleHandler.getErrorManager();
@@ -394,9 +410,9 @@ private static Map<String, Handler> createNamedHandlers(LogConfig config, Consol
             if (!namedConsoleConfig.enable) {
                 continue;
             }
-            final Handler consoleHandler = configureConsoleHandler(namedConsoleConfig, consoleRuntimeConfig,
-                    errorManager, cleanupFilter, namedFilters, possibleConsoleFormatters, null, launchMode,
-                    validateFilters);
+            final Handler consoleHandler = configureConsoleHandler("console." + consoleConfigEntry.getKey(),
+                    namedConsoleConfig, consoleRuntimeConfig, errorManager, cleanupFilter, namedFilters,
+                    possibleConsoleFormatters, null, launchMode, validateFilters);
             addToNamedHandlers(namedHandlers, consoleHandler, consoleConfigEntry.getKey());
         }
         for (Entry<String, FileConfig> fileConfigEntry : config.fileHandlers.entrySet()) {
@@ -404,8 +420,8 @@ private static Map<String, Handler> createNamedHandlers(LogConfig config, Consol
             if (!namedFileConfig.enable) {
                 continue;
             }
-            final Handler fileHandler = configureFileHandler(namedFileConfig, errorManager, cleanupFilter, namedFilters,
-                    possibleFileFormatters, validateFilters);
+            final Handler fileHandler = configureFileHandler("file." + fileConfigEntry.getKey(), namedFileConfig,
+                    errorManager, cleanupFilter, namedFilters, possibleFileFormatters, validateFilters);
             addToNamedHandlers(namedHandlers, fileHandler, fileConfigEntry.getKey());
         }
         for (Entry<String, SyslogConfig> sysLogConfigEntry : config.syslogHandlers.entrySet()) {
@@ -413,8 +429,8 @@ private static Map<String, Handler> createNamedHandlers(LogConfig config, Consol
             if (!namedSyslogConfig.enable) {
                 continue;
             }
-            final Handler syslogHandler = configureSyslogHandler(namedSyslogConfig, errorManager, cleanupFilter,
-                    namedFilters, validateFilters);
+            final Handler syslogHandler = configureSyslogHandler("syslog." + sysLogConfigEntry.getKey(), namedSyslogConfig,
+                    errorManager, cleanupFilter, namedFilters, validateFilters);
             if (syslogHandler != null) {
                 addToNamedHandlers(namedHandlers, syslogHandler, sysLogConfigEntry.getKey());
             }
@@ -500,7 +516,7 @@ public void initializeLoggingForImageBuild() {
         }
     }
 
-    private static Handler configureConsoleHandler(final ConsoleConfig config,
+    private static Handler configureConsoleHandler(final String name, final ConsoleConfig config,
             ConsoleRuntimeConfig consoleRuntimeConfig,
             final ErrorManager defaultErrorManager,
             final LogCleanupFilter cleanupFilter,
@@ -551,7 +567,7 @@ private static Handler configureConsoleHandler(final ConsoleConfig config,
         consoleHandler.setErrorManager(defaultErrorManager);
         applyFilter(validateFilters, defaultErrorManager, cleanupFilter, config.filter, namedFilters, consoleHandler);
 
-        Handler handler = config.async.enable ? createAsyncHandler(config.async, config.level, consoleHandler)
+        Handler handler = config.async.enable ? createAsyncHandler(name, config.async, config.level, consoleHandler)
                 : consoleHandler;
 
         if (color && launchMode.isDevOrTest() && !config.async.enable) {
@@ -586,7 +602,7 @@ public void close() throws SecurityException {
         return handler;
     }
 
-    private static Handler configureFileHandler(final FileConfig config, final ErrorManager errorManager,
+    private static Handler configureFileHandler(final String name, final FileConfig config, final ErrorManager errorManager,
             final LogCleanupFilter cleanupFilter, Map<String, Filter> namedFilters,
             final List<RuntimeValue<Optional<Formatter>>> possibleFileFormatters,
             final boolean validateFilters) {
@@ -638,7 +654,7 @@ private static Handler configureFileHandler(final FileConfig config, final Error
         }
 
         if (config.async.enable) {
-            return createAsyncHandler(config.async, config.level, handler);
+            return createAsyncHandler(name, config.async, config.level, handler);
         }
         return handler;
     }
@@ -659,7 +675,8 @@ private static void applyFilter(boolean validateFilters, ErrorManager errorManag
         }
     }
 
-    private static Handler configureSyslogHandler(final SyslogConfig config, final ErrorManager errorManager,
+    private static Handler configureSyslogHandler(final String name, final SyslogConfig config,
+            final ErrorManager errorManager,
             final LogCleanupFilter logCleanupFilter,
             final Map<String, Filter> namedFilters, final boolean validateFilters) {
         try {
@@ -679,7 +696,7 @@ private static Handler configureSyslogHandler(final SyslogConfig config, final E
             handler.setFilter(logCleanupFilter);
             applyFilter(validateFilters, errorManager, logCleanupFilter, config.filter, namedFilters, handler);
             if (config.async.enable) {
-                return createAsyncHandler(config.async, config.level, handler);
+                return createAsyncHandler(name, config.async, config.level, handler);
             }
             return handler;
         } catch (IOException e) {
@@ -688,7 +705,19 @@ private static Handler configureSyslogHandler(final SyslogConfig config, final E
         }
     }
 
-    private static AsyncHandler createAsyncHandler(AsyncConfig asyncConfig, Level level, Handler handler) {
+    private static ExtHandler createAsyncHandler(String name, AsyncConfig asyncConfig, Level level, Handler handler) {
+        if (asyncConfig.ringBuffer.enable) {
+            final AsyncConfig.RingBufferConfig ringBufferConfig = asyncConfig.ringBuffer;
+            final RingBufferHandler ringBufferHandler = new RingBufferHandler(name, asyncConfig.queueLength,
+                    ringBufferConfig.overflow, ringBufferConfig.sampleRate, ringBufferConfig.batchSize);
+            if (handler instanceof ExtHandler) {
+                // The ring buffer handler flushes once per batch
+                ((ExtHandler) handler).setAutoFlush(false);
+            }
+            ringBufferHandler.addHandler(handler);
+            ringBufferHandler.setLevel(level);
+            return ringBufferHandler;
+        }
         final AsyncHandler asyncHandler = new AsyncHandler(asyncConfig.queueLength);
         asyncHandler.setOverflowAction(asyncConfig.overflow);
         asyncHandler.addHandler(handler);
@@ -750,9 +779,14 @@ public void accept(String name, Handler handler) {
 
     public static class ShutdownNotifier implements ShutdownListener {
         volatile boolean shutdown;
+        volatile LogRateLimitFilter rateLimitFilter;
 
         @Override
         public void shutdown(ShutdownNotification notification) {
+            if (rateLimitFilter != null) {
+                // The handlers are still open, the summaries not logged yet would be lost otherwise
+                rateLimitFilter.close();
+            }
             shutdown = true;
             notification.done();
         }
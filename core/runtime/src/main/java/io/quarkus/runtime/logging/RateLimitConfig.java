@@ -0,0 +1,31 @@
+package io.quarkus.runtime.logging;
+
+import java.time.Duration;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class RateLimitConfig {
+
+    /**
+     * Indicates whether to rate limit the log records of this category.
+     * <p>
+     * The records are limited per logger and message template. When records were suppressed, a summary with the number of
+     * suppressed records is logged at most once per period.
+     */
+    @ConfigItem(name = ConfigItem.PARENT)
+    boolean enable;
+
+    /**
+     * The maximum number of records with the same message template logged per period
+     */
+    @ConfigItem(defaultValue = "10")
+    int permits;
+
+    /**
+     * The period of the rate limit
+     */
+    @ConfigItem(defaultValue = "1S")
+    Duration period;
+}
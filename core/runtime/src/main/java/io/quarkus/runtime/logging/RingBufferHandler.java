@@ -0,0 +1,278 @@
+package io.quarkus.runtime.logging;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+
+import org.jboss.logmanager.ExtHandler;
+import org.jboss.logmanager.ExtLogRecord;
+
+/**
+ * An asynchronous handler backed by a bounded lock-free ring buffer.
+ * <p>
+ * Any number of threads may publish records; a single consumer thread publishes the records to the nested handlers in
+ * batches and flushes the nested handlers once per batch. Unlike {@link org.jboss.logmanager.handlers.AsyncHandler},
+ * publishing threads never contend on a lock unless the ring buffer is full and the {@link OverflowPolicy#BLOCK} policy is
+ * used.
+ * <p>
+ * The records published by the consumer thread itself, i.e. logged by a nested handler, and the records published after
+ * the handler is closed are published to the nested handlers directly, which are flushed right away.
+ * <p>
+ * The records dropped because of the overflow policy are counted, see {@link #getDroppedCount()} and
+ * {@link LogMetricsHandler}.
+ */
+public class RingBufferHandler extends ExtHandler {
+
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final long CLOSE_TIMEOUT_MILLIS = 5000;
+
+    private final AtomicReferenceArray<ExtLogRecord> slots;
+    private final int mask;
+    private final int capacity;
+    private final int threshold;
+    // The next sequence to be claimed by a publisher
+    private final AtomicLong tail;
+    // The next sequence to be consumed; only written by the consumer thread
+    private volatile long head;
+    private volatile boolean consumerWaiting;
+    private volatile boolean closed;
+    private final AtomicBoolean started;
+
+    private final OverflowPolicy overflowPolicy;
+    private final int sampleRate;
+    private final int batchSize;
+    private final LongAdder dropped;
+    private final Thread consumer;
+
+    /**
+     *
+     * @param name the name of the wrapped handler, used to name the consumer thread
+     * @param capacity the capacity, rounded up to the next power of two
+     * @param overflowPolicy
+     * @param sampleRate
+     * @param batchSize
+     */
+    public RingBufferHandler(String name, int capacity, OverflowPolicy overflowPolicy, int sampleRate, int batchSize) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("The capacity must be positive: " + capacity);
+        }
+        if (capacity > 1 << 30) {
+            throw new IllegalArgumentException("The capacity is too large: " + capacity);
+        }
+        this.capacity = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = this.capacity - 1;
+        // Once the ring buffer is three quarters full, the low-level records may be dropped
+        this.threshold = this.capacity - (this.capacity >> 2);
+        this.slots = new AtomicReferenceArray<>(this.capacity);
+        this.tail = new AtomicLong();
+        this.overflowPolicy = overflowPolicy;
+        this.sampleRate = Math.max(1, sampleRate);
+        this.batchSize = Math.max(1, batchSize);
+        this.dropped = new LongAdder();
+        this.consumer = new Thread(this::consume, "Log ring buffer consumer (" + name + ")");
+        this.consumer.setDaemon(true);
+        this.started = new AtomicBoolean();
+    }
+
+    @Override
+    protected void doPublish(ExtLogRecord record) {
+        if (closed) {
+            // The nested handlers do not flush automatically
+            publishToNestedHandlers(record);
+            flushNestedHandlers();
+            return;
+        }
+        if (Thread.currentThread() == consumer) {
+            // The consumer cannot wait for itself to make some space; the batch is flushed by the consumer
+            publishToNestedHandlers(record);
+            return;
+        }
+        if (!started.get() && started.compareAndSet(false, true)) {
+            consumer.start();
+        }
+        // The record is formatted later by the consumer thread
+        if (isCallerCalculationRequired()) {
+            record.copyAll();
+        } else {
+            record.disableCallerCalculation();
+            record.copyMdc();
+        }
+        if (offer(record)) {
+            if (consumerWaiting) {
+                LockSupport.unpark(consumer);
+            }
+        } else {
+            dropped.increment();
+            LogMetricsHandler.countDropped(record);
+        }
+    }
+
+    @Override
+    public void close() throws SecurityException {
+        if (!closed) {
+            closed = true;
+            if (!started.get()) {
+                super.close();
+                return;
+            }
+            LockSupport.unpark(consumer);
+            boolean interrupted = false;
+            long deadline = System.currentTimeMillis() + CLOSE_TIMEOUT_MILLIS;
+            while (consumer.isAlive()) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    break;
+                }
+                try {
+                    consumer.join(remaining);
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (!consumer.isAlive()) {
+                // A record may have been claimed while the handler was being closed
+                for (long sequence = head; sequence < tail.get(); sequence++) {
+                    ExtLogRecord record = slots.getAndSet((int) (sequence & mask), null);
+                    if (record != null) {
+                        publishToNestedHandlers(record);
+                    }
+                }
+                flushNestedHandlers();
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        super.close();
+    }
+
+    /**
+     *
+     * @return the number of records dropped because of the overflow policy
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     *
+     * @return the capacity of the ring buffer
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    private boolean offer(ExtLogRecord record) {
+        for (;;) {
+            long sequence = tail.get();
+            long size = sequence - head;
+            if (size >= capacity) {
+                if (overflowPolicy != OverflowPolicy.BLOCK || closed) {
+                    return false;
+                }
+                // Wait for the consumer to make some space
+                if (consumerWaiting) {
+                    LockSupport.unpark(consumer);
+                }
+                LockSupport.parkNanos(this, BLOCK_PARK_NANOS);
+                continue;
+            }
+            if (size >= threshold && !acceptAboveThreshold(record)) {
+                return false;
+            }
+            if (tail.compareAndSet(sequence, sequence + 1)) {
+                int index = (int) (sequence & mask);
+                // Volatile write; a consumer that has not seen the record yet must see consumerWaiting afterwards
+                slots.set(index, record);
+                if (closed && slots.compareAndSet(index, record, null)) {
+                    // Neither the consumer nor close() took the record, which may already be past both of them
+                    publishToNestedHandlers(record);
+                    flushNestedHandlers();
+                }
+                return true;
+            }
+        }
+    }
+
+    private boolean acceptAboveThreshold(ExtLogRecord record) {
+        switch (overflowPolicy) {
+            case DISCARD:
+                return record.getLevel().intValue() >= Level.INFO.intValue();
+            case SAMPLE:
+                return record.getLevel().intValue() >= Level.WARNING.intValue()
+                        || ThreadLocalRandom.current().nextInt(sampleRate) == 0;
+            default:
+                return true;
+        }
+    }
+
+    private void consume() {
+        long sequence = head;
+        for (;;) {
+            int count = 0;
+            ExtLogRecord record;
+            // The record is taken atomically, it may be taken back by its publisher once the handler is closed
+            while (count < batchSize && (record = slots.getAndSet((int) (sequence & mask), null)) != null) {
+                head = ++sequence;
+                count++;
+                try {
+                    publishToNestedHandlers(record);
+                } catch (Throwable t) {
+                    reportError("Failed to publish a log record", t instanceof Exception ? (Exception) t : null,
+                            ErrorManager.WRITE_FAILURE);
+                }
+            }
+            if (count > 0) {
+                flushNestedHandlers();
+                continue;
+            }
+            if (closed) {
+                // The records claimed but not published yet are taken by close() or by their publishers
+                return;
+            }
+            // Announce that the consumer is about to wait and check again, see offer()
+            consumerWaiting = true;
+            if (slots.get((int) (sequence & mask)) == null && !closed) {
+                LockSupport.park(this);
+            }
+            consumerWaiting = false;
+        }
+    }
+
+    private void flushNestedHandlers() {
+        for (Handler handler : getHandlers()) {
+            try {
+                handler.flush();
+            } catch (Exception e) {
+                reportError("Failed to flush a log handler", e, ErrorManager.FLUSH_FAILURE);
+            }
+        }
+    }
+
+    /**
+     * Determines what happens when the ring buffer is filling up.
+     */
+    public enum OverflowPolicy {
+        /**
+         * Block the publisher until there is space in the ring buffer.
+         */
+        BLOCK,
+        /**
+         * Drop the records below {@code INFO} once the ring buffer is three quarters full, and all records once it is
+         * full.
+         */
+        DISCARD,
+        /**
+         * Keep only a sample of the records below {@code WARN} once the ring buffer is three quarters full, and drop all
+         * records once it is full.
+         */
+        SAMPLE,
+    }
+}
@@ -3,6 +3,7 @@
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import io.quarkus.runtime.StartupContext;
@@ -34,6 +35,42 @@ public static void printStepTime(StartupContext startupContext) {
         stepTimingStart = System.nanoTime();
     }
 
+    /**
+     * Prints the time of a step run by {@link io.quarkus.runtime.ParallelStartupTasks}.
+     *
+     * @param offset the time elapsed between the start of the parallel steps and the start of this step, in nanoseconds
+     * @param duration the duration of this step, in nanoseconds
+     */
+    public static void printStepTime(String buildStepName, long offset, long duration) {
+        if (!stepTimingEnabled) {
+            return;
+        }
+        System.out.printf("%1$tF %1$tT,%1$tL Build step %2$s completed in: %3$sms (started after %4$sms on %5$s)%n",
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(System.currentTimeMillis()), ZoneId.systemDefault()),
+                buildStepName,
+                toMillis(duration),
+                toMillis(offset),
+                Thread.currentThread().getName());
+    }
+
+    /**
+     * Prints the chain of parallel steps which bounded the startup time, and restarts the timing of the next sequential
+     * step.
+     */
+    public static void printCriticalPath(List<String> steps) {
+        if (!stepTimingEnabled) {
+            return;
+        }
+        System.out.printf("%1$tF %1$tT,%1$tL Critical path of the parallel build steps: %2$s%n",
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(System.currentTimeMillis()), ZoneId.systemDefault()),
+                String.join(" -> ", steps));
+        stepTimingStart = System.nanoTime();
+    }
+
+    public static long toMillis(long nanos) {
+        return TimeUnit.MILLISECONDS.convert(nanos, TimeUnit.NANOSECONDS);
+    }
+
     private static long duration(long ended, long started) {
         return TimeUnit.MILLISECONDS.convert(ended - started, TimeUnit.NANOSECONDS);
     }
@@ -0,0 +1,99 @@
+package io.quarkus.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class ParallelStartupTasksTest {
+
+    @Test
+    public void testDependencies() throws Exception {
+        List<String> completed = new CopyOnWriteArrayList<>();
+        // the two independent tasks can only complete if they run at the same time
+        CountDownLatch latch = new CountDownLatch(2);
+        StartupContext startupContext = new StartupContext();
+        ParallelStartupTasks tasks = new ParallelStartupTasks(startupContext);
+        tasks.addTask("a", context -> {
+            context.putValue("a", "value-a");
+            awaitOther(latch);
+            completed.add("a");
+        });
+        tasks.addTask("b", context -> {
+            awaitOther(latch);
+            completed.add("b");
+        });
+        tasks.addTask("c", context -> {
+            assertEquals("value-a", context.getValue("a"));
+            completed.add("c");
+        });
+        tasks.addDependency(2, 0);
+        tasks.addDependency(2, 1);
+        tasks.run(4);
+
+        assertEquals(3, completed.size());
+        assertEquals("c", completed.get(2));
+    }
+
+    @Test
+    public void testFailure() {
+        List<String> completed = new CopyOnWriteArrayList<>();
+        IllegalStateException failure = new IllegalStateException();
+        ParallelStartupTasks tasks = new ParallelStartupTasks(new StartupContext());
+        tasks.addTask("a", context -> {
+            throw failure;
+        });
+        tasks.addTask("b", context -> completed.add("b"));
+        tasks.addDependency(1, 0);
+
+        assertSame(failure, assertThrows(IllegalStateException.class, () -> tasks.run(2)));
+        assertFalse(completed.contains("b"));
+    }
+
+    @Test
+    public void testShutdownTasksOrder() throws Exception {
+        List<String> shutdown = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(1);
+        StartupContext startupContext = new StartupContext();
+        ParallelStartupTasks tasks = new ParallelStartupTasks(startupContext);
+        // the first task registers its shutdown task after the second one
+        tasks.addTask("a", context -> {
+            try {
+                assertTrue(latch.await(10, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            shutdownContext(context).addShutdownTask(() -> shutdown.add("a"));
+        });
+        tasks.addTask("b", context -> {
+            shutdownContext(context).addShutdownTask(() -> shutdown.add("b"));
+            latch.countDown();
+        });
+        tasks.run(2);
+        startupContext.close();
+
+        // the shutdown tasks run in the reverse order of the startup tasks
+        assertEquals(List.of("b", "a"), shutdown);
+    }
+
+    private static ShutdownContext shutdownContext(StartupContext context) {
+        return (ShutdownContext) context.getValue(ShutdownContext.class.getName());
+    }
+
+    private static void awaitOther(CountDownLatch latch) {
+        latch.countDown();
+        try {
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package io.quarkus.runtime.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.Level;
+import org.junit.jupiter.api.Test;
+
+public class LogRateLimitFilterTest {
+
+    private final AtomicLong now = new AtomicLong(TimeUnit.SECONDS.toNanos(100));
+    private final List<ExtLogRecord> summaries = new ArrayList<>();
+    private final LogRateLimitFilter filter = new LogRateLimitFilter(Map.of("org.acme", rateLimit(3, Duration.ofSeconds(1))),
+            now::get, summaries::add);
+
+    @Test
+    public void recordsShouldBeLimitedPerTemplate() {
+        for (int i = 0; i < 3; i++) {
+            assertTrue(filter.isLoggable(record("org.acme.Client", "Connection refused: %s")));
+        }
+        assertFalse(filter.isLoggable(record("org.acme.Client", "Connection refused: %s")));
+        // Another template and another logger have their own buckets
+        assertTrue(filter.isLoggable(record("org.acme.Client", "Reconnecting")));
+        assertTrue(filter.isLoggable(record("org.acme.Server", "Connection refused: %s")));
+        // Other categories are not limited
+        for (int i = 0; i < 10; i++) {
+            assertTrue(filter.isLoggable(record("org.other.Client", "Connection refused: %s")));
+        }
+        assertTrue(summaries.isEmpty());
+    }
+
+    @Test
+    public void summaryShouldBeLoggedOncePerPeriod() {
+        for (int i = 0; i < 10; i++) {
+            filter.isLoggable(record("org.acme.Client", "Connection refused: %s"));
+        }
+        // One permit every third of a second
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(340));
+        assertTrue(filter.isLoggable(record("org.acme.Client", "Connection refused: %s")));
+        assertEquals(1, summaries.size());
+        ExtLogRecord summary = summaries.get(0);
+        assertEquals("org.acme.Client", summary.getLoggerName());
+        assertEquals(Level.WARN, summary.getLevel());
+        assertEquals("Suppressed 7 similar messages: Connection refused: %s", summary.getFormattedMessage());
+        // Summaries are not limited
+        assertTrue(filter.isLoggable(summary));
+
+        assertFalse(filter.isLoggable(record("org.acme.Client", "Connection refused: %s")));
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(340));
+        assertTrue(filter.isLoggable(record("org.acme.Client", "Connection refused: %s")));
+        // The next summary is due one period after the previous one
+        assertEquals(1, summaries.size());
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(700));
+        assertTrue(filter.isLoggable(record("org.acme.Client", "Connection refused: %s")));
+        assertEquals(2, summaries.size());
+        assertEquals("Suppressed 1 similar messages: Connection refused: %s", summaries.get(1).getFormattedMessage());
+    }
+
+    @Test
+    public void pendingSummariesShouldBeFlushed() {
+        for (int i = 0; i < 5; i++) {
+            filter.isLoggable(record("org.acme.Client", "Connection refused: %s"));
+        }
+        filter.isLoggable(record("org.acme.Server", "Connection refused: %s"));
+        // Nothing was suppressed for the server
+        filter.flushSummaries(false);
+        assertEquals(1, summaries.size());
+        assertEquals("org.acme.Client", summaries.get(0).getLoggerName());
+        assertEquals(Level.WARN, summaries.get(0).getLevel());
+        assertEquals("Suppressed 2 similar messages: Connection refused: %s", summaries.get(0).getFormattedMessage());
+
+        assertFalse(filter.isLoggable(record("org.acme.Client", "Connection refused: %s")));
+        // The next summary is due one period after the previous one
+        filter.flushSummaries(false);
+        assertEquals(1, summaries.size());
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        filter.flushSummaries(false);
+        assertEquals(2, summaries.size());
+        assertEquals("Suppressed 1 similar messages: Connection refused: %s", summaries.get(1).getFormattedMessage());
+    }
+
+    @Test
+    public void pendingSummariesShouldBeFlushedOnClose() {
+        for (int i = 0; i < 4; i++) {
+            filter.isLoggable(record("org.acme.Client", "Connection refused: %s"));
+        }
+        filter.flushSummaries(false);
+        assertEquals(1, summaries.size());
+        for (int i = 0; i < 2; i++) {
+            assertFalse(filter.isLoggable(record("org.acme.Client", "Connection refused: %s")));
+        }
+        // Logged even though the previous summary was logged less than a period ago
+        filter.close();
+        assertEquals(2, summaries.size());
+        assertEquals("Suppressed 2 similar messages: Connection refused: %s", summaries.get(1).getFormattedMessage());
+        filter.close();
+        assertEquals(2, summaries.size());
+    }
+
+    @Test
+    public void burstShouldBeAllowedAfterIdlePeriod() {
+        for (int i = 0; i < 3; i++) {
+            assertTrue(filter.isLoggable(record("org.acme", "Slow request")));
+        }
+        assertFalse(filter.isLoggable(record("org.acme", "Slow request")));
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        for (int i = 0; i < 3; i++) {
+            assertTrue(filter.isLoggable(record("org.acme", "Slow request")));
+        }
+        assertFalse(filter.isLoggable(record("org.acme", "Slow request")));
+    }
+
+    @Test
+    public void recordReachingSeveralHandlersShouldBeCountedOnce() {
+        for (int i = 0; i < 3; i++) {
+            ExtLogRecord record = record("org.acme.Client", "Connection refused: %s");
+            // e.g. the named handler of the category and the root handler
+            assertTrue(filter.isLoggable(record));
+            assertTrue(filter.isLoggable(record));
+        }
+        ExtLogRecord record = record("org.acme.Client", "Connection refused: %s");
+        assertFalse(filter.isLoggable(record));
+        assertFalse(filter.isLoggable(record));
+    }
+
+    private static ExtLogRecord record(String loggerName, String message) {
+        ExtLogRecord record = new ExtLogRecord(Level.WARN, message, ExtLogRecord.FormatStyle.PRINTF,
+                LogRateLimitFilterTest.class.getName());
+        record.setLoggerName(loggerName);
+        return record;
+    }
+
+    private static RateLimitConfig rateLimit(int permits, Duration period) {
+        RateLimitConfig config = new RateLimitConfig();
+        config.enable = true;
+        config.permits = permits;
+        config.period = period;
+        return config;
+    }
+}
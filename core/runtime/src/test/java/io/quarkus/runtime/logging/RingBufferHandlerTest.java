@@ -0,0 +1,235 @@
+package io.quarkus.runtime.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.Level;
+import org.junit.jupiter.api.Test;
+
+public class RingBufferHandlerTest {
+
+    @Test
+    public void capacityShouldBeRoundedUp() {
+        assertEquals(128, new RingBufferHandler("test", 100, RingBufferHandler.OverflowPolicy.BLOCK, 10, 16).getCapacity());
+        assertEquals(64, new RingBufferHandler("test", 64, RingBufferHandler.OverflowPolicy.BLOCK, 10, 16).getCapacity());
+    }
+
+    @Test
+    public void recordsShouldBeDeliveredInOrder() throws InterruptedException {
+        RecordingHandler recording = new RecordingHandler(null);
+        RingBufferHandler handler = new RingBufferHandler("test", 16, RingBufferHandler.OverflowPolicy.BLOCK, 10, 8);
+        handler.addHandler(recording);
+
+        int threads = 4;
+        int records = 1000;
+        List<Thread> publishers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            String name = "publisher" + i;
+            Thread publisher = new Thread(() -> {
+                for (int j = 0; j < records; j++) {
+                    handler.publish(record(Level.INFO, name + ":" + j));
+                }
+            });
+            publishers.add(publisher);
+            publisher.start();
+        }
+        for (Thread publisher : publishers) {
+            publisher.join();
+        }
+        handler.close();
+
+        assertEquals(threads * records, recording.messages.size());
+        assertEquals(0, handler.getDroppedCount());
+        for (int i = 0; i < threads; i++) {
+            int next = 0;
+            for (String message : recording.messages) {
+                if (message.startsWith("publisher" + i + ":")) {
+                    assertEquals("publisher" + i + ":" + next++, message);
+                }
+            }
+            assertEquals(records, next);
+        }
+        // Flushed once per batch at most
+        assertTrue(recording.flushes.get() <= recording.messages.size());
+        assertTrue(recording.flushes.get() >= recording.messages.size() / 8);
+    }
+
+    @Test
+    public void lowLevelRecordsShouldBeDiscardedFirst() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingHandler recording = new RecordingHandler(release);
+        RingBufferHandler handler = new RingBufferHandler("test", 8, RingBufferHandler.OverflowPolicy.DISCARD, 10, 8);
+        handler.addHandler(recording);
+
+        // The consumer thread blocks on the first record
+        handler.publish(record(Level.INFO, "first"));
+        assertTrue(recording.entered.await(5, TimeUnit.SECONDS));
+
+        for (int i = 0; i < 7; i++) {
+            handler.publish(record(Level.DEBUG, "debug" + i));
+        }
+        // The ring buffer is three quarters full
+        assertEquals(1, handler.getDroppedCount());
+        handler.publish(record(Level.INFO, "info0"));
+        handler.publish(record(Level.INFO, "info1"));
+        // The ring buffer is full
+        handler.publish(record(Level.ERROR, "error"));
+        assertEquals(2, handler.getDroppedCount());
+
+        release.countDown();
+        handler.close();
+        assertEquals(List.of("first", "debug0", "debug1", "debug2", "debug3", "debug4", "debug5", "info0", "info1"),
+                recording.messages);
+    }
+
+    @Test
+    public void recordsPublishedAfterCloseShouldBeFlushed() {
+        RecordingHandler recording = new RecordingHandler(null);
+        RingBufferHandler handler = new RingBufferHandler("test", 8, RingBufferHandler.OverflowPolicy.BLOCK, 10, 8);
+        handler.addHandler(recording);
+        handler.publish(record(Level.INFO, "before"));
+        handler.close();
+        int flushes = recording.flushes.get();
+
+        handler.publish(record(Level.INFO, "after"));
+        assertEquals(List.of("before", "after"), recording.messages);
+        assertEquals(flushes + 1, recording.flushes.get());
+    }
+
+    @Test
+    public void recordsPublishedWhileClosingShouldNotBeLost() throws InterruptedException {
+        RecordingHandler recording = new RecordingHandler(null);
+        RingBufferHandler handler = new RingBufferHandler("test", 1 << 16, RingBufferHandler.OverflowPolicy.BLOCK, 10, 8);
+        handler.addHandler(recording);
+
+        int threads = 4;
+        int records = 5000;
+        CountDownLatch started = new CountDownLatch(threads);
+        List<Thread> publishers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            Thread publisher = new Thread(() -> {
+                started.countDown();
+                for (int j = 0; j < records; j++) {
+                    handler.publish(record(Level.INFO, "record"));
+                }
+            });
+            publishers.add(publisher);
+            publisher.start();
+        }
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        handler.close();
+        for (Thread publisher : publishers) {
+            publisher.join();
+        }
+
+        assertEquals(threads * records, recording.messages.size());
+        assertEquals(0, handler.getDroppedCount());
+    }
+
+    @Test
+    public void consumerThreadShouldBeNamedAfterTheHandler() throws InterruptedException {
+        List<String> threadNames = Collections.synchronizedList(new ArrayList<>());
+        RingBufferHandler handler = new RingBufferHandler("console", 8, RingBufferHandler.OverflowPolicy.BLOCK, 10, 8);
+        handler.addHandler(new Handler() {
+
+            @Override
+            public void publish(LogRecord record) {
+                threadNames.add(Thread.currentThread().getName());
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() throws SecurityException {
+            }
+        });
+        handler.publish(record(Level.INFO, "record"));
+        handler.close();
+        assertEquals(List.of("Log ring buffer consumer (console)"), threadNames);
+    }
+
+    @Test
+    public void recordsPublishedByTheConsumerShouldNotBlock() throws InterruptedException {
+        RingBufferHandler handler = new RingBufferHandler("test", 1, RingBufferHandler.OverflowPolicy.BLOCK, 10, 8);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingHandler recording = new RecordingHandler(release);
+        handler.addHandler(recording);
+        // A nested handler which logs while the ring buffer is full
+        handler.addHandler(new Handler() {
+
+            @Override
+            public void publish(LogRecord record) {
+                if (record.getMessage().startsWith("outer")) {
+                    handler.publish(record(Level.INFO, "inner:" + record.getMessage()));
+                }
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() throws SecurityException {
+            }
+        });
+
+        handler.publish(record(Level.INFO, "outer0"));
+        assertTrue(recording.entered.await(5, TimeUnit.SECONDS));
+        // Fills the ring buffer while the consumer publishes the first record
+        handler.publish(record(Level.INFO, "outer1"));
+        release.countDown();
+        handler.close();
+        assertEquals(List.of("outer0", "inner:outer0", "outer1", "inner:outer1"), recording.messages);
+        assertEquals(0, handler.getDroppedCount());
+    }
+
+    private static ExtLogRecord record(Level level, String message) {
+        return new ExtLogRecord(level, message, RingBufferHandlerTest.class.getName());
+    }
+
+    static class RecordingHandler extends Handler {
+
+        final List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        final AtomicInteger flushes = new AtomicInteger();
+        final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch release;
+
+        RecordingHandler(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void publish(LogRecord record) {
+            messages.add(record.getMessage());
+            entered.countDown();
+            if (release != null) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        @Override
+        public void flush() {
+            flushes.incrementAndGet();
+        }
+
+        @Override
+        public void close() throws SecurityException {
+        }
+    }
+}
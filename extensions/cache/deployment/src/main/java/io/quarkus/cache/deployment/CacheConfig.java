@@ -1,6 +1,7 @@
 package io.quarkus.cache.deployment;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalInt;
@@ -31,6 +32,12 @@ public class CacheConfig {
      */
     CaffeineConfig caffeine;
 
+    /**
+     * Redis configuration. It is only used if the cache type is {@code redis}: the caches are then backed by a local Caffeine
+     * cache (configured with the Caffeine properties) in front of a remote Redis cache.
+     */
+    RedisConfig redis;
+
     @ConfigGroup
     public static class CaffeineConfig {
 
@@ -74,6 +81,28 @@ public static class CaffeineNamespaceConfig {
             @ConfigItem
             Optional<Duration> expireAfterAccess;
 
+            /**
+             * Specifies that each entry should be refreshed in the background once a fixed duration has elapsed after the
+             * entry's creation, or the most recent replacement of its value. The refresh is triggered by the first read of
+             * the entry after that duration: the current value is returned immediately while the cached method is invoked
+             * again on a worker thread. If the refresh fails, the current value is kept and the refresh is retried on the
+             * next read.
+             * <p>
+             * The refresh only applies to the entries added by the {@code @CacheResult} annotation. The cached method is
+             * invoked without the request context of the original invocation. This value should be lower than
+             * {@code expire-after-write}, otherwise the entries expire before they are refreshed.
+             */
+            @ConfigItem
+            Optional<Duration> refreshAfterWrite;
+
+            /**
+             * Maximum duration during which a stale entry can still be returned while it is being refreshed, counted from the
+             * end of the {@code refresh-after-write} duration. Once this duration has elapsed, the entry expires and the next
+             * read waits for the cached method invocation. This property requires {@code refresh-after-write}.
+             */
+            @ConfigItem
+            Optional<Duration> staleWhileRevalidate;
+
             /**
              * Whether or not metrics are recorded if the application depends on the Micrometer extension. Setting this
              * value to {@code true} will enable the accumulation of cache stats inside Caffeine.
@@ -81,4 +110,65 @@ public static class CaffeineNamespaceConfig {
             boolean metricsEnabled;
         }
     }
+
+    @ConfigGroup
+    public static class RedisConfig {
+
+        /**
+         * The prefix of the keys stored in Redis. It is also used to build the name of the pub/sub channel which propagates
+         * the invalidations to the local caches of all the application instances.
+         */
+        @ConfigItem(defaultValue = "cache:")
+        String prefix;
+
+        /**
+         * The name of the {@link io.quarkus.cache.CacheValueCodec} implementation used to convert the cache values to
+         * bytes. The class must have a default constructor. By default, the values are converted with the Java
+         * serialization.
+         */
+        @ConfigItem(defaultValue = "io.quarkus.cache.runtime.redis.SerializationCacheValueCodec")
+        String valueCodec;
+
+        /**
+         * The classes which may be deserialized by the default value codec, in addition to the {@code java.lang},
+         * {@code java.util}, {@code java.time} and {@code java.math} classes and the classes of the application packages.
+         * The values are patterns using the {@link java.io.ObjectInputFilter.Config#createFilter(String)} syntax, e.g.
+         * {@code org.acme.model.*}. Any other class read from Redis is rejected and the entry is then treated as a cache
+         * miss.
+         */
+        @ConfigItem
+        Optional<List<String>> serializationAllowList;
+
+        /**
+         * The maximum time to wait for Redis when a value is read from the remote tier. A read which does not complete in
+         * time is treated as a cache miss.
+         */
+        @ConfigItem(defaultValue = "1S")
+        Duration timeout;
+
+        /**
+         * Namespace configuration.
+         */
+        @ConfigItem(name = ConfigItem.PARENT)
+        @ConfigDocMapKey("cache-name")
+        Map<String, RedisNamespaceConfig> namespace;
+
+        @ConfigGroup
+        public static class RedisNamespaceConfig {
+
+            /**
+             * Specifies that each entry should be automatically removed from Redis once a fixed duration has elapsed after
+             * the entry's creation, or the most recent replacement of its value.
+             */
+            @ConfigItem
+            Optional<Duration> expireAfterWrite;
+
+            /**
+             * The name of the {@link io.quarkus.cache.CacheValueCodec} implementation used for this cache. It overrides
+             * the default value codec.
+             */
+            @ConfigItem
+            Optional<String> valueCodec;
+        }
+    }
 }
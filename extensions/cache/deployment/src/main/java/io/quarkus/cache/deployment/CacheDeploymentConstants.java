@@ -2,6 +2,10 @@
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
 
 import org.jboss.jandex.DotName;
 
@@ -10,11 +14,14 @@
 import io.quarkus.cache.CacheKey;
 import io.quarkus.cache.CacheName;
 import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.CacheResultBatch;
 import io.quarkus.cache.runtime.CacheInvalidateAllInterceptor;
 import io.quarkus.cache.runtime.CacheInvalidateInterceptor;
 import io.quarkus.cache.runtime.CacheKeyParameterPositions;
+import io.quarkus.cache.runtime.CacheResultBatchInterceptor;
 import io.quarkus.cache.runtime.CacheResultInterceptor;
 import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
 
 public class CacheDeploymentConstants {
 
@@ -25,21 +32,33 @@ public class CacheDeploymentConstants {
     public static final DotName CACHE_INVALIDATE = dotName(CacheInvalidate.class);
     public static final DotName CACHE_INVALIDATE_LIST = dotName(CacheInvalidate.List.class);
     public static final DotName CACHE_RESULT = dotName(CacheResult.class);
+    public static final DotName CACHE_RESULT_BATCH = dotName(CacheResultBatch.class);
     public static final DotName CACHE_KEY = dotName(CacheKey.class);
-    public static final List<DotName> INTERCEPTOR_BINDINGS = Arrays.asList(CACHE_RESULT, CACHE_INVALIDATE,
-            CACHE_INVALIDATE_ALL);
+    public static final List<DotName> INTERCEPTOR_BINDINGS = Arrays.asList(CACHE_RESULT, CACHE_RESULT_BATCH,
+            CACHE_INVALIDATE, CACHE_INVALIDATE_ALL);
     public static final List<DotName> INTERCEPTOR_BINDING_CONTAINERS = Arrays.asList(CACHE_INVALIDATE_LIST,
             CACHE_INVALIDATE_ALL_LIST);
     public static final List<DotName> INTERCEPTORS = Arrays.asList(dotName(CacheInvalidateAllInterceptor.class),
-            dotName(CacheInvalidateInterceptor.class), dotName(CacheResultInterceptor.class));
+            dotName(CacheInvalidateInterceptor.class), dotName(CacheResultInterceptor.class),
+            dotName(CacheResultBatchInterceptor.class));
     public static final DotName CACHE_KEY_PARAMETER_POSITIONS = dotName(CacheKeyParameterPositions.class);
 
     // MicroProfile REST Client.
     public static final DotName REGISTER_REST_CLIENT = DotName
             .createSimple("org.eclipse.microprofile.rest.client.inject.RegisterRestClient");
 
+    // Collections accepted by @CacheResultBatch.
+    public static final List<DotName> CACHE_RESULT_BATCH_COLLECTIONS = CacheResultBatchInterceptor.COLLECTION_TYPES.stream()
+            .map(CacheDeploymentConstants::dotName).collect(Collectors.toUnmodifiableList());
+    public static final DotName MAP = DotName.createSimple(Map.class.getName());
+
     // Mutiny.
     public static final DotName MULTI = dotName(Multi.class);
+    public static final DotName UNI = dotName(Uni.class);
+
+    // The results of these asynchronous types are cached, not the instances.
+    public static final List<DotName> ASYNC_TYPES = Arrays.asList(UNI, dotName(CompletionStage.class),
+            dotName(CompletableFuture.class));
 
     // Annotations parameters.
     public static final String CACHE_NAME_PARAM = "cacheName";
@@ -47,6 +66,11 @@ public class CacheDeploymentConstants {
     // Caffeine.
     public static final String CAFFEINE_CACHE_TYPE = "caffeine";
 
+    // Redis.
+    public static final String REDIS_CACHE_TYPE = "redis";
+    // The class is referenced by name because the Redis client is an optional dependency.
+    public static final String REDIS_CACHE_DATA_SOURCE_HOLDER = "io.quarkus.cache.runtime.redis.RedisCacheDataSourceHolder";
+
     private static DotName dotName(Class<?> annotationClass) {
         return DotName.createSimple(annotationClass.getName());
     }
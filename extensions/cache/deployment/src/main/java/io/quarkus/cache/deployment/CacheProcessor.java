@@ -1,5 +1,6 @@
 package io.quarkus.cache.deployment;
 
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.ASYNC_TYPES;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE_ALL;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE_ALL_LIST;
@@ -8,10 +9,14 @@
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_NAME;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_NAME_PARAM;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_RESULT;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_RESULT_BATCH;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_RESULT_BATCH_COLLECTIONS;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.INTERCEPTORS;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.INTERCEPTOR_BINDINGS;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.INTERCEPTOR_BINDING_CONTAINERS;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.MAP;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.MULTI;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.REDIS_CACHE_DATA_SOURCE_HOLDER;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.REGISTER_REST_CLIENT;
 import static io.quarkus.deployment.annotations.ExecutionTime.STATIC_INIT;
 import static io.quarkus.runtime.metrics.MetricsFactory.MICROMETER;
@@ -20,8 +25,10 @@
 
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Supplier;
@@ -35,10 +42,12 @@
 import org.jboss.jandex.AnnotationValue;
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
 import org.jboss.jandex.MethodInfo;
 import org.jboss.jandex.Type;
 import org.jboss.logging.Logger;
 
+import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.arc.deployment.AnnotationsTransformerBuildItem;
 import io.quarkus.arc.deployment.AutoInjectAnnotationBuildItem;
 import io.quarkus.arc.deployment.BeanDiscoveryFinishedBuildItem;
@@ -46,14 +55,19 @@
 import io.quarkus.arc.deployment.UnremovableBeanBuildItem;
 import io.quarkus.arc.deployment.ValidationPhaseBuildItem.ValidationErrorBuildItem;
 import io.quarkus.arc.processor.BeanInfo;
+import io.quarkus.arc.processor.DotNames;
 import io.quarkus.cache.CacheManager;
+import io.quarkus.cache.deployment.CacheConfig.CaffeineConfig.CaffeineNamespaceConfig;
+import io.quarkus.cache.deployment.CacheConfig.RedisConfig.RedisNamespaceConfig;
 import io.quarkus.cache.deployment.exception.ClassTargetException;
 import io.quarkus.cache.deployment.exception.KeyGeneratorConstructorException;
 import io.quarkus.cache.deployment.exception.PrivateMethodTargetException;
+import io.quarkus.cache.deployment.exception.UnsupportedBatchTargetException;
 import io.quarkus.cache.deployment.exception.UnsupportedRepeatedAnnotationException;
 import io.quarkus.cache.deployment.exception.VoidReturnTypeTargetException;
 import io.quarkus.cache.runtime.CacheInvalidateAllInterceptor;
 import io.quarkus.cache.runtime.CacheInvalidateInterceptor;
+import io.quarkus.cache.runtime.CacheResultBatchInterceptor;
 import io.quarkus.cache.runtime.CacheResultInterceptor;
 import io.quarkus.cache.runtime.caffeine.CaffeineCacheBuildRecorder;
 import io.quarkus.cache.runtime.caffeine.CaffeineCacheInfo;
@@ -61,13 +75,20 @@
 import io.quarkus.cache.runtime.caffeine.metrics.MicrometerMetricsInitializer;
 import io.quarkus.cache.runtime.caffeine.metrics.NoOpMetricsInitializer;
 import io.quarkus.cache.runtime.noop.NoOpCacheBuildRecorder;
+import io.quarkus.cache.runtime.redis.RedisCacheBuildRecorder;
+import io.quarkus.cache.runtime.redis.RedisCacheInfo;
+import io.quarkus.deployment.Capabilities;
+import io.quarkus.deployment.Capability;
 import io.quarkus.deployment.Feature;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.ApplicationArchivesBuildItem;
 import io.quarkus.deployment.builditem.BytecodeTransformerBuildItem;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.ReflectiveMethodBuildItem;
 import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
 
 class CacheProcessor {
@@ -190,6 +211,8 @@ private List<Throwable> validateInterceptorBindingTarget(AnnotationInstance bind
                         LOGGER.warnf("@CacheResult is not currently supported on a method returning %s [class=%s, method=%s]",
                                 MULTI, methodInfo.declaringClass().name(), methodInfo.name());
                     }
+                } else if (CACHE_RESULT_BATCH.equals(binding.name())) {
+                    throwables.addAll(validateBatchTarget(methodInfo));
                 }
                 break;
             default:
@@ -199,6 +222,42 @@ private List<Throwable> validateInterceptorBindingTarget(AnnotationInstance bind
         return throwables;
     }
 
+    private List<Throwable> validateBatchTarget(MethodInfo methodInfo) {
+        List<Throwable> throwables = new ArrayList<>();
+        if (!MAP.equals(methodInfo.returnType().name())) {
+            throwables.add(new UnsupportedBatchTargetException(methodInfo, "the return type must be " + MAP));
+        }
+        short collectionPosition = -1;
+        for (short i = 0; i < methodInfo.parameters().size(); i++) {
+            if (CACHE_RESULT_BATCH_COLLECTIONS.contains(methodInfo.parameters().get(i).name())) {
+                if (collectionPosition >= 0) {
+                    throwables.add(new UnsupportedBatchTargetException(methodInfo,
+                            "the method must have exactly one collection parameter"));
+                    return throwables;
+                }
+                collectionPosition = i;
+            }
+        }
+        if (collectionPosition < 0) {
+            throwables.add(new UnsupportedBatchTargetException(methodInfo,
+                    "the method must have a parameter of type " + CACHE_RESULT_BATCH_COLLECTIONS));
+        } else {
+            // The elements of the collection must be part of the cache keys.
+            short[] cacheKeyParameterPositions = getCacheKeyParameterPositions(methodInfo);
+            boolean collectionIsCacheKey = cacheKeyParameterPositions.length == 0;
+            for (short position : cacheKeyParameterPositions) {
+                if (position == collectionPosition) {
+                    collectionIsCacheKey = true;
+                }
+            }
+            if (!collectionIsCacheKey) {
+                throwables.add(new UnsupportedBatchTargetException(methodInfo,
+                        "the collection parameter must be annotated with @CacheKey if another parameter is"));
+            }
+        }
+        return throwables;
+    }
+
     private Optional<DotName> findCacheKeyGenerator(AnnotationInstance binding, AnnotationTarget target) {
         if (target.kind() == METHOD && (CACHE_RESULT.equals(binding.name()) || CACHE_INVALIDATE.equals(binding.name()))) {
             AnnotationValue keyGenerator = binding.value("keyGenerator");
@@ -232,8 +291,9 @@ private List<Throwable> validateKeyGeneratorsDefaultConstructor(CombinedIndexBui
     @BuildStep
     @Record(STATIC_INIT)
     SyntheticBeanBuildItem configureCacheManagerSyntheticBean(CacheNamesBuildItem cacheNames, CacheConfig config,
-            CaffeineCacheBuildRecorder caffeineRecorder, NoOpCacheBuildRecorder noOpRecorder,
-            Optional<MetricsCapabilityBuildItem> metricsCapability) {
+            CaffeineCacheBuildRecorder caffeineRecorder, RedisCacheBuildRecorder redisRecorder,
+            NoOpCacheBuildRecorder noOpRecorder, Optional<MetricsCapabilityBuildItem> metricsCapability,
+            CombinedIndexBuildItem combinedIndex, ApplicationArchivesBuildItem applicationArchives) {
 
         Supplier<CacheManager> cacheManagerSupplier;
         if (config.enabled) {
@@ -243,6 +303,15 @@ SyntheticBeanBuildItem configureCacheManagerSyntheticBean(CacheNamesBuildItem ca
                     MetricsInitializer metricsInitializer = getMetricsInitializer(metricsCapability);
                     cacheManagerSupplier = caffeineRecorder.getCacheManagerSupplier(cacheInfos, metricsInitializer);
                     break;
+                case CacheDeploymentConstants.REDIS_CACHE_TYPE:
+                    // The local tier of each Redis cache is configured with the Caffeine properties.
+                    Set<CaffeineCacheInfo> localCacheInfos = CaffeineCacheInfoBuilder.build(cacheNames.getNames(), config);
+                    Set<RedisCacheInfo> remoteCacheInfos = RedisCacheInfoBuilder.build(cacheNames.getNames(), config,
+                            findCachedValueTypes(combinedIndex.getIndex()),
+                            findPackages(applicationArchives.getRootArchive().getIndex()));
+                    cacheManagerSupplier = redisRecorder.getCacheManagerSupplier(localCacheInfos, remoteCacheInfos,
+                            config.redis.prefix, getMetricsInitializer(metricsCapability));
+                    break;
                 default:
                     throw new DeploymentException("Unknown cache type: " + config.type);
             }
@@ -256,6 +325,104 @@ SyntheticBeanBuildItem configureCacheManagerSyntheticBean(CacheNamesBuildItem ca
                 .done();
     }
 
+    @BuildStep
+    void registerRedisCacheBeans(CacheConfig config, Capabilities capabilities,
+            BuildProducer<AdditionalBeanBuildItem> additionalBeans,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClasses) {
+        if (!config.enabled || !CacheDeploymentConstants.REDIS_CACHE_TYPE.equals(config.type)) {
+            return;
+        }
+        if (capabilities.isMissing(Capability.REDIS_CLIENT)) {
+            throw new DeploymentException("The " + CacheDeploymentConstants.REDIS_CACHE_TYPE
+                    + " cache type requires the quarkus-redis-client extension");
+        }
+        // This bean makes sure the default Redis data source is created.
+        additionalBeans.produce(AdditionalBeanBuildItem.builder().addBeanClass(REDIS_CACHE_DATA_SOURCE_HOLDER)
+                .setUnremovable().setDefaultScope(DotNames.SINGLETON).build());
+        // The value codecs are instantiated reflectively at run time.
+        Set<String> valueCodecs = new HashSet<>();
+        valueCodecs.add(config.redis.valueCodec);
+        for (RedisNamespaceConfig namespaceConfig : config.redis.namespace.values()) {
+            namespaceConfig.valueCodec.ifPresent(valueCodecs::add);
+        }
+        reflectiveClasses.produce(new ReflectiveClassBuildItem(false, false, valueCodecs.toArray(new String[0])));
+    }
+
+    @BuildStep
+    void registerRefreshedMethodsForReflection(CacheConfig config, CombinedIndexBuildItem combinedIndex,
+            BuildProducer<ReflectiveMethodBuildItem> reflectiveMethods) {
+        if (!config.enabled) {
+            return;
+        }
+        // The reloaders invoke the @CacheResult methods reflectively to refresh the entries in the background.
+        for (AnnotationInstance binding : combinedIndex.getIndex().getAnnotations(CACHE_RESULT)) {
+            if (binding.target().kind() == METHOD) {
+                CaffeineNamespaceConfig namespaceConfig = config.caffeine.namespace
+                        .get(binding.value(CACHE_NAME_PARAM).asString());
+                if (namespaceConfig != null && namespaceConfig.refreshAfterWrite.isPresent()) {
+                    reflectiveMethods.produce(new ReflectiveMethodBuildItem(binding.target().asMethod()));
+                }
+            }
+        }
+    }
+
+    // The classes of the values cached by the annotations API, by cache name.
+    private Map<String, Set<String>> findCachedValueTypes(IndexView index) {
+        Map<String, Set<String>> valueTypes = new HashMap<>();
+        for (DotName bindingName : List.of(CACHE_RESULT, CACHE_RESULT_BATCH)) {
+            for (AnnotationInstance binding : index.getAnnotations(bindingName)) {
+                if (binding.target().kind() != METHOD) {
+                    continue;
+                }
+                Type returnType = binding.target().asMethod().returnType();
+                if (CACHE_RESULT_BATCH.equals(bindingName)) {
+                    // Each value of the returned map is cached
+                    if (returnType.kind() != Type.Kind.PARAMETERIZED_TYPE) {
+                        continue;
+                    }
+                    returnType = returnType.asParameterizedType().arguments().get(1);
+                }
+                collectClassNames(returnType, valueTypes.computeIfAbsent(binding.value(CACHE_NAME_PARAM).asString(),
+                        name -> new HashSet<>()));
+            }
+        }
+        return valueTypes;
+    }
+
+    private void collectClassNames(Type type, Set<String> classNames) {
+        switch (type.kind()) {
+            case CLASS:
+                classNames.add(type.name().toString());
+                break;
+            case PARAMETERIZED_TYPE:
+                if (!ASYNC_TYPES.contains(type.name())) {
+                    classNames.add(type.name().toString());
+                }
+                for (Type argument : type.asParameterizedType().arguments()) {
+                    collectClassNames(argument, classNames);
+                }
+                break;
+            case ARRAY:
+                collectClassNames(type.asArrayType().component(), classNames);
+                break;
+            default:
+                // The primitives are boxed and the type variables and wildcards can not be checked
+                break;
+        }
+    }
+
+    private Set<String> findPackages(IndexView index) {
+        Set<String> packages = new HashSet<>();
+        for (ClassInfo classInfo : index.getKnownClasses()) {
+            String className = classInfo.name().toString();
+            int lastDot = className.lastIndexOf('.');
+            if (lastDot > 0) {
+                packages.add(className.substring(0, lastDot));
+            }
+        }
+        return packages;
+    }
+
     private MetricsInitializer getMetricsInitializer(Optional<MetricsCapabilityBuildItem> metricsCapability) {
         if (metricsCapability.isPresent() && metricsCapability.get().metricsSupported(MICROMETER)) {
             return new MicrometerMetricsInitializer();
@@ -269,6 +436,7 @@ List<BytecodeTransformerBuildItem> enhanceRestClientMethods(CombinedIndexBuildIt
         List<BytecodeTransformerBuildItem> bytecodeTransformers = new ArrayList<>();
         boolean cacheInvalidate = false;
         boolean cacheResult = false;
+        boolean cacheResultBatch = false;
         boolean cacheInvalidateAll = false;
 
         for (AnnotationInstance registerRestClientAnnotation : combinedIndex.getIndex().getAnnotations(REGISTER_REST_CLIENT)) {
@@ -285,6 +453,10 @@ List<BytecodeTransformerBuildItem> enhanceRestClientMethods(CombinedIndexBuildIt
                         transform = true;
                         cacheResult = true;
                     }
+                    if (methodInfo.hasAnnotation(CACHE_RESULT_BATCH)) {
+                        transform = true;
+                        cacheResultBatch = true;
+                    }
                     if (methodInfo.hasAnnotation(CACHE_INVALIDATE_ALL) || methodInfo.hasAnnotation(CACHE_INVALIDATE_ALL_LIST)) {
                         cacheInvalidateAll = true;
                     }
@@ -307,6 +479,9 @@ List<BytecodeTransformerBuildItem> enhanceRestClientMethods(CombinedIndexBuildIt
         if (cacheResult) {
             unremovableBeans.produce(UnremovableBeanBuildItem.beanClassNames(CacheResultInterceptor.class.getName()));
         }
+        if (cacheResultBatch) {
+            unremovableBeans.produce(UnremovableBeanBuildItem.beanClassNames(CacheResultBatchInterceptor.class.getName()));
+        }
         if (cacheInvalidate) {
             unremovableBeans.produce(UnremovableBeanBuildItem.beanClassNames(CacheInvalidateInterceptor.class.getName()));
         }
@@ -6,6 +6,7 @@
 
 import io.quarkus.cache.deployment.CacheConfig.CaffeineConfig.CaffeineNamespaceConfig;
 import io.quarkus.cache.runtime.caffeine.CaffeineCacheInfo;
+import io.quarkus.runtime.configuration.ConfigurationException;
 
 public class CaffeineCacheInfoBuilder {
 
@@ -22,6 +23,12 @@ public static Set<CaffeineCacheInfo> build(Set<String> cacheNames, CacheConfig c
                     namespaceConfig.maximumSize.ifPresent(size -> cacheInfo.maximumSize = size);
                     namespaceConfig.expireAfterWrite.ifPresent(delay -> cacheInfo.expireAfterWrite = delay);
                     namespaceConfig.expireAfterAccess.ifPresent(delay -> cacheInfo.expireAfterAccess = delay);
+                    namespaceConfig.refreshAfterWrite.ifPresent(delay -> cacheInfo.refreshAfterWrite = delay);
+                    namespaceConfig.staleWhileRevalidate.ifPresent(delay -> cacheInfo.staleWhileRevalidate = delay);
+                    if (cacheInfo.staleWhileRevalidate != null && cacheInfo.refreshAfterWrite == null) {
+                        throw new ConfigurationException("The stale-while-revalidate duration of cache [" + cacheName
+                                + "] requires a refresh-after-write duration");
+                    }
                     cacheInfo.metricsEnabled = namespaceConfig.metricsEnabled;
                 }
                 return cacheInfo;
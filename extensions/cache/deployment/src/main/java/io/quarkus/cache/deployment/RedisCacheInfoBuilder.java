@@ -0,0 +1,47 @@
+package io.quarkus.cache.deployment;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import io.quarkus.cache.deployment.CacheConfig.RedisConfig.RedisNamespaceConfig;
+import io.quarkus.cache.runtime.redis.RedisCacheInfo;
+
+public class RedisCacheInfoBuilder {
+
+    /**
+     * @param valueTypes the names of the cached value classes, by cache name
+     * @param applicationPackages the packages of the application classes, which may be deserialized by the default value
+     *        codec
+     */
+    public static Set<RedisCacheInfo> build(Set<String> cacheNames, CacheConfig cacheConfig,
+            Map<String, Set<String>> valueTypes, Set<String> applicationPackages) {
+        if (cacheNames.isEmpty()) {
+            return Collections.emptySet();
+        } else {
+            return cacheNames.stream().map(cacheName -> {
+                RedisCacheInfo cacheInfo = new RedisCacheInfo();
+                cacheInfo.name = cacheName;
+                cacheInfo.prefix = cacheConfig.redis.prefix;
+                cacheInfo.valueCodec = cacheConfig.redis.valueCodec;
+                List<String> allowList = new ArrayList<>();
+                for (String applicationPackage : applicationPackages) {
+                    allowList.add(applicationPackage + ".*");
+                }
+                allowList.addAll(cacheConfig.redis.serializationAllowList.orElse(List.of()));
+                cacheInfo.serializationAllowList = allowList;
+                cacheInfo.valueTypes = valueTypes.getOrDefault(cacheName, Set.of());
+                cacheInfo.timeout = cacheConfig.redis.timeout;
+                RedisNamespaceConfig namespaceConfig = cacheConfig.redis.namespace.get(cacheInfo.name);
+                if (namespaceConfig != null) {
+                    namespaceConfig.expireAfterWrite.ifPresent(delay -> cacheInfo.expireAfterWrite = delay);
+                    namespaceConfig.valueCodec.ifPresent(codec -> cacheInfo.valueCodec = codec);
+                }
+                return cacheInfo;
+            }).collect(Collectors.toSet());
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package io.quarkus.cache.deployment.exception;
+
+import org.jboss.jandex.MethodInfo;
+
+/**
+ * This exception is thrown at build time during the validation phase if a method annotated with
+ * {@link io.quarkus.cache.CacheResultBatch @CacheResultBatch} does not return a {@link java.util.Map} or does not have exactly
+ * one collection parameter.
+ */
+@SuppressWarnings("serial")
+public class UnsupportedBatchTargetException extends RuntimeException {
+
+    private final MethodInfo methodInfo;
+
+    public UnsupportedBatchTargetException(MethodInfo methodInfo, String reason) {
+        super("@CacheResultBatch is not allowed on this method: " + reason + " [class=" + methodInfo.declaringClass().name()
+                + ", method=" + methodInfo.name() + "]");
+        this.methodInfo = methodInfo;
+    }
+
+    public MethodInfo getMethodInfo() {
+        return methodInfo;
+    }
+}
@@ -5,6 +5,8 @@
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Stream;
 
@@ -21,10 +23,13 @@
 import io.quarkus.cache.CacheInvalidateAll;
 import io.quarkus.cache.CacheKeyGenerator;
 import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CacheKey;
 import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.CacheResultBatch;
 import io.quarkus.cache.deployment.exception.ClassTargetException;
 import io.quarkus.cache.deployment.exception.KeyGeneratorConstructorException;
 import io.quarkus.cache.deployment.exception.PrivateMethodTargetException;
+import io.quarkus.cache.deployment.exception.UnsupportedBatchTargetException;
 import io.quarkus.cache.deployment.exception.VoidReturnTypeTargetException;
 import io.quarkus.test.QuarkusUnitTest;
 
@@ -42,7 +47,7 @@ public class DeploymentExceptionsTest {
             .withApplicationRoot((jar) -> jar.addClasses(TestResource.class, TestBean.class))
             .assertException(t -> {
                 assertEquals(DeploymentException.class, t.getClass());
-                assertEquals(11, t.getSuppressed().length);
+                assertEquals(14, t.getSuppressed().length);
                 assertPrivateMethodTargetException(t, "shouldThrowPrivateMethodTargetException", 1);
                 assertPrivateMethodTargetException(t, "shouldAlsoThrowPrivateMethodTargetException", 2);
                 assertVoidReturnTypeTargetException(t, "showThrowVoidReturnTypeTargetException");
@@ -52,6 +57,9 @@ public class DeploymentExceptionsTest {
                 assertKeyGeneratorConstructorException(t, KeyGen2.class);
                 assertKeyGeneratorConstructorException(t, KeyGen3.class);
                 assertKeyGeneratorConstructorException(t, KeyGen4.class);
+                assertUnsupportedBatchTargetException(t, "shouldThrowUnsupportedBatchTargetException");
+                assertUnsupportedBatchTargetException(t, "shouldAlsoThrowUnsupportedBatchTargetException");
+                assertUnsupportedBatchTargetException(t, "shouldThrowUnsupportedBatchTargetExceptionAsWell");
             });
 
     private static void assertPrivateMethodTargetException(Throwable t, String expectedMethodName, long expectedCount) {
@@ -74,6 +82,11 @@ private static void assertKeyGeneratorConstructorException(Throwable t, Class<?>
                 .filter(s -> expectedClassName.getName().equals(s.getClassInfo().name().toString())).count());
     }
 
+    private static void assertUnsupportedBatchTargetException(Throwable t, String expectedMethodName) {
+        assertEquals(1, filterSuppressed(t, UnsupportedBatchTargetException.class)
+                .filter(s -> expectedMethodName.equals(s.getMethodInfo().name())).count());
+    }
+
     private static <T extends RuntimeException> Stream<T> filterSuppressed(Throwable t, Class<T> filterClass) {
         return stream(t.getSuppressed()).filter(filterClass::isInstance).map(filterClass::cast);
     }
@@ -135,6 +148,22 @@ public void shouldAlsoThrowKeyGeneratorConstructorException() {
         @CacheInvalidate(cacheName = "should-throw-key-generator-constructor-exception", keyGenerator = KeyGen4.class)
         public void shouldThrowKeyGeneratorConstructorExceptionAsWell() {
         }
+
+        @CacheResultBatch(cacheName = "should-throw-unsupported-batch-target-exception")
+        public List<String> shouldThrowUnsupportedBatchTargetException(List<String> keys) {
+            return keys;
+        }
+
+        @CacheResultBatch(cacheName = "should-throw-unsupported-batch-target-exception")
+        public Map<String, String> shouldAlsoThrowUnsupportedBatchTargetException(String key) {
+            return Map.of();
+        }
+
+        @CacheResultBatch(cacheName = "should-throw-unsupported-batch-target-exception")
+        public Map<String, String> shouldThrowUnsupportedBatchTargetExceptionAsWell(List<String> keys,
+                @CacheKey String locale) {
+            return Map.of();
+        }
     }
 
     private static class KeyGen1 implements CacheKeyGenerator {
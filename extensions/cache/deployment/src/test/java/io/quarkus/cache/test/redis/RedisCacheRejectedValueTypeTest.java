@@ -0,0 +1,44 @@
+package io.quarkus.cache.test.redis;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.net.URI;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.CacheResult;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * The values of a class which is neither an application class nor allowed by the configuration could never be read from
+ * Redis, so the application must fail to start.
+ */
+public class RedisCacheRejectedValueTypeTest {
+
+    private static final String REDIS_URI = RedisStandIn.start();
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClasses(CachedService.class, RedisStandIn.class))
+            .overrideConfigKey("quarkus.cache.type", "redis")
+            .overrideConfigKey("quarkus.redis.hosts", REDIS_URI)
+            .overrideConfigKey("quarkus.redis.devservices.enabled", "false")
+            .setExpectedException(IllegalStateException.class);
+
+    @Test
+    public void shouldNotBeInvoked() {
+        fail("This method should not be invoked");
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        @CacheResult(cacheName = "uri-cache")
+        public URI get(String key) {
+            return URI.create("http://localhost/" + key);
+        }
+    }
+}
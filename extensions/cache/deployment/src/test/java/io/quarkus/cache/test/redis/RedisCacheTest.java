@@ -0,0 +1,182 @@
+package io.quarkus.cache.test.redis;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheException;
+import io.quarkus.cache.CacheInvalidate;
+import io.quarkus.cache.CacheInvalidateAll;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.CompositeCacheKey;
+import io.quarkus.cache.runtime.redis.RedisCacheImpl;
+import io.quarkus.cache.runtime.redis.SerializationCacheValueCodec;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class RedisCacheTest {
+
+    private static final String CACHE_NAME = "test-cache";
+    private static final String KEY_PREFIX = "cache:" + CACHE_NAME + ":";
+
+    private static final String REDIS_URI = RedisStandIn.start();
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClasses(CachedService.class, RedisStandIn.class))
+            .overrideConfigKey("quarkus.cache.type", "redis")
+            .overrideConfigKey("quarkus.cache.redis.\"" + CACHE_NAME + "\".expire-after-write", "10M")
+            .overrideConfigKey("quarkus.cache.redis.timeout", "500MS")
+            .overrideConfigKey("quarkus.redis.hosts", REDIS_URI)
+            .overrideConfigKey("quarkus.redis.devservices.enabled", "false");
+
+    @Inject
+    CachedService cachedService;
+
+    @CacheName(CACHE_NAME)
+    Cache cache;
+
+    @Test
+    public void testRemoteTier() {
+        assertSame(RedisCacheImpl.class, cache.getClass());
+
+        int invocations = CachedService.INVOCATIONS.get();
+
+        // The computed value is stored in both tiers.
+        String value = cachedService.get("computed");
+        assertEquals(invocations + 1, CachedService.INVOCATIONS.get());
+        assertSame(value, cachedService.get("computed"));
+        assertEquals(invocations + 1, CachedService.INVOCATIONS.get());
+        assertNotNull(RedisStandIn.send("GET", redisKey("computed")));
+
+        // A value stored by another instance is used without calling the method.
+        RedisStandIn.send("SET".getBytes(StandardCharsets.UTF_8), redisKey("remote").getBytes(StandardCharsets.UTF_8),
+                new SerializationCacheValueCodec().encode("from-another-instance"));
+        assertEquals("from-another-instance", cachedService.get("remote"));
+        assertEquals(invocations + 1, CachedService.INVOCATIONS.get());
+
+        // The invalidation removes the entry from the remote tier.
+        cachedService.invalidate("computed");
+        assertNull(RedisStandIn.send("GET", redisKey("computed")));
+        cachedService.get("computed");
+        assertEquals(invocations + 2, CachedService.INVOCATIONS.get());
+
+        cachedService.invalidateAll();
+        assertNull(RedisStandIn.send("GET", redisKey("computed")));
+        assertNull(RedisStandIn.send("GET", redisKey("remote")));
+    }
+
+    @Test
+    public void testRejectedValue() {
+        int invocations = CachedService.INVOCATIONS.get();
+
+        // The classes which are not allowed are not deserialized, the entry is then a cache miss.
+        RedisStandIn.send("SET".getBytes(StandardCharsets.UTF_8), redisKey("rejected").getBytes(StandardCharsets.UTF_8),
+                new SerializationCacheValueCodec().encode(new ArrayList<>(List.of(URI.create("http://localhost")))));
+        assertEquals("value-rejected", cachedService.get("rejected"));
+        assertEquals(invocations + 1, CachedService.INVOCATIONS.get());
+    }
+
+    @Test
+    public void testRemoteTimeout() {
+        int invocations = CachedService.INVOCATIONS.get();
+
+        // Redis does not reply in time, the entry is then a cache miss.
+        long start = System.nanoTime();
+        assertEquals("value-" + RedisStandIn.SLOW_KEY_SUFFIX, cachedService.get(RedisStandIn.SLOW_KEY_SUFFIX));
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 2500L);
+        assertEquals(invocations + 1, CachedService.INVOCATIONS.get());
+    }
+
+    @Test
+    public void testPropagatedInvalidation() throws InterruptedException {
+        cachedService.get("propagated");
+        int invocations = CachedService.INVOCATIONS.get();
+
+        // Another instance invalidates the entry: it is removed from Redis and the invalidation is published.
+        RedisStandIn.send("DEL", redisKey("propagated"));
+        RedisStandIn.send("PUBLISH", "cache:invalidations", "another-instance\u0000" + CACHE_NAME + "\u0000"
+                + redisKey("propagated"));
+
+        // The message is received asynchronously, the local tier is hit until then.
+        for (int i = 0; i < 50 && CachedService.INVOCATIONS.get() == invocations; i++) {
+            cachedService.get("propagated");
+            Thread.sleep(100L);
+        }
+        assertEquals(invocations + 1, CachedService.INVOCATIONS.get());
+    }
+
+    @Test
+    public void testKeyTypes() {
+        // The keys with the same string representation are distinct in both tiers.
+        assertEquals("long", cache.get(1L, k -> "long").await().indefinitely());
+        assertEquals("string", cache.get("1", k -> "string").await().indefinitely());
+        assertEquals("composite", cache.get(new CompositeCacheKey(1L, "1"), k -> "composite").await().indefinitely());
+        assertEquals("long", cache.get(1L, k -> "other").await().indefinitely());
+        assertEquals("string", cache.get("1", k -> "other").await().indefinitely());
+        assertNotNull(RedisStandIn.send("GET", KEY_PREFIX + "j1"));
+        assertNotNull(RedisStandIn.send("GET", KEY_PREFIX + "s1"));
+        assertNotNull(RedisStandIn.send("GET", KEY_PREFIX + "C2:j12:s1"));
+
+        // The keys which cannot be encoded are rejected.
+        assertThrows(CacheException.class, () -> cache.get(new Object(), k -> "object"));
+    }
+
+    @Test
+    public void testPropagatedCompositeKeyInvalidation() throws InterruptedException {
+        CompositeCacheKey key = new CompositeCacheKey("propagated", 2L);
+        assertEquals("first", cache.get(key, k -> "first").await().indefinitely());
+
+        RedisStandIn.send("DEL", KEY_PREFIX + "C11:spropagated2:j2");
+        RedisStandIn.send("PUBLISH", "cache:invalidations", "another-instance\u0000" + CACHE_NAME + "\u0000" + KEY_PREFIX
+                + "C11:spropagated2:j2");
+
+        String value = "first";
+        for (int i = 0; i < 50 && "first".equals(value); i++) {
+            Thread.sleep(100L);
+            value = cache.get(key, k -> "second").await().indefinitely();
+        }
+        assertEquals("second", value);
+    }
+
+    private static String redisKey(String key) {
+        return KEY_PREFIX + "s" + key;
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        static final AtomicInteger INVOCATIONS = new AtomicInteger();
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public String get(String key) {
+            INVOCATIONS.incrementAndGet();
+            return new String("value-" + key);
+        }
+
+        @CacheInvalidate(cacheName = CACHE_NAME)
+        public void invalidate(String key) {
+        }
+
+        @CacheInvalidateAll(cacheName = CACHE_NAME)
+        public void invalidateAll() {
+        }
+    }
+}
@@ -0,0 +1,280 @@
+package io.quarkus.cache.test.redis;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+
+/**
+ * A minimal in-memory server speaking the Redis protocol (RESP2). It only supports the commands used by the Redis cache.
+ * <p>
+ * The server is started once per JVM because the test class is loaded by several class loaders.
+ */
+public final class RedisStandIn {
+
+    private static final String PORT_PROPERTY = "quarkus.cache.test.redis-stand-in.port";
+
+    /**
+     * The replies to the GET commands of the keys ending with this suffix are delayed to simulate a hanging server.
+     */
+    public static final String SLOW_KEY_SUFFIX = ":slow";
+
+    private static final long SLOW_GET_DELAY_MILLIS = 3000L;
+
+    private final Map<String, byte[]> data = new ConcurrentHashMap<>();
+    private final Map<String, List<OutputStream>> subscribers = new ConcurrentHashMap<>();
+
+    private RedisStandIn() {
+    }
+
+    public static synchronized String start() {
+        String port = System.getProperty(PORT_PROPERTY);
+        if (port == null) {
+            try {
+                ServerSocket serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+                RedisStandIn server = new RedisStandIn();
+                Thread acceptor = new Thread(() -> server.accept(serverSocket), "redis-stand-in");
+                acceptor.setDaemon(true);
+                acceptor.start();
+                port = String.valueOf(serverSocket.getLocalPort());
+                System.setProperty(PORT_PROPERTY, port);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return "redis://localhost:" + port;
+    }
+
+    /**
+     * Sends a command to the server and returns the raw reply.
+     */
+    public static byte[] send(byte[]... args) {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), Integer.getInteger(PORT_PROPERTY))) {
+            OutputStream out = socket.getOutputStream();
+            out.write(('*' + String.valueOf(args.length) + "\r\n").getBytes(StandardCharsets.UTF_8));
+            for (byte[] arg : args) {
+                writeBulk(out, arg);
+            }
+            out.flush();
+            InputStream in = new BufferedInputStream(socket.getInputStream());
+            String line = readLine(in);
+            if (line.startsWith("$")) {
+                int length = Integer.parseInt(line.substring(1));
+                return length < 0 ? null : readBulk(in, length);
+            }
+            return line.getBytes(StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static byte[] send(String... args) {
+        byte[][] bytes = new byte[args.length][];
+        for (int i = 0; i < args.length; i++) {
+            bytes[i] = args[i].getBytes(StandardCharsets.UTF_8);
+        }
+        return send(bytes);
+    }
+
+    private void accept(ServerSocket serverSocket) {
+        while (true) {
+            try {
+                Socket socket = serverSocket.accept();
+                Thread handler = new Thread(() -> handle(socket), "redis-stand-in-connection");
+                handler.setDaemon(true);
+                handler.start();
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void handle(Socket socket) {
+        OutputStream out = null;
+        try (socket) {
+            InputStream in = new BufferedInputStream(socket.getInputStream());
+            out = socket.getOutputStream();
+            while (true) {
+                List<byte[]> command = readCommand(in);
+                if (command == null) {
+                    return;
+                }
+                synchronized (out) {
+                    execute(command, out);
+                    out.flush();
+                }
+            }
+        } catch (IOException e) {
+            // connection closed
+        } finally {
+            for (List<OutputStream> channelSubscribers : subscribers.values()) {
+                channelSubscribers.remove(out);
+            }
+        }
+    }
+
+    private void execute(List<byte[]> command, OutputStream out) throws IOException {
+        String name = new String(command.get(0), StandardCharsets.UTF_8).toUpperCase();
+        switch (name) {
+            case "PING":
+                writeLine(out, "+PONG");
+                break;
+            case "SELECT":
+            case "CLIENT":
+                writeLine(out, "+OK");
+                break;
+            case "GET":
+                if (string(command.get(1)).endsWith(SLOW_KEY_SUFFIX)) {
+                    try {
+                        Thread.sleep(SLOW_GET_DELAY_MILLIS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                byte[] value = data.get(string(command.get(1)));
+                if (value == null) {
+                    writeLine(out, "$-1");
+                } else {
+                    writeBulk(out, value);
+                }
+                break;
+            case "SET":
+                // Expiration arguments are accepted but ignored
+                data.put(string(command.get(1)), command.get(2));
+                writeLine(out, "+OK");
+                break;
+            case "DEL":
+                int deleted = 0;
+                for (int i = 1; i < command.size(); i++) {
+                    if (data.remove(string(command.get(i))) != null) {
+                        deleted++;
+                    }
+                }
+                writeLine(out, ":" + deleted);
+                break;
+            case "SCAN":
+                Pattern pattern = Pattern.compile(".*");
+                for (int i = 2; i < command.size() - 1; i++) {
+                    if ("MATCH".equalsIgnoreCase(string(command.get(i)))) {
+                        pattern = globToRegex(string(command.get(i + 1)));
+                    }
+                }
+                List<String> keys = new ArrayList<>();
+                for (String key : data.keySet()) {
+                    if (pattern.matcher(key).matches()) {
+                        keys.add(key);
+                    }
+                }
+                writeLine(out, "*2");
+                writeBulk(out, "0".getBytes(StandardCharsets.UTF_8));
+                writeLine(out, "*" + keys.size());
+                for (String key : keys) {
+                    writeBulk(out, key.getBytes(StandardCharsets.UTF_8));
+                }
+                break;
+            case "SUBSCRIBE":
+                for (int i = 1; i < command.size(); i++) {
+                    String channel = string(command.get(i));
+                    subscribers.computeIfAbsent(channel, c -> new CopyOnWriteArrayList<>()).add(out);
+                    writeLine(out, "*3");
+                    writeBulk(out, "subscribe".getBytes(StandardCharsets.UTF_8));
+                    writeBulk(out, command.get(i));
+                    writeLine(out, ":" + i);
+                }
+                break;
+            case "PUBLISH":
+                List<OutputStream> receivers = subscribers.getOrDefault(string(command.get(1)), List.of());
+                for (OutputStream receiver : receivers) {
+                    synchronized (receiver) {
+                        writeLine(receiver, "*3");
+                        writeBulk(receiver, "message".getBytes(StandardCharsets.UTF_8));
+                        writeBulk(receiver, command.get(1));
+                        writeBulk(receiver, command.get(2));
+                        receiver.flush();
+                    }
+                }
+                writeLine(out, ":" + receivers.size());
+                break;
+            default:
+                // HELLO is not supported either, the client then falls back to RESP2
+                writeLine(out, "-ERR unknown command '" + name + "'");
+        }
+    }
+
+    private static Pattern globToRegex(String glob) {
+        StringBuilder regex = new StringBuilder();
+        for (int i = 0; i < glob.length(); i++) {
+            char c = glob.charAt(i);
+            if (c == '\\' && i + 1 < glob.length()) {
+                regex.append(Pattern.quote(String.valueOf(glob.charAt(++i))));
+            } else if (c == '*') {
+                regex.append(".*");
+            } else if (c == '?') {
+                regex.append('.');
+            } else {
+                regex.append(Pattern.quote(String.valueOf(c)));
+            }
+        }
+        return Pattern.compile(regex.toString());
+    }
+
+    private static List<byte[]> readCommand(InputStream in) throws IOException {
+        String header = readLine(in);
+        if (header == null) {
+            return null;
+        }
+        int count = Integer.parseInt(header.substring(1));
+        List<byte[]> command = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String bulkHeader = readLine(in);
+            command.add(readBulk(in, Integer.parseInt(bulkHeader.substring(1))));
+        }
+        return command;
+    }
+
+    private static byte[] readBulk(InputStream in, int length) throws IOException {
+        byte[] bulk = in.readNBytes(length);
+        // CRLF
+        in.readNBytes(2);
+        return bulk;
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        int b;
+        while ((b = in.read()) != -1) {
+            if (b == '\r') {
+                in.read();
+                return line.toString(StandardCharsets.UTF_8);
+            }
+            line.write(b);
+        }
+        return null;
+    }
+
+    private static void writeLine(OutputStream out, String line) throws IOException {
+        out.write((line + "\r\n").getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void writeBulk(OutputStream out, byte[] bulk) throws IOException {
+        writeLine(out, "$" + bulk.length);
+        out.write(bulk);
+        out.write("\r\n".getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String string(byte[] bytes) {
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
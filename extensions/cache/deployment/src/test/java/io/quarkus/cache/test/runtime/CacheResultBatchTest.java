@@ -0,0 +1,156 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheKey;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CacheResultBatch;
+import io.quarkus.cache.CompositeCacheKey;
+import io.quarkus.cache.CaffeineCache;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Tests the {@link CacheResultBatch} annotation.
+ */
+public class CacheResultBatchTest {
+
+    private static final String CACHE_NAME = "test-cache";
+    private static final String LOCALIZED_CACHE_NAME = "localized-cache";
+    private static final String OPTIONS_CACHE_NAME = "options-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest().withApplicationRoot(jar -> jar.addClass(CachedService.class));
+
+    @Inject
+    CachedService cachedService;
+
+    @CacheName(CACHE_NAME)
+    Cache cache;
+
+    @CacheName(LOCALIZED_CACHE_NAME)
+    Cache localizedCache;
+
+    @CacheName(OPTIONS_CACHE_NAME)
+    Cache optionsCache;
+
+    @Test
+    public void testBatch() {
+        // STEP 1
+        // Action: all the keys are missing.
+        // Expected effect: the method is invoked once with all the keys and the values are returned in input order.
+        Map<String, String> values = cachedService.load(List.of("c", "a", "b"));
+        assertEquals(List.of("c", "a", "b"), new ArrayList<>(values.keySet()));
+        assertEquals("value-a", values.get("a"));
+        assertEquals(List.of(List.of("c", "a", "b")), cachedService.getInvocations());
+
+        // STEP 2
+        // Action: some keys are cached, the input contains a duplicate.
+        // Expected effect: the method is only invoked with the missing key.
+        values = cachedService.load(List.of("b", "d", "a", "b"));
+        assertEquals(List.of("b", "d", "a"), new ArrayList<>(values.keySet()));
+        assertEquals(List.of("d"), cachedService.getInvocations().get(1));
+
+        // STEP 3
+        // Action: all the keys are cached.
+        // Expected effect: the method is not invoked.
+        cachedService.load(List.of("a", "b", "c", "d"));
+        assertEquals(2, cachedService.getInvocations().size());
+
+        // STEP 4
+        // Action: a key is not returned by the method.
+        // Expected effect: the key is cached with a null value and is not included in the result.
+        values = cachedService.load(List.of("a", "unknown"));
+        assertFalse(values.containsKey("unknown"));
+        assertTrue(cache.as(CaffeineCache.class).keySet().contains("unknown"));
+        cachedService.load(List.of("unknown"));
+        assertEquals(3, cachedService.getInvocations().size());
+    }
+
+    @Test
+    public void testFailure() {
+        assertThrows(IllegalArgumentException.class, () -> cachedService.loadOrFail(List.of("e", "failure")));
+        // The failed keys are not cached.
+        assertFalse(cache.as(CaffeineCache.class).keySet().contains("e"));
+    }
+
+    @Test
+    public void testCompositeKeys() {
+        Map<Integer, String> values = cachedService.loadLocalized(Set.of(1, 2), "fr");
+        assertEquals("1-fr", values.get(1));
+        cachedService.loadLocalized(Set.of(1), "en");
+        assertTrue(localizedCache.as(CaffeineCache.class).keySet().contains(new CompositeCacheKey(1, "fr")));
+        assertTrue(localizedCache.as(CaffeineCache.class).keySet().contains(new CompositeCacheKey(1, "en")));
+        assertEquals(3, localizedCache.as(CaffeineCache.class).keySet().size());
+    }
+
+    @Test
+    public void testOtherCollectionParameter() {
+        // The ArrayList parameter is not a collection accepted by @CacheResultBatch, the elements of the Set are the keys.
+        Map<String, String> values = cachedService.loadWithOptions(new ArrayList<>(List.of("opt")), Set.of("x"));
+        assertEquals(Map.of("x", "x-[opt]"), values);
+        assertTrue(optionsCache.as(CaffeineCache.class).keySet().contains("x"));
+        assertEquals(1, optionsCache.as(CaffeineCache.class).keySet().size());
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        private final List<List<String>> invocations = new ArrayList<>();
+
+        @CacheResultBatch(cacheName = CACHE_NAME)
+        public Map<String, String> load(Collection<String> keys) {
+            invocations.add(new ArrayList<>(keys));
+            Map<String, String> values = new HashMap<>();
+            for (String key : keys) {
+                if (!"unknown".equals(key)) {
+                    values.put(key, "value-" + key);
+                }
+            }
+            return values;
+        }
+
+        @CacheResultBatch(cacheName = CACHE_NAME)
+        public Map<String, String> loadOrFail(List<String> keys) {
+            throw new IllegalArgumentException();
+        }
+
+        @CacheResultBatch(cacheName = LOCALIZED_CACHE_NAME)
+        public Map<Integer, String> loadLocalized(@CacheKey Set<Integer> ids, @CacheKey String locale) {
+            Map<Integer, String> values = new HashMap<>();
+            for (Integer id : ids) {
+                values.put(id, id + "-" + locale);
+            }
+            return values;
+        }
+
+        @CacheResultBatch(cacheName = OPTIONS_CACHE_NAME)
+        public Map<String, String> loadWithOptions(ArrayList<String> options, @CacheKey Set<String> keys) {
+            Map<String, String> values = new HashMap<>();
+            for (String key : keys) {
+                values.put(key, key + "-" + options);
+            }
+            return values;
+        }
+
+        public List<List<String>> getInvocations() {
+            return invocations;
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.RequestScoped;
+import javax.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.CaffeineCache;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheImpl;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Tests the background refresh of the entries added by {@link CacheResult}.
+ */
+public class RefreshAfterWriteTest {
+
+    private static final String REFRESH_CACHE = "refresh-cache";
+    private static final String UNI_CACHE = "uni-cache";
+    private static final String STALE_CACHE = "stale-cache";
+    private static final String REQUEST_SCOPED_CACHE = "request-scoped-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClasses(CachedService.class, RequestScopedService.class))
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + REFRESH_CACHE + "\".refresh-after-write", "0.2S")
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + UNI_CACHE + "\".refresh-after-write", "0.2S")
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + STALE_CACHE + "\".refresh-after-write", "0.2S")
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + STALE_CACHE + "\".stale-while-revalidate", "0.2S")
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + REQUEST_SCOPED_CACHE + "\".refresh-after-write", "0.2S");
+
+    @Inject
+    CachedService cachedService;
+
+    @Inject
+    RequestScopedService requestScopedService;
+
+    @CacheName(REFRESH_CACHE)
+    Cache refreshCache;
+
+    @Test
+    public void testRefresh() throws InterruptedException {
+        assertEquals("value-1", cachedService.get("refresh"));
+        assertEquals("value-1", cachedService.get("refresh"));
+
+        // Once the refresh duration has elapsed, the stale value is returned while the method is invoked in the background.
+        Thread.sleep(300L);
+        assertEquals("value-1", cachedService.get("refresh"));
+        awaitValue("value-2", "refresh");
+        assertEquals(2, cachedService.getInvocations("refresh"));
+
+        CaffeineCacheImpl cache = refreshCache.as(CaffeineCacheImpl.class);
+        assertEquals(1, cache.getRefreshSuccessCount());
+        assertEquals(0, cache.getRefreshFailureCount());
+    }
+
+    @Test
+    public void testUniRefresh() throws InterruptedException {
+        assertEquals("value-1", cachedService.getUni("uni").await().indefinitely());
+
+        Thread.sleep(300L);
+        assertEquals("value-1", cachedService.getUni("uni").await().indefinitely());
+        for (int i = 0; i < 50 && cachedService.getInvocations("uni") == 1; i++) {
+            Thread.sleep(100L);
+        }
+        assertEquals(2, cachedService.getInvocations("uni"));
+        assertEquals("value-2", cachedService.getUni("uni").await().indefinitely());
+    }
+
+    @Test
+    public void testStaleWhileRevalidate() throws InterruptedException {
+        assertEquals("value-1", cachedService.getStale("stale"));
+
+        // Within the stale-while-revalidate window, the stale value is returned.
+        Thread.sleep(300L);
+        assertEquals("value-1", cachedService.getStale("stale"));
+
+        // Beyond the window, the entry has expired and the caller waits for the new value.
+        Thread.sleep(600L);
+        int invocations = cachedService.getInvocations("stale");
+        assertEquals("value-" + (invocations + 1), cachedService.getStale("stale"));
+    }
+
+    @Test
+    public void testProgrammaticEntryIsKept() throws InterruptedException {
+        refreshCache.as(CaffeineCache.class).put("manual", CompletableFuture.completedFuture("manual-value"));
+
+        // The entry can't be refreshed, it is kept until it expires.
+        Thread.sleep(300L);
+        assertEquals("manual-value", cachedService.get("manual"));
+        Thread.sleep(100L);
+        assertEquals("manual-value", cachedService.get("manual"));
+        assertEquals(0, cachedService.getInvocations("manual"));
+    }
+
+    @Test
+    public void testRequestScopedRefresh() throws InterruptedException {
+        ManagedContext requestContext = Arc.container().requestContext();
+        requestContext.activate();
+        try {
+            assertEquals("value-1", requestScopedService.get("request"));
+        } finally {
+            requestContext.terminate();
+        }
+
+        // The instance which computed the value is destroyed, the refresh uses a new one.
+        Thread.sleep(300L);
+        requestContext.activate();
+        try {
+            assertEquals("value-1", requestScopedService.get("request"));
+        } finally {
+            requestContext.terminate();
+        }
+        for (int i = 0; i < 50 && RequestScopedService.INVOCATIONS.get() == 1; i++) {
+            Thread.sleep(100L);
+        }
+        assertEquals(2, RequestScopedService.INVOCATIONS.get());
+        assertEquals(0, RequestScopedService.DESTROYED_INSTANCE_INVOCATIONS.get());
+    }
+
+    private void awaitValue(String expected, String key) throws InterruptedException {
+        for (int i = 0; i < 50 && !expected.equals(cachedService.get(key)); i++) {
+            Thread.sleep(100L);
+        }
+        assertEquals(expected, cachedService.get(key));
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        private final Map<String, AtomicInteger> invocations = new ConcurrentHashMap<>();
+
+        @CacheResult(cacheName = REFRESH_CACHE)
+        public String get(String key) {
+            return "value-" + increment(key);
+        }
+
+        @CacheResult(cacheName = UNI_CACHE)
+        public Uni<String> getUni(String key) {
+            return Uni.createFrom().item(() -> "value-" + increment(key));
+        }
+
+        @CacheResult(cacheName = STALE_CACHE)
+        public String getStale(String key) {
+            return "value-" + increment(key);
+        }
+
+        public int getInvocations(String key) {
+            AtomicInteger count = invocations.get(key);
+            return count == null ? 0 : count.get();
+        }
+
+        private int increment(String key) {
+            return invocations.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet();
+        }
+    }
+
+    @RequestScoped
+    static class RequestScopedService {
+
+        static final AtomicInteger INVOCATIONS = new AtomicInteger();
+        static final AtomicInteger DESTROYED_INSTANCE_INVOCATIONS = new AtomicInteger();
+
+        private volatile boolean destroyed;
+
+        @CacheResult(cacheName = REQUEST_SCOPED_CACHE)
+        public String get(String key) {
+            if (destroyed) {
+                DESTROYED_INSTANCE_INVOCATIONS.incrementAndGet();
+            }
+            return "value-" + INVOCATIONS.incrementAndGet();
+        }
+
+        @PreDestroy
+        void destroy() {
+            destroyed = true;
+        }
+    }
+}
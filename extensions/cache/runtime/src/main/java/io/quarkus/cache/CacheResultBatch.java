@@ -0,0 +1,50 @@
+package io.quarkus.cache;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import javax.enterprise.util.Nonbinding;
+import javax.interceptor.InterceptorBinding;
+
+/**
+ * {@link CacheResult} for a method which loads several values at once. The annotated method must have exactly one parameter
+ * of type {@link java.util.Collection}, {@link java.util.List} or {@link java.util.Set} and must return a
+ * {@link java.util.Map} which associates the elements of that collection with the loaded values.
+ * <p>
+ * When the method is invoked, each element of the collection is looked up individually in the cache. The method is then
+ * invoked at most once, with a collection containing only the elements that were not found in the cache, and the loaded values
+ * are cached. The returned map is built from the cached and the loaded values and follows the iteration order of the given
+ * collection.
+ * <p>
+ * The cache key of an element is computed using the same logic as {@link CacheResult}, the collection being replaced by the
+ * element:
+ * <ul>
+ * <li>If the method has exactly one argument, or if the collection is the only argument annotated with
+ * {@link CacheKey @CacheKey}, then the element is the cache key.</li>
+ * <li>Otherwise, if the method has multiple arguments annotated with {@link CacheKey @CacheKey}, then the cache key is an
+ * instance of {@link CompositeCacheKey} built from these annotated arguments.</li>
+ * <li>Otherwise, the cache key is an instance of {@link CompositeCacheKey} built from all the method arguments.</li>
+ * </ul>
+ * <p>
+ * An element which is not associated with a value in the map returned by the method is cached with a {@code null} value. The
+ * elements associated with a {@code null} value are not included in the returned map.
+ * <p>
+ * Like {@link CacheResult}, this annotation is protected by a lock on cache miss mechanism: concurrent invocations wait for the
+ * values which are being loaded by another invocation instead of loading them again.
+ * <p>
+ * The underlying caching provider can be chosen and configured in the Quarkus {@link application.properties} file. Caches
+ * which do not support batch loading invoke the method once per missing element.
+ */
+@InterceptorBinding
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CacheResultBatch {
+
+    /**
+     * The name of the cache.
+     */
+    @Nonbinding
+    String cacheName();
+}
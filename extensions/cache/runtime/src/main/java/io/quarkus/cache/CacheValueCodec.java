@@ -0,0 +1,25 @@
+package io.quarkus.cache;
+
+/**
+ * Implement this interface to control how the cache values are converted to bytes before they are stored in a remote cache
+ * tier (e.g. Redis). The implementation is configured with the {@code quarkus.cache.redis.value-codec} property and is
+ * instantiated using the default constructor.
+ */
+public interface CacheValueCodec {
+
+    /**
+     * Encodes a cache value.
+     *
+     * @param value the cache value, never {@code null}
+     * @return the binary representation of the value
+     */
+    byte[] encode(Object value);
+
+    /**
+     * Decodes a cache value.
+     *
+     * @param bytes the binary representation of the value
+     * @return the cache value
+     */
+    Object decode(byte[] bytes);
+}
@@ -25,6 +25,13 @@ public CompositeCacheKey(Object... keyElements) {
         this.keyElements = keyElements;
     }
 
+    /**
+     * @return the key elements
+     */
+    public Object[] getKeyElements() {
+        return keyElements.clone();
+    }
+
     @Override
     public int hashCode() {
         return Arrays.deepHashCode(keyElements);
@@ -20,6 +20,13 @@ public DefaultCacheKey(String cacheName) {
         this.cacheName = Objects.requireNonNull(cacheName);
     }
 
+    /**
+     * @return the cache name
+     */
+    public String getCacheName() {
+        return cacheName;
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(cacheName);
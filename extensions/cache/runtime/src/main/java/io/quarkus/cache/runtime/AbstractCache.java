@@ -1,7 +1,18 @@
 package io.quarkus.cache.runtime;
 
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
 import io.quarkus.cache.Cache;
 import io.quarkus.cache.DefaultCacheKey;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 
 public abstract class AbstractCache implements Cache {
@@ -34,4 +45,58 @@ public <T extends Cache> T as(Class<T> type) {
      * value. If the key no longer identifies a cache entry, this method must not put the emitted item into the cache.
      */
     public abstract Uni<Void> replaceUniValue(Object key, Object emittedValue);
+
+    /**
+     * Returns a lazy asynchronous action that will emit the cache values identified by {@code keys}, in the iteration order
+     * of {@code keys}. The values which are not already cached are obtained from {@code valuesLoader}, which should load all
+     * the missing keys with a single call. A key which is not associated with a value in the map returned by
+     * {@code valuesLoader} is cached with a {@code null} value.
+     * <p>
+     * This implementation calls {@code valuesLoader} once for each missing key. Caches which support batch loading should
+     * override it.
+     *
+     * @param keys cache keys
+     * @param valuesLoader function used to compute the missing cache values
+     * @return a lazy asynchronous action that will emit a map containing all the given keys
+     */
+    public <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Function<Set<K>, Map<K, V>> valuesLoader) {
+        return Multi.createFrom().iterable(keys)
+                .onItem().transformToUniAndConcatenate(new Function<K, Uni<Map.Entry<K, V>>>() {
+                    @Override
+                    public Uni<Map.Entry<K, V>> apply(K key) {
+                        return get(key, new Function<K, V>() {
+                            @Override
+                            public V apply(K k) {
+                                Map<K, V> values = valuesLoader.apply(Collections.singleton(k));
+                                return values == null ? null : values.get(k);
+                            }
+                        }).map(new Function<V, Map.Entry<K, V>>() {
+                            @Override
+                            public Map.Entry<K, V> apply(V value) {
+                                return new SimpleImmutableEntry<>(key, value);
+                            }
+                        });
+                    }
+                })
+                .collect().in(new Supplier<Map<K, V>>() {
+                    @Override
+                    public Map<K, V> get() {
+                        return new LinkedHashMap<>();
+                    }
+                }, new BiConsumer<Map<K, V>, Map.Entry<K, V>>() {
+                    @Override
+                    public void accept(Map<K, V> result, Map.Entry<K, V> entry) {
+                        result.put(entry.getKey(), entry.getValue());
+                    }
+                });
+    }
+
+    /**
+     * Registers the function used to compute a new value for the given key when the cache entry is refreshed in the
+     * background. This method is called each time a value is computed and added to the cache by the {@code @CacheResult}
+     * interceptor. It does nothing if the cache does not support background refreshes.
+     */
+    public void setReloader(Object key, Supplier<Uni<Object>> reloader) {
+        // Do nothing by default.
+    }
 }
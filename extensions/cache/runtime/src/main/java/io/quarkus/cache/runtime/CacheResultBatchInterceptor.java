@@ -0,0 +1,151 @@
+package io.quarkus.cache.runtime;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import javax.annotation.Priority;
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.Interceptor;
+import javax.interceptor.InvocationContext;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.cache.CacheException;
+import io.quarkus.cache.CacheResultBatch;
+
+@CacheResultBatch(cacheName = "") // The `cacheName` attribute is @Nonbinding.
+@Interceptor
+@Priority(CacheInterceptor.BASE_PRIORITY + 3)
+public class CacheResultBatchInterceptor extends CacheInterceptor {
+
+    private static final Logger LOGGER = Logger.getLogger(CacheResultBatchInterceptor.class);
+    private static final String INTERCEPTOR_BINDING_ERROR_MSG = "The Quarkus cache extension is not working properly (CacheResultBatch interceptor binding retrieval failed), please create a GitHub issue in the Quarkus repository to help the maintainers fix this bug";
+
+    /**
+     * The collection parameter types accepted by {@link CacheResultBatch}. The build time validation and the run time lookup
+     * of the collection parameter both rely on this list, so that they always find the same parameter.
+     */
+    public static final List<Class<?>> COLLECTION_TYPES = Arrays.asList(Collection.class, List.class, Set.class);
+
+    // The position of the collection parameter is validated at build time, it only needs to be found once per method.
+    private final Map<Method, Integer> collectionParameterPositions = new ConcurrentHashMap<>();
+
+    @AroundInvoke
+    public Object intercept(InvocationContext invocationContext) throws Throwable {
+        CacheInterceptionContext<CacheResultBatch> interceptionContext = getInterceptionContext(invocationContext,
+                CacheResultBatch.class, true);
+
+        if (interceptionContext.getInterceptorBindings().isEmpty()) {
+            // This should never happen.
+            LOGGER.warn(INTERCEPTOR_BINDING_ERROR_MSG);
+            return invocationContext.proceed();
+        }
+
+        CacheResultBatch binding = interceptionContext.getInterceptorBindings().get(0);
+        AbstractCache cache = (AbstractCache) cacheManager.getCache(binding.cacheName()).get();
+        Method method = invocationContext.getMethod();
+        Object[] parameters = invocationContext.getParameters();
+        int position = getCollectionParameterPosition(method);
+        Collection<?> elements = (Collection<?>) parameters[position];
+        if (elements == null) {
+            return invocationContext.proceed();
+        }
+
+        // The cache keys are computed as if the method was invoked with each element instead of the collection.
+        Map<Object, Object> elementsByKey = new LinkedHashMap<>();
+        for (Object element : elements) {
+            Object[] keyParameters = parameters.clone();
+            keyParameters[position] = element;
+            Object key = getCacheKey(cache, UndefinedCacheKeyGenerator.class,
+                    interceptionContext.getCacheKeyParameterPositions(), method, keyParameters);
+            elementsByKey.put(key, element);
+        }
+        LOGGER.debugf("Loading %d entries from cache [%s]", elementsByKey.size(), binding.cacheName());
+
+        try {
+            Map<Object, Object> values = cache.getAll(elementsByKey.keySet(),
+                    new Function<Set<Object>, Map<Object, Object>>() {
+                        @Override
+                        public Map<Object, Object> apply(Set<Object> missingKeys) {
+                            LOGGER.debugf("Adding %d entries into cache [%s]", missingKeys.size(), binding.cacheName());
+                            Collection<Object> missingElements = newCollection(method.getParameterTypes()[position],
+                                    missingKeys.size());
+                            for (Object key : missingKeys) {
+                                missingElements.add(elementsByKey.get(key));
+                            }
+                            Object[] loaderParameters = parameters.clone();
+                            loaderParameters[position] = missingElements;
+                            invocationContext.setParameters(loaderParameters);
+                            Map<?, ?> loadedValues;
+                            try {
+                                loadedValues = (Map<?, ?>) invocationContext.proceed();
+                            } catch (CacheException e) {
+                                throw e;
+                            } catch (Throwable e) {
+                                throw new CacheException(e);
+                            }
+                            if (loadedValues == null) {
+                                return null;
+                            }
+                            Map<Object, Object> valuesByKey = new HashMap<>(missingKeys.size() * 4 / 3 + 1);
+                            for (Object key : missingKeys) {
+                                valuesByKey.put(key, loadedValues.get(elementsByKey.get(key)));
+                            }
+                            return valuesByKey;
+                        }
+                    }).await().indefinitely();
+
+            Map<Object, Object> result = new LinkedHashMap<>(elementsByKey.size() * 4 / 3 + 1);
+            for (Map.Entry<Object, Object> element : elementsByKey.entrySet()) {
+                Object value = values.get(element.getKey());
+                if (value != null) {
+                    result.put(element.getValue(), value);
+                }
+            }
+            return result;
+        } catch (CacheException e) {
+            if (e.getCause() != null) {
+                throw e.getCause();
+            } else {
+                throw e;
+            }
+        }
+    }
+
+    private int getCollectionParameterPosition(Method method) {
+        return collectionParameterPositions.computeIfAbsent(method, new Function<Method, Integer>() {
+            @Override
+            public Integer apply(Method m) {
+                Class<?>[] parameterTypes = m.getParameterTypes();
+                for (int i = 0; i < parameterTypes.length; i++) {
+                    if (COLLECTION_TYPES.contains(parameterTypes[i])) {
+                        return i;
+                    }
+                }
+                // This should never be thrown because the method parameters are validated at build time.
+                throw new CacheException(new IllegalStateException(
+                        "No collection parameter found in method annotated with @CacheResultBatch [method=" + m + "]"));
+            }
+        });
+    }
+
+    private static Collection<Object> newCollection(Class<?> collectionType, int size) {
+        if (collectionType.isAssignableFrom(ArrayList.class)) {
+            return new ArrayList<>(size);
+        } else if (collectionType.isAssignableFrom(LinkedHashSet.class)) {
+            return new LinkedHashSet<>(size * 4 / 3 + 1);
+        }
+        // This should never be thrown because the method parameters are validated at build time.
+        throw new CacheException(new IllegalStateException("Unsupported collection type: " + collectionType.getName()));
+    }
+}
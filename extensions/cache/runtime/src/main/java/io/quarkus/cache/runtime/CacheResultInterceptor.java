@@ -27,6 +27,11 @@ public class CacheResultInterceptor extends CacheInterceptor {
 
     @AroundInvoke
     public Object intercept(InvocationContext invocationContext) throws Throwable {
+        if (CacheResultReloader.isReloading(invocationContext.getMethod())) {
+            // The cache entry is being refreshed in the background, the method must be invoked
+            return invocationContext.proceed();
+        }
+
         /*
          * io.smallrye.mutiny.Multi values are never cached.
          * There's already a WARN log entry at build time so we don't need to log anything at run time.
@@ -65,6 +70,7 @@ public Object apply(Object k) {
                     public Uni<?> apply(Object value) {
                         if (value == UnresolvedUniValue.INSTANCE) {
                             try {
+                                cache.setReloader(key, createReloader(invocationContext, returnType));
                                 return asyncInvocationResultToUni(invocationContext.proceed(), returnType)
                                         .call(new Function<Object, Uni<?>>() {
                                             @Override
@@ -106,7 +112,9 @@ public Object apply(Object k) {
                         try {
                             LOGGER.debugf("Adding entry with key [%s] into cache [%s]",
                                     key, binding.cacheName());
-                            return invocationContext.proceed();
+                            Object value = invocationContext.proceed();
+                            cache.setReloader(key, createReloader(invocationContext, returnType));
+                            return value;
                         } catch (CacheException e) {
                             throw e;
                         } catch (Throwable e) {
@@ -142,4 +150,12 @@ public Object apply(Object k) {
         }
     }
 
+    /*
+     * The returned function invokes the intercepted method again, from a worker thread, when the cache entry is refreshed in
+     * the background. It doesn't keep the invocation context, which must not be used once the invocation is complete.
+     */
+    private Supplier<Uni<Object>> createReloader(InvocationContext invocationContext, ReturnType returnType) {
+        return new CacheResultReloader(invocationContext.getTarget(), invocationContext.getMethod(),
+                invocationContext.getParameters(), returnType);
+    }
 }
@@ -0,0 +1,136 @@
+package io.quarkus.cache.runtime;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.function.Supplier;
+
+import javax.enterprise.context.Dependent;
+import javax.enterprise.inject.Any;
+import javax.enterprise.inject.spi.Bean;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.InjectableContext.ContextState;
+import io.quarkus.arc.InstanceHandle;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.arc.Subclass;
+import io.quarkus.cache.CacheException;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Invokes a {@code @CacheResult} method again to refresh a cache entry in the background.
+ * <p>
+ * The reloader doesn't keep the invocation context of the original invocation: the bean instance is resolved through the
+ * container each time the entry is refreshed, so that a refresh never uses a destroyed {@code @RequestScoped} or
+ * {@code @Dependent} instance. Only the method and its arguments, which are needed to compute the value again, are kept. The
+ * request context is activated for the duration of the refresh if it is not already active.
+ */
+final class CacheResultReloader implements Supplier<Uni<Object>> {
+
+    /*
+     * The method which is currently being invoked by a reloader on this thread. The @CacheResult interceptor must proceed
+     * without reading the cache when it intercepts that invocation, otherwise the current value would be returned.
+     */
+    private static final ThreadLocal<Method> RELOADED_METHOD = new ThreadLocal<>();
+
+    private final Class<?> beanClass;
+    private final Method method;
+    private final Object[] parameters;
+    private final CacheInterceptor.ReturnType returnType;
+
+    CacheResultReloader(Object target, Method method, Object[] parameters, CacheInterceptor.ReturnType returnType) {
+        // The target of an intercepted invocation is an instance of the subclass generated for the bean class
+        this.beanClass = target instanceof Subclass ? target.getClass().getSuperclass() : target.getClass();
+        this.method = method;
+        this.parameters = parameters.clone();
+        this.returnType = returnType;
+    }
+
+    /**
+     * Returns {@code true} if the given method invocation is a refresh started by a reloader. The flag is cleared so that
+     * the nested invocations of the method use the cache as usual.
+     */
+    static boolean isReloading(Method method) {
+        Method reloadedMethod = RELOADED_METHOD.get();
+        if (reloadedMethod != null && reloadedMethod.equals(method)) {
+            RELOADED_METHOD.remove();
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public Uni<Object> get() {
+        return Uni.createFrom().deferred(new Supplier<Uni<? extends Object>>() {
+            @Override
+            public Uni<? extends Object> get() {
+                return reload();
+            }
+        });
+    }
+
+    private Uni<Object> reload() {
+        ArcContainer container = Arc.container();
+        InjectableBean<?> bean = container == null ? null : findBean(container);
+        if (bean == null) {
+            return Uni.createFrom().failure(new CacheException(new IllegalStateException(
+                    "Unable to refresh the cache entry, no bean found for " + beanClass.getName())));
+        }
+        ManagedContext requestContext = container.requestContext();
+        ContextState requestContextState = null;
+        if (!requestContext.isActive()) {
+            requestContext.activate();
+            requestContextState = requestContext.getState();
+        }
+        InstanceHandle<?> handle = container.instance(bean);
+        Object result;
+        try {
+            method.setAccessible(true);
+            RELOADED_METHOD.set(method);
+            try {
+                result = method.invoke(handle.get(), parameters);
+            } finally {
+                RELOADED_METHOD.remove();
+            }
+        } catch (Throwable t) {
+            release(handle, requestContext, requestContextState);
+            Throwable cause = t instanceof InvocationTargetException ? t.getCause() : t;
+            return Uni.createFrom().failure(cause instanceof CacheException ? cause : new CacheException(cause));
+        } finally {
+            if (requestContextState != null) {
+                // The context state is destroyed once the value is available, possibly from another thread
+                requestContext.deactivate();
+            }
+        }
+        @SuppressWarnings("unchecked")
+        Uni<Object> value = returnType == CacheInterceptor.ReturnType.NonAsync ? Uni.createFrom().item(result)
+                : (Uni<Object>) CacheInterceptor.asyncInvocationResultToUni(result, returnType);
+        ContextState state = requestContextState;
+        return value.onTermination().invoke(new Runnable() {
+            @Override
+            public void run() {
+                release(handle, requestContext, state);
+            }
+        });
+    }
+
+    private InjectableBean<?> findBean(ArcContainer container) {
+        for (Bean<?> bean : container.beanManager().getBeans(beanClass, Any.Literal.INSTANCE)) {
+            if (bean instanceof InjectableBean && bean.getBeanClass().equals(beanClass)
+                    && ((InjectableBean<?>) bean).getKind() == InjectableBean.Kind.CLASS) {
+                return (InjectableBean<?>) bean;
+            }
+        }
+        return null;
+    }
+
+    private static void release(InstanceHandle<?> handle, ManagedContext requestContext, ContextState requestContextState) {
+        if (handle.getBean().getScope().equals(Dependent.class)) {
+            handle.destroy();
+        }
+        if (requestContextState != null) {
+            requestContext.destroy(requestContextState);
+        }
+    }
+}
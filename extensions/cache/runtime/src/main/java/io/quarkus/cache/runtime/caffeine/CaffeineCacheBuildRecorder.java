@@ -32,29 +32,7 @@ public CacheManager get() {
                     // The number of caches is known at build time so we can use fixed initialCapacity and loadFactor for the caches map.
                     Map<String, Cache> caches = new HashMap<>(cacheInfos.size() + 1, 1.0F);
                     for (CaffeineCacheInfo cacheInfo : cacheInfos) {
-                        if (LOGGER.isDebugEnabled()) {
-                            LOGGER.debugf(
-                                    "Building Caffeine cache [%s] with [initialCapacity=%s], [maximumSize=%s], [expireAfterWrite=%s], "
-                                            + "[expireAfterAccess=%s] and [metricsEnabled=%s]",
-                                    cacheInfo.name, cacheInfo.initialCapacity, cacheInfo.maximumSize,
-                                    cacheInfo.expireAfterWrite, cacheInfo.expireAfterAccess, cacheInfo.metricsEnabled);
-                        }
-                        /*
-                         * Metrics will be recorded for the current cache if:
-                         * - the application depends on a quarkus-micrometer-registry-* extension
-                         * - the metrics are enabled for this cache from the Quarkus configuration
-                         */
-                        boolean recordMetrics = metricsInitializer.metricsEnabled() && cacheInfo.metricsEnabled;
-                        CaffeineCacheImpl cache = new CaffeineCacheImpl(cacheInfo, recordMetrics);
-                        if (recordMetrics) {
-                            metricsInitializer.recordMetrics(cache.cache, cacheInfo.name);
-                        } else if (cacheInfo.metricsEnabled) {
-                            LOGGER.warnf(
-                                    "Metrics won't be recorded for cache '%s' because the application does not depend on a Micrometer extension. "
-                                            + "This warning can be fixed by disabling the cache metrics in the configuration or by adding a Micrometer "
-                                            + "extension to the pom.xml file.",
-                                    cacheInfo.name);
-                        }
+                        CaffeineCacheImpl cache = createCache(cacheInfo, metricsInitializer);
                         caches.put(cacheInfo.name, cache);
                     }
                     return new CacheManagerImpl(caches);
@@ -62,4 +40,39 @@ public CacheManager get() {
             }
         };
     }
+
+    /**
+     * Builds a Caffeine cache from the given info and registers its metrics if needed.
+     */
+    public static CaffeineCacheImpl createCache(CaffeineCacheInfo cacheInfo, MetricsInitializer metricsInitializer) {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debugf(
+                    "Building Caffeine cache [%s] with [initialCapacity=%s], [maximumSize=%s], [expireAfterWrite=%s], "
+                            + "[expireAfterAccess=%s], [refreshAfterWrite=%s], [staleWhileRevalidate=%s] "
+                            + "and [metricsEnabled=%s]",
+                    cacheInfo.name, cacheInfo.initialCapacity, cacheInfo.maximumSize,
+                    cacheInfo.expireAfterWrite, cacheInfo.expireAfterAccess, cacheInfo.refreshAfterWrite,
+                    cacheInfo.staleWhileRevalidate, cacheInfo.metricsEnabled);
+        }
+        /*
+         * Metrics will be recorded for the current cache if:
+         * - the application depends on a quarkus-micrometer-registry-* extension
+         * - the metrics are enabled for this cache from the Quarkus configuration
+         */
+        boolean recordMetrics = metricsInitializer.metricsEnabled() && cacheInfo.metricsEnabled;
+        CaffeineCacheImpl cache = new CaffeineCacheImpl(cacheInfo, recordMetrics);
+        if (recordMetrics) {
+            metricsInitializer.recordMetrics(cache.cache, cacheInfo.name);
+            if (cacheInfo.refreshAfterWrite != null) {
+                metricsInitializer.recordRefreshMetrics(cache, cacheInfo.name);
+            }
+        } else if (cacheInfo.metricsEnabled) {
+            LOGGER.warnf(
+                    "Metrics won't be recorded for cache '%s' because the application does not depend on a Micrometer extension. "
+                            + "This warning can be fixed by disabling the cache metrics in the configuration or by adding a Micrometer "
+                            + "extension to the pom.xml file.",
+                    cacheInfo.name);
+        }
+        return cache;
+    }
 }
@@ -1,11 +1,19 @@
 package io.quarkus.cache.runtime.caffeine;
 
+import java.time.Duration;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -13,7 +21,10 @@
 import org.jboss.logging.Logger;
 
 import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.RemovalListener;
 import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
 import com.github.benmanes.caffeine.cache.stats.StatsCounter;
 
@@ -21,7 +32,9 @@
 import io.quarkus.cache.CaffeineCache;
 import io.quarkus.cache.runtime.AbstractCache;
 import io.quarkus.cache.runtime.NullValueConverter;
+import io.quarkus.cache.runtime.UnresolvedUniValue;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
 
 /**
  * This class is an internal Quarkus cache implementation. Do not use it explicitly from your Quarkus application. The public
@@ -36,6 +49,15 @@ public class CaffeineCacheImpl extends AbstractCache implements CaffeineCache {
     private final CaffeineCacheInfo cacheInfo;
     private final StatsCounter statsCounter;
 
+    /*
+     * The functions used to refresh the cache entries in the background, or null if the refresh is disabled. They are
+     * registered by the @CacheResult interceptor when a value is computed and removed with the corresponding entry.
+     */
+    private final Map<Object, Supplier<Uni<Object>>> reloaders;
+    private final LongAdder refreshSuccessCount = new LongAdder();
+    private final LongAdder refreshFailureCount = new LongAdder();
+    private final LongAdder refreshTotalTime = new LongAdder();
+
     public CaffeineCacheImpl(CaffeineCacheInfo cacheInfo, boolean recordStats) {
         this.cacheInfo = cacheInfo;
         Caffeine<Object, Object> builder = Caffeine.newBuilder();
@@ -45,8 +67,16 @@ public CaffeineCacheImpl(CaffeineCacheInfo cacheInfo, boolean recordStats) {
         if (cacheInfo.maximumSize != null) {
             builder.maximumSize(cacheInfo.maximumSize);
         }
-        if (cacheInfo.expireAfterWrite != null) {
-            builder.expireAfterWrite(cacheInfo.expireAfterWrite);
+        Duration expireAfterWrite = cacheInfo.expireAfterWrite;
+        if (cacheInfo.refreshAfterWrite != null && cacheInfo.staleWhileRevalidate != null) {
+            // A stale value can only be returned until the end of the stale-while-revalidate window
+            Duration staleLimit = cacheInfo.refreshAfterWrite.plus(cacheInfo.staleWhileRevalidate);
+            if (expireAfterWrite == null || staleLimit.compareTo(expireAfterWrite) < 0) {
+                expireAfterWrite = staleLimit;
+            }
+        }
+        if (expireAfterWrite != null) {
+            builder.expireAfterWrite(expireAfterWrite);
         }
         if (cacheInfo.expireAfterAccess != null) {
             builder.expireAfterAccess(cacheInfo.expireAfterAccess);
@@ -64,7 +94,35 @@ public StatsCounter get() {
             LOGGER.tracef("Caffeine stats recording is disabled for cache [%s]", cacheInfo.name);
             statsCounter = StatsCounter.disabledStatsCounter();
         }
-        cache = builder.buildAsync();
+        if (cacheInfo.refreshAfterWrite != null) {
+            LOGGER.tracef("Background refresh is enabled for cache [%s]", cacheInfo.name);
+            reloaders = new ConcurrentHashMap<>();
+            builder.refreshAfterWrite(cacheInfo.refreshAfterWrite);
+            // The cached methods may block, they must not be invoked from the common pool used by default
+            builder.executor(new Executor() {
+                @Override
+                public void execute(Runnable command) {
+                    Infrastructure.getDefaultWorkerPool().execute(command);
+                }
+            });
+            builder.removalListener(new RemovalListener<Object, Object>() {
+                @Override
+                public void onRemoval(Object key, Object value, RemovalCause cause) {
+                    /*
+                     * The listener is called asynchronously, the key may have been associated with a new entry in the
+                     * meantime. In the worst case, the reloader of the new entry is removed and the entry is kept
+                     * until it expires instead of being refreshed.
+                     */
+                    if (cause != RemovalCause.REPLACED && !cache.asMap().containsKey(key)) {
+                        reloaders.remove(key);
+                    }
+                }
+            });
+            cache = builder.buildAsync(new Reloader());
+        } else {
+            reloaders = null;
+            cache = builder.buildAsync();
+        }
     }
 
     @Override
@@ -148,6 +206,78 @@ private <K, V> CompletableFuture<Object> getFromCaffeine(K key, Function<K, V> v
         }
     }
 
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Function<Set<K>, Map<K, V>> valuesLoader) {
+        for (K key : keys) {
+            Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+        }
+        return Uni.createFrom().completionStage(new Supplier<CompletionStage<Map<K, V>>>() {
+            @Override
+            public CompletionStage<Map<K, V>> get() {
+                return getAllFromCaffeine(keys, valuesLoader);
+            }
+        });
+    }
+
+    /**
+     * Batch version of {@link #getFromCaffeine(Object, Function)}. Like {@code AsyncCache#getAll} in Caffeine, the
+     * missing keys are first reserved with incomplete futures so that concurrent callers wait for them, then they are loaded
+     * with a single {@code valuesLoader} call. The loading is done synchronously on the calling thread.
+     */
+    private <K, V> CompletableFuture<Map<K, V>> getAllFromCaffeine(Collection<K> keys,
+            Function<Set<K>, Map<K, V>> valuesLoader) {
+        Map<K, CompletableFuture<Object>> cacheValues = new LinkedHashMap<>();
+        Map<K, CompletableFuture<Object>> newCacheValues = new LinkedHashMap<>();
+        for (K key : keys) {
+            if (cacheValues.containsKey(key)) {
+                continue;
+            }
+            CompletableFuture<Object> newCacheValue = new CompletableFuture<>();
+            CompletableFuture<Object> existingCacheValue = cache.asMap().putIfAbsent(key, newCacheValue);
+            if (existingCacheValue == null) {
+                newCacheValues.put(key, newCacheValue);
+                cacheValues.put(key, newCacheValue);
+            } else {
+                cacheValues.put(key, existingCacheValue);
+            }
+        }
+        statsCounter.recordHits(cacheValues.size() - newCacheValues.size());
+        statsCounter.recordMisses(newCacheValues.size());
+        LOGGER.tracef("Loading %d of %d keys in cache [%s]", newCacheValues.size(), cacheValues.size(), cacheInfo.name);
+
+        if (!newCacheValues.isEmpty()) {
+            try {
+                Map<K, V> values = valuesLoader.apply(Collections.unmodifiableSet(newCacheValues.keySet()));
+                for (Map.Entry<K, CompletableFuture<Object>> newCacheValue : newCacheValues.entrySet()) {
+                    V value = values == null ? null : values.get(newCacheValue.getKey());
+                    newCacheValue.getValue().complete(NullValueConverter.toCacheValue(value));
+                }
+            } catch (Throwable t) {
+                CaffeineComputationThrowable computationThrowable = new CaffeineComputationThrowable(t);
+                for (Map.Entry<K, CompletableFuture<Object>> newCacheValue : newCacheValues.entrySet()) {
+                    cache.asMap().remove(newCacheValue.getKey(), newCacheValue.getValue());
+                    newCacheValue.getValue().complete(computationThrowable);
+                }
+            }
+        }
+
+        Map<K, CompletableFuture<Object>> unwrappedValues = new LinkedHashMap<>(cacheValues.size() * 4 / 3 + 1);
+        for (Map.Entry<K, CompletableFuture<Object>> cacheValue : cacheValues.entrySet()) {
+            unwrappedValues.put(cacheValue.getKey(), unwrapCacheValueOrThrowable(cacheValue.getValue()));
+        }
+        return CompletableFuture.allOf(unwrappedValues.values().toArray(new CompletableFuture[0]))
+                .thenApply(new Function<Void, Map<K, V>>() {
+                    @Override
+                    public Map<K, V> apply(Void ignored) {
+                        Map<K, V> result = new LinkedHashMap<>(unwrappedValues.size() * 4 / 3 + 1);
+                        for (Map.Entry<K, CompletableFuture<Object>> value : unwrappedValues.entrySet()) {
+                            result.put(value.getKey(), cast(value.getValue().join()));
+                        }
+                        return result;
+                    }
+                });
+    }
+
     private CompletableFuture<Object> unwrapCacheValueOrThrowable(CompletableFuture<Object> cacheValue) {
         return cacheValue.thenApply(new Function<>() {
             @Override
@@ -213,6 +343,13 @@ public CompletableFuture<Object> apply(Object k, CompletableFuture<Object> curre
         });
     }
 
+    @Override
+    public void setReloader(Object key, Supplier<Uni<Object>> reloader) {
+        if (reloaders != null) {
+            reloaders.put(key, reloader);
+        }
+    }
+
     @Override
     public Set<Object> keySet() {
         return Collections.unmodifiableSet(new HashSet<>(cache.asMap().keySet()));
@@ -232,6 +369,25 @@ public long getSize() {
         return cache.synchronous().estimatedSize();
     }
 
+    public long getRefreshSuccessCount() {
+        return refreshSuccessCount.sum();
+    }
+
+    public long getRefreshFailureCount() {
+        return refreshFailureCount.sum();
+    }
+
+    public long getRefreshCount() {
+        return refreshSuccessCount.sum() + refreshFailureCount.sum();
+    }
+
+    /**
+     * Returns the total time spent refreshing the cache entries, in nanoseconds.
+     */
+    public long getRefreshTotalTime() {
+        return refreshTotalTime.sum();
+    }
+
     @SuppressWarnings("unchecked")
     private <T> T cast(Object value) {
         try {
@@ -241,4 +397,61 @@ private <T> T cast(Object value) {
                     "An existing cached value type does not match the type returned by the value loading function", e);
         }
     }
+
+    /**
+     * Refreshes the cache entries in the background with the reloaders registered by the {@code @CacheResult} interceptor.
+     * Caffeine keeps the current value if the refresh fails and removes the entry if the refresh completes with
+     * {@code null}.
+     */
+    private class Reloader implements AsyncCacheLoader<Object, Object> {
+
+        @Override
+        public CompletableFuture<Object> asyncLoad(Object key, Executor executor) {
+            // The values are always loaded by the callers of CaffeineCacheImpl#get, Caffeine never loads a missing entry
+            return CompletableFuture.failedFuture(new CacheException(new IllegalStateException(
+                    "The entries of cache [" + cacheInfo.name + "] can only be loaded by the cache callers")));
+        }
+
+        @Override
+        public CompletableFuture<Object> asyncReload(Object key, Object oldValue, Executor executor) {
+            if (oldValue == UnresolvedUniValue.INSTANCE) {
+                // The Uni is still being resolved, the entry will be refreshed later
+                return CompletableFuture.completedFuture(oldValue);
+            }
+            Supplier<Uni<Object>> reloader = reloaders.get(key);
+            if (reloader == null) {
+                /*
+                 * The entry was not added by the @CacheResult interceptor (e.g. it was added by the programmatic API or by a
+                 * batch), it can't be refreshed. Caffeine silently ignores a cancelled refresh: the current value is kept,
+                 * without resetting its write time, until it expires.
+                 */
+                LOGGER.tracef("Entry with key [%s] from cache [%s] can't be refreshed", key, cacheInfo.name);
+                CompletableFuture<Object> noRefresh = new CompletableFuture<>();
+                noRefresh.cancel(false);
+                return noRefresh;
+            }
+            LOGGER.debugf("Refreshing entry with key [%s] in cache [%s]", key, cacheInfo.name);
+            long start = System.nanoTime();
+            return reloader.get()
+                    .runSubscriptionOn(executor)
+                    .map(new Function<Object, Object>() {
+                        @Override
+                        public Object apply(Object value) {
+                            return NullValueConverter.toCacheValue(value);
+                        }
+                    })
+                    .subscribeAsCompletionStage()
+                    .whenComplete(new BiConsumer<Object, Throwable>() {
+                        @Override
+                        public void accept(Object value, Throwable failure) {
+                            refreshTotalTime.add(System.nanoTime() - start);
+                            if (failure == null) {
+                                refreshSuccessCount.increment();
+                            } else {
+                                refreshFailureCount.increment();
+                            }
+                        }
+                    });
+        }
+    }
 }
@@ -1,11 +1,16 @@
 package io.quarkus.cache.runtime.caffeine.metrics;
 
+import java.util.concurrent.TimeUnit;
+
 import org.jboss.logging.Logger;
 
 import com.github.benmanes.caffeine.cache.AsyncCache;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
 import io.micrometer.core.instrument.Metrics;
 import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheImpl;
 
 /**
  * An instance of this class is created during the instantiation of the Caffeine caches when the application depends on a
@@ -26,4 +31,22 @@ public void recordMetrics(AsyncCache<Object, Object> cache, String cacheName) {
         // The 'tags' vararg is purposely empty here. Tags should be configured using MeterFilter.
         CaffeineCacheMetrics.monitor(Metrics.globalRegistry, cache, cacheName);
     }
+
+    @Override
+    public void recordRefreshMetrics(CaffeineCacheImpl cache, String cacheName) {
+        LOGGER.tracef("Initializing Micrometer refresh metrics for cache [%s]", cacheName);
+        FunctionCounter.builder("cache.refreshes", cache, CaffeineCacheImpl::getRefreshSuccessCount)
+                .tags("cache", cacheName, "result", "success")
+                .description("The number of background refreshes of the cache entries")
+                .register(Metrics.globalRegistry);
+        FunctionCounter.builder("cache.refreshes", cache, CaffeineCacheImpl::getRefreshFailureCount)
+                .tags("cache", cacheName, "result", "failure")
+                .description("The number of background refreshes of the cache entries")
+                .register(Metrics.globalRegistry);
+        FunctionTimer.builder("cache.refresh.duration", cache, CaffeineCacheImpl::getRefreshCount,
+                CaffeineCacheImpl::getRefreshTotalTime, TimeUnit.NANOSECONDS)
+                .tags("cache", cacheName)
+                .description("The time spent refreshing the cache entries in the background")
+                .register(Metrics.globalRegistry);
+    }
 }
@@ -0,0 +1,105 @@
+package io.quarkus.cache.runtime.redis;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheManager;
+import io.quarkus.cache.CacheValueCodec;
+import io.quarkus.cache.runtime.CacheManagerImpl;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheBuildRecorder;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheImpl;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheInfo;
+import io.quarkus.cache.runtime.caffeine.metrics.MetricsInitializer;
+import io.quarkus.redis.datasource.ReactiveRedisDataSource;
+import io.quarkus.runtime.annotations.Recorder;
+
+@Recorder
+public class RedisCacheBuildRecorder {
+
+    private static final Logger LOGGER = Logger.getLogger(RedisCacheBuildRecorder.class);
+
+    public Supplier<CacheManager> getCacheManagerSupplier(Set<CaffeineCacheInfo> localCacheInfos,
+            Set<RedisCacheInfo> remoteCacheInfos, String prefix, MetricsInitializer metricsInitializer) {
+        Objects.requireNonNull(localCacheInfos);
+        Objects.requireNonNull(remoteCacheInfos);
+        return new Supplier<CacheManager>() {
+            @Override
+            public CacheManager get() {
+                if (remoteCacheInfos.isEmpty()) {
+                    return new CacheManagerImpl(Collections.emptyMap());
+                } else {
+                    ReactiveRedisDataSource dataSource = Arc.container().instance(RedisCacheDataSourceHolder.class).get()
+                            .getDataSource();
+                    RedisCacheInvalidations invalidations = new RedisCacheInvalidations(dataSource, prefix);
+                    Map<String, CaffeineCacheInfo> localCacheInfosByName = new HashMap<>();
+                    for (CaffeineCacheInfo localCacheInfo : localCacheInfos) {
+                        localCacheInfosByName.put(localCacheInfo.name, localCacheInfo);
+                    }
+                    // The number of caches is known at build time so we can use fixed initialCapacity and loadFactor for the caches map.
+                    Map<String, RedisCacheImpl> caches = new HashMap<>(remoteCacheInfos.size() + 1, 1.0F);
+                    Map<String, CacheValueCodec> codecs = new HashMap<>();
+                    for (RedisCacheInfo cacheInfo : remoteCacheInfos) {
+                        LOGGER.debugf("Building Redis cache [%s] with [prefix=%s], [expireAfterWrite=%s] and [valueCodec=%s]",
+                                cacheInfo.name, cacheInfo.prefix, cacheInfo.expireAfterWrite, cacheInfo.valueCodec);
+                        CaffeineCacheImpl local = CaffeineCacheBuildRecorder
+                                .createCache(localCacheInfosByName.get(cacheInfo.name), metricsInitializer);
+                        CacheValueCodec codec = codecs.computeIfAbsent(cacheInfo.valueCodec,
+                                className -> createCodec(className, cacheInfo.serializationAllowList));
+                        if (codec instanceof SerializationCacheValueCodec) {
+                            validateValueTypes(cacheInfo, (SerializationCacheValueCodec) codec);
+                        }
+                        caches.put(cacheInfo.name, new RedisCacheImpl(cacheInfo, local, codec, dataSource, invalidations));
+                    }
+                    invalidations.subscribe(caches);
+                    return new CacheManagerImpl(new HashMap<String, Cache>(caches));
+                }
+            }
+        };
+    }
+
+    /*
+     * The values which cannot be deserialized would always be read as cache misses from the remote tier, so the application
+     * fails to start instead.
+     */
+    private static void validateValueTypes(RedisCacheInfo cacheInfo, SerializationCacheValueCodec codec) {
+        Set<String> rejected = new TreeSet<>();
+        for (String valueType : cacheInfo.valueTypes) {
+            Class<?> valueClass;
+            try {
+                valueClass = Class.forName(valueType, false, Thread.currentThread().getContextClassLoader());
+            } catch (ClassNotFoundException e) {
+                continue;
+            }
+            if (!codec.isAllowed(valueClass)) {
+                rejected.add(valueType);
+            }
+        }
+        if (!rejected.isEmpty()) {
+            throw new IllegalStateException("The values of the Redis cache [" + cacheInfo.name
+                    + "] cannot be deserialized by the default value codec because the following classes are not allowed: "
+                    + rejected + ". Add them to the quarkus.cache.redis.serialization-allow-list property.");
+        }
+    }
+
+    private static CacheValueCodec createCodec(String className, List<String> serializationAllowList) {
+        if (SerializationCacheValueCodec.class.getName().equals(className)) {
+            return new SerializationCacheValueCodec(serializationAllowList);
+        }
+        try {
+            Class<?> codecClass = Class.forName(className, true, Thread.currentThread().getContextClassLoader());
+            return (CacheValueCodec) codecClass.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to create the cache value codec: " + className, e);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package io.quarkus.cache.runtime.redis;
+
+import javax.inject.Inject;
+
+import io.quarkus.redis.datasource.ReactiveRedisDataSource;
+
+/**
+ * This bean is only registered when the Redis cache type is used, hence the missing bean defining annotation. Its injection
+ * point makes sure the default Redis data source is created by the Redis client extension.
+ */
+public class RedisCacheDataSourceHolder {
+
+    @Inject
+    ReactiveRedisDataSource dataSource;
+
+    public ReactiveRedisDataSource getDataSource() {
+        return dataSource;
+    }
+}
@@ -0,0 +1,303 @@
+package io.quarkus.cache.runtime.redis;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.cache.CacheValueCodec;
+import io.quarkus.cache.runtime.AbstractCache;
+import io.quarkus.cache.runtime.UnresolvedUniValue;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheImpl;
+import io.quarkus.redis.datasource.ReactiveRedisDataSource;
+import io.quarkus.redis.datasource.keys.KeyScanArgs;
+import io.quarkus.redis.datasource.keys.ReactiveKeyCommands;
+import io.quarkus.redis.datasource.value.ReactiveValueCommands;
+import io.quarkus.redis.datasource.value.SetArgs;
+import io.quarkus.runtime.BlockingOperationControl;
+import io.smallrye.mutiny.TimeoutException;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * A two-tier cache: a local Caffeine cache (near cache) in front of a remote Redis cache shared by all the application
+ * instances. The local tier is checked first, then the remote tier and the value is only computed if both tiers miss.
+ * <p>
+ * The local tier is keyed by the cache keys while the Redis keys are built with a {@link RedisCacheKeyCodec}, which only
+ * supports a set of key types. The invalidations are applied to both tiers and propagated to the local tier of the other
+ * instances through Redis pub/sub.
+ * Failures of the remote tier are logged and the cache then behaves as a local cache.
+ * <p>
+ * This class is an internal Quarkus cache implementation. Do not use it explicitly from your Quarkus application. The public
+ * methods signatures may change without prior notice.
+ */
+public class RedisCacheImpl extends AbstractCache {
+
+    private static final Logger LOGGER = Logger.getLogger(RedisCacheImpl.class);
+
+    private static final int SCAN_COUNT = 100;
+
+    private final RedisCacheInfo cacheInfo;
+    private final CaffeineCacheImpl local;
+    private final CacheValueCodec codec;
+    private final ReactiveValueCommands<String, byte[]> values;
+    private final ReactiveKeyCommands<String> keys;
+    private final RedisCacheInvalidations invalidations;
+    private final RedisCacheKeyCodec keyCodec;
+    private final String keyPrefix;
+
+    public RedisCacheImpl(RedisCacheInfo cacheInfo, CaffeineCacheImpl local, CacheValueCodec codec,
+            ReactiveRedisDataSource dataSource, RedisCacheInvalidations invalidations) {
+        this.cacheInfo = cacheInfo;
+        this.local = local;
+        this.codec = codec;
+        this.values = dataSource.value(String.class, byte[].class);
+        this.keys = dataSource.key(String.class);
+        this.invalidations = invalidations;
+        this.keyCodec = new RedisCacheKeyCodec(cacheInfo.name);
+        this.keyPrefix = cacheInfo.prefix + cacheInfo.name + ":";
+    }
+
+    @Override
+    public String getName() {
+        return cacheInfo.name;
+    }
+
+    @Override
+    public <K, V> Uni<V> get(K key, Function<K, V> valueLoader) {
+        Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+        String redisKey = toRedisKey(key);
+        return Uni.createFrom().deferred(new Supplier<Uni<? extends V>>() {
+            @Override
+            public Uni<? extends V> get() {
+                CompletableFuture<V> localValue = local.getIfPresent(key);
+                if (localValue != null) {
+                    return Uni.createFrom().completionStage(localValue);
+                }
+                if (BlockingOperationControl.isBlockingAllowed()) {
+                    /*
+                     * The value loader must be called from the current thread, e.g. to keep the request context or the
+                     * transaction of a blocking method, so we wait for the remote tier here.
+                     */
+                    Object remoteValue;
+                    try {
+                        remoteValue = getRemote(redisKey).await().atMost(cacheInfo.timeout);
+                    } catch (TimeoutException e) {
+                        LOGGER.warnf("Timeout while reading the key [%s] from the remote tier of cache [%s]", redisKey,
+                                cacheInfo.name);
+                        remoteValue = null;
+                    }
+                    return getOrLoadLocally(key, redisKey, remoteValue, valueLoader);
+                }
+                return getRemote(redisKey).chain(new Function<Object, Uni<? extends V>>() {
+                    @Override
+                    public Uni<? extends V> apply(Object remoteValue) {
+                        return getOrLoadLocally(key, redisKey, remoteValue, valueLoader);
+                    }
+                });
+            }
+        });
+    }
+
+    private <K, V> Uni<V> getOrLoadLocally(K key, String redisKey, Object remoteValue, Function<K, V> valueLoader) {
+        if (remoteValue != null) {
+            LOGGER.tracef("Key [%s] found in the remote tier of cache [%s]", redisKey, cacheInfo.name);
+            return local.get(key, new Function<K, V>() {
+                @SuppressWarnings("unchecked")
+                @Override
+                public V apply(K k) {
+                    return (V) remoteValue;
+                }
+            });
+        }
+        // Only the caller that computed the value writes it to the remote tier
+        boolean[] loaded = new boolean[1];
+        return local.get(key, new Function<K, V>() {
+            @Override
+            public V apply(K k) {
+                loaded[0] = true;
+                return valueLoader.apply(key);
+            }
+        }).invoke(new Consumer<V>() {
+            @Override
+            public void accept(V value) {
+                if (loaded[0]) {
+                    putRemote(redisKey, value).subscribe().with(new Consumer<Void>() {
+                        @Override
+                        public void accept(Void ignored) {
+                            // noop
+                        }
+                    });
+                }
+            }
+        });
+    }
+
+    @Override
+    public Uni<Void> invalidate(Object key) {
+        Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+        String redisKey = toRedisKey(key);
+        return local.invalidate(key)
+                .chain(new Supplier<Uni<?>>() {
+                    @Override
+                    public Uni<?> get() {
+                        return keys.del(redisKey);
+                    }
+                })
+                .chain(new Supplier<Uni<? extends Void>>() {
+                    @Override
+                    public Uni<? extends Void> get() {
+                        return invalidations.publish(cacheInfo.name, redisKey);
+                    }
+                })
+                .onFailure().recoverWithItem(new Function<Throwable, Void>() {
+                    @Override
+                    public Void apply(Throwable t) {
+                        LOGGER.warnf(t, "Unable to invalidate the key [%s] from the remote tier of cache [%s]", redisKey,
+                                cacheInfo.name);
+                        return null;
+                    }
+                });
+    }
+
+    @Override
+    public Uni<Void> invalidateAll() {
+        return local.invalidateAll()
+                .chain(new Supplier<Uni<?>>() {
+                    @Override
+                    public Uni<?> get() {
+                        return keys.scan(new KeyScanArgs().match(escapeGlob(keyPrefix) + "*").count(SCAN_COUNT)).toMulti()
+                                .group().intoLists().of(SCAN_COUNT)
+                                .onItem().transformToUniAndConcatenate(new Function<List<String>, Uni<Integer>>() {
+                                    @Override
+                                    public Uni<Integer> apply(List<String> batch) {
+                                        return keys.del(batch.toArray(new String[0]));
+                                    }
+                                })
+                                .collect().last();
+                    }
+                })
+                .chain(new Supplier<Uni<? extends Void>>() {
+                    @Override
+                    public Uni<? extends Void> get() {
+                        return invalidations.publish(cacheInfo.name, null);
+                    }
+                })
+                .onFailure().recoverWithItem(new Function<Throwable, Void>() {
+                    @Override
+                    public Void apply(Throwable t) {
+                        LOGGER.warnf(t, "Unable to invalidate the remote tier of cache [%s]", cacheInfo.name);
+                        return null;
+                    }
+                });
+    }
+
+    @Override
+    public Uni<Void> replaceUniValue(Object key, Object emittedValue) {
+        String redisKey = toRedisKey(key);
+        return local.replaceUniValue(key, emittedValue).chain(new Supplier<Uni<? extends Void>>() {
+            @Override
+            public Uni<? extends Void> get() {
+                return putRemote(redisKey, emittedValue);
+            }
+        });
+    }
+
+    /**
+     * Removes the entry identified by the given Redis key from the local tier only. This method is called when an
+     * invalidation is received from another application instance.
+     */
+    void invalidateLocally(String redisKey) {
+        Uni<Void> invalidation;
+        if (redisKey == null) {
+            invalidation = local.invalidateAll();
+        } else {
+            Object key = redisKey.startsWith(keyPrefix) ? keyCodec.decode(redisKey.substring(keyPrefix.length())) : null;
+            if (key == null) {
+                // The key was not encoded by this cache, so it cannot be in the local tier
+                LOGGER.debugf("Ignoring the invalidation of the unknown key [%s] of cache [%s]", redisKey, cacheInfo.name);
+                return;
+            }
+            invalidation = local.invalidate(key);
+        }
+        invalidation.subscribe().with(new Consumer<Void>() {
+            @Override
+            public void accept(Void ignored) {
+                LOGGER.tracef("Local tier of cache [%s] invalidated [key=%s]", cacheInfo.name, redisKey);
+            }
+        });
+    }
+
+    /**
+     * Reads a value from the remote tier. A failure, including a read which does not complete within the configured
+     * timeout, results in a {@code null} value, i.e. a cache miss.
+     */
+    private Uni<Object> getRemote(String redisKey) {
+        return values.get(redisKey)
+                .ifNoItem().after(cacheInfo.timeout).fail()
+                .map(new Function<byte[], Object>() {
+                    @Override
+                    public Object apply(byte[] bytes) {
+                        return bytes != null ? codec.decode(bytes) : null;
+                    }
+                })
+                .onFailure().recoverWithItem(new Function<Throwable, Object>() {
+                    @Override
+                    public Object apply(Throwable t) {
+                        LOGGER.warnf(t, "Unable to read the key [%s] from the remote tier of cache [%s]", redisKey,
+                                cacheInfo.name);
+                        return null;
+                    }
+                });
+    }
+
+    private Uni<Void> putRemote(String redisKey, Object value) {
+        // Neither the placeholders nor the null values are stored in the remote tier
+        if (value == null || value == UnresolvedUniValue.INSTANCE) {
+            return Uni.createFrom().voidItem();
+        }
+        Uni<Void> put;
+        try {
+            byte[] bytes = codec.encode(value);
+            if (cacheInfo.expireAfterWrite != null) {
+                put = values.set(redisKey, bytes, new SetArgs().px(cacheInfo.expireAfterWrite));
+            } else {
+                put = values.set(redisKey, bytes);
+            }
+        } catch (Throwable t) {
+            put = Uni.createFrom().failure(t);
+        }
+        return put.onFailure().recoverWithItem(new Function<Throwable, Void>() {
+            @Override
+            public Void apply(Throwable t) {
+                LOGGER.warnf(t, "Unable to write the key [%s] to the remote tier of cache [%s]", redisKey,
+                        cacheInfo.name);
+                return null;
+            }
+        });
+    }
+
+    String toRedisKey(Object key) {
+        return keyPrefix + keyCodec.encode(key);
+    }
+
+    // For testing purposes only.
+    public CaffeineCacheImpl getLocalCache() {
+        return local;
+    }
+
+    static String escapeGlob(String value) {
+        StringBuilder builder = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '*' || c == '?' || c == '[' || c == ']' || c == '\\') {
+                builder.append('\\');
+            }
+            builder.append(c);
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,59 @@
+package io.quarkus.cache.runtime.redis;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+public class RedisCacheInfo {
+
+    public String name;
+
+    /**
+     * The prefix of the Redis keys, shared by all caches.
+     */
+    public String prefix;
+
+    /**
+     * The time to live of the entries stored in Redis.
+     */
+    public Duration expireAfterWrite;
+
+    /**
+     * The name of the {@link io.quarkus.cache.CacheValueCodec} implementation.
+     */
+    public String valueCodec;
+
+    /**
+     * The patterns of the classes which may be deserialized by the {@link SerializationCacheValueCodec}.
+     */
+    public List<String> serializationAllowList;
+
+    /**
+     * The names of the classes of the values returned by the methods annotated with {@code @CacheResult} or
+     * {@code @CacheResultBatch}. They must be accepted by the {@link SerializationCacheValueCodec}.
+     */
+    public Set<String> valueTypes;
+
+    /**
+     * The maximum time to wait for a read from Redis.
+     */
+    public Duration timeout;
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (obj instanceof RedisCacheInfo) {
+            RedisCacheInfo other = (RedisCacheInfo) obj;
+            return Objects.equals(name, other.name);
+        }
+        return false;
+    }
+}
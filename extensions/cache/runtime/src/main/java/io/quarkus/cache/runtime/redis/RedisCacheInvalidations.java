@@ -0,0 +1,98 @@
+package io.quarkus.cache.runtime.redis;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.redis.datasource.ReactiveRedisDataSource;
+import io.quarkus.redis.datasource.pubsub.ReactivePubSubCommands;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Propagates the invalidations of the Redis caches to the local tier of all the application instances through a single
+ * pub/sub channel.
+ * <p>
+ * A message is made of the id of the instance that published it, the cache name and the optional Redis key, separated with
+ * the {@code NUL} character. A message without key invalidates the whole cache. The messages published by the current
+ * instance are ignored because its local tier has already been invalidated.
+ */
+public class RedisCacheInvalidations {
+
+    private static final Logger LOGGER = Logger.getLogger(RedisCacheInvalidations.class);
+
+    static final char SEPARATOR = '\u0000';
+
+    private final String channel;
+    private final String origin;
+    private final ReactivePubSubCommands<String> pubsub;
+    private volatile Map<String, RedisCacheImpl> caches;
+
+    public RedisCacheInvalidations(ReactiveRedisDataSource dataSource, String prefix) {
+        this.channel = prefix + "invalidations";
+        this.origin = UUID.randomUUID().toString();
+        this.pubsub = dataSource.pubsub(String.class);
+    }
+
+    /**
+     * Starts listening to the invalidations published by the other application instances.
+     */
+    public void subscribe(Map<String, RedisCacheImpl> caches) {
+        this.caches = caches;
+        pubsub.subscribe(channel, new Consumer<String>() {
+            @Override
+            public void accept(String message) {
+                onMessage(message);
+            }
+        }).subscribe().with(new Consumer<Object>() {
+            @Override
+            public void accept(Object subscriber) {
+                LOGGER.debugf("Listening to the cache invalidations published on channel [%s]", channel);
+            }
+        }, new Consumer<Throwable>() {
+            @Override
+            public void accept(Throwable t) {
+                LOGGER.errorf(t, "Unable to subscribe to the cache invalidations channel [%s]", channel);
+            }
+        });
+    }
+
+    /**
+     * Publishes an invalidation of the given Redis key, or of the whole cache if the key is {@code null}.
+     */
+    Uni<Void> publish(String cacheName, String redisKey) {
+        StringBuilder message = new StringBuilder(origin).append(SEPARATOR).append(cacheName);
+        if (redisKey != null) {
+            message.append(SEPARATOR).append(redisKey);
+        }
+        return pubsub.publish(channel, message.toString()).onFailure().recoverWithItem(new Function<Throwable, Void>() {
+            @Override
+            public Void apply(Throwable t) {
+                LOGGER.warnf(t, "Unable to publish the invalidation of cache [%s] on channel [%s]", cacheName, channel);
+                return null;
+            }
+        });
+    }
+
+    void onMessage(String message) {
+        int originEnd = message.indexOf(SEPARATOR);
+        if (originEnd < 0) {
+            LOGGER.debugf("Ignoring invalid cache invalidation message: %s", message);
+            return;
+        }
+        if (message.regionMatches(0, origin, 0, originEnd) && originEnd == origin.length()) {
+            // Published by this instance
+            return;
+        }
+        int cacheNameEnd = message.indexOf(SEPARATOR, originEnd + 1);
+        String cacheName = cacheNameEnd < 0 ? message.substring(originEnd + 1) : message.substring(originEnd + 1, cacheNameEnd);
+        String redisKey = cacheNameEnd < 0 ? null : message.substring(cacheNameEnd + 1);
+        Map<String, RedisCacheImpl> caches = this.caches;
+        RedisCacheImpl cache = caches != null ? caches.get(cacheName) : null;
+        if (cache != null) {
+            cache.invalidateLocally(redisKey);
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package io.quarkus.cache.runtime.redis;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.quarkus.cache.CacheException;
+import io.quarkus.cache.CompositeCacheKey;
+import io.quarkus.cache.DefaultCacheKey;
+
+/**
+ * Converts the cache keys to the strings used as Redis keys and back.
+ * <p>
+ * Each key is encoded with a type tag followed by its value, so that keys of different types never share the same Redis
+ * key, e.g. {@code 1L} and {@code "1"}. The encoding is reversible: the invalidations received from the other application
+ * instances carry a Redis key which is decoded to remove the original key from the local tier.
+ * <p>
+ * Only the strings, the primitive wrappers, {@link BigInteger}, {@link BigDecimal}, {@link UUID}, the enums, a few
+ * {@code java.time} types, {@link DefaultCacheKey} and the {@link CompositeCacheKey} made of these types are supported.
+ * The enum types are never loaded from a decoded key: a key may only reference an enum type which was already encoded by
+ * this instance, otherwise it cannot be in the local tier.
+ */
+final class RedisCacheKeyCodec {
+
+    private final String cacheName;
+    private final Map<String, Class<?>> enumTypes = new ConcurrentHashMap<>();
+
+    RedisCacheKeyCodec(String cacheName) {
+        this.cacheName = cacheName;
+    }
+
+    /**
+     * @throws CacheException if the key type is not supported
+     */
+    String encode(Object key) {
+        StringBuilder builder = new StringBuilder();
+        encode(key, builder);
+        return builder.toString();
+    }
+
+    /**
+     * @return the decoded key or {@code null} if the key is invalid or references an unknown enum type
+     */
+    Object decode(String encoded) {
+        try {
+            return decode(encoded, 0, encoded.length());
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private void encode(Object key, StringBuilder builder) {
+        if (key == null) {
+            builder.append('n');
+        } else if (key instanceof String) {
+            builder.append('s').append((String) key);
+        } else if (key instanceof Long) {
+            builder.append('j').append(key);
+        } else if (key instanceof Integer) {
+            builder.append('i').append(key);
+        } else if (key instanceof Short) {
+            builder.append('h').append(key);
+        } else if (key instanceof Byte) {
+            builder.append('b').append(key);
+        } else if (key instanceof Boolean) {
+            builder.append('z').append(key);
+        } else if (key instanceof Character) {
+            builder.append('c').append(key);
+        } else if (key instanceof Double) {
+            builder.append('d').append(key);
+        } else if (key instanceof Float) {
+            builder.append('f').append(key);
+        } else if (key instanceof BigInteger) {
+            builder.append('I').append(key);
+        } else if (key instanceof BigDecimal) {
+            builder.append('D').append(key);
+        } else if (key instanceof UUID) {
+            builder.append('u').append(key);
+        } else if (key instanceof LocalDate) {
+            builder.append('L').append(key);
+        } else if (key instanceof LocalTime) {
+            builder.append('T').append(key);
+        } else if (key instanceof LocalDateTime) {
+            builder.append('M').append(key);
+        } else if (key instanceof OffsetDateTime) {
+            builder.append('O').append(key);
+        } else if (key instanceof Instant) {
+            builder.append('X').append(key);
+        } else if (key instanceof Enum) {
+            Class<?> enumType = ((Enum<?>) key).getDeclaringClass();
+            enumTypes.putIfAbsent(enumType.getName(), enumType);
+            builder.append('e').append(enumType.getName()).append(':').append(((Enum<?>) key).name());
+        } else if (key instanceof DefaultCacheKey) {
+            builder.append('k').append(((DefaultCacheKey) key).getCacheName());
+        } else if (key instanceof CompositeCacheKey) {
+            // Each element is prefixed with the length of its encoded form
+            builder.append('C');
+            for (Object element : ((CompositeCacheKey) key).getKeyElements()) {
+                String encoded = encode(element);
+                builder.append(encoded.length()).append(':').append(encoded);
+            }
+        } else {
+            throw new CacheException(new IllegalArgumentException("The key type [" + key.getClass().getName()
+                    + "] is not supported by the Redis cache [" + cacheName + "]: only the strings, the primitive wrappers, "
+                    + "BigInteger, BigDecimal, UUID, the enums, LocalDate, LocalTime, LocalDateTime, OffsetDateTime, Instant "
+                    + "and the composite keys made of these types can be used"));
+        }
+    }
+
+    private Object decode(String encoded, int start, int end) {
+        String value = encoded.substring(start + 1, end);
+        switch (encoded.charAt(start)) {
+            case 'n':
+                return null;
+            case 's':
+                return value;
+            case 'j':
+                return Long.valueOf(value);
+            case 'i':
+                return Integer.valueOf(value);
+            case 'h':
+                return Short.valueOf(value);
+            case 'b':
+                return Byte.valueOf(value);
+            case 'z':
+                return Boolean.valueOf(value);
+            case 'c':
+                if (value.length() != 1) {
+                    throw new IllegalArgumentException();
+                }
+                return value.charAt(0);
+            case 'd':
+                return Double.valueOf(value);
+            case 'f':
+                return Float.valueOf(value);
+            case 'I':
+                return new BigInteger(value);
+            case 'D':
+                return new BigDecimal(value);
+            case 'u':
+                return UUID.fromString(value);
+            case 'L':
+                return LocalDate.parse(value);
+            case 'T':
+                return LocalTime.parse(value);
+            case 'M':
+                return LocalDateTime.parse(value);
+            case 'O':
+                return OffsetDateTime.parse(value);
+            case 'X':
+                return Instant.parse(value);
+            case 'e':
+                return decodeEnum(value);
+            case 'k':
+                return new DefaultCacheKey(value);
+            case 'C':
+                return decodeComposite(encoded, start + 1, end);
+            default:
+                throw new IllegalArgumentException();
+        }
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private Object decodeEnum(String value) {
+        int separator = value.lastIndexOf(':');
+        Class enumType = enumTypes.get(value.substring(0, separator));
+        if (enumType == null) {
+            throw new IllegalArgumentException();
+        }
+        return Enum.valueOf(enumType, value.substring(separator + 1));
+    }
+
+    private Object decodeComposite(String encoded, int start, int end) {
+        List<Object> elements = new ArrayList<>();
+        int position = start;
+        while (position < end) {
+            int separator = encoded.indexOf(':', position);
+            int length = Integer.parseInt(encoded.substring(position, separator));
+            int elementEnd = separator + 1 + length;
+            if (length <= 0 || elementEnd > end) {
+                throw new IllegalArgumentException();
+            }
+            Object element = decode(encoded, separator + 1, elementEnd);
+            elements.add(element);
+            position = elementEnd;
+        }
+        return new CompositeCacheKey(elements.toArray());
+    }
+}
@@ -0,0 +1,123 @@
+package io.quarkus.cache.runtime.redis;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputFilter.FilterInfo;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.util.List;
+
+import io.quarkus.cache.CacheException;
+import io.quarkus.cache.CacheValueCodec;
+
+/**
+ * The default {@link CacheValueCodec} which relies on the Java serialization. The cache values must therefore implement
+ * {@link java.io.Serializable}.
+ * <p>
+ * Redis may be shared with other applications, so the deserialization is restricted by an {@link ObjectInputFilter}: only
+ * the {@code java.lang}, {@code java.util}, {@code java.time} and {@code java.math} classes and the classes matching the
+ * allow-list are accepted. The allow-list built by Quarkus contains the packages of the application classes and the
+ * configured patterns.
+ */
+public class SerializationCacheValueCodec implements CacheValueCodec {
+
+    private static final String DEFAULT_ALLOW_LIST = "java.lang.*;java.util.*;java.time.*;java.math.*";
+
+    private final ObjectInputFilter filter;
+
+    public SerializationCacheValueCodec() {
+        this(List.of());
+    }
+
+    /**
+     * @param allowList the patterns of the additional classes which may be deserialized, using the
+     *        {@link ObjectInputFilter.Config#createFilter(String)} syntax
+     */
+    public SerializationCacheValueCodec(List<String> allowList) {
+        StringBuilder patterns = new StringBuilder(DEFAULT_ALLOW_LIST);
+        for (String pattern : allowList) {
+            patterns.append(';').append(pattern.trim());
+        }
+        // Any other class is rejected
+        patterns.append(";!*");
+        this.filter = ObjectInputFilter.Config.createFilter(patterns.toString());
+    }
+
+    /**
+     * @return {@code true} if the instances of the given class may be deserialized
+     */
+    public boolean isAllowed(Class<?> type) {
+        return filter.checkInput(new FilterInfo() {
+            @Override
+            public Class<?> serialClass() {
+                return type;
+            }
+
+            @Override
+            public long arrayLength() {
+                return -1;
+            }
+
+            @Override
+            public long depth() {
+                return 1;
+            }
+
+            @Override
+            public long references() {
+                return 0;
+            }
+
+            @Override
+            public long streamBytes() {
+                return 0;
+            }
+        }) != ObjectInputFilter.Status.REJECTED;
+    }
+
+    @Override
+    public byte[] encode(Object value) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        } catch (IOException e) {
+            throw new CacheException("Unable to serialize the cache value", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public Object decode(byte[] bytes) {
+        try (ObjectInputStream in = new ContextClassLoaderObjectInputStream(new ByteArrayInputStream(bytes))) {
+            in.setObjectInputFilter(filter);
+            return in.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            throw new CacheException("Unable to deserialize the cache value", e);
+        }
+    }
+
+    // The application classes are not visible from the class loader of this class in dev mode
+    private static class ContextClassLoaderObjectInputStream extends ObjectInputStream {
+
+        ContextClassLoaderObjectInputStream(InputStream in) throws IOException {
+            super(in);
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            ClassLoader cl = Thread.currentThread().getContextClassLoader();
+            if (cl == null) {
+                return super.resolveClass(desc);
+            }
+            try {
+                return Class.forName(desc.getName(), false, cl);
+            } catch (ClassNotFoundException e) {
+                return super.resolveClass(desc);
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package io.quarkus.logging.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.Level;
+import org.jboss.logmanager.MDC;
+import org.jboss.logmanager.formatters.StructuredFormatter;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.quarkus.logging.json.runtime.AdditionalFieldConfig;
+import io.quarkus.logging.json.runtime.JsonFormatter;
+
+public class JsonFormatterOutputTest {
+
+    @Test
+    public void outputShouldMatchJsonpGenerator() {
+        for (StructuredFormatter.ExceptionOutputType type : StructuredFormatter.ExceptionOutputType.values()) {
+            org.jboss.logmanager.formatters.JsonFormatter expected = new org.jboss.logmanager.formatters.JsonFormatter(
+                    "MESSAGE=msg");
+            JsonFormatter actual = new JsonFormatter("MESSAGE=msg");
+            expected.setExceptionOutputType(type);
+            actual.setExceptionOutputType(type);
+            expected.setPrintDetails(true);
+            actual.setPrintDetails(true);
+
+            // Format twice to make sure the state of the reused generator is reset
+            for (int i = 0; i < 2; i++) {
+                ExtLogRecord escaped = record(Level.INFO, "\"quoted\" \\ \n\r\t\b\f\u0001 é 😀 </tag>");
+                assertThat(actual.format(escaped)).isEqualTo(expected.format(escaped));
+
+                ExtLogRecord withNulls = record(Level.DEBUG, null);
+                withNulls.setLoggerName(null);
+                assertThat(actual.format(withNulls)).isEqualTo(expected.format(withNulls));
+
+                MDC.put("requestId", "r\"1");
+                MDC.put("user", "alice");
+                ExtLogRecord withMdc = record(Level.ERROR, "failed");
+                withMdc.copyMdc();
+                MDC.clear();
+                Exception exception = new IllegalStateException("boom\n\"x\"", new RuntimeException("cause"));
+                exception.addSuppressed(new Exception("suppressed"));
+                withMdc.setThrown(exception);
+                assertThat(actual.format(withMdc)).isEqualTo(expected.format(withMdc));
+            }
+        }
+    }
+
+    @Test
+    public void additionalFieldsShouldBeWritten() throws Exception {
+        Map<String, AdditionalFieldConfig> additionalFields = new LinkedHashMap<>();
+        additionalFields.put("service", field("orders\t1", AdditionalFieldConfig.Type.STRING));
+        additionalFields.put("port", field("8080", AdditionalFieldConfig.Type.INT));
+        additionalFields.put("build", field("9000000000", AdditionalFieldConfig.Type.LONG));
+        additionalFields.put("hidden", field("value", AdditionalFieldConfig.Type.STRING));
+        JsonFormatter formatter = new JsonFormatter();
+        formatter.setExcludedKeys(Set.of("timestamp", "hidden"));
+        formatter.setAdditionalFields(additionalFields);
+
+        JsonNode node = new ObjectMapper().readTree(formatter.format(record(Level.INFO, "Hello, World!")));
+        assertThat(node.has("timestamp")).isFalse();
+        assertThat(node.has("hidden")).isFalse();
+        assertThat(node.get("message").asText()).isEqualTo("Hello, World!");
+        assertThat(node.get("service").asText()).isEqualTo("orders\t1");
+        assertThat(node.get("port").isInt()).isTrue();
+        assertThat(node.get("port").asInt()).isEqualTo(8080);
+        assertThat(node.get("build").asLong()).isEqualTo(9000000000L);
+    }
+
+    private static ExtLogRecord record(Level level, String message) {
+        ExtLogRecord record = new ExtLogRecord(level, message, JsonFormatterOutputTest.class.getName());
+        record.setLoggerName("io.quarkus.logging.json");
+        return record;
+    }
+
+    private static AdditionalFieldConfig field(String value, AdditionalFieldConfig.Type type) {
+        AdditionalFieldConfig field = new AdditionalFieldConfig();
+        field.value = value;
+        field.type = type;
+        return field;
+    }
+}
@@ -1,17 +1,28 @@
 package io.quarkus.logging.json.runtime;
 
+import java.io.IOException;
 import java.io.Writer;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 
+import javax.json.JsonValue;
+
 import org.jboss.logmanager.ExtLogRecord;
 
+/**
+ * Unless pretty printing is enabled, the records are written by a {@link Generator} that is reused for all records and
+ * appends the escaped JSON directly to the buffer of the formatter. The escaped keys and the additional fields are only
+ * computed once.
+ */
 public class JsonFormatter extends org.jboss.logmanager.formatters.JsonFormatter {
 
     private Set<String> excludedKeys;
     private Map<String, AdditionalFieldConfig> additionalFields;
+    // The additional fields that are not excluded, already serialized and prefixed with a comma
+    private String additionalFieldsFragment;
+    private final DirectJsonGenerator directGenerator = new DirectJsonGenerator();
 
     /**
      * Creates a new JSON formatter.
@@ -21,6 +32,7 @@ public JsonFormatter() {
         super();
         this.excludedKeys = new HashSet<>();
         this.additionalFields = new HashMap<>();
+        this.additionalFieldsFragment = "";
     }
 
     /**
@@ -34,6 +46,7 @@ public JsonFormatter(final String keyOverrides) {
         super(keyOverrides);
         this.excludedKeys = new HashSet<>();
         this.additionalFields = new HashMap<>();
+        this.additionalFieldsFragment = "";
     }
 
     /**
@@ -50,6 +63,7 @@ public JsonFormatter(final String keyOverrides, final Set<String> excludedKeys,
         super(keyOverrides);
         this.excludedKeys = excludedKeys;
         this.additionalFields = additionalFields;
+        this.additionalFieldsFragment = createAdditionalFieldsFragment();
     }
 
     public Set<String> getExcludedKeys() {
@@ -58,6 +72,7 @@ public Set<String> getExcludedKeys() {
 
     public void setExcludedKeys(Set<String> excludedKeys) {
         this.excludedKeys = excludedKeys;
+        this.additionalFieldsFragment = createAdditionalFieldsFragment();
     }
 
     public Map<String, AdditionalFieldConfig> getAdditionalFields() {
@@ -66,16 +81,25 @@ public Map<String, AdditionalFieldConfig> getAdditionalFields() {
 
     public void setAdditionalFields(Map<String, AdditionalFieldConfig> additionalFields) {
         this.additionalFields = additionalFields;
+        this.additionalFieldsFragment = createAdditionalFieldsFragment();
     }
 
     @Override
     protected Generator createGenerator(final Writer writer) {
+        if (!isPrettyPrint()) {
+            // Records are formatted one at a time, see StructuredFormatter#format(ExtLogRecord)
+            return directGenerator.reset(writer, excludedKeys, getKey(Key.STACK_TRACE));
+        }
         Generator superGenerator = super.createGenerator(writer);
         return new FormatterJsonGenerator(superGenerator, this.excludedKeys);
     }
 
     @Override
     protected void after(final Generator generator, final ExtLogRecord record) throws Exception {
+        if (generator == directGenerator) {
+            directGenerator.appendRaw(additionalFieldsFragment);
+            return;
+        }
         for (var entry : this.additionalFields.entrySet()) {
             switch (entry.getValue().type) {
                 case STRING:
@@ -91,6 +115,34 @@ protected void after(final Generator generator, final ExtLogRecord record) throw
         }
     }
 
+    private String createAdditionalFieldsFragment() {
+        StringBuilder fragment = new StringBuilder();
+        for (var entry : this.additionalFields.entrySet()) {
+            if (excludedKeys.contains(entry.getKey())) {
+                continue;
+            }
+            fragment.append(',');
+            DirectJsonGenerator.appendEscaped(fragment, entry.getKey());
+            fragment.append(':');
+            switch (entry.getValue().type) {
+                case STRING:
+                    if (entry.getValue().value == null) {
+                        fragment.append("null");
+                    } else {
+                        DirectJsonGenerator.appendEscaped(fragment, entry.getValue().value);
+                    }
+                    break;
+                case INT:
+                    fragment.append(Integer.parseInt(entry.getValue().value));
+                    break;
+                case LONG:
+                    fragment.append(Long.parseLong(entry.getValue().value));
+                    break;
+            }
+        }
+        return fragment.toString();
+    }
+
     private static class FormatterJsonGenerator implements Generator {
         private final Generator generator;
         private final Set<String> excludedKeys;
@@ -168,4 +220,267 @@ public Generator end() throws Exception {
             return this;
         }
     }
+
+    /**
+     * Writes compact JSON with the same escaping rules as the JSON-P generator.
+     * <p>
+     * The escaped keys are cached, and so is the escaped stack trace of the last formatted exception because the same
+     * exception is often logged repeatedly.
+     */
+    private static final class DirectJsonGenerator implements Generator {
+
+        private static final char[] HEX = "0123456789abcdef".toCharArray();
+        private static final int MAX_RETAINED_SCRATCH = 64 * 1024;
+
+        private final Map<String, String> escapedKeys = new HashMap<>();
+        private final StringBuilder scratch = new StringBuilder();
+        private Writer writer;
+        private Set<String> excludedKeys;
+        private String stackTraceKey;
+        // Whether a member was already written at the given nesting depth
+        private boolean[] nonEmpty = new boolean[8];
+        private int depth;
+        private String lastStackTrace;
+        private String lastEscapedStackTrace;
+
+        private DirectJsonGenerator reset(final Writer writer, final Set<String> excludedKeys, final String stackTraceKey) {
+            this.writer = writer;
+            this.excludedKeys = excludedKeys;
+            this.stackTraceKey = stackTraceKey;
+            this.depth = 0;
+            return this;
+        }
+
+        @Override
+        public Generator begin() throws Exception {
+            writer.write('{');
+            push();
+            return this;
+        }
+
+        @Override
+        public Generator add(final String key, final int value) throws Exception {
+            if (!excludedKeys.contains(key)) {
+                writeKey(key);
+                writer.write(Integer.toString(value));
+            }
+            return this;
+        }
+
+        @Override
+        public Generator add(final String key, final long value) throws Exception {
+            if (!excludedKeys.contains(key)) {
+                writeKey(key);
+                writer.write(Long.toString(value));
+            }
+            return this;
+        }
+
+        @Override
+        public Generator add(final String key, final Map<String, ?> value) throws Exception {
+            if (!excludedKeys.contains(key)) {
+                startObject(key);
+                if (value != null) {
+                    for (Map.Entry<String, ?> entry : value.entrySet()) {
+                        writeKey(entry.getKey());
+                        writeValue(entry.getValue());
+                    }
+                }
+                endObject();
+            }
+            return this;
+        }
+
+        @Override
+        public Generator add(final String key, final String value) throws Exception {
+            if (!excludedKeys.contains(key)) {
+                writeKey(key);
+                if (value == null) {
+                    writer.write("null");
+                } else if (key.equals(stackTraceKey)) {
+                    writeStackTrace(value);
+                } else {
+                    writeEscaped(value);
+                }
+            }
+            return this;
+        }
+
+        @Override
+        public Generator startObject(final String key) throws Exception {
+            if (key == null) {
+                writeSeparator();
+            } else {
+                writeKey(key);
+            }
+            writer.write('{');
+            push();
+            return this;
+        }
+
+        @Override
+        public Generator endObject() throws Exception {
+            depth--;
+            writer.write('}');
+            return this;
+        }
+
+        @Override
+        public Generator startArray(final String key) throws Exception {
+            if (key == null) {
+                writeSeparator();
+            } else {
+                writeKey(key);
+            }
+            writer.write('[');
+            push();
+            return this;
+        }
+
+        @Override
+        public Generator endArray() throws Exception {
+            depth--;
+            writer.write(']');
+            return this;
+        }
+
+        @Override
+        public Generator end() throws Exception {
+            endObject();
+            writer = null;
+            return this;
+        }
+
+        private void appendRaw(final String fragment) throws IOException {
+            if (!fragment.isEmpty()) {
+                // The fragment starts with a comma
+                writer.write(nonEmpty[depth - 1] ? fragment : fragment.substring(1));
+                nonEmpty[depth - 1] = true;
+            }
+        }
+
+        private void writeStackTrace(final String value) throws IOException {
+            if (!value.equals(lastStackTrace)) {
+                scratch.setLength(0);
+                appendEscaped(scratch, value);
+                lastStackTrace = value;
+                lastEscapedStackTrace = scratch.toString();
+            }
+            writer.write(lastEscapedStackTrace);
+        }
+
+        private void push() {
+            if (depth == nonEmpty.length) {
+                boolean[] newNonEmpty = new boolean[depth * 2];
+                System.arraycopy(nonEmpty, 0, newNonEmpty, 0, depth);
+                nonEmpty = newNonEmpty;
+            }
+            nonEmpty[depth++] = false;
+        }
+
+        private void writeSeparator() throws IOException {
+            if (depth > 0) {
+                if (nonEmpty[depth - 1]) {
+                    writer.write(',');
+                } else {
+                    nonEmpty[depth - 1] = true;
+                }
+            }
+        }
+
+        private void writeKey(final String key) throws IOException {
+            writeSeparator();
+            String escapedKey = escapedKeys.get(key);
+            if (escapedKey == null) {
+                StringBuilder builder = new StringBuilder(key.length() + 3);
+                appendEscaped(builder, key);
+                escapedKey = builder.append(':').toString();
+                escapedKeys.put(key, escapedKey);
+            }
+            writer.write(escapedKey);
+        }
+
+        private void writeValue(final Object value) throws IOException {
+            if (value == null) {
+                writer.write("null");
+            } else if (value instanceof Boolean || value instanceof Number) {
+                if (value instanceof Double && !Double.isFinite((Double) value)) {
+                    throw new NumberFormatException("Non-finite value: " + value);
+                }
+                writer.write(value.toString());
+            } else if (value instanceof JsonValue) {
+                writer.write(value.toString());
+            } else {
+                writeEscaped(String.valueOf(value));
+            }
+        }
+
+        private void writeEscaped(final String value) throws IOException {
+            int length = value.length();
+            int i = 0;
+            while (i < length && !needsEscaping(value.charAt(i))) {
+                i++;
+            }
+            writer.write('"');
+            if (i == length) {
+                // Fast path, nothing to escape
+                writer.write(value);
+            } else {
+                scratch.setLength(0);
+                appendEscaped(scratch, value, i);
+                writer.append(scratch);
+                if (scratch.length() > MAX_RETAINED_SCRATCH) {
+                    scratch.setLength(0);
+                    scratch.trimToSize();
+                }
+            }
+            writer.write('"');
+        }
+
+        static void appendEscaped(final StringBuilder builder, final String value) {
+            builder.append('"');
+            appendEscaped(builder, value, 0);
+            builder.append('"');
+        }
+
+        private static void appendEscaped(final StringBuilder builder, final String value, final int from) {
+            builder.append(value, 0, from);
+            for (int i = from; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (!needsEscaping(c)) {
+                    builder.append(c);
+                    continue;
+                }
+                switch (c) {
+                    case '"':
+                        builder.append("\\\"");
+                        break;
+                    case '\\':
+                        builder.append("\\\\");
+                        break;
+                    case '\b':
+                        builder.append("\\b");
+                        break;
+                    case '\f':
+                        builder.append("\\f");
+                        break;
+                    case '\n':
+                        builder.append("\\n");
+                        break;
+                    case '\r':
+                        builder.append("\\r");
+                        break;
+                    case '\t':
+                        builder.append("\\t");
+                        break;
+                    default:
+                        builder.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+                }
+            }
+        }
+
+        private static boolean needsEscaping(final char c) {
+            return c < ' ' || c == '"' || c == '\\';
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package io.quarkus.oidc.deployment;
 
+import java.util.Optional;
 import java.util.function.BooleanSupplier;
 
 import javax.inject.Singleton;
@@ -22,6 +23,8 @@
 import io.quarkus.deployment.builditem.ExtensionSslNativeSupportBuildItem;
 import io.quarkus.deployment.builditem.RuntimeConfigSetupCompleteBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.oidc.SecurityEvent;
 import io.quarkus.oidc.TokenIntrospectionCache;
 import io.quarkus.oidc.UserInfoCache;
@@ -102,6 +105,16 @@ public SyntheticBeanBuildItem addDefaultCacheBean(OidcConfig config,
                 .done();
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    public void registerTokenIntrospectionMetrics(OidcRecorder recorder, OidcBuildTimeConfig config,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metrics, Optional<MetricsCapabilityBuildItem> metricsCapability) {
+        if (metricsCapability.isPresent()) {
+            metrics.produce(new MetricsFactoryConsumerBuildItem(
+                    recorder.registerTokenIntrospectionMetrics(config.defaultTokenCacheEnabled)));
+        }
+    }
+
     @BuildStep
     ExtensionSslNativeSupportBuildItem enableSslInNative() {
         return new ExtensionSslNativeSupportBuildItem(Feature.OIDC);
@@ -972,6 +972,40 @@ public void setHeaders(Map<String, String> headers) {
         }
     }
 
+    @ConfigGroup
+    public static class VerifiedTokenCache {
+
+        /**
+         * Maximum number of cache entries.
+         * Set it to a positive value if the cache has to be enabled.
+         */
+        @ConfigItem(defaultValue = "0")
+        public int maxSize = 0;
+
+        /**
+         * Maximum amount of time a given cache entry is valid for.
+         * A cache entry also expires when the token expires.
+         */
+        @ConfigItem(defaultValue = "3M")
+        public Duration timeToLive = Duration.ofMinutes(3);
+
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        public Duration getTimeToLive() {
+            return timeToLive;
+        }
+
+        public void setTimeToLive(Duration timeToLive) {
+            this.timeToLive = timeToLive;
+        }
+    }
+
     @ConfigGroup
     public static class Token {
 
@@ -1091,6 +1125,33 @@ public static Token fromAudience(String... audience) {
         @ConfigItem(defaultValue = "10M")
         public Duration forcedJwkRefreshInterval = Duration.ofMinutes(10);
 
+        /**
+         * JWK set refresh interval.
+         * If this property is set then the JWK set is refreshed periodically in the background, so that the new keys are
+         * usually available before the tokens signed with them are received.
+         * The `max-age` directive of the JWK set response `Cache-Control` header, if present, is used instead of this
+         * interval.
+         */
+        @ConfigItem
+        public Optional<Duration> jwkRefreshInterval = Optional.empty();
+
+        /**
+         * Period of time during which the keys which are no longer returned by the JWK set endpoint are still accepted
+         * once the JWK set has been refreshed.
+         * It allows the tokens signed with a retired key to be verified until they expire when the OpenId Connect
+         * provider rotates its keys.
+         */
+        @ConfigItem(defaultValue = "0")
+        public Duration jwkRotationOverlap = Duration.ZERO;
+
+        /**
+         * Cache of the JWT tokens which have been verified with the local JWK keys.
+         * A token which is sent repeatedly is then parsed and its signature is verified only once.
+         * The cache is cleared when keys are removed from the JWK set.
+         */
+        @ConfigItem
+        public VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache();
+
         /**
          * Custom HTTP header that contains a bearer token.
          * This option is valid only when the application is of type {@link ApplicationType#SERVICE}}.
@@ -1195,6 +1256,30 @@ public void setForcedJwkRefreshInterval(Duration forcedJwkRefreshInterval) {
             this.forcedJwkRefreshInterval = forcedJwkRefreshInterval;
         }
 
+        public Optional<Duration> getJwkRefreshInterval() {
+            return jwkRefreshInterval;
+        }
+
+        public void setJwkRefreshInterval(Duration jwkRefreshInterval) {
+            this.jwkRefreshInterval = Optional.of(jwkRefreshInterval);
+        }
+
+        public Duration getJwkRotationOverlap() {
+            return jwkRotationOverlap;
+        }
+
+        public void setJwkRotationOverlap(Duration jwkRotationOverlap) {
+            this.jwkRotationOverlap = jwkRotationOverlap;
+        }
+
+        public VerifiedTokenCache getVerifiedTokenCache() {
+            return verifiedTokenCache;
+        }
+
+        public void setVerifiedTokenCache(VerifiedTokenCache verifiedTokenCache) {
+            this.verifiedTokenCache = verifiedTokenCache;
+        }
+
         public Optional<String> getTokenType() {
             return tokenType;
         }
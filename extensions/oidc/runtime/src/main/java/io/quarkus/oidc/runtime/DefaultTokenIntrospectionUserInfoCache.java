@@ -3,9 +3,12 @@
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.Spliterator;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.function.IntUnaryOperator;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
 
 import io.quarkus.oidc.OidcRequestContext;
 import io.quarkus.oidc.OidcTenantConfig;
@@ -13,6 +16,7 @@
 import io.quarkus.oidc.TokenIntrospectionCache;
 import io.quarkus.oidc.UserInfo;
 import io.quarkus.oidc.UserInfoCache;
+import io.quarkus.oidc.common.runtime.OidcConstants;
 import io.quarkus.oidc.runtime.OidcConfig.TokenCache;
 import io.smallrye.mutiny.Uni;
 import io.vertx.core.Handler;
@@ -27,18 +31,29 @@
  * <p>
  * In either case, if a remote request to fetch UserInfo is required then it will be the same access token
  * which has been introspected which will be used to request UserInfo.
+ * <p>
+ * An entry expires when its time to live has elapsed or when the introspected token expires. If the cache is full then
+ * an expired or the least recently used entry among a small sample of entries, taken from a random part of the cache, is
+ * evicted to make space for a new entry.
  */
 public class DefaultTokenIntrospectionUserInfoCache implements TokenIntrospectionCache, UserInfoCache {
     private static final Uni<TokenIntrospection> NULL_INTROSPECTION_UNI = Uni.createFrom().nullItem();
     private static final Uni<UserInfo> NULL_USERINFO_UNI = Uni.createFrom().nullItem();
+    private static final int EVICTION_SAMPLE_SIZE = 8;
 
     private TokenCache cacheConfig;
 
     private Map<String, CacheEntry> cacheMap;
     private AtomicInteger size = new AtomicInteger();
+    private final LongSupplier clock;
 
     public DefaultTokenIntrospectionUserInfoCache(OidcConfig oidcConfig, Vertx vertx) {
+        this(oidcConfig, vertx, System::currentTimeMillis);
+    }
+
+    DefaultTokenIntrospectionUserInfoCache(OidcConfig oidcConfig, Vertx vertx, LongSupplier clock) {
         this.cacheConfig = oidcConfig.tokenCache;
+        this.clock = clock;
         init(vertx);
     }
 
@@ -63,11 +78,13 @@ public void handle(Long event) {
     public Uni<Void> addIntrospection(String token, TokenIntrospection introspection, OidcTenantConfig oidcTenantConfig,
             OidcRequestContext<Void> requestContext) {
         if (cacheConfig.maxSize > 0) {
+            long expiresAt = getExpiresAt(introspection);
             CacheEntry entry = findValidCacheEntry(token);
             if (entry != null) {
                 entry.introspection = introspection;
-            } else if (prepareSpaceForNewCacheEntry()) {
-                cacheMap.put(token, new CacheEntry(introspection));
+                entry.expiresAt = Math.min(entry.expiresAt, expiresAt);
+            } else {
+                addCacheEntry(token, new CacheEntry(introspection, expiresAt, now()));
             }
         }
 
@@ -88,8 +105,9 @@ public Uni<Void> addUserInfo(String token, UserInfo userInfo, OidcTenantConfig o
             CacheEntry entry = findValidCacheEntry(token);
             if (entry != null) {
                 entry.userInfo = userInfo;
-            } else if (prepareSpaceForNewCacheEntry()) {
-                cacheMap.put(token, new CacheEntry(userInfo));
+            } else {
+                long now = now();
+                addCacheEntry(token, new CacheEntry(userInfo, now + cacheConfig.timeToLive.toMillis(), now));
             }
         }
 
@@ -117,8 +135,24 @@ private void removeInvalidEntries() {
         for (Iterator<Map.Entry<String, CacheEntry>> it = cacheMap.entrySet().iterator(); it.hasNext();) {
             Map.Entry<String, CacheEntry> next = it.next();
             if (isEntryExpired(next.getValue(), now)) {
-                it.remove();
-                size.decrementAndGet();
+                removeCacheEntry(next.getKey(), next.getValue());
+            }
+        }
+    }
+
+    private void addCacheEntry(String token, CacheEntry newEntry) {
+        if (!prepareSpaceForNewCacheEntry()) {
+            return;
+        }
+        CacheEntry entry = cacheMap.putIfAbsent(token, newEntry);
+        if (entry != null) {
+            // Another request has added an entry for the same token in the meantime
+            size.decrementAndGet();
+            if (newEntry.introspection != null) {
+                entry.introspection = newEntry.introspection;
+                entry.expiresAt = Math.min(entry.expiresAt, newEntry.expiresAt);
+            } else {
+                entry.userInfo = newEntry.userInfo;
             }
         }
     }
@@ -127,10 +161,44 @@ private boolean prepareSpaceForNewCacheEntry() {
         int currentSize;
         do {
             currentSize = size.get();
-            if (currentSize == cacheConfig.maxSize) {
+            if (currentSize >= cacheConfig.maxSize && !evictCacheEntry()) {
                 return false;
             }
-        } while (!size.compareAndSet(currentSize, currentSize + 1));
+        } while (currentSize >= cacheConfig.maxSize || !size.compareAndSet(currentSize, currentSize + 1));
+        return true;
+    }
+
+    /**
+     * Evicts an expired entry or, if none is found, the least recently used entry among a small sample of entries, so that
+     * the cost of adding a new entry to a full cache does not depend on the cache size.
+     * <p>
+     * The map is split in halves, a random one being kept each time, until the remaining part holds about as many entries
+     * as the sample. This way the sample starts at a random position of the map rather than always with the same entries.
+     */
+    private boolean evictCacheEntry() {
+        EvictionSample sample = new EvictionSample(now());
+        Spliterator<Map.Entry<String, CacheEntry>> spliterator = cacheMap.entrySet().spliterator();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (spliterator.estimateSize() > EVICTION_SAMPLE_SIZE) {
+            Spliterator<Map.Entry<String, CacheEntry>> prefix = spliterator.trySplit();
+            if (prefix == null) {
+                break;
+            }
+            if (random.nextBoolean()) {
+                spliterator = prefix;
+            }
+        }
+        sample.sample(spliterator);
+        if (sample.candidate == null) {
+            // The part of the map is empty
+            sample.sample(cacheMap.entrySet().spliterator());
+        }
+        Map.Entry<String, CacheEntry> candidate = sample.candidate;
+        if (candidate == null) {
+            // All the entries have been removed concurrently
+            return size.get() < cacheConfig.maxSize;
+        }
+        removeCacheEntry(candidate.getKey(), candidate.getValue());
         return true;
     }
 
@@ -140,47 +208,79 @@ private CacheEntry findValidCacheEntry(String token) {
             long now = now();
             if (isEntryExpired(entry, now)) {
                 // Entry has expired, remote introspection will be required
-                entry = null;
-                cacheMap.remove(token);
-                size.decrementAndGet();
+                removeCacheEntry(token, entry);
+                return null;
             }
+            entry.lastAccessTime = now;
         }
         return entry;
     }
 
-    private boolean isEntryExpired(CacheEntry entry, long now) {
-        return entry.createdTime + cacheConfig.timeToLive.toMillis() < now;
+    private void removeCacheEntry(String token, CacheEntry entry) {
+        if (cacheMap.remove(token, entry)) {
+            size.decrementAndGet();
+        }
     }
 
-    private static long now() {
-        return System.currentTimeMillis();
+    private long getExpiresAt(TokenIntrospection introspection) {
+        long expiresAt = now() + cacheConfig.timeToLive.toMillis();
+        Long exp = introspection == null ? null : introspection.getLong(OidcConstants.INTROSPECTION_TOKEN_EXP);
+        // The introspection result must not outlive the token
+        return exp == null ? expiresAt : Math.min(expiresAt, exp * 1000);
     }
 
-    private static class CacheEntry {
-        volatile TokenIntrospection introspection;
-        volatile UserInfo userInfo;
-        long createdTime = System.currentTimeMillis();
+    private static boolean isEntryExpired(CacheEntry entry, long now) {
+        return entry.expiresAt <= now;
+    }
 
-        public CacheEntry(TokenIntrospection introspection) {
-            this.introspection = introspection;
+    private long now() {
+        return clock.getAsLong();
+    }
+
+    private static class EvictionSample implements Consumer<Map.Entry<String, CacheEntry>> {
+        private final long now;
+        Map.Entry<String, CacheEntry> candidate;
+        boolean expired;
+        int sampled;
+
+        EvictionSample(long now) {
+            this.now = now;
         }
 
-        public CacheEntry(UserInfo userInfo) {
-            this.userInfo = userInfo;
+        void sample(Spliterator<Map.Entry<String, CacheEntry>> spliterator) {
+            sampled = 0;
+            while (!expired && sampled < EVICTION_SAMPLE_SIZE && spliterator.tryAdvance(this)) {
+                sampled++;
+            }
+        }
+
+        @Override
+        public void accept(Map.Entry<String, CacheEntry> next) {
+            if (isEntryExpired(next.getValue(), now)) {
+                candidate = next;
+                expired = true;
+            } else if (candidate == null || next.getValue().lastAccessTime < candidate.getValue().lastAccessTime) {
+                candidate = next;
+            }
         }
     }
 
-    private static class IncrementOperator implements IntUnaryOperator {
-        int maxSize;
+    private static class CacheEntry {
+        volatile TokenIntrospection introspection;
+        volatile UserInfo userInfo;
+        volatile long expiresAt;
+        volatile long lastAccessTime;
 
-        IncrementOperator(int maxSize) {
-            this.maxSize = maxSize;
+        public CacheEntry(TokenIntrospection introspection, long expiresAt, long now) {
+            this.introspection = introspection;
+            this.expiresAt = expiresAt;
+            this.lastAccessTime = now;
         }
 
-        @Override
-        public int applyAsInt(int n) {
-            return n < maxSize ? n + 1 : n;
+        public CacheEntry(UserInfo userInfo, long expiresAt, long now) {
+            this.userInfo = userInfo;
+            this.expiresAt = expiresAt;
+            this.lastAccessTime = now;
         }
-
     }
 }
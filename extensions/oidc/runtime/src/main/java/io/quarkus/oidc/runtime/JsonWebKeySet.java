@@ -1,6 +1,7 @@
 package io.quarkus.oidc.runtime;
 
 import java.security.Key;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -18,11 +19,33 @@ public class JsonWebKeySet {
     private Map<String, Key> keysWithKeyId = new HashMap<>();
     private Map<String, Key> keysWithThumbprints = new HashMap<>();
     private Key keyWithoutKeyIdAndThumbprint;
+    private final String json;
+    private final String etag;
+    private final Duration maxAge;
 
     public JsonWebKeySet(String json) {
+        this(json, null, null);
+    }
+
+    JsonWebKeySet(String json, String etag, Duration maxAge) {
+        this.json = json;
+        this.etag = etag;
+        this.maxAge = maxAge;
         initKeys(json);
     }
 
+    /**
+     * Creates a copy of the given key set which shares its parsed keys, used when the JWK set has not changed.
+     */
+    JsonWebKeySet(JsonWebKeySet jwks, String etag, Duration maxAge) {
+        this.json = jwks.json;
+        this.etag = etag != null ? etag : jwks.etag;
+        this.maxAge = maxAge;
+        this.keysWithKeyId = jwks.keysWithKeyId;
+        this.keysWithThumbprints = jwks.keysWithThumbprints;
+        this.keyWithoutKeyIdAndThumbprint = jwks.keyWithoutKeyIdAndThumbprint;
+    }
+
     private void initKeys(String json) {
         try {
             org.jose4j.jwk.JsonWebKeySet jwkSet = new org.jose4j.jwk.JsonWebKeySet(json);
@@ -65,4 +88,38 @@ public Key getKeyWithThumbprint(String x5t) {
     public Key getKeyWithoutKeyIdAndThumbprint() {
         return keyWithoutKeyIdAndThumbprint;
     }
+
+    String getJson() {
+        return json;
+    }
+
+    String getEtag() {
+        return etag;
+    }
+
+    /**
+     * @return the {@code max-age} directive of the JWK set response {@code Cache-Control} header or {@code null}
+     */
+    Duration getMaxAge() {
+        return maxAge;
+    }
+
+    /**
+     * @return {@code true} if all the keys of the given key set are also available in this key set
+     */
+    boolean containsAllKeys(JsonWebKeySet jwks) {
+        return containsAllKeys(keysWithKeyId, jwks.keysWithKeyId)
+                && containsAllKeys(keysWithThumbprints, jwks.keysWithThumbprints)
+                && (jwks.keyWithoutKeyIdAndThumbprint == null
+                        || jwks.keyWithoutKeyIdAndThumbprint.equals(keyWithoutKeyIdAndThumbprint));
+    }
+
+    private static boolean containsAllKeys(Map<String, Key> keys, Map<String, Key> otherKeys) {
+        for (Map.Entry<String, Key> entry : otherKeys.entrySet()) {
+            if (!entry.getValue().equals(keys.get(entry.getKey()))) {
+                return false;
+            }
+        }
+        return true;
+    }
 }
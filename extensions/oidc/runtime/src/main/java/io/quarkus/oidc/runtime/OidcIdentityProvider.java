@@ -3,6 +3,7 @@
 import static io.quarkus.oidc.runtime.OidcUtils.validateAndCreateIdentity;
 
 import java.security.Principal;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -52,6 +53,8 @@ public class OidcIdentityProvider implements IdentityProvider<TokenAuthenticatio
     private BlockingTaskRunner<Void> uniVoidOidcContext = new BlockingTaskRunner<Void>();
     private BlockingTaskRunner<TokenIntrospection> getIntrospectionRequestContext = new BlockingTaskRunner<TokenIntrospection>();
     private BlockingTaskRunner<UserInfo> getUserInfoRequestContext = new BlockingTaskRunner<UserInfo>();
+    private final PendingRequests<TokenIntrospection> pendingIntrospections = new PendingRequests<>();
+    private final LongAdder introspectionCacheHits = new LongAdder();
 
     @Override
     public Class<TokenAuthenticationRequest> getRequestType() {
@@ -335,13 +338,24 @@ private Uni<TokenVerificationResult> introspectTokenUni(TenantConfigContext reso
         if (tokenIntrospectionUni == null) {
             tokenIntrospectionUni = newTokenIntrospectionUni(resolvedContext, token);
         } else {
-            tokenIntrospectionUni = tokenIntrospectionUni.onItem().ifNull()
-                    .switchTo(newTokenIntrospectionUni(resolvedContext, token));
+            tokenIntrospectionUni = tokenIntrospectionUni.onItem().ifNotNull().invoke(introspectionCacheHits::increment)
+                    .onItem().ifNull().switchTo(newTokenIntrospectionUni(resolvedContext, token));
         }
         return tokenIntrospectionUni.onItem().transform(t -> new TokenVerificationResult(null, t));
     }
 
     private Uni<TokenIntrospection> newTokenIntrospectionUni(TenantConfigContext resolvedContext, String token) {
+        // Concurrent requests with the same token share a single remote introspection
+        final String key = resolvedContext.oidcConfig.getTenantId().orElse(OidcUtils.DEFAULT_TENANT_ID) + ":" + token;
+        return pendingIntrospections.get(key, new Supplier<Uni<TokenIntrospection>>() {
+            @Override
+            public Uni<TokenIntrospection> get() {
+                return remoteTokenIntrospectionUni(resolvedContext, token);
+            }
+        });
+    }
+
+    private Uni<TokenIntrospection> remoteTokenIntrospectionUni(TenantConfigContext resolvedContext, String token) {
         Uni<TokenIntrospection> tokenIntrospectionUni = resolvedContext.provider.introspectToken(token);
         if (tenantResolver.getTokenIntrospectionCache() == null || !resolvedContext.oidcConfig.allowTokenIntrospectionCache) {
             return tokenIntrospectionUni;
@@ -357,6 +371,27 @@ public Uni<?> apply(TokenIntrospection introspection) {
         }
     }
 
+    /**
+     * @return the number of introspections which have been returned by the token introspection cache
+     */
+    public long getIntrospectionCacheHits() {
+        return introspectionCacheHits.sum();
+    }
+
+    /**
+     * @return the number of remote token introspection requests
+     */
+    public long getIntrospectionCacheMisses() {
+        return pendingIntrospections.getStartedCount();
+    }
+
+    /**
+     * @return the number of introspections which have shared a remote introspection request in progress for the same token
+     */
+    public long getCoalescedIntrospections() {
+        return pendingIntrospections.getSharedCount();
+    }
+
     private static Uni<SecurityIdentity> validateTokenWithoutOidcServer(TokenAuthenticationRequest request,
             TenantConfigContext resolvedContext) {
 
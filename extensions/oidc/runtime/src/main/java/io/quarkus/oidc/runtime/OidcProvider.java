@@ -5,7 +5,9 @@
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 import org.eclipse.microprofile.jwt.Claims;
@@ -33,14 +35,19 @@
 import io.quarkus.oidc.UserInfo;
 import io.quarkus.oidc.common.runtime.OidcConstants;
 import io.quarkus.security.AuthenticationFailedException;
+import io.quarkus.security.runtime.VerifiedTokenCache;
 import io.smallrye.jwt.algorithm.SignatureAlgorithm;
 import io.smallrye.jwt.util.KeyUtils;
 import io.smallrye.mutiny.Uni;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
 
 public class OidcProvider implements Closeable {
 
     private static final Logger LOG = Logger.getLogger(OidcProvider.class);
     private static final String ANY_ISSUER = "any";
+    // Lower bound of the JWK set refresh delay set with the `Cache-Control` max-age directive
+    private static final long MIN_JWKS_REFRESH_DELAY = 60_000;
     private static final String[] ASYMMETRIC_SUPPORTED_ALGORITHMS = new String[] { SignatureAlgorithm.RS256.getAlgorithm(),
             SignatureAlgorithm.RS384.getAlgorithm(),
             SignatureAlgorithm.RS512.getAlgorithm(),
@@ -59,17 +66,24 @@ public class OidcProvider implements Closeable {
     final String[] audience;
     final Map<String, String> requiredClaims;
     final Key tokenDecryptionKey;
+    final VerifiedTokenCache<TokenVerificationResult> verifiedTokenCache;
 
     public OidcProvider(OidcProviderClient client, OidcTenantConfig oidcConfig, JsonWebKeySet jwks, Key tokenDecryptionKey) {
+        this(client, oidcConfig, jwks, tokenDecryptionKey, null);
+    }
+
+    public OidcProvider(OidcProviderClient client, OidcTenantConfig oidcConfig, JsonWebKeySet jwks, Key tokenDecryptionKey,
+            Vertx vertx) {
         this.client = client;
         this.oidcConfig = oidcConfig;
         this.asymmetricKeyResolver = jwks == null ? null
-                : new JsonWebKeyResolver(jwks, oidcConfig.token.forcedJwkRefreshInterval);
+                : new JsonWebKeyResolver(jwks, oidcConfig.token.forcedJwkRefreshInterval, vertx);
 
         this.issuer = checkIssuerProp();
         this.audience = checkAudienceProp();
         this.requiredClaims = checkRequiredClaimsProp();
         this.tokenDecryptionKey = tokenDecryptionKey;
+        this.verifiedTokenCache = createVerifiedTokenCache();
     }
 
     public OidcProvider(String publicKeyEnc, OidcTenantConfig oidcConfig, Key tokenDecryptionKey) {
@@ -80,6 +94,15 @@ public OidcProvider(String publicKeyEnc, OidcTenantConfig oidcConfig, Key tokenD
         this.audience = checkAudienceProp();
         this.requiredClaims = checkRequiredClaimsProp();
         this.tokenDecryptionKey = tokenDecryptionKey;
+        this.verifiedTokenCache = createVerifiedTokenCache();
+    }
+
+    private VerifiedTokenCache<TokenVerificationResult> createVerifiedTokenCache() {
+        if (oidcConfig == null || oidcConfig.token.verifiedTokenCache.maxSize <= 0) {
+            return null;
+        }
+        return new VerifiedTokenCache<>(oidcConfig.token.verifiedTokenCache.maxSize,
+                oidcConfig.token.verifiedTokenCache.timeToLive);
     }
 
     private String checkIssuerProp() {
@@ -107,7 +130,29 @@ public TokenVerificationResult verifySelfSignedJwtToken(String token) throws Inv
     }
 
     public TokenVerificationResult verifyJwtToken(String token) throws InvalidJwtException {
-        return verifyJwtTokenInternal(token, ASYMMETRIC_ALGORITHM_CONSTRAINTS, asymmetricKeyResolver, true);
+        if (verifiedTokenCache == null) {
+            return verifyJwtTokenInternal(token, ASYMMETRIC_ALGORITHM_CONSTRAINTS, asymmetricKeyResolver, true);
+        }
+        TokenVerificationResult result = verifiedTokenCache.get(token);
+        if (result == null) {
+            result = verifyJwtTokenInternal(token, ASYMMETRIC_ALGORITHM_CONSTRAINTS, asymmetricKeyResolver, true);
+            // The token may have been verified with a retired key which will soon not be accepted anymore
+            if (!asymmetricKeyResolver.hasRetiredKeys()) {
+                verifiedTokenCache.put(token, result, getVerifiedTokenExpiry(result));
+            }
+        }
+        return result;
+    }
+
+    private long getVerifiedTokenExpiry(TokenVerificationResult result) {
+        final int lifespanGrace = oidcConfig.token.lifespanGrace.isPresent() ? oidcConfig.token.lifespanGrace.getAsInt() : 0;
+        // 'exp' and 'iat' are guaranteed to be present if no exception has been thrown by 'verifyJwtTokenInternal'
+        long expiry = result.localVerificationResult.getLong(Claims.exp.name()) + lifespanGrace;
+        if (oidcConfig.token.age.isPresent()) {
+            final long iat = result.localVerificationResult.getLong(Claims.iat.name());
+            expiry = Math.min(expiry, iat + oidcConfig.token.age.get().toSeconds() + lifespanGrace);
+        }
+        return expiry * 1000;
     }
 
     public TokenVerificationResult verifyLogoutJwtToken(String token) throws InvalidJwtException {
@@ -268,6 +313,9 @@ public Uni<AuthorizationCodeTokens> refreshTokens(String refreshToken) {
 
     @Override
     public void close() {
+        if (asymmetricKeyResolver != null) {
+            asymmetricKeyResolver.close();
+        }
         if (client != null) {
             client.close();
         }
@@ -275,12 +323,27 @@ public void close() {
 
     private class JsonWebKeyResolver implements RefreshableVerificationKeyResolver {
         volatile JsonWebKeySet jwks;
+        volatile RetiredJsonWebKeySet retiredJwks;
         volatile long lastForcedRefreshTime;
         volatile long forcedJwksRefreshIntervalMilliSecs;
-
-        JsonWebKeyResolver(JsonWebKeySet jwks, Duration forcedJwksRefreshInterval) {
+        final AtomicReference<Uni<Void>> pendingRefresh = new AtomicReference<>();
+        final Vertx vertx;
+        final long refreshIntervalMilliSecs;
+        final long rotationOverlapMilliSecs;
+        volatile long refreshTimerId = -1;
+        volatile boolean closed;
+
+        JsonWebKeyResolver(JsonWebKeySet jwks, Duration forcedJwksRefreshInterval, Vertx vertx) {
             this.jwks = jwks;
             this.forcedJwksRefreshIntervalMilliSecs = forcedJwksRefreshInterval.toMillis();
+            this.vertx = vertx;
+            this.refreshIntervalMilliSecs = oidcConfig.token.jwkRefreshInterval.isPresent()
+                    ? oidcConfig.token.jwkRefreshInterval.get().toMillis()
+                    : 0;
+            this.rotationOverlapMilliSecs = oidcConfig.token.jwkRotationOverlap.toMillis();
+            if (vertx != null && refreshIntervalMilliSecs > 0) {
+                scheduleRefresh(getRefreshDelay());
+            }
         }
 
         @Override
@@ -325,7 +388,12 @@ public Key resolveKey(JsonWebSignature jws, List<JsonWebStructure> nestingContex
 
         private Key getKeyWithId(JsonWebSignature jws, String kid) {
             if (kid != null) {
-                return jwks.getKeyWithId(kid);
+                Key key = jwks.getKeyWithId(kid);
+                if (key == null) {
+                    JsonWebKeySet retired = getRetiredJwks();
+                    key = retired != null ? retired.getKeyWithId(kid) : null;
+                }
+                return key;
             } else {
                 LOG.debug("Token 'kid' header is not set");
                 return null;
@@ -334,31 +402,125 @@ private Key getKeyWithId(JsonWebSignature jws, String kid) {
 
         private Key getKeyWithThumbprint(JsonWebSignature jws, String thumbprint) {
             if (thumbprint != null) {
-                return jwks.getKeyWithThumbprint(thumbprint);
+                Key key = jwks.getKeyWithThumbprint(thumbprint);
+                if (key == null) {
+                    JsonWebKeySet retired = getRetiredJwks();
+                    key = retired != null ? retired.getKeyWithThumbprint(thumbprint) : null;
+                }
+                return key;
             } else {
                 LOG.debug("Token 'x5t' header is not set");
                 return null;
             }
         }
 
+        private JsonWebKeySet getRetiredJwks() {
+            RetiredJsonWebKeySet retired = retiredJwks;
+            if (retired == null) {
+                return null;
+            }
+            if (retired.expiresAt <= now()) {
+                retiredJwks = null;
+                return null;
+            }
+            return retired.jwks;
+        }
+
+        @Override
+        public boolean hasRetiredKeys() {
+            return getRetiredJwks() != null;
+        }
+
         public Uni<Void> refresh() {
             final long now = now();
             if (now > lastForcedRefreshTime + forcedJwksRefreshIntervalMilliSecs) {
                 lastForcedRefreshTime = now;
-                return client.getJsonWebKeySet().onItem().transformToUni(new Function<JsonWebKeySet, Uni<? extends Void>>() {
+                return refreshJwks();
+            } else {
+                // The token will be verified again once the refresh in progress, if any, has completed
+                Uni<Void> pending = pendingRefresh.get();
+                return pending != null ? pending : Uni.createFrom().voidItem();
+            }
+        }
 
-                    @Override
-                    public Uni<? extends Void> apply(JsonWebKeySet t) {
-                        jwks = t;
-                        return Uni.createFrom().voidItem();
-                    }
+        /**
+         * Fetches the JWK set, concurrent callers share a single request.
+         */
+        private Uni<Void> refreshJwks() {
+            for (;;) {
+                Uni<Void> pending = pendingRefresh.get();
+                if (pending != null) {
+                    return pending;
+                }
+                Uni<Void> refresh = client.getJsonWebKeySet(jwks).onItem().invoke(this::updateJwks).replaceWithVoid()
+                        .onTermination().invoke(() -> pendingRefresh.set(null))
+                        .memoize().indefinitely();
+                if (pendingRefresh.compareAndSet(null, refresh)) {
+                    return refresh;
+                }
+            }
+        }
 
-                });
-            } else {
-                return Uni.createFrom().voidItem();
+        private void updateJwks(JsonWebKeySet newJwks) {
+            JsonWebKeySet currentJwks = jwks;
+            jwks = newJwks;
+            if (!newJwks.containsAllKeys(currentJwks)) {
+                LOG.debug("JWK set keys have been rotated");
+                if (rotationOverlapMilliSecs > 0) {
+                    retiredJwks = new RetiredJsonWebKeySet(currentJwks, now() + rotationOverlapMilliSecs);
+                }
+                if (verifiedTokenCache != null) {
+                    // The tokens signed with the keys which have been removed must not be accepted anymore
+                    verifiedTokenCache.clear();
+                }
             }
         }
 
+        private void scheduleRefresh(long delay) {
+            if (closed) {
+                return;
+            }
+            refreshTimerId = vertx.setTimer(delay, new Handler<Long>() {
+                @Override
+                public void handle(Long timerId) {
+                    refreshJwks().subscribe().with(new Consumer<Void>() {
+                        @Override
+                        public void accept(Void v) {
+                            scheduleRefresh(getRefreshDelay());
+                        }
+                    }, new Consumer<Throwable>() {
+                        @Override
+                        public void accept(Throwable t) {
+                            LOG.warnf("JWK set refresh has failed: %s", t.getMessage());
+                            scheduleRefresh(refreshIntervalMilliSecs);
+                        }
+                    });
+                }
+            });
+        }
+
+        private long getRefreshDelay() {
+            Duration maxAge = jwks.getMaxAge();
+            return maxAge != null ? Math.max(maxAge.toMillis(), MIN_JWKS_REFRESH_DELAY) : refreshIntervalMilliSecs;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+            if (refreshTimerId != -1) {
+                vertx.cancelTimer(refreshTimerId);
+            }
+        }
+    }
+
+    private static class RetiredJsonWebKeySet {
+        final JsonWebKeySet jwks;
+        final long expiresAt;
+
+        RetiredJsonWebKeySet(JsonWebKeySet jwks, long expiresAt) {
+            this.jwks = jwks;
+            this.expiresAt = expiresAt;
+        }
     }
 
     private static class LocalPublicKeyResolver implements RefreshableVerificationKeyResolver {
@@ -396,6 +558,13 @@ private static interface RefreshableVerificationKeyResolver extends Verification
         default Uni<Void> refresh() {
             return Uni.createFrom().voidItem();
         }
+
+        default boolean hasRetiredKeys() {
+            return false;
+        }
+
+        default void close() {
+        }
     }
 
     private static class CustomClaimsValidator implements Validator {
@@ -4,6 +4,8 @@
 import java.net.ConnectException;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.time.Duration;
+import java.util.Locale;
 import java.util.Map;
 
 import org.jboss.logging.Logger;
@@ -36,6 +38,10 @@ public class OidcProviderClient implements Closeable {
     private static final String APPLICATION_X_WWW_FORM_URLENCODED = String
             .valueOf(HttpHeaders.APPLICATION_X_WWW_FORM_URLENCODED.toString());
     private static final String APPLICATION_JSON = "application/json";
+    private static final String CACHE_CONTROL_HEADER = String.valueOf(HttpHeaders.CACHE_CONTROL);
+    private static final String ETAG_HEADER = String.valueOf(HttpHeaders.ETAG);
+    private static final String IF_NONE_MATCH_HEADER = String.valueOf(HttpHeaders.IF_NONE_MATCH);
+    private static final String MAX_AGE_DIRECTIVE = "max-age=";
 
     private final WebClient client;
     private final OidcConfigurationMetadata metadata;
@@ -70,8 +76,20 @@ public OidcConfigurationMetadata getMetadata() {
     }
 
     public Uni<JsonWebKeySet> getJsonWebKeySet() {
-        return client.getAbs(metadata.getJsonWebKeySetUri()).send().onItem()
-                .transform(resp -> getJsonWebKeySet(resp));
+        return getJsonWebKeySet(null);
+    }
+
+    /**
+     *
+     * @param currentJwks the current JWK set, if any
+     * @return the refreshed JWK set, sharing the parsed keys of the current JWK set if it has not changed
+     */
+    public Uni<JsonWebKeySet> getJsonWebKeySet(JsonWebKeySet currentJwks) {
+        HttpRequest<Buffer> request = client.getAbs(metadata.getJsonWebKeySetUri());
+        if (currentJwks != null && currentJwks.getEtag() != null) {
+            request.putHeader(IF_NONE_MATCH_HEADER, currentJwks.getEtag());
+        }
+        return request.send().onItem().transform(resp -> getJsonWebKeySet(resp, currentJwks));
     }
 
     public Uni<UserInfo> getUserInfo(String token) {
@@ -89,14 +107,50 @@ public Uni<TokenIntrospection> introspectToken(String token) {
                 .transform(resp -> getTokenIntrospection(resp));
     }
 
-    private JsonWebKeySet getJsonWebKeySet(HttpResponse<Buffer> resp) {
-        if (resp.statusCode() == 200) {
-            return new JsonWebKeySet(resp.bodyAsString(StandardCharsets.UTF_8.name()));
+    private JsonWebKeySet getJsonWebKeySet(HttpResponse<Buffer> resp, JsonWebKeySet currentJwks) {
+        String etag = resp.getHeader(ETAG_HEADER);
+        Duration maxAge = getMaxAge(resp.getHeader(CACHE_CONTROL_HEADER));
+        if (resp.statusCode() == 304 && currentJwks != null) {
+            return new JsonWebKeySet(currentJwks, etag, maxAge);
+        } else if (resp.statusCode() == 200) {
+            String json = resp.bodyAsString(StandardCharsets.UTF_8.name());
+            if (currentJwks != null && json.equals(currentJwks.getJson())) {
+                return new JsonWebKeySet(currentJwks, etag, maxAge);
+            }
+            return new JsonWebKeySet(json, etag, maxAge);
         } else {
             throw new OidcEndpointAccessException(resp.statusCode());
         }
     }
 
+    /**
+     *
+     * @param cacheControl the value of the {@code Cache-Control} header
+     * @return the value of the {@code max-age} directive or {@code null} if it is not set or the response must not be
+     *         cached
+     */
+    static Duration getMaxAge(String cacheControl) {
+        if (cacheControl == null) {
+            return null;
+        }
+        Duration maxAge = null;
+        for (String directive : cacheControl.split(",")) {
+            directive = directive.trim().toLowerCase(Locale.ROOT);
+            if (directive.equals("no-cache") || directive.equals("no-store")) {
+                return null;
+            }
+            if (directive.startsWith(MAX_AGE_DIRECTIVE)) {
+                try {
+                    long seconds = Long.parseLong(directive.substring(MAX_AGE_DIRECTIVE.length()).trim());
+                    maxAge = seconds > 0 ? Duration.ofSeconds(seconds) : null;
+                } catch (NumberFormatException ex) {
+                    LOG.debugf("Invalid Cache-Control directive: %s", directive);
+                }
+            }
+        }
+        return maxAge;
+    }
+
     public OidcTenantConfig getOidcConfig() {
         return oidcConfig;
     }
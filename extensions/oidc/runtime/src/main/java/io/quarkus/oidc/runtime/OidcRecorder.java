@@ -8,6 +8,7 @@
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -29,6 +30,7 @@
 import io.quarkus.runtime.TlsConfig;
 import io.quarkus.runtime.annotations.Recorder;
 import io.quarkus.runtime.configuration.ConfigurationException;
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.smallrye.jwt.algorithm.KeyEncryptionAlgorithm;
 import io.smallrye.jwt.util.KeyUtils;
 import io.smallrye.mutiny.Uni;
@@ -48,6 +50,41 @@ public Supplier<DefaultTokenIntrospectionUserInfoCache> setupTokenCache(OidcConf
         return () -> new DefaultTokenIntrospectionUserInfoCache(config, vertx.get());
     }
 
+    /**
+     * The beans are looked up when the metrics are read: the consumer may run before the runtime init synthetic beans are
+     * initialized.
+     */
+    public Consumer<MetricsFactory> registerTokenIntrospectionMetrics(boolean defaultTokenCacheEnabled) {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                metricsFactory.builder("oidc.token.introspections")
+                        .description("The number of token introspections returned by the token introspection cache")
+                        .tag("result", "hit")
+                        .buildCounter(() -> identityProvider().getIntrospectionCacheHits());
+                metricsFactory.builder("oidc.token.introspections")
+                        .description("The number of remote token introspection requests")
+                        .tag("result", "miss")
+                        .buildCounter(() -> identityProvider().getIntrospectionCacheMisses());
+                metricsFactory.builder("oidc.token.introspections")
+                        .description(
+                                "The number of token introspections which shared a remote introspection request in progress")
+                        .tag("result", "coalesced")
+                        .buildCounter(() -> identityProvider().getCoalescedIntrospections());
+                if (defaultTokenCacheEnabled) {
+                    metricsFactory.builder("oidc.token.cache.size")
+                            .description("The number of entries in the default token introspection and UserInfo cache")
+                            .buildGauge(() -> Arc.container().instance(DefaultTokenIntrospectionUserInfoCache.class).get()
+                                    .getCacheSize());
+                }
+            }
+        };
+    }
+
+    private static OidcIdentityProvider identityProvider() {
+        return Arc.container().instance(OidcIdentityProvider.class).get();
+    }
+
     public Supplier<TenantConfigBean> setup(OidcConfig config, Supplier<Vertx> vertx, TlsConfig tlsConfig) {
         final Vertx vertxValue = vertx.get();
 
@@ -257,7 +294,7 @@ public Uni<OidcProvider> apply(OidcProviderClient client) {
                                         @Override
                                         public OidcProvider apply(JsonWebKeySet jwks) {
                                             return new OidcProvider(client, oidcConfig, jwks,
-                                                    readTokenDecryptionKey(oidcConfig));
+                                                    readTokenDecryptionKey(oidcConfig), vertx);
                                         }
 
                                     });
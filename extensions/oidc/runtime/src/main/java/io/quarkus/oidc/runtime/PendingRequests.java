@@ -0,0 +1,72 @@
+package io.quarkus.oidc.runtime;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Lets the concurrent subscribers of the requests with the same key share a single request in progress.
+ * <p>
+ * A request is started by the first subscriber and is removed once it has completed, failed or has been cancelled, so
+ * that a subsequent subscriber starts a new request. Its result is not cached. A subscriber which cancels its
+ * subscription does not cancel the request shared with the other subscribers.
+ */
+class PendingRequests<T> {
+
+    private final Map<String, Uni<T>> pending = new ConcurrentHashMap<>();
+    private final LongAdder started = new LongAdder();
+    private final LongAdder shared = new LongAdder();
+
+    /**
+     *
+     * @param key the key of the request
+     * @param request supplies the request, only called if no request with the same key is in progress
+     * @return a Uni which subscribes to the request in progress or starts a new one
+     */
+    Uni<T> get(String key, Supplier<Uni<T>> request) {
+        return Uni.createFrom().deferred(new Supplier<Uni<? extends T>>() {
+            @Override
+            public Uni<? extends T> get() {
+                Uni<T> inProgress = pending.get(key);
+                if (inProgress != null) {
+                    shared.increment();
+                    return inProgress;
+                }
+                AtomicReference<Uni<T>> self = new AtomicReference<>();
+                Uni<T> newRequest = request.get()
+                        .onTermination().invoke(() -> pending.remove(key, self.get()))
+                        .memoize().indefinitely();
+                self.set(newRequest);
+                inProgress = pending.putIfAbsent(key, newRequest);
+                if (inProgress != null) {
+                    shared.increment();
+                    return inProgress;
+                }
+                started.increment();
+                return newRequest;
+            }
+        });
+    }
+
+    /**
+     * @return the number of requests which have been started
+     */
+    long getStartedCount() {
+        return started.sum();
+    }
+
+    /**
+     * @return the number of subscribers which have shared a request in progress
+     */
+    long getSharedCount() {
+        return shared.sum();
+    }
+
+    int size() {
+        return pending.size();
+    }
+}
@@ -0,0 +1,120 @@
+package io.quarkus.oidc.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.oidc.TokenIntrospection;
+import io.quarkus.oidc.UserInfo;
+
+public class DefaultTokenIntrospectionUserInfoCacheTest {
+
+    private final AtomicLong now = new AtomicLong(TimeUnit.DAYS.toMillis(20000));
+
+    @Test
+    public void testEntryExpiresWithToken() {
+        DefaultTokenIntrospectionUserInfoCache cache = createCache(10);
+        long exp = now.get() / 1000 + 2;
+        cache.addIntrospection("token1", introspection(exp), null, null).await().indefinitely();
+        cache.addIntrospection("token2", introspection(exp + 600), null, null).await().indefinitely();
+        assertNotNull(getIntrospection(cache, "token1"));
+        assertNotNull(getIntrospection(cache, "token2"));
+
+        now.addAndGet(2000);
+        // The token has expired before the time to live has elapsed
+        assertNull(getIntrospection(cache, "token1"));
+        assertNotNull(getIntrospection(cache, "token2"));
+        assertEquals(1, cache.getCacheSize());
+    }
+
+    @Test
+    public void testFullCacheEvictsEntry() {
+        DefaultTokenIntrospectionUserInfoCache cache = createCache(3);
+        long exp = now.get() / 1000 + 600;
+        for (int i = 0; i < 10; i++) {
+            cache.addIntrospection("token" + i, introspection(exp), null, null).await().indefinitely();
+            // A new entry is always added
+            assertNotNull(getIntrospection(cache, "token" + i));
+            assertEquals(Math.min(i + 1, 3), cache.getCacheSize());
+        }
+        // UserInfo is added to the existing entry
+        cache.addUserInfo("token9", new UserInfo("{}"), null, null).await().indefinitely();
+        assertNotNull(cache.getUserInfo("token9", null, null).await().indefinitely());
+        assertNotNull(getIntrospection(cache, "token9"));
+        assertEquals(3, cache.getCacheSize());
+
+        cache.clearCache();
+        assertEquals(0, cache.getCacheSize());
+        assertNull(getIntrospection(cache, "token9"));
+    }
+
+    @Test
+    public void testFullCacheEvictsLeastRecentlyUsedEntry() {
+        DefaultTokenIntrospectionUserInfoCache cache = createCache(4);
+        long exp = now.get() / 1000 + 600;
+        for (int i = 0; i < 4; i++) {
+            cache.addIntrospection("token" + i, introspection(exp), null, null).await().indefinitely();
+            now.incrementAndGet();
+        }
+        assertNotNull(getIntrospection(cache, "token0"));
+        now.incrementAndGet();
+
+        cache.addIntrospection("token4", introspection(exp), null, null).await().indefinitely();
+        assertEquals(4, cache.getCacheSize());
+        assertNull(getIntrospection(cache, "token1"));
+        assertNotNull(getIntrospection(cache, "token0"));
+    }
+
+    @Test
+    public void testFullCacheEvictsExpiredEntryFirst() {
+        DefaultTokenIntrospectionUserInfoCache cache = createCache(4);
+        long exp = now.get() / 1000 + 600;
+        cache.addIntrospection("token0", introspection(exp), null, null).await().indefinitely();
+        now.incrementAndGet();
+        cache.addIntrospection("token1", introspection(exp), null, null).await().indefinitely();
+        cache.addIntrospection("token2", introspection(now.get() / 1000 + 1), null, null).await().indefinitely();
+        cache.addIntrospection("token3", introspection(exp), null, null).await().indefinitely();
+        now.addAndGet(1000);
+
+        cache.addIntrospection("token4", introspection(exp), null, null).await().indefinitely();
+        assertEquals(4, cache.getCacheSize());
+        // token2 has expired, token0 is the least recently used one
+        assertNotNull(getIntrospection(cache, "token0"));
+        assertNotNull(getIntrospection(cache, "token1"));
+        assertNotNull(getIntrospection(cache, "token3"));
+        assertNotNull(getIntrospection(cache, "token4"));
+    }
+
+    @Test
+    public void testFullLargeCacheEvictsEntry() {
+        DefaultTokenIntrospectionUserInfoCache cache = createCache(100);
+        long exp = now.get() / 1000 + 600;
+        for (int i = 0; i < 1000; i++) {
+            cache.addIntrospection("token" + i, introspection(exp), null, null).await().indefinitely();
+            now.incrementAndGet();
+            assertNotNull(getIntrospection(cache, "token" + i));
+            assertEquals(Math.min(i + 1, 100), cache.getCacheSize());
+        }
+    }
+
+    private static TokenIntrospection getIntrospection(DefaultTokenIntrospectionUserInfoCache cache, String token) {
+        return cache.getIntrospection(token, null, null).await().indefinitely();
+    }
+
+    private static TokenIntrospection introspection(long exp) {
+        return new TokenIntrospection("{\"active\":true,\"exp\":" + exp + "}");
+    }
+
+    private DefaultTokenIntrospectionUserInfoCache createCache(int maxSize) {
+        OidcConfig config = new OidcConfig();
+        config.tokenCache.maxSize = maxSize;
+        config.tokenCache.timeToLive = Duration.ofMinutes(3);
+        return new DefaultTokenIntrospectionUserInfoCache(config, null, now::get);
+    }
+}
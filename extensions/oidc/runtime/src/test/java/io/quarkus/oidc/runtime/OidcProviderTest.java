@@ -0,0 +1,188 @@
+package io.quarkus.oidc.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jose4j.jwk.JsonWebKey;
+import org.jose4j.jwk.RsaJsonWebKey;
+import org.jose4j.jwt.consumer.InvalidJwtException;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.oidc.OidcTenantConfig;
+import io.smallrye.jwt.build.Jwt;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Vertx;
+
+public class OidcProviderTest {
+
+    @Test
+    public void testVerifiedTokenCache() throws Exception {
+        KeyPair keyPair = generateKeyPair();
+        OidcTenantConfig oidcConfig = new OidcTenantConfig();
+        oidcConfig.token.verifiedTokenCache.maxSize = 10;
+        OidcProvider provider = new OidcProvider(encode(keyPair), oidcConfig, null);
+
+        String token = Jwt.subject("alice").issuedAt(System.currentTimeMillis() / 1000).expiresIn(300)
+                .sign(keyPair.getPrivate());
+        TokenVerificationResult result = provider.verifyJwtToken(token);
+        assertEquals("alice", result.localVerificationResult.getString("sub"));
+        assertSame(result, provider.verifyJwtToken(token));
+        assertEquals(1, provider.verifiedTokenCache.getCacheSize());
+
+        // A token signed with another key is rejected
+        String otherToken = Jwt.subject("alice").issuedAt(System.currentTimeMillis() / 1000).expiresIn(300)
+                .sign(generateKeyPair().getPrivate());
+        assertThrows(InvalidJwtException.class, () -> provider.verifyJwtToken(otherToken));
+        assertEquals(1, provider.verifiedTokenCache.getCacheSize());
+    }
+
+    @Test
+    public void testVerifiedTokenCacheDisabled() throws Exception {
+        KeyPair keyPair = generateKeyPair();
+        OidcProvider provider = new OidcProvider(encode(keyPair), new OidcTenantConfig(), null);
+
+        String token = Jwt.subject("alice").issuedAt(System.currentTimeMillis() / 1000).expiresIn(300)
+                .sign(keyPair.getPrivate());
+        assertNotSame(provider.verifyJwtToken(token), provider.verifyJwtToken(token));
+    }
+
+    @Test
+    public void testJwksRefreshIsShared() throws Exception {
+        KeyPair keyPair1 = generateKeyPair();
+        KeyPair keyPair2 = generateKeyPair();
+        AtomicInteger fetches = new AtomicInteger();
+        OidcTenantConfig oidcConfig = createTenantConfig();
+        OidcProviderClient client = jwksClient(oidcConfig, fetches, jwks(jwk(keyPair1, "1"), jwk(keyPair2, "2")));
+        OidcProvider provider = new OidcProvider(client, oidcConfig, jwks(jwk(keyPair1, "1")), null);
+
+        String token = sign(keyPair2, "2");
+        assertThrows(InvalidJwtException.class, () -> provider.verifyJwtToken(token));
+        // Concurrent requests with an unknown kid share a single JWK set request
+        CompletableFuture<TokenVerificationResult> first = provider.refreshJwksAndVerifyJwtToken(token)
+                .subscribeAsCompletionStage();
+        CompletableFuture<TokenVerificationResult> second = provider.refreshJwksAndVerifyJwtToken(token)
+                .subscribeAsCompletionStage();
+        assertEquals("alice", first.get(5, TimeUnit.SECONDS).localVerificationResult.getString("sub"));
+        assertEquals("alice", second.get(5, TimeUnit.SECONDS).localVerificationResult.getString("sub"));
+        assertEquals(1, fetches.get());
+    }
+
+    @Test
+    public void testJwkRotationOverlap() throws Exception {
+        KeyPair keyPair1 = generateKeyPair();
+        KeyPair keyPair2 = generateKeyPair();
+        String token1 = sign(keyPair1, "1");
+        String token2 = sign(keyPair2, "2");
+
+        OidcTenantConfig oidcConfig = createTenantConfig();
+        oidcConfig.token.jwkRotationOverlap = Duration.ofMinutes(1);
+        OidcProviderClient client = jwksClient(oidcConfig, new AtomicInteger(), jwks(jwk(keyPair2, "2")));
+        OidcProvider provider = new OidcProvider(client, oidcConfig, jwks(jwk(keyPair1, "1")), null);
+        provider.verifyJwtToken(token1);
+        provider.refreshJwksAndVerifyJwtToken(token2).await().atMost(Duration.ofSeconds(5));
+        // The retired key is still accepted
+        provider.verifyJwtToken(token1);
+
+        OidcTenantConfig noOverlapConfig = createTenantConfig();
+        OidcProviderClient noOverlapClient = jwksClient(noOverlapConfig, new AtomicInteger(), jwks(jwk(keyPair2, "2")));
+        OidcProvider noOverlapProvider = new OidcProvider(noOverlapClient, noOverlapConfig, jwks(jwk(keyPair1, "1")), null);
+        noOverlapProvider.refreshJwksAndVerifyJwtToken(token2).await().atMost(Duration.ofSeconds(5));
+        assertThrows(InvalidJwtException.class, () -> noOverlapProvider.verifyJwtToken(token1));
+    }
+
+    @Test
+    public void testBackgroundJwksRefresh() throws Exception {
+        KeyPair keyPair1 = generateKeyPair();
+        KeyPair keyPair2 = generateKeyPair();
+        AtomicInteger fetches = new AtomicInteger();
+        OidcTenantConfig oidcConfig = createTenantConfig();
+        oidcConfig.token.jwkRefreshInterval = Optional.of(Duration.ofMillis(100));
+        Vertx vertx = Vertx.vertx();
+        OidcProviderClient client = jwksClient(oidcConfig, fetches, jwks(jwk(keyPair1, "1"), jwk(keyPair2, "2")));
+        OidcProvider provider = new OidcProvider(client, oidcConfig, jwks(jwk(keyPair1, "1")), null, vertx);
+        try {
+            String token = sign(keyPair2, "2");
+            long deadline = System.currentTimeMillis() + 5000;
+            while (fetches.get() < 2 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(50);
+            }
+            assertTrue(fetches.get() >= 2);
+            // The new key is available without a forced refresh
+            provider.verifyJwtToken(token);
+        } finally {
+            provider.close();
+            vertx.close().toCompletionStage().toCompletableFuture().get(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testCacheControlMaxAge() {
+        assertEquals(Duration.ofSeconds(3600), OidcProviderClient.getMaxAge("public, max-age=3600"));
+        assertEquals(Duration.ofSeconds(60), OidcProviderClient.getMaxAge("Max-Age=60, must-revalidate"));
+        assertNull(OidcProviderClient.getMaxAge(null));
+        assertNull(OidcProviderClient.getMaxAge("no-cache, no-store, max-age=0"));
+        assertNull(OidcProviderClient.getMaxAge("max-age=0"));
+        assertNull(OidcProviderClient.getMaxAge("max-age=abc"));
+    }
+
+    private static OidcTenantConfig createTenantConfig() {
+        OidcTenantConfig oidcConfig = new OidcTenantConfig();
+        oidcConfig.token.issuer = Optional.of("any");
+        return oidcConfig;
+    }
+
+    private static OidcProviderClient jwksClient(OidcTenantConfig oidcConfig, AtomicInteger fetches, JsonWebKeySet jwks) {
+        return new OidcProviderClient(null, null, oidcConfig) {
+            @Override
+            public Uni<JsonWebKeySet> getJsonWebKeySet(JsonWebKeySet currentJwks) {
+                return Uni.createFrom().item(() -> {
+                    fetches.incrementAndGet();
+                    return jwks;
+                }).onItem().delayIt().by(Duration.ofMillis(100));
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    private static JsonWebKeySet jwks(JsonWebKey... keys) {
+        return new JsonWebKeySet(new org.jose4j.jwk.JsonWebKeySet(keys).toJson());
+    }
+
+    private static JsonWebKey jwk(KeyPair keyPair, String kid) {
+        RsaJsonWebKey key = new RsaJsonWebKey((RSAPublicKey) keyPair.getPublic());
+        key.setKeyId(kid);
+        return key;
+    }
+
+    private static String sign(KeyPair keyPair, String kid) {
+        return Jwt.subject("alice").issuedAt(System.currentTimeMillis() / 1000).expiresIn(300).jws().keyId(kid)
+                .sign(keyPair.getPrivate());
+    }
+
+    private static String encode(KeyPair keyPair) {
+        return Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded());
+    }
+
+    private static KeyPair generateKeyPair() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        return generator.generateKeyPair();
+    }
+}
@@ -0,0 +1,133 @@
+package io.quarkus.oidc.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import io.smallrye.mutiny.subscription.UniEmitter;
+
+public class PendingRequestsTest {
+
+    private final PendingRequests<String> pendingRequests = new PendingRequests<>();
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger cancellations = new AtomicInteger();
+    private final AtomicReference<UniEmitter<? super String>> emitter = new AtomicReference<>();
+    private final Supplier<Uni<String>> request = () -> Uni.createFrom().<String> emitter(e -> {
+        requests.incrementAndGet();
+        emitter.set(e);
+    }).onCancellation().invoke(cancellations::incrementAndGet);
+
+    @Test
+    public void testConcurrentSubscribersShareRequest() throws Exception {
+        int subscribers = 8;
+        List<UniAssertSubscriber<String>> results = new ArrayList<>();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(subscribers);
+        try {
+            List<Future<UniAssertSubscriber<String>>> futures = new ArrayList<>();
+            for (int i = 0; i < subscribers; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return pendingRequests.get("tenant:token", request).subscribe()
+                            .withSubscriber(UniAssertSubscriber.create());
+                }));
+            }
+            start.countDown();
+            for (Future<UniAssertSubscriber<String>> future : futures) {
+                results.add(future.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, requests.get());
+        assertEquals(1, pendingRequests.getStartedCount());
+        assertEquals(subscribers - 1, pendingRequests.getSharedCount());
+        emitter.get().complete("introspection");
+        for (UniAssertSubscriber<String> result : results) {
+            result.assertItem("introspection");
+        }
+        assertEquals(0, pendingRequests.size());
+
+        // The result is not cached, a new request is started
+        UniAssertSubscriber<String> next = pendingRequests.get("tenant:token", request).subscribe()
+                .withSubscriber(UniAssertSubscriber.create());
+        assertEquals(2, requests.get());
+        emitter.get().complete("next");
+        next.assertItem("next");
+    }
+
+    @Test
+    public void testOtherKeyStartsRequest() {
+        pendingRequests.get("tenant:token1", request).subscribe().withSubscriber(UniAssertSubscriber.create());
+        pendingRequests.get("tenant:token2", request).subscribe().withSubscriber(UniAssertSubscriber.create());
+        assertEquals(2, requests.get());
+        assertEquals(2, pendingRequests.size());
+    }
+
+    @Test
+    public void testFailureIsSharedAndNotCached() {
+        UniAssertSubscriber<String> first = pendingRequests.get("tenant:token", request).subscribe()
+                .withSubscriber(UniAssertSubscriber.create());
+        UniAssertSubscriber<String> second = pendingRequests.get("tenant:token", request).subscribe()
+                .withSubscriber(UniAssertSubscriber.create());
+        emitter.get().fail(new IllegalStateException("unavailable"));
+        first.assertFailedWith(IllegalStateException.class, "unavailable");
+        second.assertFailedWith(IllegalStateException.class, "unavailable");
+        assertEquals(1, requests.get());
+        assertEquals(0, pendingRequests.size());
+
+        // The failed request is not replayed
+        UniAssertSubscriber<String> retry = pendingRequests.get("tenant:token", request).subscribe()
+                .withSubscriber(UniAssertSubscriber.create());
+        assertEquals(2, requests.get());
+        emitter.get().complete("introspection");
+        retry.assertItem("introspection");
+    }
+
+    @Test
+    public void testCancellationDoesNotCancelSharedRequest() {
+        UniAssertSubscriber<String> first = pendingRequests.get("tenant:token", request).subscribe()
+                .withSubscriber(UniAssertSubscriber.create());
+        UniAssertSubscriber<String> second = pendingRequests.get("tenant:token", request).subscribe()
+                .withSubscriber(UniAssertSubscriber.create());
+        first.cancel();
+        assertEquals(0, cancellations.get());
+
+        emitter.get().complete("introspection");
+        second.assertItem("introspection");
+        assertNull(first.getItem());
+        assertEquals(1, requests.get());
+        assertEquals(0, pendingRequests.size());
+    }
+
+    @Test
+    public void testSubscriberJoinsRequestAfterCancellation() {
+        UniAssertSubscriber<String> first = pendingRequests.get("tenant:token", request).subscribe()
+                .withSubscriber(UniAssertSubscriber.create());
+        first.cancel();
+        // The request is still in progress
+        assertEquals(1, pendingRequests.size());
+
+        UniAssertSubscriber<String> second = pendingRequests.get("tenant:token", request).subscribe()
+                .withSubscriber(UniAssertSubscriber.create());
+        assertEquals(1, requests.get());
+        emitter.get().complete("introspection");
+        second.assertItem("introspection");
+        assertEquals(0, pendingRequests.size());
+    }
+}
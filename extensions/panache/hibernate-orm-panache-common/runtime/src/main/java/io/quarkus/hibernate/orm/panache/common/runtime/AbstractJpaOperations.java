@@ -35,8 +35,8 @@ public static void setEntityToPersistenceUnit(Map<String, String> map) {
         entityToPersistenceUnit = Collections.unmodifiableMap(map);
     }
 
-    protected abstract PanacheQueryType createPanacheQuery(EntityManager em, String query, String orderBy,
-            Object paramsArrayOrMap);
+    protected abstract PanacheQueryType createPanacheQuery(Class<?> entityClass, EntityManager em, String query,
+            Sort sort, Object paramsArrayOrMap);
 
     public abstract List<?> list(PanacheQueryType query);
 
@@ -206,9 +206,9 @@ public PanacheQueryType find(Class<?> entityClass, String query, Sort sort, Obje
                                 + "\" instead");
             }
             NamedQueryUtil.checkNamedQuery(entityClass, namedQuery);
-            return createPanacheQuery(em, query, PanacheJpaUtil.toOrderBy(sort), params);
+            return createPanacheQuery(entityClass, em, query, sort, params);
         }
-        return createPanacheQuery(em, findQuery, PanacheJpaUtil.toOrderBy(sort), params);
+        return createPanacheQuery(entityClass, em, findQuery, sort, params);
     }
 
     public PanacheQueryType find(Class<?> entityClass, String query, Map<String, Object> params) {
@@ -226,9 +226,9 @@ public PanacheQueryType find(Class<?> entityClass, String query, Sort sort, Map<
                                 + "\" instead");
             }
             NamedQueryUtil.checkNamedQuery(entityClass, namedQuery);
-            return createPanacheQuery(em, query, PanacheJpaUtil.toOrderBy(sort), params);
+            return createPanacheQuery(entityClass, em, query, sort, params);
         }
-        return createPanacheQuery(em, findQuery, PanacheJpaUtil.toOrderBy(sort), params);
+        return createPanacheQuery(entityClass, em, findQuery, sort, params);
     }
 
     public PanacheQueryType find(Class<?> entityClass, String query, Parameters params) {
@@ -290,13 +290,13 @@ public Stream<?> stream(Class<?> entityClass, String query, Sort sort, Parameter
     public PanacheQueryType findAll(Class<?> entityClass) {
         String query = "FROM " + PanacheJpaUtil.getEntityName(entityClass);
         EntityManager em = getEntityManager(entityClass);
-        return createPanacheQuery(em, query, null, null);
+        return createPanacheQuery(entityClass, em, query, null, null);
     }
 
     public PanacheQueryType findAll(Class<?> entityClass, Sort sort) {
         String query = "FROM " + PanacheJpaUtil.getEntityName(entityClass);
         EntityManager em = getEntityManager(entityClass);
-        return createPanacheQuery(em, query, PanacheJpaUtil.toOrderBy(sort), null);
+        return createPanacheQuery(entityClass, em, query, sort, null);
     }
 
     public List<?> listAll(Class<?> entityClass) {
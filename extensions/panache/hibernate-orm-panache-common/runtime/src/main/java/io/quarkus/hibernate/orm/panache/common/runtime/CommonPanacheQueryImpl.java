@@ -2,7 +2,9 @@
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Parameter;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -20,8 +22,10 @@
 import org.hibernate.engine.spi.RowSelection;
 
 import io.quarkus.hibernate.orm.panache.common.ProjectedFieldName;
+import io.quarkus.panache.common.Cursor;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Range;
+import io.quarkus.panache.common.Sort;
 import io.quarkus.panache.common.exception.PanacheQueryException;
 import io.quarkus.panache.hibernate.common.runtime.PanacheJpaUtil;
 
@@ -41,35 +45,49 @@ public void close() {
     private Object paramsArrayOrMap;
     private String query;
     protected String countQuery;
+    private Sort sort;
     private String orderBy;
     private EntityManager em;
+    private Class<?> entityClass;
 
     private Page page;
     private Long count;
 
     private Range range;
 
+    private Cursor cursor;
+
     private LockModeType lockModeType;
     private Map<String, Object> hints;
 
     private Map<String, Map<String, Object>> filters;
 
-    public CommonPanacheQueryImpl(EntityManager em, String query, String orderBy, Object paramsArrayOrMap) {
+    public CommonPanacheQueryImpl(EntityManager em, String query, Sort sort, Object paramsArrayOrMap) {
+        this(null, em, query, sort, paramsArrayOrMap);
+    }
+
+    public CommonPanacheQueryImpl(Class<?> entityClass, EntityManager em, String query, Sort sort,
+            Object paramsArrayOrMap) {
+        this.entityClass = entityClass;
         this.em = em;
         this.query = query;
-        this.orderBy = orderBy;
+        this.sort = sort;
+        this.orderBy = PanacheJpaUtil.toOrderBy(sort);
         this.paramsArrayOrMap = paramsArrayOrMap;
     }
 
     private CommonPanacheQueryImpl(CommonPanacheQueryImpl<?> previousQuery, String newQueryString, String countQuery) {
         this.em = previousQuery.em;
+        this.entityClass = previousQuery.entityClass;
         this.query = newQueryString;
         this.countQuery = countQuery;
+        this.sort = previousQuery.sort;
         this.orderBy = previousQuery.orderBy;
         this.paramsArrayOrMap = previousQuery.paramsArrayOrMap;
         this.page = previousQuery.page;
         this.count = previousQuery.count;
         this.range = previousQuery.range;
+        this.cursor = previousQuery.cursor;
         this.lockModeType = previousQuery.lockModeType;
         this.hints = previousQuery.hints;
         this.filters = previousQuery.filters;
@@ -213,12 +231,56 @@ private void checkPagination() {
             throw new UnsupportedOperationException("Cannot call a page related method in a ranged query, " +
                     "call page(Page) or page(int, int) to initiate pagination first");
         }
+        if (cursor != null) {
+            throw new UnsupportedOperationException("Cannot call a page related method in a keyset paginated query, " +
+                    "use the sort values of the first or last entity of the page to build a new cursor instead");
+        }
     }
 
     public void range(int startIndex, int lastIndex) {
         this.range = Range.of(startIndex, lastIndex);
-        // reset the page to its default to be able to switch from page to range
+        // reset the page and the cursor to be able to switch from page to range
         this.page = null;
+        this.cursor = null;
+    }
+
+    public void cursor(Cursor cursor) {
+        if (cursor != null) {
+            checkKeyset(cursor);
+            cursor = resolveEnumValues(cursor);
+            // reset the range to be able to switch from range to keyset pagination
+            this.range = null;
+        }
+        this.cursor = cursor;
+    }
+
+    // a decoded cursor only holds the names of the enum constants, their types come from the entity
+    private Cursor resolveEnumValues(Cursor cursor) {
+        if (entityClass == null) {
+            return cursor;
+        }
+        try {
+            return cursor.resolveEnumValues(entityClass, sort);
+        } catch (IllegalArgumentException e) {
+            throw new PanacheQueryException("The cursor does not match the sort columns of " + entityClass.getName() + ": "
+                    + e.getMessage());
+        }
+    }
+
+    private void checkKeyset(Cursor cursor) {
+        if (PanacheJpaUtil.isNamedQuery(query)) {
+            throw new PanacheQueryException("Unable to perform keyset pagination on a named query");
+        }
+        if (sort == null || sort.getColumns().isEmpty()) {
+            throw new PanacheQueryException("Keyset pagination requires a sort, use a find method accepting a Sort");
+        }
+        if (cursor.getValues().size() != sort.getColumns().size()) {
+            throw new PanacheQueryException("The cursor has " + cursor.getValues().size() + " values but the sort has "
+                    + sort.getColumns().size() + " columns");
+        }
+        if (!cursor.isFor(sort)) {
+            throw new PanacheQueryException("The cursor was built for another sort than the sort of the query");
+        }
     }
 
     public void withLock(LockModeType lockModeType) {
@@ -260,19 +322,28 @@ private String countQuery(String selectQuery) {
             return countQuery;
         }
 
-        return PanacheJpaUtil.getCountQuery(selectQuery);
+        return PanacheJpaUtil.getCountQuery(entityClass, selectQuery);
     }
 
     @SuppressWarnings("unchecked")
     public <T extends Entity> List<T> list() {
         Query jpaQuery = createQuery();
         try (NonThrowingCloseable c = applyFilters()) {
-            return jpaQuery.getResultList();
+            List<T> list = jpaQuery.getResultList();
+            if (cursor != null && cursor.isBefore()) {
+                // the entities before the cursor are read in reverse order
+                list = new ArrayList<>(list);
+                Collections.reverse(list);
+            }
+            return list;
         }
     }
 
     @SuppressWarnings("unchecked")
     public <T extends Entity> Stream<T> stream() {
+        if (cursor != null && cursor.isBefore()) {
+            return this.<T> list().stream();
+        }
         Query jpaQuery = createQuery();
         try (NonThrowingCloseable c = applyFilters()) {
             return jpaQuery.getResultStream();
@@ -280,6 +351,10 @@ public <T extends Entity> Stream<T> stream() {
     }
 
     public <T extends Entity> T firstResult() {
+        if (cursor != null && cursor.isBefore()) {
+            List<T> list = list();
+            return list.isEmpty() ? null : list.get(0);
+        }
         Query jpaQuery = createQuery(1);
         try (NonThrowingCloseable c = applyFilters()) {
             @SuppressWarnings("unchecked")
@@ -321,7 +396,7 @@ private Query createQuery() {
             // range is 0 based, so we add 1
             jpaQuery.setMaxResults(range.getLastIndex() - range.getStartIndex() + 1);
         } else if (page != null) {
-            jpaQuery.setFirstResult(page.index * page.size);
+            jpaQuery.setFirstResult(pageOffset());
             jpaQuery.setMaxResults(page.size);
         } else {
             // Use deprecated API in org.hibernate.Query that will be moved to org.hibernate.query.Query on Hibernate 6.0
@@ -340,7 +415,7 @@ private Query createQuery(int maxResults) {
         if (range != null) {
             jpaQuery.setFirstResult(range.getStartIndex());
         } else if (page != null) {
-            jpaQuery.setFirstResult(page.index * page.size);
+            jpaQuery.setFirstResult(pageOffset());
         } else {
             // Use deprecated API in org.hibernate.Query that will be moved to org.hibernate.query.Query on Hibernate 6.0
             @SuppressWarnings("deprecation")
@@ -352,12 +427,19 @@ private Query createQuery(int maxResults) {
         return jpaQuery;
     }
 
+    private int pageOffset() {
+        // the cursor replaces the offset of the page
+        return cursor != null ? 0 : page.index * page.size;
+    }
+
     @SuppressWarnings("unchecked")
     private Query createBaseQuery() {
         Query jpaQuery;
         if (PanacheJpaUtil.isNamedQuery(query)) {
             String namedQuery = query.substring(1);
             jpaQuery = em.createNamedQuery(namedQuery);
+        } else if (cursor != null) {
+            jpaQuery = em.createQuery(keysetQuery());
         } else {
             jpaQuery = em.createQuery(orderBy != null ? query + orderBy : query);
         }
@@ -367,6 +449,9 @@ private Query createBaseQuery() {
         } else {
             AbstractJpaOperations.bindParameters(jpaQuery, (Object[]) paramsArrayOrMap);
         }
+        if (cursor != null) {
+            bindKeysetParameters(jpaQuery);
+        }
 
         if (this.lockModeType != null) {
             jpaQuery.setLockMode(lockModeType);
@@ -380,6 +465,27 @@ private Query createBaseQuery() {
         return jpaQuery;
     }
 
+    private String keysetQuery() {
+        return PanacheJpaUtil.createKeysetQuery(query, sort, cursor.isBefore(), keysetParamCount(),
+                paramsArrayOrMap instanceof Map);
+    }
+
+    private int keysetParamCount() {
+        return paramsArrayOrMap instanceof Object[] ? ((Object[]) paramsArrayOrMap).length : 0;
+    }
+
+    private void bindKeysetParameters(Query jpaQuery) {
+        List<Object> values = cursor.getValues();
+        int paramCount = keysetParamCount();
+        for (int i = 0; i < values.size(); i++) {
+            if (paramsArrayOrMap instanceof Map) {
+                jpaQuery.setParameter(PanacheJpaUtil.KEYSET_PARAMETER_PREFIX + i, values.get(i));
+            } else {
+                jpaQuery.setParameter(paramCount + i + 1, values.get(i));
+            }
+        }
+    }
+
     private NonThrowingCloseable applyFilters() {
         if (filters == null)
             return NO_FILTERS;
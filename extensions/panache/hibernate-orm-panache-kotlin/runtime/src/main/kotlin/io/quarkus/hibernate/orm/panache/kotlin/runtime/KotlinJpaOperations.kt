@@ -1,11 +1,17 @@
 package io.quarkus.hibernate.orm.panache.kotlin.runtime
 
 import io.quarkus.hibernate.orm.panache.common.runtime.AbstractJpaOperations
+import io.quarkus.panache.common.Sort
 import javax.persistence.EntityManager
 
 class KotlinJpaOperations : AbstractJpaOperations<PanacheQueryImpl<*>>() {
-    override fun createPanacheQuery(em: EntityManager, query: String, orderBy: String?, paramsArrayOrMap: Any?) =
-        PanacheQueryImpl<Any>(em, query, orderBy, paramsArrayOrMap)
+    override fun createPanacheQuery(
+        entityClass: Class<*>,
+        em: EntityManager,
+        query: String,
+        sort: Sort?,
+        paramsArrayOrMap: Any?
+    ) = PanacheQueryImpl<Any>(entityClass, em, query, sort, paramsArrayOrMap)
 
     override fun list(query: PanacheQueryImpl<*>) = query.list()
 
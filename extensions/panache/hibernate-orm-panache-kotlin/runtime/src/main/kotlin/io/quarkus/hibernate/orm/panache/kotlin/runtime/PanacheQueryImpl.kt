@@ -4,6 +4,7 @@
 import io.quarkus.hibernate.orm.panache.kotlin.PanacheQuery
 import io.quarkus.panache.common.Page
 import io.quarkus.panache.common.Parameters
+import io.quarkus.panache.common.Sort
 import java.util.stream.Stream
 import javax.persistence.EntityManager
 import javax.persistence.LockModeType
@@ -11,8 +12,8 @@
 class PanacheQueryImpl<Entity : Any> : PanacheQuery<Entity> {
     private var delegate: CommonPanacheQueryImpl<Entity>
 
-    internal constructor(em: EntityManager?, query: String?, orderBy: String?, paramsArrayOrMap: Any?) {
-        delegate = CommonPanacheQueryImpl(em, query, orderBy, paramsArrayOrMap)
+    internal constructor(entityClass: Class<*>?, em: EntityManager?, query: String?, sort: Sort?, paramsArrayOrMap: Any?) {
+        delegate = CommonPanacheQueryImpl(entityClass, em, query, sort, paramsArrayOrMap)
     }
 
     private constructor(delegate: CommonPanacheQueryImpl<Entity>) {
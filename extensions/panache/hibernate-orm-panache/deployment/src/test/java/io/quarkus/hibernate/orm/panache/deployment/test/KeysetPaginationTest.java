@@ -0,0 +1,105 @@
+package io.quarkus.hibernate.orm.panache.deployment.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.transaction.Transactional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.panache.common.Cursor;
+import io.quarkus.panache.common.Page;
+import io.quarkus.panache.common.Parameters;
+import io.quarkus.panache.common.Sort;
+import io.quarkus.panache.common.exception.PanacheQueryException;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class KeysetPaginationTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource("application-test.properties", "application.properties")
+                    .addAsResource("import-keyset.sql", "import.sql")
+                    .addClasses(KeysetEntity.class));
+
+    private static final Sort SORT = Sort.by("name").and("id");
+
+    @Test
+    @Transactional
+    void shouldReadTheEntitiesAfterTheCursor() {
+        // a1, a4, b3, c2, d5
+        assertEquals(List.of(1L, 4L), ids(KeysetEntity.findAll(SORT).page(Page.ofSize(2)).list()));
+        assertEquals(List.of(3L, 2L), ids(KeysetEntity.findAll(SORT).page(Page.ofSize(2)).after("a", 4L).list()));
+        assertEquals(List.of(5L), ids(KeysetEntity.findAll(SORT).page(Page.ofSize(2)).after("c", 2L).list()));
+        assertEquals(List.of(), ids(KeysetEntity.findAll(SORT).page(Page.ofSize(2)).after("d", 5L).list()));
+    }
+
+    @Test
+    @Transactional
+    void shouldReadTheEntitiesBeforeTheCursorInSortOrder() {
+        assertEquals(List.of(4L, 3L), ids(KeysetEntity.findAll(SORT).page(Page.ofSize(2)).before("c", 2L).list()));
+        assertEquals(List.of(1L), ids(KeysetEntity.findAll(SORT).page(Page.ofSize(2)).before("a", 4L).list()));
+    }
+
+    @Test
+    @Transactional
+    void shouldSeekTheOtherWayOnDescendingColumns() {
+        Sort sort = Sort.descending("name").and("id");
+        // d5, c2, b3, a1, a4
+        assertEquals(List.of(3L, 1L), ids(KeysetEntity.findAll(sort).page(Page.ofSize(2)).after("c", 2L).list()));
+        assertEquals(List.of(2L, 3L), ids(KeysetEntity.findAll(sort).page(Page.ofSize(2)).before("a", 1L).list()));
+    }
+
+    @Test
+    @Transactional
+    void shouldKeepTheRestrictionOfTheQuery() {
+        assertEquals(List.of(4L, 2L),
+                ids(KeysetEntity.find("rank", SORT, 1).page(Page.ofSize(2)).after("a", 1L).list()));
+        assertEquals(List.of(4L, 2L),
+                ids(KeysetEntity.find("rank = :rank", SORT, Parameters.with("rank", 1)).page(Page.ofSize(2))
+                        .after("a", 1L).list()));
+        assertEquals(List.of(5L),
+                ids(KeysetEntity.find("rank = ?1 or name = ?2", SORT, 1, "b").page(Page.ofSize(2))
+                        .after("c", 2L).list()));
+        assertEquals(4L, KeysetEntity.find("rank", SORT, 1).page(Page.ofSize(2)).after("a", 1L).count());
+    }
+
+    @Test
+    @Transactional
+    void shouldUseTheCursorsBuiltFromEntities() {
+        List<KeysetEntity> firstPage = KeysetEntity.findAll(SORT).page(Page.ofSize(2)).list();
+        Cursor next = Cursor.decode(Cursor.afterEntity(SORT, firstPage.get(1)).encode());
+        List<KeysetEntity> secondPage = KeysetEntity.findAll(SORT).page(Page.ofSize(2)).cursor(next).list();
+        assertEquals(List.of(3L, 2L), ids(secondPage));
+        Cursor previous = Cursor.beforeEntity(SORT, secondPage.get(0));
+        assertEquals(List.of(1L, 4L), ids(KeysetEntity.findAll(SORT).page(Page.ofSize(2)).cursor(previous).list()));
+        assertEquals(List.of(3L, 2L), ids(KeysetEntity.findAll(SORT).page(Page.ofSize(2)).cursor(next)
+                .<KeysetEntity> stream().collect(Collectors.toList())));
+        assertEquals(3L, KeysetEntity.findAll(SORT).page(Page.ofSize(2)).cursor(next)
+                .<KeysetEntity> firstResult().id);
+    }
+
+    @Test
+    @Transactional
+    void shouldRejectInvalidKeysetQueries() {
+        Cursor cursor = Cursor.afterEntity(SORT, KeysetEntity.findById(1L));
+        // the cursor was built for another sort
+        assertThrows(PanacheQueryException.class,
+                () -> KeysetEntity.findAll(Sort.descending("name").and("id")).cursor(cursor));
+        assertThrows(PanacheQueryException.class, () -> KeysetEntity.findAll(Sort.by("id")).after("a", 1L));
+        assertThrows(PanacheQueryException.class, () -> KeysetEntity.findAll().after(1L));
+        assertThrows(PanacheQueryException.class,
+                () -> KeysetEntity.find("from KeysetEntity order by name", SORT).after("a", 1L).list());
+        assertThrows(UnsupportedOperationException.class,
+                () -> KeysetEntity.findAll(SORT).page(Page.ofSize(2)).after("a", 1L).nextPage());
+    }
+
+    private static List<Long> ids(List<KeysetEntity> entities) {
+        return entities.stream().map(entity -> entity.id).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,5 @@
+INSERT INTO KeysetEntity(id, name, rank) VALUES(1, 'a', 1);
+INSERT INTO KeysetEntity(id, name, rank) VALUES(2, 'c', 1);
+INSERT INTO KeysetEntity(id, name, rank) VALUES(3, 'b', 2);
+INSERT INTO KeysetEntity(id, name, rank) VALUES(4, 'a', 1);
+INSERT INTO KeysetEntity(id, name, rank) VALUES(5, 'd', 1);
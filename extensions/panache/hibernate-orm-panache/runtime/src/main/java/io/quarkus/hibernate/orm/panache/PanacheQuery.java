@@ -12,6 +12,7 @@
 import org.hibernate.Session;
 import org.hibernate.annotations.FilterDef;
 
+import io.quarkus.panache.common.Cursor;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Parameters;
 
@@ -147,6 +148,49 @@
      */
     public <T extends Entity> PanacheQuery<T> range(int startIndex, int lastIndex);
 
+    /**
+     * Switch the query to keyset pagination, starting right after the entity holding the given values of the
+     * {@link io.quarkus.panache.common.Sort} columns of the query. Instead of skipping the entities of the previous pages,
+     * the database seeks to the given position, which can use an index on the sort columns.
+     * If a page has been set, its size limits the number of results and its index is ignored.
+     * The page related methods cannot be used on a keyset paginated query.
+     *
+     * @param lastSortValues the values of the sort columns of the last entity of the current page
+     * @return this query, modified
+     * @throws io.quarkus.panache.common.exception.PanacheQueryException if the query has no sort, if the number of
+     *         values doesn't match the number of sort columns, or if the query is a named query
+     * @see Cursor#after(Object...)
+     */
+    public <T extends Entity> PanacheQuery<T> after(Object... lastSortValues);
+
+    /**
+     * Switch the query to keyset pagination, ending right before the entity holding the given values of the
+     * {@link io.quarkus.panache.common.Sort} columns of the query. The results are still returned in the order of the sort.
+     * If a page has been set, its size limits the number of results and its index is ignored.
+     * The page related methods cannot be used on a keyset paginated query.
+     *
+     * @param firstSortValues the values of the sort columns of the first entity of the current page
+     * @return this query, modified
+     * @throws io.quarkus.panache.common.exception.PanacheQueryException if the query has no sort, if the number of
+     *         values doesn't match the number of sort columns, or if the query is a named query
+     * @see Cursor#before(Object...)
+     */
+    public <T extends Entity> PanacheQuery<T> before(Object... firstSortValues);
+
+    /**
+     * Switch the query to keyset pagination using the given cursor, or back to offset pagination if the cursor is null.
+     *
+     * @param cursor the cursor, usually decoded from a token with {@link Cursor#decode(String)}, whose enum constant names
+     *        are resolved with the types of the sort columns of the entity
+     * @return this query, modified
+     * @throws io.quarkus.panache.common.exception.PanacheQueryException if the query has no sort, if the number of
+     *         cursor values doesn't match the number of sort columns, if an enum constant name is unknown, or if the query
+     *         is a named query
+     * @see #after(Object...)
+     * @see #before(Object...)
+     */
+    public <T extends Entity> PanacheQuery<T> cursor(Cursor cursor);
+
     /**
      * Define the locking strategy used for this query.
      *
@@ -36,6 +36,17 @@ public interface DataAccessImplementor {
      */
     ResultHandle findAll(BytecodeCreator creator, ResultHandle page, ResultHandle sort);
 
+    /**
+     * Find the entities of a keyset page.
+     *
+     * @param creator Bytecode creator that should be used for implementation.
+     * @param page Page instance that should be used in a query.
+     * @param sort Sort instance that should be used in a query.
+     * @param cursor Cursor instance that should be used in a query. Might be null for the first page.
+     * @return Entity list
+     */
+    ResultHandle findAll(BytecodeCreator creator, ResultHandle page, ResultHandle sort, ResultHandle cursor);
+
     /**
      * Persist a new entity.
      *
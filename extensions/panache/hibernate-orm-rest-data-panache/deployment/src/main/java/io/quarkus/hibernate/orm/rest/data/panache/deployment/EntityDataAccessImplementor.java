@@ -10,6 +10,7 @@
 import io.quarkus.gizmo.ResultHandle;
 import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
 import io.quarkus.hibernate.orm.panache.PanacheQuery;
+import io.quarkus.panache.common.Cursor;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Sort;
 
@@ -56,6 +57,21 @@ public ResultHandle findAll(BytecodeCreator creator, ResultHandle page, ResultHa
         return creator.invokeInterfaceMethod(ofMethod(PanacheQuery.class, "list", List.class), query);
     }
 
+    /**
+     * Implements <code>Entity.findAll(sort).page(page).cursor(cursor).list()</code>
+     */
+    @Override
+    public ResultHandle findAll(BytecodeCreator creator, ResultHandle page, ResultHandle sort,
+            ResultHandle cursor) {
+        ResultHandle query = creator.invokeStaticMethod(
+                ofMethod(entityClassName, "findAll", PanacheQuery.class, Sort.class), sort);
+        creator.invokeInterfaceMethod(ofMethod(PanacheQuery.class, "page", PanacheQuery.class, Page.class), query,
+                page);
+        creator.invokeInterfaceMethod(ofMethod(PanacheQuery.class, "cursor", PanacheQuery.class, Cursor.class), query,
+                cursor);
+        return creator.invokeInterfaceMethod(ofMethod(PanacheQuery.class, "list", List.class), query);
+    }
+
     /**
      * Implements <code>entity.persist()</code>
      */
@@ -67,7 +67,8 @@ AdditionalBeanBuildItem registerTransactionalExecutor() {
     void findEntityResources(CombinedIndexBuildItem index,
             BuildProducer<GeneratedBeanBuildItem> implementationsProducer,
             BuildProducer<RestDataResourceBuildItem> restDataResourceProducer) {
-        ResourceImplementor resourceImplementor = new ResourceImplementor(new EntityClassHelper(index.getIndex()));
+        EntityClassHelper entityClassHelper = new EntityClassHelper(index.getIndex());
+        ResourceImplementor resourceImplementor = new ResourceImplementor(entityClassHelper);
         ClassOutput classOutput = new GeneratedBeanGizmoAdaptor(implementationsProducer);
 
         for (ClassInfo classInfo : index.getIndex().getKnownDirectImplementors(PANACHE_ENTITY_RESOURCE_INTERFACE)) {
@@ -83,7 +84,8 @@ void findEntityResources(CombinedIndexBuildItem index,
                     classOutput, dataAccessImplementor, resourceInterface, entityType);
 
             restDataResourceProducer.produce(new RestDataResourceBuildItem(
-                    new ResourceMetadata(resourceClass, resourceInterface, entityType, idType)));
+                    new ResourceMetadata(resourceClass, resourceInterface, entityType, idType,
+                            entityClassHelper.getIdField(entityType).name())));
         }
     }
 
@@ -95,7 +97,8 @@ void findRepositoryResources(CombinedIndexBuildItem index,
             BuildProducer<GeneratedBeanBuildItem> implementationsProducer,
             BuildProducer<RestDataResourceBuildItem> restDataResourceProducer,
             BuildProducer<UnremovableBeanBuildItem> unremovableBeansProducer) {
-        ResourceImplementor resourceImplementor = new ResourceImplementor(new EntityClassHelper(index.getIndex()));
+        EntityClassHelper entityClassHelper = new EntityClassHelper(index.getIndex());
+        ResourceImplementor resourceImplementor = new ResourceImplementor(entityClassHelper);
         ClassOutput classOutput = new GeneratedBeanGizmoAdaptor(implementationsProducer);
 
         for (ClassInfo classInfo : index.getIndex().getKnownDirectImplementors(PANACHE_REPOSITORY_RESOURCE_INTERFACE)) {
@@ -115,7 +118,8 @@ void findRepositoryResources(CombinedIndexBuildItem index,
                     new UnremovableBeanBuildItem.BeanClassNameExclusion(repositoryClassName)));
 
             restDataResourceProducer.produce(new RestDataResourceBuildItem(
-                    new ResourceMetadata(resourceClass, resourceInterface, entityType, idType)));
+                    new ResourceMetadata(resourceClass, resourceInterface, entityType, idType,
+                            entityClassHelper.getIdField(entityType).name())));
         }
     }
 
@@ -17,6 +17,7 @@
 import io.quarkus.gizmo.MethodCreator;
 import io.quarkus.gizmo.MethodDescriptor;
 import io.quarkus.gizmo.ResultHandle;
+import io.quarkus.panache.common.Cursor;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Sort;
 import io.quarkus.rest.data.panache.deployment.Constants;
@@ -53,6 +54,7 @@ String implement(ClassOutput classOutput, DataAccessImplementor dataAccessImplem
 
         classCreator.addAnnotation(ApplicationScoped.class);
         implementList(classCreator, dataAccessImplementor);
+        implementCursorList(classCreator, dataAccessImplementor);
         implementListPageCount(classCreator, dataAccessImplementor);
         implementCount(classCreator, dataAccessImplementor);
         implementGet(classCreator, dataAccessImplementor);
@@ -79,6 +81,20 @@ private void implementList(ClassCreator classCreator, DataAccessImplementor data
         methodCreator.close();
     }
 
+    /**
+     * Generate keyset paginated list method.
+     * This method is used by the list operation of the resources using cursor pagination and is not exposed to a user.
+     */
+    private void implementCursorList(ClassCreator classCreator, DataAccessImplementor dataAccessImplementor) {
+        MethodCreator methodCreator = classCreator.getMethodCreator(Constants.CURSOR_METHOD_PREFIX + "list", List.class,
+                Page.class, Sort.class, Cursor.class);
+        ResultHandle page = methodCreator.getMethodParam(0);
+        ResultHandle sort = methodCreator.getMethodParam(1);
+        ResultHandle cursor = methodCreator.getMethodParam(2);
+        methodCreator.returnValue(dataAccessImplementor.findAll(methodCreator, page, sort, cursor));
+        methodCreator.close();
+    }
+
     /**
      * Generate list page count method.
      * This method is used when building page URLs for list operation response and is not exposed to a user.
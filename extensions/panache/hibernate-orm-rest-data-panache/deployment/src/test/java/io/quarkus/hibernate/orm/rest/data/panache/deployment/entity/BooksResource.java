@@ -0,0 +1,8 @@
+package io.quarkus.hibernate.orm.rest.data.panache.deployment.entity;
+
+import io.quarkus.hibernate.orm.rest.data.panache.PanacheEntityResource;
+import io.quarkus.rest.data.panache.ResourceProperties;
+
+@ResourceProperties(cursorPaged = true)
+public interface BooksResource extends PanacheEntityResource<Book, Long> {
+}
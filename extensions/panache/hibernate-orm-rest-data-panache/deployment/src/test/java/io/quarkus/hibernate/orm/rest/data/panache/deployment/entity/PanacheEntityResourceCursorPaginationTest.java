@@ -0,0 +1,16 @@
+package io.quarkus.hibernate.orm.rest.data.panache.deployment.entity;
+
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.hibernate.orm.rest.data.panache.deployment.AbstractCursorPaginationTest;
+import io.quarkus.test.QuarkusUnitTest;
+
+class PanacheEntityResourceCursorPaginationTest extends AbstractCursorPaginationTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(AbstractEntity.class, Book.class, Book.Status.class, BooksResource.class)
+                    .addAsResource("application.properties")
+                    .addAsResource("import-books.sql", "import.sql"));
+}
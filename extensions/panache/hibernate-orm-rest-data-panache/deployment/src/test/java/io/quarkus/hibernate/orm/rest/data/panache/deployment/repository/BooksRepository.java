@@ -0,0 +1,9 @@
+package io.quarkus.hibernate.orm.rest.data.panache.deployment.repository;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import io.quarkus.hibernate.orm.panache.PanacheRepository;
+
+@ApplicationScoped
+public class BooksRepository implements PanacheRepository<Book> {
+}
@@ -0,0 +1,5 @@
+insert into book(id, title, status) values (1, 'apple', 0);
+insert into book(id, title, status) values (2, 'banana', 1);
+insert into book(id, title, status) values (3, 'cherry', 0);
+insert into book(id, title, status) values (4, 'apple', 1);
+insert into book(id, title, status) values (5, 'date', 0);
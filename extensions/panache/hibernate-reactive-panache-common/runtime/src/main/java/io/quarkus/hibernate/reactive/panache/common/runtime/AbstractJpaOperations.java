@@ -57,8 +57,8 @@ private static Session lookupSessionFromArc() {
         return Arc.container().instance(Session.class).get();
     }
 
-    protected abstract PanacheQueryType createPanacheQuery(Uni<Mutiny.Session> session, String query, String orderBy,
-            Object paramsArrayOrMap);
+    protected abstract PanacheQueryType createPanacheQuery(Class<?> entityClass, Uni<Mutiny.Session> session, String query,
+            Sort sort, Object paramsArrayOrMap);
 
     protected abstract Uni<List<?>> list(PanacheQueryType query);
 
@@ -200,9 +200,9 @@ public PanacheQueryType find(Class<?> entityClass, String query, Sort sort, Obje
                                 + "\" instead");
             }
             NamedQueryUtil.checkNamedQuery(entityClass, namedQuery);
-            return createPanacheQuery(session, query, PanacheJpaUtil.toOrderBy(sort), params);
+            return createPanacheQuery(entityClass, session, query, sort, params);
         }
-        return createPanacheQuery(session, findQuery, PanacheJpaUtil.toOrderBy(sort), params);
+        return createPanacheQuery(entityClass, session, findQuery, sort, params);
     }
 
     public PanacheQueryType find(Class<?> entityClass, String query, Map<String, Object> params) {
@@ -220,9 +220,9 @@ public PanacheQueryType find(Class<?> entityClass, String query, Sort sort, Map<
                                 + "\" instead");
             }
             NamedQueryUtil.checkNamedQuery(entityClass, namedQuery);
-            return createPanacheQuery(session, query, PanacheJpaUtil.toOrderBy(sort), params);
+            return createPanacheQuery(entityClass, session, query, sort, params);
         }
-        return createPanacheQuery(session, findQuery, PanacheJpaUtil.toOrderBy(sort), params);
+        return createPanacheQuery(entityClass, session, findQuery, sort, params);
     }
 
     public PanacheQueryType find(Class<?> entityClass, String query, Parameters params) {
@@ -284,13 +284,13 @@ public Multi<?> stream(Class<?> entityClass, String query, Sort sort, Parameters
     public PanacheQueryType findAll(Class<?> entityClass) {
         String query = "FROM " + PanacheJpaUtil.getEntityName(entityClass);
         Uni<Mutiny.Session> session = getSession();
-        return createPanacheQuery(session, query, null, null);
+        return createPanacheQuery(entityClass, session, query, null, null);
     }
 
     public PanacheQueryType findAll(Class<?> entityClass, Sort sort) {
         String query = "FROM " + PanacheJpaUtil.getEntityName(entityClass);
         Uni<Mutiny.Session> session = getSession();
-        return createPanacheQuery(session, query, PanacheJpaUtil.toOrderBy(sort), null);
+        return createPanacheQuery(entityClass, session, query, sort, null);
     }
 
     public Uni<List<?>> listAll(Class<?> entityClass) {
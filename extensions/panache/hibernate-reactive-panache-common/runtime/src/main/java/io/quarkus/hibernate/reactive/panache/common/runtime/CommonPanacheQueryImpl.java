@@ -2,6 +2,8 @@
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -16,8 +18,10 @@
 import org.hibernate.reactive.mutiny.Mutiny;
 
 import io.quarkus.hibernate.reactive.panache.common.ProjectedFieldName;
+import io.quarkus.panache.common.Cursor;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Range;
+import io.quarkus.panache.common.Sort;
 import io.quarkus.panache.common.exception.PanacheQueryException;
 import io.quarkus.panache.hibernate.common.runtime.PanacheJpaUtil;
 import io.smallrye.mutiny.Multi;
@@ -28,35 +32,49 @@
     private Object paramsArrayOrMap;
     private String query;
     protected String countQuery;
+    private Sort sort;
     private String orderBy;
     private Uni<Mutiny.Session> em;
+    private Class<?> entityClass;
 
     private Page page;
     private Uni<Long> count;
 
     private Range range;
 
+    private Cursor cursor;
+
     private LockModeType lockModeType;
     private Map<String, Object> hints;
 
     private Map<String, Map<String, Object>> filters;
 
-    public CommonPanacheQueryImpl(Uni<Mutiny.Session> em, String query, String orderBy, Object paramsArrayOrMap) {
+    public CommonPanacheQueryImpl(Uni<Mutiny.Session> em, String query, Sort sort, Object paramsArrayOrMap) {
+        this(null, em, query, sort, paramsArrayOrMap);
+    }
+
+    public CommonPanacheQueryImpl(Class<?> entityClass, Uni<Mutiny.Session> em, String query, Sort sort,
+            Object paramsArrayOrMap) {
+        this.entityClass = entityClass;
         this.em = em;
         this.query = query;
-        this.orderBy = orderBy;
+        this.sort = sort;
+        this.orderBy = PanacheJpaUtil.toOrderBy(sort);
         this.paramsArrayOrMap = paramsArrayOrMap;
     }
 
     private CommonPanacheQueryImpl(CommonPanacheQueryImpl<?> previousQuery, String newQueryString, String countQuery) {
         this.em = previousQuery.em;
+        this.entityClass = previousQuery.entityClass;
         this.query = newQueryString;
         this.countQuery = countQuery;
+        this.sort = previousQuery.sort;
         this.orderBy = previousQuery.orderBy;
         this.paramsArrayOrMap = previousQuery.paramsArrayOrMap;
         this.page = previousQuery.page;
         this.count = previousQuery.count;
         this.range = previousQuery.range;
+        this.cursor = previousQuery.cursor;
         this.lockModeType = previousQuery.lockModeType;
         this.hints = previousQuery.hints;
         this.filters = previousQuery.filters;
@@ -204,12 +222,56 @@ private void checkPagination() {
             throw new UnsupportedOperationException("Cannot call a page related method in a ranged query, " +
                     "call page(Page) or page(int, int) to initiate pagination first");
         }
+        if (cursor != null) {
+            throw new UnsupportedOperationException("Cannot call a page related method in a keyset paginated query, " +
+                    "use the sort values of the first or last entity of the page to build a new cursor instead");
+        }
     }
 
     public void range(int startIndex, int lastIndex) {
         this.range = Range.of(startIndex, lastIndex);
-        // reset the page to its default to be able to switch from page to range
+        // reset the page and the cursor to be able to switch from page to range
         this.page = null;
+        this.cursor = null;
+    }
+
+    public void cursor(Cursor cursor) {
+        if (cursor != null) {
+            checkKeyset(cursor);
+            cursor = resolveEnumValues(cursor);
+            // reset the range to be able to switch from range to keyset pagination
+            this.range = null;
+        }
+        this.cursor = cursor;
+    }
+
+    // a decoded cursor only holds the names of the enum constants, their types come from the entity
+    private Cursor resolveEnumValues(Cursor cursor) {
+        if (entityClass == null) {
+            return cursor;
+        }
+        try {
+            return cursor.resolveEnumValues(entityClass, sort);
+        } catch (IllegalArgumentException e) {
+            throw new PanacheQueryException("The cursor does not match the sort columns of " + entityClass.getName() + ": "
+                    + e.getMessage());
+        }
+    }
+
+    private void checkKeyset(Cursor cursor) {
+        if (PanacheJpaUtil.isNamedQuery(query)) {
+            throw new PanacheQueryException("Unable to perform keyset pagination on a named query");
+        }
+        if (sort == null || sort.getColumns().isEmpty()) {
+            throw new PanacheQueryException("Keyset pagination requires a sort, use a find method accepting a Sort");
+        }
+        if (cursor.getValues().size() != sort.getColumns().size()) {
+            throw new PanacheQueryException("The cursor has " + cursor.getValues().size() + " values but the sort has "
+                    + sort.getColumns().size() + " columns");
+        }
+        if (!cursor.isFor(sort)) {
+            throw new PanacheQueryException("The cursor was built for another sort than the sort of the query");
+        }
     }
 
     public void withLock(LockModeType lockModeType) {
@@ -250,15 +312,24 @@ private String countQuery() {
         if (countQuery != null) {
             return countQuery;
         }
-        return PanacheJpaUtil.getCountQuery(query);
+        return PanacheJpaUtil.getCountQuery(entityClass, query);
     }
 
     @SuppressWarnings({ "unchecked", "rawtypes" })
     public <T extends Entity> Uni<List<T>> list() {
-        return em.flatMap(session -> {
+        Uni<List<T>> results = em.flatMap(session -> {
             Mutiny.Query<?> jpaQuery = createQuery(session);
             return (Uni) applyFilters(session, () -> jpaQuery.getResultList());
         });
+        if (cursor != null && cursor.isBefore()) {
+            // the entities before the cursor are read in reverse order
+            return results.map(list -> {
+                List<T> reversed = new ArrayList<>(list);
+                Collections.reverse(reversed);
+                return reversed;
+            });
+        }
+        return results;
     }
 
     public <T extends Entity> Multi<T> stream() {
@@ -273,6 +344,9 @@ public <T extends Entity> Multi<T> stream() {
 
     @SuppressWarnings("unchecked")
     public <T extends Entity> Uni<T> firstResult() {
+        if (cursor != null && cursor.isBefore()) {
+            return this.<T> list().map(list -> list.isEmpty() ? null : list.get(0));
+        }
         return em.flatMap(session -> {
             Mutiny.Query<?> jpaQuery = createQuery(session, 1);
             return applyFilters(session, () -> jpaQuery.getResultList().map(list -> list.isEmpty() ? null : (T) list.get(0)));
@@ -297,7 +371,7 @@ private Mutiny.Query<?> createQuery(Mutiny.Session em) {
             // range is 0 based, so we add 1
             jpaQuery.setMaxResults(range.getLastIndex() - range.getStartIndex() + 1);
         } else if (page != null) {
-            jpaQuery.setFirstResult(page.index * page.size);
+            jpaQuery.setFirstResult(pageOffset());
             jpaQuery.setMaxResults(page.size);
         } else {
             // Use deprecated API in org.hibernate.Query that will be moved to org.hibernate.query.Query on Hibernate 6.0
@@ -321,7 +395,7 @@ private Mutiny.Query<?> createQuery(Mutiny.Session em, int maxResults) {
         if (range != null) {
             jpaQuery.setFirstResult(range.getStartIndex());
         } else if (page != null) {
-            jpaQuery.setFirstResult(page.index * page.size);
+            jpaQuery.setFirstResult(pageOffset());
         } else {
             // Use deprecated API in org.hibernate.Query that will be moved to org.hibernate.query.Query on Hibernate 6.0
             // FIXME: requires Hibernate support
@@ -335,12 +409,19 @@ private Mutiny.Query<?> createQuery(Mutiny.Session em, int maxResults) {
         return jpaQuery;
     }
 
+    private int pageOffset() {
+        // the cursor replaces the offset of the page
+        return cursor != null ? 0 : page.index * page.size;
+    }
+
     @SuppressWarnings("unchecked")
     private Mutiny.Query<?> createBaseQuery(Mutiny.Session em) {
         Mutiny.Query<?> jpaQuery;
         if (PanacheJpaUtil.isNamedQuery(query)) {
             String namedQuery = query.substring(1);
             jpaQuery = em.createNamedQuery(namedQuery);
+        } else if (cursor != null) {
+            jpaQuery = em.createQuery(keysetQuery());
         } else {
             jpaQuery = em.createQuery(orderBy != null ? query + orderBy : query);
         }
@@ -350,6 +431,9 @@ private Mutiny.Query<?> createBaseQuery(Mutiny.Session em) {
         } else {
             AbstractJpaOperations.bindParameters(jpaQuery, (Object[]) paramsArrayOrMap);
         }
+        if (cursor != null) {
+            bindKeysetParameters(jpaQuery);
+        }
 
         if (this.lockModeType != null) {
             jpaQuery.setLockMode(LockModeConverter.convertToLockMode(lockModeType));
@@ -364,6 +448,27 @@ private Mutiny.Query<?> createBaseQuery(Mutiny.Session em) {
         return jpaQuery;
     }
 
+    private String keysetQuery() {
+        return PanacheJpaUtil.createKeysetQuery(query, sort, cursor.isBefore(), keysetParamCount(),
+                paramsArrayOrMap instanceof Map);
+    }
+
+    private int keysetParamCount() {
+        return paramsArrayOrMap instanceof Object[] ? ((Object[]) paramsArrayOrMap).length : 0;
+    }
+
+    private void bindKeysetParameters(Mutiny.Query<?> jpaQuery) {
+        List<Object> values = cursor.getValues();
+        int paramCount = keysetParamCount();
+        for (int i = 0; i < values.size(); i++) {
+            if (paramsArrayOrMap instanceof Map) {
+                jpaQuery.setParameter(PanacheJpaUtil.KEYSET_PARAMETER_PREFIX + i, values.get(i));
+            } else {
+                jpaQuery.setParameter(paramCount + i + 1, values.get(i));
+            }
+        }
+    }
+
     private <T> Uni<T> applyFilters(Mutiny.Session em, Supplier<Uni<T>> uni) {
         if (filters == null)
             return uni.get();
@@ -0,0 +1,11 @@
+package io.quarkus.hibernate.reactive.panache.test;
+
+import javax.persistence.Entity;
+
+import io.quarkus.hibernate.reactive.panache.PanacheEntity;
+
+@Entity
+public class KeysetEntity extends PanacheEntity {
+    public String name;
+    public int rank;
+}
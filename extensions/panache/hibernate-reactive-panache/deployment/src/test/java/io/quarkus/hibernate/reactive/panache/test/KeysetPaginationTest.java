@@ -0,0 +1,59 @@
+package io.quarkus.hibernate.reactive.panache.test;
+
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class KeysetPaginationTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(KeysetEntity.class, KeysetTestResource.class)
+                    .addAsResource("application.properties")
+                    .addAsResource("import-keyset.sql", "import.sql"));
+
+    // sorted by name and id: a1, a4, b3, c2, d5
+
+    @Test
+    public void shouldReadTheEntitiesAfterTheCursor() {
+        assertBodyIs("/keyset/after?name=a&id=4", "[3,2]");
+        assertBodyIs("/keyset/after?name=c&id=2", "[5]");
+        assertBodyIs("/keyset/after?name=d&id=5", "[]");
+    }
+
+    @Test
+    public void shouldReadTheEntitiesBeforeTheCursorInSortOrder() {
+        assertBodyIs("/keyset/before?name=c&id=2", "[4,3]");
+        assertBodyIs("/keyset/before?name=a&id=4", "[1]");
+    }
+
+    @Test
+    public void shouldSeekTheOtherWayOnDescendingColumns() {
+        // d5, c2, b3, a1, a4
+        assertBodyIs("/keyset/descending-after?name=c&id=2", "[3,1]");
+    }
+
+    @Test
+    public void shouldKeepTheRestrictionOfTheQuery() {
+        // rank 1: a1, a4, c2, d5
+        assertBodyIs("/keyset/positional-after?name=a&id=1", "[4,2]");
+        assertBodyIs("/keyset/named-after?name=a&id=1", "[4,2]");
+        // the count ignores the cursor
+        assertBodyIs("/keyset/count-after?name=a&id=1", "4");
+    }
+
+    @Test
+    public void shouldUseTheCursorsBuiltFromEntities() {
+        assertBodyIs("/keyset/next?id=4", "[3,2]");
+        assertBodyIs("/keyset/next-with-other-sort?id=4", "PanacheQueryException");
+    }
+
+    private void assertBodyIs(String path, String expectedBody) {
+        RestAssured.when().get(path).then().statusCode(200).body(is(expectedBody));
+    }
+}
@@ -0,0 +1,96 @@
+package io.quarkus.hibernate.reactive.panache.test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.MediaType;
+
+import io.quarkus.hibernate.reactive.panache.PanacheQuery;
+import io.quarkus.panache.common.Cursor;
+import io.quarkus.panache.common.Page;
+import io.quarkus.panache.common.Parameters;
+import io.quarkus.panache.common.Sort;
+import io.smallrye.mutiny.Uni;
+
+@Path("keyset")
+public class KeysetTestResource {
+
+    private static final Sort SORT = Sort.by("name").and("id");
+
+    @GET
+    @Path("after")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Uni<List<Long>> after(@QueryParam("name") String name, @QueryParam("id") long id) {
+        return ids(KeysetEntity.findAll(SORT).page(Page.ofSize(2)).after(name, id));
+    }
+
+    @GET
+    @Path("before")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Uni<List<Long>> before(@QueryParam("name") String name, @QueryParam("id") long id) {
+        return ids(KeysetEntity.findAll(SORT).page(Page.ofSize(2)).before(name, id));
+    }
+
+    @GET
+    @Path("descending-after")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Uni<List<Long>> descendingAfter(@QueryParam("name") String name, @QueryParam("id") long id) {
+        return ids(KeysetEntity.findAll(Sort.descending("name").and("id")).page(Page.ofSize(2)).after(name, id));
+    }
+
+    @GET
+    @Path("positional-after")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Uni<List<Long>> positionalAfter(@QueryParam("name") String name, @QueryParam("id") long id) {
+        return ids(KeysetEntity.find("rank", SORT, 1).page(Page.ofSize(2)).after(name, id));
+    }
+
+    @GET
+    @Path("named-after")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Uni<List<Long>> namedAfter(@QueryParam("name") String name, @QueryParam("id") long id) {
+        return ids(KeysetEntity.find("rank = :rank", SORT, Parameters.with("rank", 1)).page(Page.ofSize(2))
+                .after(name, id));
+    }
+
+    @GET
+    @Path("count-after")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Uni<Long> countAfter(@QueryParam("name") String name, @QueryParam("id") long id) {
+        return KeysetEntity.find("rank", SORT, 1).page(Page.ofSize(2)).after(name, id).count();
+    }
+
+    @GET
+    @Path("next")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Uni<List<Long>> next(@QueryParam("id") long id) {
+        // the cursor is built from the entity and goes through its token
+        return KeysetEntity.<KeysetEntity> findById(id)
+                .map(entity -> Cursor.decode(Cursor.afterEntity(SORT, entity).encode()))
+                .flatMap(cursor -> ids(KeysetEntity.findAll(SORT).page(Page.ofSize(2)).cursor(cursor)));
+    }
+
+    @GET
+    @Path("next-with-other-sort")
+    @Produces(MediaType.TEXT_PLAIN)
+    public Uni<String> nextWithOtherSort(@QueryParam("id") long id) {
+        return KeysetEntity.<KeysetEntity> findById(id)
+                .map(entity -> {
+                    Cursor cursor = Cursor.afterEntity(SORT, entity);
+                    try {
+                        KeysetEntity.findAll(Sort.descending("name").and("id")).cursor(cursor);
+                        return "accepted";
+                    } catch (RuntimeException e) {
+                        return e.getClass().getSimpleName();
+                    }
+                });
+    }
+
+    private static Uni<List<Long>> ids(PanacheQuery<KeysetEntity> query) {
+        return query.list().map(entities -> entities.stream().map(entity -> entity.id).collect(Collectors.toList()));
+    }
+}
@@ -5,6 +5,7 @@
 import org.hibernate.reactive.mutiny.Mutiny;
 
 import io.quarkus.hibernate.reactive.panache.common.runtime.AbstractJpaOperations;
+import io.quarkus.panache.common.Sort;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 
@@ -12,9 +13,9 @@ public class JpaOperations extends AbstractJpaOperations<PanacheQueryImpl<?>> {
     public static final JpaOperations INSTANCE = new JpaOperations();
 
     @Override
-    protected PanacheQueryImpl<?> createPanacheQuery(Uni<Mutiny.Session> session, String query, String orderBy,
-            Object paramsArrayOrMap) {
-        return new PanacheQueryImpl<>(session, query, orderBy, paramsArrayOrMap);
+    protected PanacheQueryImpl<?> createPanacheQuery(Class<?> entityClass, Uni<Mutiny.Session> session, String query,
+            Sort sort, Object paramsArrayOrMap) {
+        return new PanacheQueryImpl<>(entityClass, session, query, sort, paramsArrayOrMap);
     }
 
     @SuppressWarnings({ "rawtypes", "unchecked" })
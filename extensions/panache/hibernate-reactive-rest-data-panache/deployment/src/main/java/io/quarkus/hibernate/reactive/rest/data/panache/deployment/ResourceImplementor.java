@@ -17,6 +17,7 @@
 import io.quarkus.gizmo.MethodDescriptor;
 import io.quarkus.gizmo.ResultHandle;
 import io.quarkus.hibernate.reactive.panache.common.runtime.ReactiveTransactional;
+import io.quarkus.panache.common.Cursor;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Sort;
 import io.quarkus.rest.data.panache.deployment.Constants;
@@ -54,6 +55,7 @@ String implement(ClassOutput classOutput, DataAccessImplementor dataAccessImplem
 
         classCreator.addAnnotation(ApplicationScoped.class);
         implementList(classCreator, dataAccessImplementor);
+        implementCursorList(classCreator, dataAccessImplementor);
         implementCount(classCreator, dataAccessImplementor);
         implementListPageCount(classCreator, dataAccessImplementor);
         implementGet(classCreator, dataAccessImplementor);
@@ -89,6 +91,20 @@ private void implementCount(ClassCreator classCreator, DataAccessImplementor dat
         methodCreator.close();
     }
 
+    /**
+     * Generate keyset paginated list method.
+     * This method is used by the list operation of the resources using cursor pagination and is not exposed to a user.
+     */
+    private void implementCursorList(ClassCreator classCreator, DataAccessImplementor dataAccessImplementor) {
+        MethodCreator methodCreator = classCreator.getMethodCreator(Constants.CURSOR_METHOD_PREFIX + "list", Uni.class,
+                Page.class, Sort.class, Cursor.class);
+        ResultHandle page = methodCreator.getMethodParam(0);
+        ResultHandle sort = methodCreator.getMethodParam(1);
+        ResultHandle cursor = methodCreator.getMethodParam(2);
+        methodCreator.returnValue(dataAccessImplementor.findAll(methodCreator, page, sort, cursor));
+        methodCreator.close();
+    }
+
     /**
      * Generate list page count method.
      * This method is used when building page URLs for list operation response and is not exposed to a user.
@@ -0,0 +1,157 @@
+package io.quarkus.hibernate.reactive.rest.data.panache.deployment;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+
+import java.util.LinkedList;
+import java.util.List;
+
+import javax.ws.rs.core.Link;
+
+import org.junit.jupiter.api.Test;
+
+import io.restassured.http.Header;
+import io.restassured.response.Response;
+
+public abstract class AbstractCursorPaginationTest {
+
+    @Test
+    void shouldGetFirstPage() {
+        Response response = given().accept("application/json")
+                .and().queryParam("size", 2)
+                .when().get("/books")
+                .thenReturn();
+        assertThat(response.getStatusCode()).isEqualTo(200);
+        assertThat(response.body().jsonPath().getList("id")).containsExactly(1, 2);
+
+        List<Link> links = getLinks(response);
+        // no count query is executed, so there is no last page link
+        assertThat(links).hasSize(2);
+        assertThat(getLink(links, "first")).contains("/books?", "size=2", "sort=id").doesNotContain("cursor=");
+        assertThat(getLink(links, "next")).contains("sort=id", "cursor=");
+    }
+
+    @Test
+    void shouldFollowNextAndPreviousLinks() {
+        Response secondPage = follow(getLink(getLinks(given().accept("application/json")
+                .and().queryParam("size", 2)
+                .when().get("/books")
+                .thenReturn()), "next"));
+        assertThat(secondPage.getStatusCode()).isEqualTo(200);
+        assertThat(secondPage.body().jsonPath().getList("id")).containsExactly(3, 4);
+
+        Response lastPage = follow(getLink(getLinks(secondPage), "next"));
+        assertThat(lastPage.getStatusCode()).isEqualTo(200);
+        assertThat(lastPage.body().jsonPath().getList("id")).containsExactly(5);
+        // the last page is not full, so it has no next page link
+        List<Link> lastPageLinks = getLinks(lastPage);
+        assertThat(lastPageLinks).noneSatisfy(link -> assertThat(link.getRel()).isEqualTo("next"));
+
+        Response previousPage = follow(getLink(lastPageLinks, "previous"));
+        assertThat(previousPage.getStatusCode()).isEqualTo(200);
+        assertThat(previousPage.body().jsonPath().getList("id")).containsExactly(3, 4);
+    }
+
+    @Test
+    void shouldPageThroughSortedEntities() {
+        // the entity ID is added to the sort as a tie-breaker
+        Response firstPage = given().accept("application/json")
+                .and().queryParam("size", 2)
+                .when().get("/books?sort=title")
+                .thenReturn();
+        assertThat(firstPage.getStatusCode()).isEqualTo(200);
+        assertThat(firstPage.body().jsonPath().getList("id")).containsExactly(1, 4);
+        assertThat(getLink(getLinks(firstPage), "next")).contains("sort=title");
+
+        Response secondPage = follow(getLink(getLinks(firstPage), "next"));
+        assertThat(secondPage.getStatusCode()).isEqualTo(200);
+        assertThat(secondPage.body().jsonPath().getList("id")).containsExactly(2, 3);
+    }
+
+    @Test
+    void shouldPageThroughDescendingEntities() {
+        Response firstPage = given().accept("application/json")
+                .and().queryParam("size", 2)
+                .when().get("/books?sort=-title")
+                .thenReturn();
+        assertThat(firstPage.getStatusCode()).isEqualTo(200);
+        assertThat(firstPage.body().jsonPath().getList("id")).containsExactly(5, 3);
+
+        Response secondPage = follow(getLink(getLinks(firstPage), "next"));
+        assertThat(secondPage.getStatusCode()).isEqualTo(200);
+        assertThat(secondPage.body().jsonPath().getList("id")).containsExactly(2, 1);
+    }
+
+    @Test
+    void shouldPageThroughEntitiesSortedByEnum() {
+        Response firstPage = given().accept("application/json")
+                .and().queryParam("size", 3)
+                .when().get("/books?sort=status")
+                .thenReturn();
+        assertThat(firstPage.getStatusCode()).isEqualTo(200);
+        assertThat(firstPage.body().jsonPath().getList("id")).containsExactly(1, 3, 5);
+
+        Response secondPage = follow(getLink(getLinks(firstPage), "next"));
+        assertThat(secondPage.getStatusCode()).isEqualTo(200);
+        assertThat(secondPage.body().jsonPath().getList("id")).containsExactly(2, 4);
+        assertThat(secondPage.body().jsonPath().getList("status")).containsExactly("ARCHIVED", "ARCHIVED");
+    }
+
+    @Test
+    void shouldNotListWithInvalidCursor() {
+        given().accept("application/json")
+                .when().get("/books?cursor=invalid")
+                .then().statusCode(400)
+                .and().body(is(equalTo("Invalid cursor parameter 'invalid'")));
+    }
+
+    @Test
+    void shouldNotListWithCursorOfAnotherSort() {
+        String next = getLink(getLinks(given().accept("application/json")
+                .and().queryParam("size", 2)
+                .when().get("/books?sort=title")
+                .thenReturn()), "next");
+        String cursor = next.substring(next.indexOf("cursor=") + "cursor=".length()).split("&")[0];
+
+        given().accept("application/json")
+                .when().get("/books?sort=-title,id&cursor=" + cursor)
+                .then().statusCode(400)
+                .and().body(startsWith("Cursor parameter '" + cursor + "' does not match the sort parameter"));
+        // the ID is part of the sort of the cursor
+        given().accept("application/json")
+                .when().get("/books?sort=title&cursor=" + cursor)
+                .then().statusCode(400);
+        given().accept("application/json")
+                .when().get("/books?sort=title,id&cursor=" + cursor)
+                .then().statusCode(200)
+                .and().body("id", contains(2, 3));
+    }
+
+    private static Response follow(String uri) {
+        // the link is already encoded
+        return given().urlEncodingEnabled(false).accept("application/json")
+                .when().get(uri)
+                .thenReturn();
+    }
+
+    private static List<Link> getLinks(Response response) {
+        List<Link> links = new LinkedList<>();
+        for (Header header : response.getHeaders().getList("Link")) {
+            links.add(Link.valueOf(header.getValue()));
+        }
+        return links;
+    }
+
+    private static String getLink(List<Link> links, String rel) {
+        for (Link link : links) {
+            if (link.getRel().equals(rel)) {
+                return link.getUri().toString();
+            }
+        }
+        throw new AssertionError("No " + rel + " link in " + links);
+    }
+}
@@ -0,0 +1,19 @@
+package io.quarkus.hibernate.reactive.rest.data.panache.deployment.repository;
+
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+
+@Entity
+public class Book extends AbstractEntity<Long> {
+
+    public String title;
+
+    @Enumerated(EnumType.ORDINAL)
+    public Status status;
+
+    public enum Status {
+        ACTIVE,
+        ARCHIVED
+    }
+}
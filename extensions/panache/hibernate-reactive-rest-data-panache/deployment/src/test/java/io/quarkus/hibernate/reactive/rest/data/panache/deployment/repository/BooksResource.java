@@ -0,0 +1,8 @@
+package io.quarkus.hibernate.reactive.rest.data.panache.deployment.repository;
+
+import io.quarkus.hibernate.reactive.rest.data.panache.PanacheRepositoryResource;
+import io.quarkus.rest.data.panache.ResourceProperties;
+
+@ResourceProperties(cursorPaged = true)
+public interface BooksResource extends PanacheRepositoryResource<BooksRepository, Book, Long> {
+}
@@ -0,0 +1,17 @@
+package io.quarkus.hibernate.reactive.rest.data.panache.deployment.repository;
+
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.hibernate.reactive.rest.data.panache.deployment.AbstractCursorPaginationTest;
+import io.quarkus.test.QuarkusUnitTest;
+
+class PanacheRepositoryResourceCursorPaginationTest extends AbstractCursorPaginationTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(AbstractEntity.class, Book.class, Book.Status.class, BooksRepository.class,
+                            BooksResource.class)
+                    .addAsResource("application.properties")
+                    .addAsResource("import-books.sql", "import.sql"));
+}
@@ -0,0 +1,509 @@
+package io.quarkus.panache.common;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.zip.CRC32;
+
+/**
+ * <p>
+ * Utility class to represent keyset (seek) paging information. A cursor holds the values of the {@link Sort} columns
+ * of the entity the next (or previous) page starts from, so that the database can seek to that position using an index
+ * instead of skipping all the rows of the previous pages. Cursor instances are immutable.
+ * </p>
+ *
+ * <p>
+ * The sort used with a cursor must define a total order, which is usually done by adding the entity identifier as the
+ * last sort column, and the sort columns must not contain null values.
+ * </p>
+ *
+ * <p>
+ * Usage:
+ * </p>
+ *
+ * <code><pre>
+ * Sort sort = Sort.by("name").and("id");
+ * List&lt;Person&gt; page = Person.findAll(sort).page(Page.ofSize(25)).list();
+ * Cursor next = Cursor.afterEntity(sort, page.get(page.size() - 1));
+ * List&lt;Person&gt; nextPage = Person.findAll(sort).page(Page.ofSize(25)).cursor(next).list();
+ * </pre></code>
+ *
+ * <p>
+ * A cursor can be turned into an opaque token with {@link #encode()}, to be handed to REST clients, and back with
+ * {@link #decode(String)}. The cursors built from an entity also hold a fingerprint of their sort, so that a token
+ * built for a sort is rejected when used with another one. A token never holds the type of an enum value, only the name
+ * of its constant: see {@link #resolveEnumValues(Class, Sort)}.
+ * </p>
+ */
+public class Cursor {
+
+    private static final byte VERSION = 2;
+
+    private final boolean before;
+
+    private final Object[] values;
+
+    // null for the cursors built from raw values
+    private final Integer sortFingerprint;
+
+    private Cursor(boolean before, Object[] values, Integer sortFingerprint) {
+        if (values == null || values.length == 0) {
+            throw new IllegalArgumentException("A cursor requires at least one sort value");
+        }
+        for (Object value : values) {
+            if (value == null) {
+                throw new IllegalArgumentException("Cursor values cannot be null: " + Arrays.toString(values));
+            }
+        }
+        this.before = before;
+        this.values = values.clone();
+        this.sortFingerprint = sortFingerprint;
+    }
+
+    /**
+     * Builds a cursor pointing to the entities that follow the given sort values.
+     *
+     * @param lastSortValues the values of the sort columns of the last entity of the current page
+     * @throws IllegalArgumentException if no value is given or if a value is null
+     */
+    public static Cursor after(Object... lastSortValues) {
+        return new Cursor(false, lastSortValues, null);
+    }
+
+    /**
+     * Builds a cursor pointing to the entities that precede the given sort values.
+     *
+     * @param firstSortValues the values of the sort columns of the first entity of the current page
+     * @throws IllegalArgumentException if no value is given or if a value is null
+     */
+    public static Cursor before(Object... firstSortValues) {
+        return new Cursor(true, firstSortValues, null);
+    }
+
+    /**
+     * Builds a cursor pointing to the entities that follow the given entity in the given sort.
+     *
+     * @param sort the sort of the query
+     * @param entity the last entity of the current page
+     * @throws IllegalArgumentException if a sort column cannot be read from the entity or if its value is null
+     */
+    public static Cursor afterEntity(Sort sort, Object entity) {
+        return new Cursor(false, getSortValues(sort, entity), getSortFingerprint(sort));
+    }
+
+    /**
+     * Builds a cursor pointing to the entities that precede the given entity in the given sort.
+     *
+     * @param sort the sort of the query
+     * @param entity the first entity of the current page
+     * @throws IllegalArgumentException if a sort column cannot be read from the entity or if its value is null
+     */
+    public static Cursor beforeEntity(Sort sort, Object entity) {
+        return new Cursor(true, getSortValues(sort, entity), getSortFingerprint(sort));
+    }
+
+    /**
+     * @return true if this cursor points to the entities that precede its values, false if it points to the entities
+     *         that follow them.
+     */
+    public boolean isBefore() {
+        return before;
+    }
+
+    /**
+     * @return the values of the sort columns, in the order of the sort columns.
+     */
+    public List<Object> getValues() {
+        return Arrays.asList(values.clone());
+    }
+
+    /**
+     * Checks that this cursor can be used with the given sort: it must have a value per sort column and, if it was built
+     * from an entity, it must have been built with the same sort columns, directions and null precedences.
+     *
+     * @param sort the sort of the query
+     * @return true if this cursor can be used with the given sort
+     */
+    public boolean isFor(Sort sort) {
+        if (sort == null || sort.getColumns().size() != values.length) {
+            return false;
+        }
+        return sortFingerprint == null || sortFingerprint == getSortFingerprint(sort);
+    }
+
+    /**
+     * Converts the names of enum constants held by this cursor to the constants of the enum types of the matching sort
+     * columns of the given entity class. The enum values of a decoded cursor are the names of their constants, since the
+     * token does not hold their types: the types are always taken from the entity, never from the token.
+     *
+     * @param entityClass the class of the queried entity
+     * @param sort the sort of the query
+     * @return a cursor holding the enum constants, or this cursor if no value had to be converted
+     * @throws IllegalArgumentException if the sort does not have a column per value or if a name is not a constant of the
+     *         enum type of its column
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public Cursor resolveEnumValues(Class<?> entityClass, Sort sort) {
+        Objects.requireNonNull(entityClass, "entityClass");
+        Objects.requireNonNull(sort, "sort");
+        List<Sort.Column> columns = sort.getColumns();
+        if (columns.size() != values.length) {
+            throw new IllegalArgumentException("The cursor has " + values.length + " values but the sort has "
+                    + columns.size() + " columns");
+        }
+        Object[] resolved = null;
+        for (int i = 0; i < values.length; i++) {
+            if (!(values[i] instanceof String)) {
+                continue;
+            }
+            Class<?> type = getColumnType(entityClass, columns.get(i).getName());
+            if (type == null || !type.isEnum()) {
+                continue;
+            }
+            if (resolved == null) {
+                resolved = values.clone();
+            }
+            resolved[i] = Enum.valueOf((Class) type, (String) values[i]);
+        }
+        return resolved == null ? this : new Cursor(before, resolved, sortFingerprint);
+    }
+
+    /**
+     * Encodes this cursor into an opaque, URL safe, token.
+     *
+     * @return the token
+     * @throws IllegalArgumentException if one of the values has an unsupported type
+     * @see #decode(String)
+     */
+    public String encode() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeBoolean(before);
+            out.writeBoolean(sortFingerprint != null);
+            if (sortFingerprint != null) {
+                out.writeInt(sortFingerprint);
+            }
+            out.writeShort(values.length);
+            for (Object value : values) {
+                writeValue(out, value);
+            }
+        } catch (IOException e) {
+            // cannot happen with an in-memory stream
+            throw new IllegalStateException(e);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+    }
+
+    /**
+     * Decodes a token created by {@link #encode()}.
+     *
+     * @param token the token
+     * @return the cursor
+     * @throws IllegalArgumentException if the token is not a valid cursor
+     */
+    public static Cursor decode(String token) {
+        if (token == null || token.isEmpty()) {
+            throw new IllegalArgumentException("Invalid cursor: empty token");
+        }
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(Base64.getUrlDecoder().decode(token)))) {
+            if (in.readByte() != VERSION) {
+                throw new IllegalArgumentException("unsupported version");
+            }
+            boolean before = in.readBoolean();
+            Integer sortFingerprint = in.readBoolean() ? in.readInt() : null;
+            int length = in.readShort();
+            if (length <= 0) {
+                throw new IllegalArgumentException("no sort value");
+            }
+            Object[] values = new Object[length];
+            for (int i = 0; i < length; i++) {
+                values[i] = readValue(in);
+            }
+            if (in.available() > 0) {
+                throw new IllegalArgumentException("trailing data");
+            }
+            return new Cursor(before, values, sortFingerprint);
+        } catch (IOException | RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token, e);
+        }
+    }
+
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        char type;
+        String text;
+        if (value instanceof String) {
+            type = 'S';
+            text = (String) value;
+        } else if (value instanceof Long) {
+            type = 'J';
+            text = value.toString();
+        } else if (value instanceof Integer) {
+            type = 'I';
+            text = value.toString();
+        } else if (value instanceof Short) {
+            type = 's';
+            text = value.toString();
+        } else if (value instanceof Byte) {
+            type = 'B';
+            text = value.toString();
+        } else if (value instanceof Double) {
+            type = 'D';
+            text = value.toString();
+        } else if (value instanceof Float) {
+            type = 'F';
+            text = value.toString();
+        } else if (value instanceof Boolean) {
+            type = 'Z';
+            text = value.toString();
+        } else if (value instanceof Character) {
+            type = 'C';
+            text = value.toString();
+        } else if (value instanceof BigDecimal) {
+            type = 'd';
+            text = value.toString();
+        } else if (value instanceof BigInteger) {
+            type = 'i';
+            text = value.toString();
+        } else if (value instanceof UUID) {
+            type = 'U';
+            text = value.toString();
+        } else if (value instanceof LocalDate) {
+            type = 'l';
+            text = value.toString();
+        } else if (value instanceof LocalDateTime) {
+            type = 'L';
+            text = value.toString();
+        } else if (value instanceof LocalTime) {
+            type = 't';
+            text = value.toString();
+        } else if (value instanceof Instant) {
+            type = 'T';
+            text = value.toString();
+        } else if (value instanceof OffsetDateTime) {
+            type = 'o';
+            text = value.toString();
+        } else if (value instanceof ZonedDateTime) {
+            type = 'z';
+            text = value.toString();
+        } else if (value instanceof Enum) {
+            // only the name, the type is resolved from the entity when the cursor is used
+            type = 'E';
+            text = ((Enum<?>) value).name();
+        } else if (value instanceof Timestamp) {
+            // the instant keeps the nanoseconds that the milliseconds of the date would lose
+            type = 'X';
+            text = ((Timestamp) value).toInstant().toString();
+        } else if (value instanceof java.sql.Date) {
+            type = 'q';
+            text = Long.toString(((java.sql.Date) value).getTime());
+        } else if (value instanceof Time) {
+            type = 'r';
+            text = Long.toString(((Time) value).getTime());
+        } else if (value.getClass() == Date.class) {
+            type = 'x';
+            text = Long.toString(((Date) value).getTime());
+        } else {
+            throw new IllegalArgumentException("Unsupported cursor value type: " + value.getClass().getName());
+        }
+        out.writeByte(type);
+        out.writeUTF(text);
+    }
+
+    private static Object readValue(DataInputStream in) throws IOException {
+        char type = (char) in.readByte();
+        String text = in.readUTF();
+        switch (type) {
+            case 'S':
+                return text;
+            case 'J':
+                return Long.valueOf(text);
+            case 'I':
+                return Integer.valueOf(text);
+            case 's':
+                return Short.valueOf(text);
+            case 'B':
+                return Byte.valueOf(text);
+            case 'D':
+                return Double.valueOf(text);
+            case 'F':
+                return Float.valueOf(text);
+            case 'Z':
+                return Boolean.valueOf(text);
+            case 'C':
+                if (text.length() != 1) {
+                    throw new IllegalArgumentException("invalid character value");
+                }
+                return text.charAt(0);
+            case 'd':
+                return new BigDecimal(text);
+            case 'i':
+                return new BigInteger(text);
+            case 'U':
+                return UUID.fromString(text);
+            case 'l':
+                return LocalDate.parse(text);
+            case 'L':
+                return LocalDateTime.parse(text);
+            case 't':
+                return LocalTime.parse(text);
+            case 'T':
+                return Instant.parse(text);
+            case 'o':
+                return OffsetDateTime.parse(text);
+            case 'z':
+                return ZonedDateTime.parse(text);
+            case 'E':
+                if (text.isEmpty()) {
+                    throw new IllegalArgumentException("invalid enum value");
+                }
+                return text;
+            case 'X':
+                return Timestamp.from(Instant.parse(text));
+            case 'q':
+                return new java.sql.Date(Long.parseLong(text));
+            case 'r':
+                return new Time(Long.parseLong(text));
+            case 'x':
+                return new Date(Long.parseLong(text));
+            default:
+                throw new IllegalArgumentException("unknown value type: " + type);
+        }
+    }
+
+    private static int getSortFingerprint(Sort sort) {
+        Objects.requireNonNull(sort, "sort");
+        StringBuilder columns = new StringBuilder();
+        for (Sort.Column column : sort.getColumns()) {
+            columns.append(column.getName().trim()).append(' ').append(column.getDirection());
+            if (column.getNullPrecedence() != null) {
+                columns.append(' ').append(column.getNullPrecedence());
+            }
+            columns.append(',');
+        }
+        CRC32 crc = new CRC32();
+        crc.update(columns.toString().getBytes(StandardCharsets.UTF_8));
+        return (int) crc.getValue();
+    }
+
+    private static Object[] getSortValues(Sort sort, Object entity) {
+        Objects.requireNonNull(sort, "sort");
+        Objects.requireNonNull(entity, "entity");
+        List<Sort.Column> columns = sort.getColumns();
+        Object[] values = new Object[columns.size()];
+        for (int i = 0; i < values.length; i++) {
+            Object value = entity;
+            for (String property : columns.get(i).getName().split("\\.")) {
+                value = getProperty(value, property.trim(), columns.get(i).getName());
+            }
+            values[i] = value;
+        }
+        return values;
+    }
+
+    private static Object getProperty(Object object, String property, String column) {
+        if (object == null) {
+            throw new IllegalArgumentException("Null value found in sort column " + column);
+        }
+        String capitalized = Character.toUpperCase(property.charAt(0)) + property.substring(1);
+        try {
+            for (String getterName : new String[] { "get" + capitalized, "is" + capitalized }) {
+                try {
+                    Method getter = object.getClass().getMethod(getterName);
+                    return getter.invoke(object);
+                } catch (NoSuchMethodException e) {
+                    // try the next accessor
+                }
+            }
+            for (Class<?> type = object.getClass(); type != Object.class; type = type.getSuperclass()) {
+                try {
+                    Field field = type.getDeclaredField(property);
+                    field.setAccessible(true);
+                    return field.get(object);
+                } catch (NoSuchFieldException e) {
+                    // look into the superclass
+                }
+            }
+        } catch (IllegalAccessException | InvocationTargetException | RuntimeException e) {
+            throw new IllegalArgumentException("Unable to read sort column " + column + " from "
+                    + object.getClass().getName(), e);
+        }
+        throw new IllegalArgumentException("Sort column " + column + " not found in " + object.getClass().getName());
+    }
+
+    // null if the column is not found, the query will then report it
+    private static Class<?> getColumnType(Class<?> entityClass, String column) {
+        Class<?> type = entityClass;
+        for (String property : column.split("\\.")) {
+            type = getPropertyType(type, property.trim());
+            if (type == null) {
+                return null;
+            }
+        }
+        return type;
+    }
+
+    private static Class<?> getPropertyType(Class<?> type, String property) {
+        String capitalized = Character.toUpperCase(property.charAt(0)) + property.substring(1);
+        for (String getterName : new String[] { "get" + capitalized, "is" + capitalized }) {
+            try {
+                return type.getMethod(getterName).getReturnType();
+            } catch (NoSuchMethodException e) {
+                // try the next accessor
+            }
+        }
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            try {
+                return current.getDeclaredField(property).getType();
+            } catch (NoSuchFieldException e) {
+                // look into the superclass
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Cursor)) {
+            return false;
+        }
+        Cursor cursor = (Cursor) o;
+        return before == cursor.before && Arrays.equals(values, cursor.values)
+                && Objects.equals(sortFingerprint, cursor.sortFingerprint);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * Boolean.hashCode(before) + Arrays.hashCode(values)) + Objects.hashCode(sortFingerprint);
+    }
+
+    @Override
+    public String toString() {
+        return "Cursor{" + (before ? "before " : "after ") + Arrays.toString(values) + "}";
+    }
+}
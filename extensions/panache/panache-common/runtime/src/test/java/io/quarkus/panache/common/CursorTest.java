@@ -0,0 +1,164 @@
+package io.quarkus.panache.common;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Date;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class CursorTest {
+
+    @Test
+    public void testEncodeDecode() {
+        Cursor cursor = Cursor.after("Stef", 42L, 7, new BigDecimal("1.50"), LocalDate.of(2022, 6, 1),
+                UUID.randomUUID(), true);
+        Cursor decoded = Cursor.decode(cursor.encode());
+        Assertions.assertEquals(cursor, decoded);
+        Assertions.assertFalse(decoded.isBefore());
+        Assertions.assertTrue(Cursor.decode(Cursor.before(1L).encode()).isBefore());
+        // the token can be used in a URL as is
+        Assertions.assertTrue(Cursor.after("a/b+c=d?", 1L).encode().matches("[A-Za-z0-9_-]+"));
+    }
+
+    @Test
+    public void testEncodeDecodeTemporalValues() {
+        Timestamp timestamp = Timestamp.from(Instant.parse("2022-06-01T10:15:30.123456789Z"));
+        Cursor cursor = Cursor.after(timestamp, new java.sql.Date(1654041600000L), new Time(36930000L), new Date(42L));
+        Cursor decoded = Cursor.decode(cursor.encode());
+        Assertions.assertEquals(cursor, decoded);
+        // the nanoseconds are kept
+        Assertions.assertEquals(123456789, ((Timestamp) decoded.getValues().get(0)).getNanos());
+        Assertions.assertEquals(java.sql.Date.class, decoded.getValues().get(1).getClass());
+        Assertions.assertEquals(Time.class, decoded.getValues().get(2).getClass());
+        Assertions.assertEquals(Date.class, decoded.getValues().get(3).getClass());
+        // unknown subclasses of Date would not be decoded as such
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Cursor.after(new Date(42L) {
+        }).encode());
+    }
+
+    @Test
+    public void testEnumValues() throws IOException {
+        Ticket ticket = new Ticket();
+        ticket.status = Status.ARCHIVED;
+        ticket.id = 3L;
+        Sort sort = Sort.by("status").and("id");
+        Cursor cursor = Cursor.afterEntity(sort, ticket);
+        Cursor decoded = Cursor.decode(cursor.encode());
+        // the token only holds the name of the constant, its type comes from the entity
+        Assertions.assertEquals(Arrays.asList("ARCHIVED", 3L), decoded.getValues());
+        Cursor resolved = decoded.resolveEnumValues(Ticket.class, sort);
+        Assertions.assertEquals(cursor, resolved);
+        Assertions.assertSame(Status.ARCHIVED, resolved.getValues().get(0));
+        Assertions.assertSame(resolved, resolved.resolveEnumValues(Ticket.class, sort));
+        // the strings of the other columns are kept
+        Cursor names = Cursor.after("ARCHIVED", 3L);
+        Assertions.assertSame(names, names.resolveEnumValues(Person.class, Sort.by("name").and("id")));
+        // a type named in the token is never loaded
+        Cursor typed = Cursor.decode(enumToken(Status.class.getName() + ":ACTIVE"));
+        Assertions.assertEquals(Status.class.getName() + ":ACTIVE", typed.getValues().get(0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> typed.resolveEnumValues(Ticket.class, Sort.by("status")));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> decoded.resolveEnumValues(Ticket.class, Sort.by("status")));
+    }
+
+    @Test
+    public void testSortFingerprint() {
+        Person person = new Person();
+        person.name = "Stef";
+        person.id = 3L;
+        Sort sort = Sort.by("name").and("id");
+        Cursor cursor = Cursor.decode(Cursor.afterEntity(sort, person).encode());
+        Assertions.assertTrue(cursor.isFor(Sort.by("name").and("id")));
+        Assertions.assertFalse(cursor.isFor(Sort.by("id").and("name")));
+        Assertions.assertFalse(cursor.isFor(Sort.by("name").and("id", Sort.Direction.Descending)));
+        Assertions.assertFalse(cursor.isFor(Sort.by("name").and("id", Sort.NullPrecedence.NULLS_LAST)));
+        Assertions.assertFalse(cursor.isFor(Sort.by("name")));
+        Assertions.assertNotEquals(Cursor.after("STEF", 3L), cursor);
+        // the cursors built from values only check the number of columns
+        Assertions.assertTrue(Cursor.after("STEF", 3L).isFor(Sort.by("id").and("name")));
+        Assertions.assertFalse(Cursor.after("STEF", 3L).isFor(Sort.by("name")));
+    }
+
+    @Test
+    public void testInvalidCursors() throws IOException {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Cursor.after());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Cursor.after("name", null));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Cursor.after(new Object()).encode());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Cursor.decode(""));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Cursor.decode("not a cursor"));
+        String token = Cursor.after(1L).encode();
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Cursor.decode(token.substring(0, token.length() - 2)));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Cursor.decode(token + "AAAA"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Cursor.decode(enumToken("")));
+    }
+
+    private static String enumToken(String value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(2);
+            out.writeBoolean(false);
+            out.writeBoolean(false);
+            out.writeShort(1);
+            out.writeByte('E');
+            out.writeUTF(value);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+    }
+
+    @Test
+    public void testEntityCursors() {
+        Person person = new Person();
+        person.name = "Stef";
+        person.id = 3L;
+        person.address = new Address();
+        person.address.city = "Lyon";
+        Sort sort = Sort.by("address.city").and("name").and("id");
+        Assertions.assertEquals(Arrays.asList("Lyon", "STEF", 3L), Cursor.afterEntity(sort, person).getValues());
+        Assertions.assertTrue(Cursor.beforeEntity(sort, person).isBefore());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Cursor.afterEntity(Sort.by("unknown"), person));
+        person.address = null;
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Cursor.afterEntity(sort, person));
+    }
+
+    public enum Status {
+        ACTIVE,
+        ARCHIVED {
+            @Override
+            public String toString() {
+                return "archived";
+            }
+        }
+    }
+
+    public static class Entity {
+        Long id;
+    }
+
+    public static class Person extends Entity {
+        String name;
+        Address address;
+
+        // the getter wins over the field
+        public String getName() {
+            return name.toUpperCase();
+        }
+    }
+
+    public static class Address {
+        String city;
+    }
+
+    public static class Ticket extends Entity {
+        private Status status;
+    }
+}
@@ -1,5 +1,11 @@
 package io.quarkus.panache.hibernate.common.runtime;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -17,7 +23,42 @@ public class PanacheJpaUtil {
     static final Pattern FROM_PATTERN = Pattern.compile("^\\s*FROM\\s+.*",
             Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
 
+    /**
+     * Name prefix of the named parameters of the predicate added by {@link #createKeysetQuery}.
+     */
+    public static final String KEYSET_PARAMETER_PREFIX = "panacheKeyset";
+
+    // queries built by concatenating parameter values would otherwise fill the caches, the least recently used are evicted
+    static final int MAX_CACHED_QUERIES = 1024;
+
+    // the generated queries of each entity, the values are discarded together with the entity class on dev mode reload
+    private static final ClassValue<EntityQueries> ENTITY_QUERIES = new ClassValue<EntityQueries>() {
+        @Override
+        protected EntityQueries computeValue(Class<?> type) {
+            return new EntityQueries();
+        }
+    };
+
+    /**
+     * @deprecated use {@link #getCountQuery(Class, String)} so that the count query is cached
+     */
+    @Deprecated
     public static String getCountQuery(String query) {
+        return createCountQueryFromSelect(query);
+    }
+
+    /**
+     * Returns the count query of the given select query of the given entity, the entity class may be null
+     * in which case the count query is not cached.
+     */
+    public static String getCountQuery(Class<?> entityClass, String query) {
+        if (entityClass == null) {
+            return createCountQueryFromSelect(query);
+        }
+        return ENTITY_QUERIES.get(entityClass).countQueries.get(query, PanacheJpaUtil::createCountQueryFromSelect);
+    }
+
+    private static String createCountQueryFromSelect(String query) {
         // try to generate a good count query from the existing query
         Matcher selectMatcher = SELECT_PATTERN.matcher(query);
         String countQuery;
@@ -57,6 +98,10 @@ public static String getEntityName(Class<?> entityClass) {
     }
 
     public static String createFindQuery(Class<?> entityClass, String query, int paramCount) {
+        return getQuery(entityClass, QueryType.FIND, query, paramCount);
+    }
+
+    private static String doCreateFindQuery(Class<?> entityClass, String query, int paramCount) {
         if (query == null) {
             return "FROM " + getEntityName(entityClass);
         }
@@ -92,6 +137,10 @@ public static boolean isNamedQuery(String query) {
     }
 
     public static String createCountQuery(Class<?> entityClass, String query, int paramCount) {
+        return getQuery(entityClass, QueryType.COUNT, query, paramCount);
+    }
+
+    private static String doCreateCountQuery(Class<?> entityClass, String query, int paramCount) {
         if (query == null)
             return "SELECT COUNT(*) FROM " + getEntityName(entityClass);
 
@@ -114,6 +163,10 @@ public static String createCountQuery(Class<?> entityClass, String query, int pa
     }
 
     public static String createUpdateQuery(Class<?> entityClass, String query, int paramCount) {
+        return getQuery(entityClass, QueryType.UPDATE, query, paramCount);
+    }
+
+    private static String doCreateUpdateQuery(Class<?> entityClass, String query, int paramCount) {
         if (query == null) {
             throw new PanacheQueryException("Query string cannot be null");
         }
@@ -140,6 +193,10 @@ public static String createUpdateQuery(Class<?> entityClass, String query, int p
     }
 
     public static String createDeleteQuery(Class<?> entityClass, String query, int paramCount) {
+        return getQuery(entityClass, QueryType.DELETE, query, paramCount);
+    }
+
+    private static String doCreateDeleteQuery(Class<?> entityClass, String query, int paramCount) {
         if (query == null)
             return "DELETE FROM " + getEntityName(entityClass);
 
@@ -164,6 +221,36 @@ public static String createDeleteQuery(Class<?> entityClass, String query, int p
         return "DELETE FROM " + getEntityName(entityClass) + " WHERE " + query;
     }
 
+    private static String getQuery(Class<?> entityClass, QueryType type, String query, int paramCount) {
+        if (query == null) {
+            return createQuery(entityClass, type, query, paramCount);
+        }
+        // the generated query only depends on whether there is a single parameter
+        QueryKey key = new QueryKey(type, query, paramCount == 1);
+        return ENTITY_QUERIES.get(entityClass).queries.get(key,
+                k -> createQuery(entityClass, type, query, paramCount));
+    }
+
+    static int getCachedQueryCount(Class<?> entityClass) {
+        EntityQueries entityQueries = ENTITY_QUERIES.get(entityClass);
+        return entityQueries.queries.size() + entityQueries.countQueries.size();
+    }
+
+    private static String createQuery(Class<?> entityClass, QueryType type, String query, int paramCount) {
+        switch (type) {
+            case FIND:
+                return doCreateFindQuery(entityClass, query, paramCount);
+            case COUNT:
+                return doCreateCountQuery(entityClass, query, paramCount);
+            case UPDATE:
+                return doCreateUpdateQuery(entityClass, query, paramCount);
+            case DELETE:
+                return doCreateDeleteQuery(entityClass, query, paramCount);
+            default:
+                throw new IllegalArgumentException("Unknown query type: " + type);
+        }
+    }
+
     public static String toOrderBy(Sort sort) {
         if (sort == null) {
             return null;
@@ -192,4 +279,226 @@ public static String toOrderBy(Sort sort) {
         }
         return sb.toString();
     }
+
+    /**
+     * Rewrites a select query for keyset pagination: adds a predicate seeking past the given position in the sort and
+     * appends the order by clause, reversed for a query reading the entities before the position.
+     * The position is bound to one parameter per sort column, named {@link #KEYSET_PARAMETER_PREFIX} followed by the
+     * column index for named parameters, or numbered after the existing parameters for positional parameters.
+     */
+    public static String createKeysetQuery(String query, Sort sort, boolean before, int paramCount,
+            boolean namedParameters) {
+        if (isNamedQuery(query)) {
+            throw new PanacheQueryException("Unable to perform keyset pagination on a named query");
+        }
+        if (sort == null || sort.getColumns().isEmpty()) {
+            throw new PanacheQueryException("Keyset pagination requires a sort: " + query);
+        }
+        String lcQuery = query.toLowerCase();
+        if (indexOfClause(lcQuery, "group by") != -1 || indexOfClause(lcQuery, "having") != -1
+                || indexOfClause(lcQuery, "order by") != -1) {
+            throw new PanacheQueryException("Keyset pagination not supported for query: " + query);
+        }
+
+        List<Sort.Column> columns = sort.getColumns();
+        StringBuilder predicate = new StringBuilder();
+        for (int i = 0; i < columns.size(); i++) {
+            Sort.Column column = columns.get(i);
+            boolean ascending = (column.getDirection() == Sort.Direction.Ascending) != before;
+            String parameter = namedParameters ? ":" + KEYSET_PARAMETER_PREFIX + i : "?" + (paramCount + i + 1);
+            String seek = column.getName() + (ascending ? " > " : " < ") + parameter;
+            if (i == columns.size() - 1) {
+                predicate.append(seek);
+            } else {
+                // the inclusive bound lets the database use a range scan on the first column of the index
+                predicate.append(column.getName()).append(ascending ? " >= " : " <= ").append(parameter)
+                        .append(" AND (").append(seek).append(" OR ");
+            }
+        }
+        for (int i = 1; i < columns.size(); i++) {
+            predicate.append(')');
+        }
+
+        int whereIndex = indexOfClause(lcQuery, "where");
+        String keysetQuery;
+        if (whereIndex == -1) {
+            keysetQuery = query + " WHERE " + predicate;
+        } else {
+            // 5 is the length of "where"
+            keysetQuery = query.substring(0, whereIndex) + "WHERE (" + query.substring(whereIndex + 5).trim() + ") AND ("
+                    + predicate + ")";
+        }
+        return keysetQuery + toOrderBy(before ? reverse(sort) : sort);
+    }
+
+    private static Sort reverse(Sort sort) {
+        Sort reversed = null;
+        for (Sort.Column column : sort.getColumns()) {
+            Sort.Direction direction = column.getDirection() == Sort.Direction.Ascending ? Sort.Direction.Descending
+                    : Sort.Direction.Ascending;
+            Sort.NullPrecedence nullPrecedence = null;
+            if (column.getNullPrecedence() != null) {
+                nullPrecedence = column.getNullPrecedence() == Sort.NullPrecedence.NULLS_FIRST ? Sort.NullPrecedence.NULLS_LAST
+                        : Sort.NullPrecedence.NULLS_FIRST;
+            }
+            reversed = reversed == null ? Sort.by(column.getName(), direction, nullPrecedence)
+                    : reversed.and(column.getName(), direction, nullPrecedence);
+        }
+        return reversed;
+    }
+
+    /**
+     * Returns the index of a clause of the given lower-cased query, ignoring sub-queries and string literals,
+     * or -1 if there is none.
+     */
+    static int indexOfClause(String lcQuery, String clause) {
+        String[] words = clause.split(" ");
+        int depth = 0;
+        boolean inLiteral = false;
+        for (int i = 0; i < lcQuery.length(); i++) {
+            char c = lcQuery.charAt(i);
+            if (inLiteral) {
+                // a quote in a literal is escaped by doubling it, which toggles the state twice
+                inLiteral = c != '\'';
+            } else if (c == '\'') {
+                inLiteral = true;
+            } else if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            } else if (depth == 0 && (i == 0 || isClauseSeparator(lcQuery.charAt(i - 1)))) {
+                int end = matchWords(lcQuery, i, words);
+                if (end != -1 && (end == lcQuery.length() || isClauseSeparator(lcQuery.charAt(end)))) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private static int matchWords(String lcQuery, int start, String[] words) {
+        int index = start;
+        for (int w = 0; w < words.length; w++) {
+            if (w > 0) {
+                int wordStart = index;
+                while (index < lcQuery.length() && Character.isWhitespace(lcQuery.charAt(index))) {
+                    index++;
+                }
+                if (index == wordStart) {
+                    return -1;
+                }
+            }
+            if (!lcQuery.startsWith(words[w], index)) {
+                return -1;
+            }
+            index += words[w].length();
+        }
+        return index;
+    }
+
+    private static boolean isClauseSeparator(char c) {
+        return Character.isWhitespace(c) || c == '(' || c == ')';
+    }
+
+    private enum QueryType {
+        FIND,
+        COUNT,
+        UPDATE,
+        DELETE
+    }
+
+    private static final class EntityQueries {
+        final QueryCache<QueryKey> queries = new QueryCache<>();
+        final QueryCache<String> countQueries = new QueryCache<>();
+    }
+
+    /**
+     * A cache of queries with an approximate least recently used eviction: the hits are served without any lock and only
+     * mark the entry as referenced, the queries are created outside of the lock. When the cache is full, the eviction
+     * gives a second chance to the referenced entries, in insertion order, and removes the first unreferenced one.
+     */
+    private static final class QueryCache<K> {
+        private final Map<K, CachedQuery> queries = new ConcurrentHashMap<>();
+        // the keys of the cached queries, in the order the eviction visits them
+        private final Queue<K> evictionOrder = new ConcurrentLinkedQueue<>();
+
+        String get(K key, Function<K, String> creator) {
+            CachedQuery cached = queries.get(key);
+            if (cached != null) {
+                // only written when needed, to keep the hits of the same query from contending on the same entry
+                if (!cached.referenced) {
+                    cached.referenced = true;
+                }
+                return cached.query;
+            }
+            String result = creator.apply(key);
+            CachedQuery previous = queries.putIfAbsent(key, new CachedQuery(result));
+            if (previous != null) {
+                return previous.query;
+            }
+            evictionOrder.add(key);
+            if (queries.size() > MAX_CACHED_QUERIES) {
+                evict();
+            }
+            return result;
+        }
+
+        private synchronized void evict() {
+            while (queries.size() > MAX_CACHED_QUERIES) {
+                K key = evictionOrder.poll();
+                if (key == null) {
+                    return;
+                }
+                CachedQuery cached = queries.get(key);
+                if (cached.referenced) {
+                    cached.referenced = false;
+                    evictionOrder.add(key);
+                } else {
+                    queries.remove(key);
+                }
+            }
+        }
+
+        int size() {
+            return queries.size();
+        }
+    }
+
+    private static final class CachedQuery {
+        final String query;
+        volatile boolean referenced;
+
+        CachedQuery(String query) {
+            this.query = query;
+        }
+    }
+
+    private static final class QueryKey {
+        private final QueryType type;
+        private final String query;
+        private final boolean singleParam;
+
+        QueryKey(QueryType type, String query, boolean singleParam) {
+            this.type = type;
+            this.query = query;
+            this.singleParam = singleParam;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof QueryKey)) {
+                return false;
+            }
+            QueryKey other = (QueryKey) obj;
+            return type == other.type && singleParam == other.singleParam && query.equals(other.query);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * type.hashCode() + query.hashCode()) + Boolean.hashCode(singleParam);
+        }
+    }
 }
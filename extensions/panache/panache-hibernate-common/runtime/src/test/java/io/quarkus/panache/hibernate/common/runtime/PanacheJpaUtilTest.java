@@ -0,0 +1,114 @@
+package io.quarkus.panache.hibernate.common.runtime;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.panache.common.Sort;
+import io.quarkus.panache.common.exception.PanacheQueryException;
+
+public class PanacheJpaUtilTest {
+
+    private static final String ENTITY = PanacheJpaUtilTest.class.getName();
+
+    @Test
+    public void testCreateQueries() {
+        Assertions.assertEquals("FROM " + ENTITY + " WHERE name = ?1",
+                PanacheJpaUtil.createFindQuery(PanacheJpaUtilTest.class, "name", 1));
+        // the shorthand is only expanded for a single parameter
+        Assertions.assertEquals("FROM " + ENTITY + " WHERE name",
+                PanacheJpaUtil.createFindQuery(PanacheJpaUtilTest.class, "name", 2));
+        Assertions.assertEquals("FROM " + ENTITY + " WHERE name = ?1",
+                PanacheJpaUtil.createFindQuery(PanacheJpaUtilTest.class, "name", 1));
+        Assertions.assertEquals("FROM " + ENTITY, PanacheJpaUtil.createFindQuery(PanacheJpaUtilTest.class, null, 0));
+        Assertions.assertEquals("SELECT COUNT(*) FROM " + ENTITY + " WHERE name = ?1",
+                PanacheJpaUtil.createCountQuery(PanacheJpaUtilTest.class, "name", 1));
+        Assertions.assertEquals("UPDATE FROM " + ENTITY + " SET name = ?1",
+                PanacheJpaUtil.createUpdateQuery(PanacheJpaUtilTest.class, "name", 1));
+        Assertions.assertEquals("DELETE FROM " + ENTITY + " WHERE name = ?1",
+                PanacheJpaUtil.createDeleteQuery(PanacheJpaUtilTest.class, "name", 1));
+        // each entity has its own queries
+        Assertions.assertEquals("FROM " + String.class.getName() + " WHERE name = ?1",
+                PanacheJpaUtil.createFindQuery(String.class, "name", 1));
+        Assertions.assertThrows(PanacheQueryException.class,
+                () -> PanacheJpaUtil.createUpdateQuery(PanacheJpaUtilTest.class, null, 0));
+    }
+
+    @Test
+    public void testQueriesAreCached() {
+        String query = PanacheJpaUtil.createFindQuery(PanacheJpaUtilTest.class, "name = ?1 and age > ?2", 2);
+        Assertions.assertSame(query, PanacheJpaUtil.createFindQuery(PanacheJpaUtilTest.class, "name = ?1 and age > ?2", 2));
+        String countQuery = PanacheJpaUtil.getCountQuery(PanacheJpaUtilTest.class,
+                "select distinct name from Person order by name");
+        Assertions.assertEquals("SELECT COUNT(distinct name) from Person", countQuery);
+        Assertions.assertSame(countQuery,
+                PanacheJpaUtil.getCountQuery(PanacheJpaUtilTest.class, "select distinct name from Person order by name"));
+        // without an entity the count query is not cached
+        Assertions.assertEquals(countQuery,
+                PanacheJpaUtil.getCountQuery(null, "select distinct name from Person order by name"));
+        Assertions.assertThrows(PanacheQueryException.class,
+                () -> PanacheJpaUtil.getCountQuery(PanacheJpaUtilTest.class, "select distinct name, age from Person"));
+    }
+
+    @Test
+    public void testCacheEvictsTheQueriesNotUsedRecently() {
+        String first = PanacheJpaUtil.createFindQuery(Integer.class, "id = 0", 0);
+        String second = PanacheJpaUtil.createFindQuery(Integer.class, "id = 1", 0);
+        String firstCount = PanacheJpaUtil.getCountQuery(Integer.class, "select id from Person where id = 0");
+        for (int i = 2; i < PanacheJpaUtil.MAX_CACHED_QUERIES + 10; i++) {
+            // keep using the first queries while the cache fills up
+            Assertions.assertSame(first, PanacheJpaUtil.createFindQuery(Integer.class, "id = 0", 0));
+            Assertions.assertEquals("FROM " + Integer.class.getName() + " WHERE id = " + i,
+                    PanacheJpaUtil.createFindQuery(Integer.class, "id = " + i, 0));
+            Assertions.assertEquals("SELECT COUNT(*) from Person where id = " + i,
+                    PanacheJpaUtil.getCountQuery(Integer.class, "select id from Person where id = " + i));
+        }
+        // new queries are still cached
+        String last = PanacheJpaUtil.createFindQuery(Integer.class, "id = last", 0);
+        Assertions.assertSame(last, PanacheJpaUtil.createFindQuery(Integer.class, "id = last", 0));
+        // the first find query was used again since the previous eviction, the second one and the first count query were
+        // never used again and were evicted
+        Assertions.assertSame(first, PanacheJpaUtil.createFindQuery(Integer.class, "id = 0", 0));
+        Assertions.assertNotSame(second, PanacheJpaUtil.createFindQuery(Integer.class, "id = 1", 0));
+        Assertions.assertNotSame(firstCount, PanacheJpaUtil.getCountQuery(Integer.class, "select id from Person where id = 0"));
+        Assertions.assertEquals(2 * PanacheJpaUtil.MAX_CACHED_QUERIES, PanacheJpaUtil.getCachedQueryCount(Integer.class));
+    }
+
+    @Test
+    public void testCreateKeysetQuery() {
+        Assertions.assertEquals("FROM Person WHERE id > ?1 ORDER BY id",
+                PanacheJpaUtil.createKeysetQuery("FROM Person", Sort.by("id"), false, 0, false));
+        Assertions.assertEquals("FROM Person WHERE name >= ?2 AND (name > ?2 OR id > ?3) ORDER BY name , id",
+                PanacheJpaUtil.createKeysetQuery("FROM Person", Sort.by("name").and("id"), false, 1, false));
+        // descending columns and previous pages seek the other way, previous pages are read in the reverse order
+        Assertions.assertEquals("FROM Person WHERE name <= ?1 AND (name < ?1 OR id > ?2) ORDER BY name DESC , id",
+                PanacheJpaUtil.createKeysetQuery("FROM Person", Sort.descending("name").and("id"), false, 0, false));
+        Assertions.assertEquals("FROM Person WHERE name >= ?1 AND (name > ?1 OR id < ?2) ORDER BY name , id DESC",
+                PanacheJpaUtil.createKeysetQuery("FROM Person", Sort.descending("name").and("id"), true, 0, false));
+        // the existing restriction is kept
+        Assertions.assertEquals(
+                "FROM Person WHERE (status = :status or age > 18) AND (name >= :panacheKeyset0 AND "
+                        + "(name > :panacheKeyset0 OR id > :panacheKeyset1)) ORDER BY name , id",
+                PanacheJpaUtil.createKeysetQuery("FROM Person where status = :status or age > 18",
+                        Sort.by("name").and("id"), false, 1, true));
+        // sub-queries and literals are not clauses of the query
+        Assertions.assertEquals("FROM Person WHERE (name <> ' order by ') AND (id > ?2) ORDER BY id",
+                PanacheJpaUtil.createKeysetQuery("FROM Person WHERE name <> ' order by '", Sort.by("id"), false, 1,
+                        false));
+        Assertions.assertEquals(
+                "FROM Person p WHERE (p.id in (select a.owner from Address a where a.city = ?1 order by a.id))"
+                        + " AND (p.id > ?2) ORDER BY p.id",
+                PanacheJpaUtil.createKeysetQuery(
+                        "FROM Person p WHERE p.id in (select a.owner from Address a where a.city = ?1 order by a.id)",
+                        Sort.by("p.id"), false, 1, false));
+
+        Assertions.assertThrows(PanacheQueryException.class,
+                () -> PanacheJpaUtil.createKeysetQuery("FROM Person", Sort.by(), false, 0, false));
+        Assertions.assertThrows(PanacheQueryException.class,
+                () -> PanacheJpaUtil.createKeysetQuery("#Person.findAll", Sort.by("id"), false, 0, false));
+        Assertions.assertThrows(PanacheQueryException.class,
+                () -> PanacheJpaUtil.createKeysetQuery("FROM Person ORDER BY name", Sort.by("id"), false, 0, false));
+        Assertions.assertThrows(PanacheQueryException.class,
+                () -> PanacheJpaUtil.createKeysetQuery("SELECT name, count(*) FROM Person GROUP BY name",
+                        Sort.by("name"), false, 0, false));
+    }
+}
@@ -3,4 +3,6 @@
 public final class Constants {
 
     public static final String PAGE_COUNT_METHOD_PREFIX = "$$_page_count_";
+
+    public static final String CURSOR_METHOD_PREFIX = "$$_cursor_";
 }
@@ -22,11 +22,22 @@ public class ResourceMetadata {
      */
     private final String idType;
 
+    /**
+     * ID field of the entity, or null if the data store doesn't support cursor pagination.
+     */
+    private final String idField;
+
     public ResourceMetadata(String resourceClass, String resourceInterface, String entityType, String idType) {
+        this(resourceClass, resourceInterface, entityType, idType, null);
+    }
+
+    public ResourceMetadata(String resourceClass, String resourceInterface, String entityType, String idType,
+            String idField) {
         this.resourceClass = resourceClass;
         this.resourceInterface = resourceInterface;
         this.entityType = entityType;
         this.idType = idType;
+        this.idField = idField;
     }
 
     public String getResourceClass() {
@@ -44,4 +55,8 @@ public String getEntityType() {
     public String getIdType() {
         return idType;
     }
+
+    public String getIdField() {
+        return idField;
+    }
 }
@@ -83,6 +83,10 @@ void implementResources(CombinedIndexBuildItem index, List<RestDataResourceBuild
                 }
 
             }
+            if (resourceProperties.isCursorPaged() && resourceMetadata.getIdField() == null) {
+                throw new IllegalStateException("Cursor pagination is not supported by the data store of "
+                        + resourceMetadata.getResourceInterface());
+            }
             if (resourceProperties.isExposed()) {
                 jaxRsResourceImplementor.implement(classOutput, resourceMetadata, resourceProperties, capabilities);
             }
@@ -7,14 +7,17 @@
 
 import java.util.List;
 
+import javax.ws.rs.core.Link;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.UriInfo;
 
+import io.quarkus.gizmo.BytecodeCreator;
 import io.quarkus.gizmo.ClassCreator;
 import io.quarkus.gizmo.FieldDescriptor;
 import io.quarkus.gizmo.MethodCreator;
 import io.quarkus.gizmo.ResultHandle;
 import io.quarkus.gizmo.TryBlock;
+import io.quarkus.panache.common.Cursor;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Sort;
 import io.quarkus.rest.data.panache.RestDataResource;
@@ -25,6 +28,7 @@
 import io.quarkus.rest.data.panache.deployment.utils.SignatureMethodCreator;
 import io.quarkus.rest.data.panache.deployment.utils.SortImplementor;
 import io.quarkus.rest.data.panache.deployment.utils.UniImplementor;
+import io.quarkus.rest.data.panache.runtime.CursorPagination;
 import io.smallrye.mutiny.Uni;
 
 public final class ListMethodImplementor extends StandardMethodImplementor {
@@ -114,11 +118,36 @@ public ListMethodImplementor(boolean isResteasyClassic, boolean isReactivePanach
      *     }
      * }
      * </pre>
+     *
+     * With enabled cursor pagination, the page query parameter is replaced by an opaque cursor one, no page count is
+     * queried and the entities are retrieved with a keyset query:
+     *
+     * <pre>
+     * {@code
+     *     public Response list(@QueryParam("sort") List<String> sortQuery,
+     *             &#64;QueryParam("cursor") String cursorToken,
+     *             &#64;QueryParam("size") @DefaultValue("20") int pageSize,
+     *             &#64;Context UriInfo uriInfo) {
+     *         Page page = Page.of(0, pageSize);
+     *         Sort sort = CursorPagination.getSort(..., "id"); // Parsed sort query param, with the entity ID appended
+     *         Cursor cursor = CursorPagination.getCursor(cursorToken);
+     *         try {
+     *             List<Entity> entities = resource.$$_cursor_list(page, sort, cursor);
+     *             Link[] links = CursorPagination.getLinks(uriInfo, page, sort, cursor, entities);
+     *             return Response.ok(entities).links(links).build();
+     *         } catch (Throwable t) {
+     *             throw new RestDataPanacheException(t);
+     *         }
+     *     }
+     * }
+     * </pre>
      */
     @Override
     protected void implementInternal(ClassCreator classCreator, ResourceMetadata resourceMetadata,
             ResourceProperties resourceProperties, FieldDescriptor resourceField) {
-        if (resourceProperties.isPaged()) {
+        if (resourceProperties.isCursorPaged()) {
+            implementCursorPaged(classCreator, resourceMetadata, resourceProperties, resourceField);
+        } else if (resourceProperties.isPaged()) {
             implementPaged(classCreator, resourceMetadata, resourceProperties, resourceField);
         } else {
             implementNotPaged(classCreator, resourceMetadata, resourceProperties, resourceField);
@@ -196,6 +225,71 @@ private void implementPaged(ClassCreator classCreator, ResourceMetadata resource
         methodCreator.close();
     }
 
+    private void implementCursorPaged(ClassCreator classCreator, ResourceMetadata resourceMetadata,
+            ResourceProperties resourceProperties, FieldDescriptor resourceField) {
+        // Method parameters: sort strings, cursor token, page size, uri info
+        MethodCreator methodCreator = SignatureMethodCreator.getMethodCreator(METHOD_NAME, classCreator,
+                isNotReactivePanache() ? ofType(Response.class) : ofType(Uni.class, resourceMetadata.getEntityType()),
+                List.class, String.class, int.class, UriInfo.class);
+
+        // Add method annotations
+        addGetAnnotation(methodCreator);
+        addPathAnnotation(methodCreator, resourceProperties.getPath(RESOURCE_METHOD_NAME));
+        addProducesAnnotation(methodCreator, APPLICATION_JSON);
+        addLinksAnnotation(methodCreator, resourceMetadata.getEntityType(), REL);
+        addSortQueryParamValidatorAnnotation(methodCreator);
+        addQueryParamAnnotation(methodCreator.getParameterAnnotations(0), "sort");
+        addQueryParamAnnotation(methodCreator.getParameterAnnotations(1), CursorPagination.CURSOR_QUERY_PARAM);
+        addQueryParamAnnotation(methodCreator.getParameterAnnotations(2), "size");
+        addDefaultValueAnnotation(methodCreator.getParameterAnnotations(2), Integer.toString(DEFAULT_PAGE_SIZE));
+        addContextAnnotation(methodCreator.getParameterAnnotations(3));
+
+        ResultHandle resource = methodCreator.readInstanceField(resourceField, methodCreator.getThis());
+        ResultHandle sortQuery = methodCreator.getMethodParam(0);
+        ResultHandle sort = methodCreator.invokeStaticMethod(
+                ofMethod(CursorPagination.class, "getSort", Sort.class, Sort.class, String.class),
+                sortImplementor.getSort(methodCreator, sortQuery), methodCreator.load(resourceMetadata.getIdField()));
+        ResultHandle cursor = methodCreator.invokeStaticMethod(
+                ofMethod(CursorPagination.class, "getCursor", Cursor.class, String.class), methodCreator.getMethodParam(1));
+        ResultHandle page = paginationImplementor.getPage(methodCreator, methodCreator.load(DEFAULT_PAGE_INDEX),
+                methodCreator.getMethodParam(2));
+        ResultHandle uriInfo = methodCreator.getMethodParam(3);
+
+        if (isNotReactivePanache()) {
+            TryBlock tryBlock = implementTryBlock(methodCreator, EXCEPTION_MESSAGE);
+            ResultHandle entities = tryBlock.invokeVirtualMethod(
+                    ofMethod(resourceMetadata.getResourceClass(), Constants.CURSOR_METHOD_PREFIX + RESOURCE_METHOD_NAME,
+                            List.class, Page.class, Sort.class, Cursor.class),
+                    resource, page, sort, cursor);
+            ResultHandle links = getCursorLinks(tryBlock, uriInfo, page, sort, cursor, entities);
+
+            // Return response
+            tryBlock.returnValue(responseImplementor.ok(tryBlock, entities, links));
+            tryBlock.close();
+        } else {
+            ResultHandle uniEntities = methodCreator.invokeVirtualMethod(
+                    ofMethod(resourceMetadata.getResourceClass(), Constants.CURSOR_METHOD_PREFIX + RESOURCE_METHOD_NAME,
+                            Uni.class, Page.class, Sort.class, Cursor.class),
+                    resource, page, sort, cursor);
+
+            methodCreator.returnValue(UniImplementor.map(methodCreator, uniEntities, EXCEPTION_MESSAGE,
+                    (body, entities) -> {
+                        ResultHandle links = getCursorLinks(body, uriInfo, page, sort, cursor, entities);
+                        body.returnValue(responseImplementor.ok(body, entities, links));
+                    }));
+        }
+
+        methodCreator.close();
+    }
+
+    private ResultHandle getCursorLinks(BytecodeCreator creator, ResultHandle uriInfo, ResultHandle page,
+            ResultHandle sort, ResultHandle cursor, ResultHandle entities) {
+        return creator.invokeStaticMethod(
+                ofMethod(CursorPagination.class, "getLinks", Link[].class, UriInfo.class, Page.class, Sort.class,
+                        Cursor.class, List.class),
+                uriInfo, page, sort, cursor, creator.checkCast(entities, List.class));
+    }
+
     private void implementNotPaged(ClassCreator classCreator, ResourceMetadata resourceMetadata,
             ResourceProperties resourceProperties, FieldDescriptor resourceFieldDescriptor) {
         MethodCreator methodCreator = SignatureMethodCreator.getMethodCreator(METHOD_NAME, classCreator,
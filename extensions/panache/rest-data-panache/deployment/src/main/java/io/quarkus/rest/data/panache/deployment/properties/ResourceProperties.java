@@ -10,6 +10,8 @@ public class ResourceProperties {
 
     private final boolean paged;
 
+    private final boolean cursorPaged;
+
     private final boolean hal;
 
     private final String halCollectionName;
@@ -18,9 +20,15 @@ public class ResourceProperties {
 
     public ResourceProperties(boolean exposed, String path, boolean paged, boolean hal, String halCollectionName,
             Map<String, MethodProperties> methodProperties) {
+        this(exposed, path, paged, false, hal, halCollectionName, methodProperties);
+    }
+
+    public ResourceProperties(boolean exposed, String path, boolean paged, boolean cursorPaged, boolean hal,
+            String halCollectionName, Map<String, MethodProperties> methodProperties) {
         this.exposed = exposed;
         this.path = path;
         this.paged = paged;
+        this.cursorPaged = cursorPaged;
         this.hal = hal;
         this.halCollectionName = halCollectionName;
         this.methodProperties = methodProperties;
@@ -61,6 +69,10 @@ public boolean isPaged() {
         return paged;
     }
 
+    public boolean isCursorPaged() {
+        return paged && cursorPaged;
+    }
+
     public boolean isHal() {
         return hal;
     }
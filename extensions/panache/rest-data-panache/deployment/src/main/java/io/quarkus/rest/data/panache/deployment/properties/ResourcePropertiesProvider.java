@@ -39,6 +39,7 @@ public ResourceProperties getForInterface(String resourceInterface) {
                 isExposed(annotation),
                 getPath(annotation, resourceInterface),
                 isPaged(annotation),
+                isCursorPaged(annotation),
                 isHal(annotation),
                 getHalCollectionName(annotation, resourceInterface),
                 methodProperties);
@@ -89,6 +90,12 @@ private boolean isPaged(AnnotationInstance annotation) {
                 || annotation.value("paged").asBoolean();
     }
 
+    private boolean isCursorPaged(AnnotationInstance annotation) {
+        return annotation != null
+                && annotation.value("cursorPaged") != null
+                && annotation.value("cursorPaged").asBoolean();
+    }
+
     private boolean isExposed(AnnotationInstance annotation) {
         return annotation == null
                 || annotation.value("exposed") == null
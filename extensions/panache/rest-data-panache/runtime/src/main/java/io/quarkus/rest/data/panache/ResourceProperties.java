@@ -41,6 +41,19 @@
      */
     boolean paged() default true;
 
+    /**
+     * Use keyset (cursor) pagination instead of page numbers for the paged collections, so that reading a page doesn't
+     * require skipping the entities of the previous pages nor counting all the entities.
+     * The requested position is extracted from the opaque `cursor` query parameter and the page size from the `size`
+     * query parameter (default 20). The entity ID is added to the requested sort to make the order of the entities
+     * total. These additional headers are injected to the response: first, prev (if exists), next (if exists), whose
+     * URIs hold the cursor of the corresponding page.
+     * Only supported by Hibernate ORM and Hibernate Reactive resources, and ignored if `paged` is false.
+     * <p>
+     * Default: false.
+     */
+    boolean cursorPaged() default false;
+
     /**
      * Generate operations that support HAL content type.
      * HAL methods are generated in addition to the standard methods. They accept the same parameters but return a content of
@@ -0,0 +1,117 @@
+package io.quarkus.rest.data.panache.runtime;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.ws.rs.core.Link;
+import javax.ws.rs.core.UriBuilder;
+import javax.ws.rs.core.UriInfo;
+
+import io.quarkus.panache.common.Cursor;
+import io.quarkus.panache.common.Page;
+import io.quarkus.panache.common.Sort;
+
+/**
+ * Cursor pagination utilities used by the generated list methods of the resources with enabled cursor pagination.
+ */
+public final class CursorPagination {
+
+    public static final String CURSOR_QUERY_PARAM = "cursor";
+
+    public static final String SORT_QUERY_PARAM = "sort";
+
+    private CursorPagination() {
+    }
+
+    /**
+     * Adds the entity ID to the requested sort, unless already present, so that the order of the entities is total.
+     */
+    public static Sort getSort(Sort sort, String idField) {
+        if (sort == null || sort.getColumns().isEmpty()) {
+            return Sort.by(idField);
+        }
+        for (Sort.Column column : sort.getColumns()) {
+            if (column.getName().equals(idField)) {
+                return sort;
+            }
+        }
+        return sort.and(idField);
+    }
+
+    /**
+     * Parses the sort query parameters, e.g. '?sort=name,-age&sort=id', the same way as the generated list methods.
+     */
+    public static Sort getSort(List<String> sortQuery) {
+        Sort sort = Sort.by();
+        for (String sortParam : sortQuery) {
+            for (String sortPart : sortParam.split(",")) {
+                String field = sortPart.trim();
+                if (field.startsWith("-")) {
+                    sort.and(field.substring(1), Sort.Direction.Descending);
+                } else if (!field.isEmpty()) {
+                    sort.and(field);
+                }
+            }
+        }
+        return sort;
+    }
+
+    /**
+     * Decodes the cursor query parameter, or returns null if it is not set.
+     */
+    public static Cursor getCursor(String token) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+        return Cursor.decode(token);
+    }
+
+    /**
+     * Returns the first, previous and next page links of the given page of entities.
+     * A full page is assumed to have a next page: the client gets an empty page at the end of the collection rather than
+     * paying for a count query on every request.
+     * The links carry the complete sort, entity ID included, that the cursors were built for, so that the sort query
+     * param filter can reject a cursor used with another sort.
+     */
+    public static Link[] getLinks(UriInfo uriInfo, Page page, Sort sort, Cursor cursor, List<?> entities) {
+        List<Link> links = new ArrayList<>(3);
+        String sortQuery = toSortQuery(sort);
+        links.add(getLink(uriInfo, sortQuery, null, "first"));
+        if (!entities.isEmpty()) {
+            boolean fullPage = entities.size() == page.size;
+            if (cursor != null && (!cursor.isBefore() || fullPage)) {
+                links.add(getLink(uriInfo, sortQuery, Cursor.beforeEntity(sort, entities.get(0)), "previous"));
+            }
+            if (fullPage || (cursor != null && cursor.isBefore())) {
+                Cursor next = Cursor.afterEntity(sort, entities.get(entities.size() - 1));
+                links.add(getLink(uriInfo, sortQuery, next, "next"));
+            }
+        }
+        return links.toArray(new Link[0]);
+    }
+
+    private static Link getLink(UriInfo uriInfo, String sortQuery, Cursor cursor, String rel) {
+        UriBuilder uriBuilder = uriInfo.getRequestUriBuilder();
+        uriBuilder.replaceQueryParam(SORT_QUERY_PARAM, sortQuery);
+        if (cursor == null) {
+            uriBuilder.replaceQueryParam(CURSOR_QUERY_PARAM);
+        } else {
+            uriBuilder.replaceQueryParam(CURSOR_QUERY_PARAM, cursor.encode());
+        }
+        return Link.fromUri(uriBuilder.build()).rel(rel).build();
+    }
+
+    private static String toSortQuery(Sort sort) {
+        StringBuilder sortQuery = new StringBuilder();
+        for (Sort.Column column : sort.getColumns()) {
+            if (sortQuery.length() > 0) {
+                sortQuery.append(',');
+            }
+            if (column.getDirection() == Sort.Direction.Descending) {
+                sortQuery.append('-');
+            }
+            sortQuery.append(column.getName());
+        }
+        return sortQuery.toString();
+    }
+}
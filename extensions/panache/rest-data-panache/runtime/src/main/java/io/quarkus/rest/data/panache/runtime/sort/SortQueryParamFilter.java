@@ -3,6 +3,7 @@
 import static javax.ws.rs.core.Response.Status.BAD_REQUEST;
 
 import java.util.Collections;
+import java.util.List;
 
 import javax.ws.rs.container.ContainerRequestContext;
 import javax.ws.rs.container.ContainerRequestFilter;
@@ -10,6 +11,9 @@
 import javax.ws.rs.core.Response;
 import javax.ws.rs.ext.Provider;
 
+import io.quarkus.panache.common.Cursor;
+import io.quarkus.rest.data.panache.runtime.CursorPagination;
+
 @Provider
 @SortQueryParamValidator
 public class SortQueryParamFilter implements ContainerRequestFilter {
@@ -22,11 +26,14 @@ public class SortQueryParamFilter implements ContainerRequestFilter {
      * * ?sort=name,surname
      * * ?sort=$surname&sort=-age
      * * ?sort=_id
+     * Also verifies that the cursor query parameter, if any, is a valid cursor token built for the requested sort.
+     * The links of the cursor paginated lists include the complete sort, entity ID included, for this purpose.
      */
     @Override
     public void filter(ContainerRequestContext requestContext) {
         MultivaluedMap<String, String> queryParams = requestContext.getUriInfo().getQueryParameters();
-        for (String sort : queryParams.getOrDefault("sort", Collections.emptyList())) {
+        List<String> sortQuery = queryParams.getOrDefault(CursorPagination.SORT_QUERY_PARAM, Collections.emptyList());
+        for (String sort : sortQuery) {
             for (String sortPart : sort.split(",")) {
                 String trimmed = sortPart.trim();
                 if (trimmed.length() > 0 && !trimmed.matches(SORT_REGEX)) {
@@ -34,8 +41,26 @@ public void filter(ContainerRequestContext requestContext) {
                             Response.status(BAD_REQUEST)
                                     .entity(String.format("Invalid sort parameter '%s'", sort))
                                     .build());
+                    return;
                 }
             }
         }
+        String token = queryParams.getFirst(CursorPagination.CURSOR_QUERY_PARAM);
+        Cursor cursor;
+        try {
+            cursor = CursorPagination.getCursor(token);
+        } catch (IllegalArgumentException e) {
+            requestContext.abortWith(
+                    Response.status(BAD_REQUEST)
+                            .entity(String.format("Invalid cursor parameter '%s'", token))
+                            .build());
+            return;
+        }
+        if (cursor != null && !cursor.isFor(CursorPagination.getSort(sortQuery))) {
+            requestContext.abortWith(
+                    Response.status(BAD_REQUEST)
+                            .entity(String.format("Cursor parameter '%s' does not match the sort parameter", token))
+                            .build());
+        }
     }
 }
@@ -0,0 +1,28 @@
+package io.quarkus.qute.deployment;
+
+import java.util.Set;
+
+import org.jboss.jandex.AnnotationTarget;
+
+import io.quarkus.builder.item.MultiBuildItem;
+
+/**
+ * Represents a part of a type-safe expression that is resolved by a Java member validated during build.
+ * <p>
+ * A generated value resolver that accesses the member directly is bound to the part if
+ * {@code quarkus.qute.compile-type-safe-expressions} is set to {@code true}.
+ *
+ * @see io.quarkus.qute.EngineBuilder#bindValueResolver(String, io.quarkus.qute.ValueResolver)
+ */
+final class CompiledExpressionPartBuildItem extends MultiBuildItem {
+
+    final Set<String> keys;
+
+    final AnnotationTarget member;
+
+    CompiledExpressionPartBuildItem(Set<String> keys, AnnotationTarget member) {
+        this.keys = keys;
+        this.member = member;
+    }
+
+}
@@ -0,0 +1,31 @@
+package io.quarkus.qute.deployment;
+
+import java.util.Set;
+
+import io.quarkus.builder.item.MultiBuildItem;
+
+/**
+ * Holds a name of a generated accessor class and the keys of the expression parts the accessor is bound to.
+ *
+ * @see CompiledExpressionPartBuildItem
+ */
+final class GeneratedAccessorBuildItem extends MultiBuildItem {
+
+    private final Set<String> keys;
+
+    private final String className;
+
+    GeneratedAccessorBuildItem(Set<String> keys, String className) {
+        this.keys = keys;
+        this.className = className;
+    }
+
+    Set<String> getKeys() {
+        return keys;
+    }
+
+    String getClassName() {
+        return className;
+    }
+
+}
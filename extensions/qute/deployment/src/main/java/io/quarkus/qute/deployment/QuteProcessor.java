@@ -24,6 +24,7 @@
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
@@ -124,6 +125,7 @@
 import io.quarkus.qute.generator.ExtensionMethodGenerator.NamespaceResolverCreator;
 import io.quarkus.qute.generator.ExtensionMethodGenerator.NamespaceResolverCreator.ResolveCreator;
 import io.quarkus.qute.generator.ExtensionMethodGenerator.Param;
+import io.quarkus.qute.generator.MemberAccessorGenerator;
 import io.quarkus.qute.generator.TemplateGlobalGenerator;
 import io.quarkus.qute.generator.ValueResolverGenerator;
 import io.quarkus.qute.runtime.ContentTypes;
@@ -618,7 +620,8 @@ void validateExpressions(TemplatesAnalysisBuildItem templatesAnalysis,
             BeanDiscoveryFinishedBuildItem beanDiscovery,
             List<CheckedTemplateBuildItem> checkedTemplates,
             List<TemplateDataBuildItem> templateData,
-            QuteConfig config) {
+            QuteConfig config,
+            BuildProducer<CompiledExpressionPartBuildItem> compiledExpressionParts) {
 
         IndexView index = beanArchiveIndex.getIndex();
         Function<String, String> templateIdToPathFun = new Function<String, String>() {
@@ -665,6 +668,9 @@ public String apply(String id) {
             CheckedTemplateBuildItem checkedTemplate = findCheckedTemplate(config, templateAnalysis, checkedTemplates);
             // Maps an expression generated id to the last match of an expression (i.e. the type of the last part)
             Map<Integer, Match> generatedIdsToMatches = new HashMap<>();
+            // Maps a part of an expression to the java member used to resolve the part; only collected for template files
+            Map<Expression.Part, AnnotationTarget> partsToMembers = config.compileTypeSafeExpressions
+                    && templateAnalysis.id == null ? new IdentityHashMap<>() : null;
 
             // Iterate over all top-level expressions found in the template
             for (Expression expression : templateAnalysis.expressions) {
@@ -675,10 +681,31 @@ public String apply(String id) {
                         incorrectExpressions, expression, index, implicitClassToMembersUsed, templateIdToPathFun,
                         generatedIdsToMatches,
                         checkedTemplate, lookupConfig, namedBeans, namespaceTemplateData, regularExtensionMethods,
-                        namespaceExtensionMethods, assignableCache);
+                        namespaceExtensionMethods, assignableCache, partsToMembers);
                 generatedIdsToMatches.put(expression.getGeneratedId(), match);
             }
 
+            if (partsToMembers != null && !partsToMembers.isEmpty()) {
+                // The template may be loaded either by path or by path without suffix, e.g. "items.html" or "items"
+                String pathWithoutSuffix = stripSuffix(config, templateAnalysis.path);
+                for (Expression expression : templateAnalysis.expressions) {
+                    if (expression.isLiteral()) {
+                        continue;
+                    }
+                    List<Expression.Part> parts = expression.getParts();
+                    // The first part is never resolved by a bound resolver
+                    for (int i = 1; i < parts.size(); i++) {
+                        AnnotationTarget member = partsToMembers.get(parts.get(i));
+                        if (member != null) {
+                            Set<String> keys = new HashSet<>();
+                            keys.add(EngineBuilder.expressionPartKey(templateAnalysis.path, expression, i));
+                            keys.add(EngineBuilder.expressionPartKey(pathWithoutSuffix, expression, i));
+                            compiledExpressionParts.produce(new CompiledExpressionPartBuildItem(keys, member));
+                        }
+                    }
+                }
+            }
+
             // Validate default values of parameter declarations
             for (ParameterDeclaration parameterDeclaration : templateAnalysis.parameterDeclarations) {
                 Expression defaultValue = parameterDeclaration.getDefaultValue();
@@ -746,13 +773,7 @@ static Predicate<AnnotationTarget> initDefaultMembersFilter() {
     private CheckedTemplateBuildItem findCheckedTemplate(QuteConfig config, TemplateAnalysis analysis,
             List<CheckedTemplateBuildItem> checkedTemplates) {
         // Try to find the checked template
-        String path = analysis.path;
-        for (String suffix : config.suffixes) {
-            if (path.endsWith(suffix)) {
-                path = path.substring(0, path.length() - (suffix.length() + 1));
-                break;
-            }
-        }
+        String path = stripSuffix(config, analysis.path);
         for (CheckedTemplateBuildItem item : checkedTemplates) {
             if (item.templateId.equals(path)) {
                 return item;
@@ -761,6 +782,15 @@ private CheckedTemplateBuildItem findCheckedTemplate(QuteConfig config, Template
         return null;
     }
 
+    private static String stripSuffix(QuteConfig config, String path) {
+        for (String suffix : config.suffixes) {
+            if (path.endsWith(suffix)) {
+                return path.substring(0, path.length() - (suffix.length() + 1));
+            }
+        }
+        return path;
+    }
+
     static String buildIgnorePattern(Iterable<String> names) {
         // ^(?!\\Qbar\\P|\\Qfoo\\P).*$
         StringBuilder pattern = new StringBuilder("^(?!");
@@ -790,6 +820,23 @@ static Match validateNestedExpressions(QuteConfig config, TemplateAnalysis templ
             List<TemplateExtensionMethodBuildItem> regularExtensionMethods,
             Map<String, List<TemplateExtensionMethodBuildItem>> namespaceExtensionMethods,
             Map<DotName, AssignableInfo> assignableCache) {
+        return validateNestedExpressions(config, templateAnalysis, rootClazz, results, excludes, incorrectExpressions,
+                expression, index, implicitClassToMembersUsed, templateIdToPathFun, generatedIdsToMatches, checkedTemplate,
+                lookupConfig, namedBeans, namespaceTemplateData, regularExtensionMethods, namespaceExtensionMethods,
+                assignableCache, null);
+    }
+
+    static Match validateNestedExpressions(QuteConfig config, TemplateAnalysis templateAnalysis, ClassInfo rootClazz,
+            Map<String, Match> results,
+            List<TypeCheckExcludeBuildItem> excludes, BuildProducer<IncorrectExpressionBuildItem> incorrectExpressions,
+            Expression expression, IndexView index,
+            Map<DotName, Set<String>> implicitClassToMembersUsed, Function<String, String> templateIdToPathFun,
+            Map<Integer, Match> generatedIdsToMatches, CheckedTemplateBuildItem checkedTemplate,
+            LookupConfig lookupConfig, Map<String, BeanInfo> namedBeans,
+            Map<String, TemplateDataBuildItem> namespaceTemplateData,
+            List<TemplateExtensionMethodBuildItem> regularExtensionMethods,
+            Map<String, List<TemplateExtensionMethodBuildItem>> namespaceExtensionMethods,
+            Map<DotName, AssignableInfo> assignableCache, Map<Expression.Part, AnnotationTarget> partsToMembers) {
 
         LOGGER.debugf("Validate %s from %s", expression, expression.getOrigin());
 
@@ -1082,6 +1129,10 @@ static Match validateNestedExpressions(QuteConfig config, TemplateAnalysis templ
                     match.clearValues();
                     break;
                 } else {
+                    if (partsToMembers != null && extensionMethod == null && info.isProperty()) {
+                        // Java member found for a property, e.g. "name" in {item.name}
+                        partsToMembers.put(info.part, member);
+                    }
                     Type type = resolveType(member, match, index, extensionMethod);
                     ClassInfo clazz = null;
                     if (type.kind() == Type.Kind.CLASS || type.kind() == Type.Kind.PARAMETERIZED_TYPE) {
@@ -1732,12 +1783,63 @@ public boolean test(TypeCheck check) {
         }
     }
 
+    @BuildStep
+    void generateAccessors(BeanArchiveIndexBuildItem beanArchiveIndex,
+            List<CompiledExpressionPartBuildItem> compiledExpressionParts,
+            List<PanacheEntityClassesBuildItem> panacheEntityClasses,
+            BuildProducer<GeneratedClassBuildItem> generatedClasses,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClass,
+            BuildProducer<GeneratedAccessorBuildItem> generatedAccessors) {
+        if (compiledExpressionParts.isEmpty()) {
+            return;
+        }
+        ClassOutput classOutput = new GeneratedClassGizmoAdaptor(generatedClasses, new Function<String, String>() {
+            @Override
+            public String apply(String name) {
+                // org/acme/Foo_method_getName_Accessor -> org/acme/Foo
+                int idx = name.lastIndexOf("_method_");
+                if (idx == -1) {
+                    idx = name.lastIndexOf("_field_");
+                }
+                String className = name.substring(0, idx);
+                if (className.contains(ValueResolverGenerator.NESTED_SEPARATOR)) {
+                    className = className.replace(ValueResolverGenerator.NESTED_SEPARATOR, "$");
+                }
+                return className;
+            }
+        });
+        Set<String> entityClasses = new HashSet<>();
+        for (PanacheEntityClassesBuildItem panacheEntityClassesBuildItem : panacheEntityClasses) {
+            entityClasses.addAll(panacheEntityClassesBuildItem.getEntityClasses());
+        }
+
+        MemberAccessorGenerator generator = new MemberAccessorGenerator(beanArchiveIndex.getIndex(), classOutput);
+        for (CompiledExpressionPartBuildItem part : compiledExpressionParts) {
+            if (!generator.isSupported(part.member)) {
+                continue;
+            }
+            if (part.member.kind() == Kind.FIELD
+                    && entityClasses.contains(part.member.asField().declaringClass().name().toString())) {
+                // The generated value resolver of a Panache entity calls the getter instead of reading the field
+                continue;
+            }
+            generatedAccessors.produce(new GeneratedAccessorBuildItem(part.keys, generator.generate(part.member)));
+        }
+
+        LOGGER.debugf("Generated accessors: %s", generator.getGeneratedTypes());
+
+        for (String generatedType : generator.getGeneratedTypes()) {
+            reflectiveClass.produce(new ReflectiveClassBuildItem(false, false, generatedType));
+        }
+    }
+
     @BuildStep
     @Record(value = STATIC_INIT)
     void initialize(BuildProducer<SyntheticBeanBuildItem> syntheticBeans, QuteRecorder recorder,
             List<GeneratedValueResolverBuildItem> generatedValueResolvers, List<TemplatePathBuildItem> templatePaths,
             Optional<TemplateVariantsBuildItem> templateVariants,
-            List<GeneratedTemplateInitializerBuildItem> templateInitializers) {
+            List<GeneratedTemplateInitializerBuildItem> templateInitializers,
+            List<GeneratedAccessorBuildItem> generatedAccessors) {
 
         List<String> templates = new ArrayList<>();
         List<String> tags = new ArrayList<>();
@@ -1756,12 +1858,19 @@ void initialize(BuildProducer<SyntheticBeanBuildItem> syntheticBeans, QuteRecord
         } else {
             variants = Collections.emptyMap();
         }
+        Map<String, String> boundResolvers = new HashMap<>();
+        for (GeneratedAccessorBuildItem accessor : generatedAccessors) {
+            for (String key : accessor.getKeys()) {
+                boundResolvers.put(key, accessor.getClassName());
+            }
+        }
 
         syntheticBeans.produce(SyntheticBeanBuildItem.configure(QuteContext.class)
                 .supplier(recorder.createContext(generatedValueResolvers.stream()
                         .map(GeneratedValueResolverBuildItem::getClassName).collect(Collectors.toList()), templates,
                         tags, variants, templateInitializers.stream()
-                                .map(GeneratedTemplateInitializerBuildItem::getClassName).collect(Collectors.toList())))
+                                .map(GeneratedTemplateInitializerBuildItem::getClassName).collect(Collectors.toList()),
+                        boundResolvers))
                 .done());
     }
 
@@ -0,0 +1,42 @@
+package io.quarkus.qute.deployment.typesafe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.qute.Template;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class CompileTypeSafeExpressionsTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Item.class, OtherItem.class)
+                    .addAsResource(new StringAsset("{@java.util.List<io.quarkus.qute.deployment.typesafe.Item> items}"
+                            + "{#for item in items}"
+                            + "{item.name}:{item.otherItems.length}{#if item_hasNext},{/if}"
+                            + "{/for}"), "templates/items.html"))
+            .overrideConfigKey("quarkus.qute.compile-type-safe-expressions", "true");
+
+    @Inject
+    Template items;
+
+    @Test
+    public void testCompiledExpressions() throws ClassNotFoundException {
+        // The accessors are generated for the members used in the type-safe expressions
+        Thread.currentThread().getContextClassLoader()
+                .loadClass("io.quarkus.qute.deployment.typesafe.Item_method_getName_Accessor");
+        Thread.currentThread().getContextClassLoader()
+                .loadClass("io.quarkus.qute.deployment.typesafe.Item_method_getOtherItems_Accessor");
+        assertEquals("foo:1,bar:0",
+                items.data("items", List.of(new Item("foo", new OtherItem()), new Item("bar"))).render());
+    }
+
+}
@@ -175,6 +175,13 @@ public EngineProducer(QuteContext context, QuteConfig config, QuteRuntimeConfig
             }
             LOGGER.debugf("Added generated value resolver: %s", resolverClass);
         }
+        // Bind the generated accessors to the compiled parts of type-safe expressions
+        Map<String, ValueResolver> accessors = new HashMap<>();
+        for (Entry<String, String> entry : context.getBoundResolverClasses().entrySet()) {
+            ValueResolver accessor = accessors.computeIfAbsent(entry.getValue(),
+                    accessorClass -> (ValueResolver) createResolver(accessorClass));
+            builder.bindValueResolver(entry.getKey(), accessor);
+        }
         // Add tags
         for (String tag : tags) {
             // Strip suffix, item.html -> item
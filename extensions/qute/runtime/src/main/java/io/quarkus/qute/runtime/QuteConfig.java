@@ -88,4 +88,17 @@ public class QuteConfig {
     @ConfigItem(defaultValue = "UTF-8")
     public Charset defaultCharset;
 
+    /**
+     * If set to {@code true} then the parts of type-safe expressions validated during build are compiled, i.e. a value
+     * resolver that reads the field or invokes the method directly is generated for each Java member used in a type-safe
+     * expression. At runtime, the generated resolver is bound to the relevant parts of the expressions so that the engine does
+     * not need to look up the member by name.
+     * <p>
+     * Only the member accesses are compiled: the templates are still rendered by walking the node tree, the text is not
+     * pre-encoded and the sections are not turned into loops or branches. Only the templates located in the
+     * {@code templates} directory are compiled.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean compileTypeSafeExpressions;
+
 }
@@ -11,7 +11,7 @@ public class QuteRecorder {
 
     public Supplier<Object> createContext(List<String> resolverClasses,
             List<String> templatePaths, List<String> tags, Map<String, List<String>> variants,
-            List<String> templateInstanceInitializerClasses) {
+            List<String> templateInstanceInitializerClasses, Map<String, String> boundResolverClasses) {
         return new Supplier<Object>() {
 
             @Override
@@ -43,6 +43,11 @@ public List<String> getTemplateInstanceInitializerClasses() {
                         return templateInstanceInitializerClasses;
                     }
 
+                    @Override
+                    public Map<String, String> getBoundResolverClasses() {
+                        return boundResolverClasses;
+                    }
+
                 };
             }
         };
@@ -60,6 +65,13 @@ public interface QuteContext {
 
         List<String> getTemplateInstanceInitializerClasses();
 
+        /**
+         *
+         * @return the map of expression part keys to generated value resolver classes
+         * @see io.quarkus.qute.EngineBuilder#bindValueResolver(String, io.quarkus.qute.ValueResolver)
+         */
+        Map<String, String> getBoundResolverClasses();
+
     }
 
 }
@@ -0,0 +1,322 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.processor;
+
+import java.lang.reflect.Modifier;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.AnnotationValue;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.PrimitiveType;
+import org.jboss.jandex.Type;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+import com.fasterxml.jackson.annotation.JsonIncludeProperties;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.jackson.JacksonMixin;
+import io.quarkus.resteasy.reactive.jackson.SecureField;
+
+/**
+ * Base class of the generators of reflection-free Jackson serializers and deserializers.
+ * <p>
+ * A generator processes the given types and the types of the properties of the supported classes. A class is not
+ * supported if Jackson would handle it in a different way than the generated code, e.g. because a Jackson annotation is
+ * used or because the class is the target of a mixin.
+ */
+abstract class JacksonCodeGenerator {
+
+    static final DotName OBJECT = DotName.createSimple(Object.class.getName());
+    static final DotName STRING = DotName.createSimple(String.class.getName());
+
+    private static final String JACKSON_PACKAGE_PREFIX = "com.fasterxml.jackson.";
+    private static final DotName BOOLEAN = DotName.createSimple(Boolean.class.getName());
+    private static final DotName JSON_IGNORE_TYPE = DotName.createSimple(JsonIgnoreType.class.getName());
+    private static final DotName JSON_UNWRAPPED = DotName.createSimple(JsonUnwrapped.class.getName());
+    private static final List<DotName> CONTEXTUAL_PROPERTY_ANNOTATIONS = List.of(
+            DotName.createSimple(JsonIgnoreProperties.class.getName()),
+            DotName.createSimple(JsonIncludeProperties.class.getName()),
+            DotName.createSimple(JsonFormat.class.getName()));
+    private static final DotName JACKSON_MIXIN = DotName.createSimple(JacksonMixin.class.getName());
+    private static final DotName SECURE_FIELD = DotName.createSimple(SecureField.class.getName());
+    private static final DotName BEANS_TRANSIENT = DotName.createSimple("java.beans.Transient");
+    private static final DotName KOTLIN_METADATA = DotName.createSimple("kotlin.Metadata");
+    // Jackson handles the implementations of most of the other JDK interfaces (Iterable, Map, CharSequence...) in a special way
+    private static final Set<DotName> SUPPORTED_JDK_INTERFACES = Set.of(
+            DotName.createSimple(java.io.Serializable.class.getName()),
+            DotName.createSimple(Comparable.class.getName()),
+            DotName.createSimple(Cloneable.class.getName()));
+
+    protected final IndexView index;
+    protected final ClassOutput classOutput;
+    private final Set<DotName> excluded;
+    private final Set<DotName> processed;
+    private final Map<DotName, String> generatedClasses;
+
+    JacksonCodeGenerator(IndexView index, ClassOutput classOutput) {
+        this.index = index;
+        this.classOutput = classOutput;
+        this.excluded = new HashSet<>();
+        this.processed = new HashSet<>();
+        this.generatedClasses = new LinkedHashMap<>();
+        for (AnnotationInstance mixin : index.getAnnotations(JACKSON_MIXIN)) {
+            AnnotationValue value = mixin.value();
+            if (value != null) {
+                for (Type target : value.asClassArray()) {
+                    excluded.add(target.name());
+                }
+            }
+        }
+        // An unwrapped value is handled by the enclosing object
+        for (AnnotationInstance unwrapped : index.getAnnotations(JSON_UNWRAPPED)) {
+            excludePropertyType(unwrapped.target(), false);
+        }
+        // Jackson contextualizes the (de)serializer of a property annotated with one of these annotations, e.g. to ignore
+        // some properties of the value, which a generated class would not do
+        for (DotName propertyAnnotation : CONTEXTUAL_PROPERTY_ANNOTATIONS) {
+            for (AnnotationInstance annotation : index.getAnnotations(propertyAnnotation)) {
+                excludePropertyType(annotation.target(), true);
+            }
+        }
+    }
+
+    private void excludePropertyType(AnnotationTarget target, boolean includeTypeArguments) {
+        switch (target.kind()) {
+            case FIELD:
+                excludeType(target.asField().type(), includeTypeArguments);
+                break;
+            case METHOD:
+                MethodInfo method = target.asMethod();
+                // A setter or a getter
+                excludeType(method.parametersCount() == 1 ? method.parameterType(0) : method.returnType(),
+                        includeTypeArguments);
+                break;
+            case METHOD_PARAMETER:
+                excludeType(target.asMethodParameter().type(), includeTypeArguments);
+                break;
+            case RECORD_COMPONENT:
+                excludeType(target.asRecordComponent().type(), includeTypeArguments);
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void excludeType(Type type, boolean includeTypeArguments) {
+        switch (type.kind()) {
+            case CLASS:
+                excluded.add(type.name());
+                break;
+            case PARAMETERIZED_TYPE:
+                excluded.add(type.name());
+                if (includeTypeArguments) {
+                    // The annotation applies to the elements of a collection or the values of a map
+                    for (Type argument : type.asParameterizedType().arguments()) {
+                        excludeType(argument, true);
+                    }
+                }
+                break;
+            case ARRAY:
+                excludeType(type.asArrayType().component(), includeTypeArguments);
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Generates the code for the given type and the types of its properties, or for the type arguments if a
+     * parameterized type such as {@code List<Item>} is given.
+     *
+     * @param type
+     */
+    void generate(Type type) {
+        switch (type.kind()) {
+            case CLASS:
+                generate(type.name());
+                break;
+            case PARAMETERIZED_TYPE:
+                generate(type.name());
+                for (Type argument : type.asParameterizedType().arguments()) {
+                    generate(argument);
+                }
+                break;
+            case ARRAY:
+                generate(type.asArrayType().component());
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     *
+     * @return the map of target class names to generated class names
+     */
+    Map<DotName, String> getGeneratedClasses() {
+        return generatedClasses;
+    }
+
+    private void generate(DotName className) {
+        if (!processed.add(className)) {
+            return;
+        }
+        ClassInfo clazz = index.getClassByName(className);
+        if (clazz == null || !isSupportedClass(clazz)) {
+            return;
+        }
+        String generatedName = clazz.name().toString() + getSuffix();
+        Collection<Type> propertyTypes = generateClass(clazz, generatedName);
+        if (propertyTypes == null) {
+            return;
+        }
+        generatedClasses.put(className, generatedName);
+        for (Type propertyType : propertyTypes) {
+            generate(propertyType);
+        }
+    }
+
+    /**
+     *
+     * @return the suffix of the generated class names
+     */
+    protected abstract String getSuffix();
+
+    /**
+     * Generates the class for the given supported class, unless the properties of the class are not supported.
+     *
+     * @param clazz
+     * @param generatedName
+     * @return the types of the properties, or {@code null} if nothing was generated
+     */
+    protected abstract Collection<Type> generateClass(ClassInfo clazz, String generatedName);
+
+    private boolean isSupportedClass(ClassInfo clazz) {
+        return !excluded.contains(clazz.name())
+                && Modifier.isPublic(clazz.flags())
+                && !Modifier.isAbstract(clazz.flags())
+                && !clazz.isInterface()
+                && !clazz.isEnum()
+                && clazz.typeParameters().isEmpty()
+                && clazz.nestingType() != ClassInfo.NestingType.LOCAL
+                && clazz.nestingType() != ClassInfo.NestingType.ANONYMOUS
+                && !hasUnsupportedAnnotations(clazz)
+                && hasSupportedInterfaces(clazz);
+    }
+
+    private boolean hasUnsupportedAnnotations(ClassInfo clazz) {
+        for (DotName annotation : clazz.annotationsMap().keySet()) {
+            if (annotation.toString().startsWith(JACKSON_PACKAGE_PREFIX)
+                    || annotation.equals(SECURE_FIELD)
+                    || annotation.equals(BEANS_TRANSIENT)
+                    || annotation.equals(KOTLIN_METADATA)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean hasSupportedInterfaces(ClassInfo clazz) {
+        for (DotName interfaceName : clazz.interfaceNames()) {
+            if (SUPPORTED_JDK_INTERFACES.contains(interfaceName)) {
+                continue;
+            }
+            if (interfaceName.toString().startsWith("java.")) {
+                return false;
+            }
+            // Jackson also takes the annotations and the default methods of an interface into account
+            ClassInfo interfaceClass = index.getClassByName(interfaceName);
+            if (interfaceClass == null || hasUnsupportedAnnotations(interfaceClass)) {
+                return false;
+            }
+            for (MethodInfo method : interfaceClass.methods()) {
+                if (!Modifier.isStatic(method.flags()) && !Modifier.isAbstract(method.flags())) {
+                    return false;
+                }
+            }
+            if (!hasSupportedInterfaces(interfaceClass)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     *
+     * @param types
+     * @return {@code true} if any of the given types is annotated with {@link JsonIgnoreType}
+     */
+    protected boolean hasIgnoredType(Collection<Type> types) {
+        for (Type type : types) {
+            ClassInfo typeClass = index.getClassByName(type.name());
+            if (typeClass != null && typeClass.declaredAnnotation(JSON_IGNORE_TYPE) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Follows {@code BeanUtil#okNameForGetter()} and {@code BeanUtil#legacyManglePropertyName()}.
+     *
+     * @param method
+     * @return the name of the property or {@code null} if the method is not a getter
+     */
+    static String getPropertyName(MethodInfo method) {
+        String name = method.name();
+        if (name.startsWith("is") && isBoolean(method.returnType())) {
+            return manglePropertyName(name, 2);
+        } else if (name.startsWith("get")) {
+            return manglePropertyName(name, 3);
+        }
+        return null;
+    }
+
+    /**
+     * Follows {@code BeanUtil#okNameForMutator()} and {@code BeanUtil#legacyManglePropertyName()}.
+     *
+     * @param method
+     * @return the name of the property or {@code null} if the method is not a setter
+     */
+    static String getSetterPropertyName(MethodInfo method) {
+        return method.name().startsWith("set") ? manglePropertyName(method.name(), 3) : null;
+    }
+
+    private static String manglePropertyName(String name, int offset) {
+        if (name.length() == offset) {
+            return null;
+        }
+        // Lower-case the leading upper-case characters, e.g. "getURL" -> "url"
+        StringBuilder propertyName = new StringBuilder(name.length() - offset);
+        int i = offset;
+        for (; i < name.length(); i++) {
+            char c = name.charAt(i);
+            char lower = Character.toLowerCase(c);
+            if (c == lower) {
+                break;
+            }
+            propertyName.append(lower);
+        }
+        propertyName.append(name, i, name.length());
+        return propertyName.toString();
+    }
+
+    private static boolean isBoolean(Type type) {
+        if (type.kind() == Type.Kind.PRIMITIVE) {
+            return type.asPrimitiveType().primitive() == PrimitiveType.Primitive.BOOLEAN;
+        }
+        return type.name().equals(BOOLEAN);
+    }
+
+}
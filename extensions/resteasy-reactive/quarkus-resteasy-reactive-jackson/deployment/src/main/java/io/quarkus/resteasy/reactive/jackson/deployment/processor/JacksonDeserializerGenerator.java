@@ -0,0 +1,442 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.processor;
+
+import static org.objectweb.asm.Opcodes.ACC_BRIDGE;
+import static org.objectweb.asm.Opcodes.ACC_PROTECTED;
+import static org.objectweb.asm.Opcodes.ACC_SYNTHETIC;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.PrimitiveType;
+import org.jboss.jandex.RecordComponentInfo;
+import org.jboss.jandex.Type;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+
+import io.quarkus.gizmo.BytecodeCreator;
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.gizmo.FieldDescriptor;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.GeneratedBeanDeserializer;
+import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.GeneratedCreatorBeanDeserializer;
+import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.GeneratedSetterBeanDeserializer;
+
+/**
+ * Generates a {@link GeneratedBeanDeserializer} for each supported class found in the given types.
+ * <p>
+ * A bean is created with the public no-args constructor and the properties are set with the public setters or written
+ * to the public fields, i.e. the mutators detected by Jackson by default, see {@link GeneratedSetterBeanDeserializer}. A
+ * record is created with its canonical constructor, see {@link GeneratedCreatorBeanDeserializer}. A class is not
+ * supported if Jackson could use another creator or mutator, e.g. a single-argument constructor, a non-public setter or
+ * a non-public field inferred from a getter.
+ */
+class JacksonDeserializerGenerator extends JacksonCodeGenerator {
+
+    static final String SUFFIX = "$quarkusjacksondeserializer";
+
+    private static final DotName RECORD = DotName.createSimple("java.lang.Record");
+
+    private static final MethodDescriptor SETTER_SUPER_CONSTRUCTOR = MethodDescriptor.ofConstructor(
+            GeneratedSetterBeanDeserializer.class, Class.class, String[].class);
+    private static final MethodDescriptor CREATOR_SUPER_CONSTRUCTOR = MethodDescriptor.ofConstructor(
+            GeneratedCreatorBeanDeserializer.class, Class.class, String[].class);
+    private static final MethodDescriptor CONSTRUCT_TYPE = MethodDescriptor.ofMethod(TypeFactory.class,
+            "constructType", JavaType.class, java.lang.reflect.Type.class);
+    private static final MethodDescriptor CONSTRUCT_PARAMETRIC_TYPE = MethodDescriptor.ofMethod(TypeFactory.class,
+            "constructParametricType", JavaType.class, Class.class, JavaType[].class);
+    private static final MethodDescriptor CONSTRUCT_ARRAY_TYPE = MethodDescriptor.ofMethod(TypeFactory.class,
+            "constructArrayType", com.fasterxml.jackson.databind.type.ArrayType.class, JavaType.class);
+    private static final MethodDescriptor STRING_HASH_CODE = MethodDescriptor.ofMethod(String.class, "hashCode",
+            int.class);
+    private static final MethodDescriptor STRING_EQUALS = MethodDescriptor.ofMethod(String.class, "equals",
+            boolean.class, Object.class);
+
+    JacksonDeserializerGenerator(IndexView index, ClassOutput classOutput) {
+        super(index, classOutput);
+    }
+
+    @Override
+    protected String getSuffix() {
+        return SUFFIX;
+    }
+
+    @Override
+    protected Collection<Type> generateClass(ClassInfo clazz, String generatedName) {
+        Map<String, AnnotationTarget> properties = clazz.isRecord() ? getRecordComponents(clazz) : getMutators(clazz);
+        if (properties == null || properties.isEmpty()) {
+            return null;
+        }
+        List<Type> propertyTypes = new ArrayList<>(properties.size());
+        for (AnnotationTarget property : properties.values()) {
+            Type type = getType(property);
+            if (!isSupportedType(type)) {
+                return null;
+            }
+            propertyTypes.add(type);
+        }
+        if (hasIgnoredType(propertyTypes)) {
+            return null;
+        }
+        generateDeserializer(clazz, generatedName, properties);
+        return propertyTypes;
+    }
+
+    /**
+     *
+     * @param clazz
+     * @return the mutators of the properties, or {@code null} if the class is not supported
+     */
+    private Map<String, AnnotationTarget> getMutators(ClassInfo clazz) {
+        if (!OBJECT.equals(clazz.superName())) {
+            return null;
+        }
+        MethodInfo noArgsConstructor = clazz.method("<init>");
+        if (noArgsConstructor == null || !Modifier.isPublic(noArgsConstructor.flags())) {
+            return null;
+        }
+        for (MethodInfo constructor : clazz.constructors()) {
+            // Jackson uses a single-argument constructor to create a bean from a scalar value
+            if (constructor.parametersCount() == 1) {
+                return null;
+            }
+        }
+
+        Map<String, FieldInfo> fields = new LinkedHashMap<>();
+        for (FieldInfo field : clazz.unsortedFields()) {
+            if (Modifier.isStatic(field.flags()) || (field.flags() & ACC_SYNTHETIC) != 0) {
+                continue;
+            }
+            if (Modifier.isTransient(field.flags())) {
+                return null;
+            }
+            fields.put(field.name(), field);
+        }
+        Map<String, MethodInfo> getters = new HashMap<>();
+        Map<String, MethodInfo> setters = new LinkedHashMap<>();
+        for (MethodInfo method : clazz.unsortedMethods()) {
+            if ((method.flags() & (ACC_SYNTHETIC | ACC_BRIDGE)) != 0 || method.name().equals("<init>")) {
+                continue;
+            }
+            if (Modifier.isStatic(method.flags())) {
+                // Jackson may use a factory method to create a bean from a scalar value
+                if (method.name().equals("valueOf") || method.name().equals("fromString")) {
+                    return null;
+                }
+                continue;
+            }
+            if (method.parametersCount() == 1) {
+                // Jackson detects the setters regardless of their visibility
+                String name = getSetterPropertyName(method);
+                if (name != null && (!Modifier.isPublic(method.flags()) || setters.put(name, method) != null)) {
+                    return null;
+                }
+            } else if (method.parametersCount() == 0 && Modifier.isPublic(method.flags())
+                    && method.returnType().kind() != Type.Kind.VOID) {
+                if (method.name().equals("getCallbacks") || method.name().equals("getMetaClass")) {
+                    return null;
+                }
+                String name = getPropertyName(method);
+                if (name != null && getters.put(name, method) != null) {
+                    return null;
+                }
+            }
+        }
+
+        Set<String> names = new LinkedHashSet<>(fields.keySet());
+        names.addAll(setters.keySet());
+        names.addAll(getters.keySet());
+        Map<String, AnnotationTarget> properties = new LinkedHashMap<>();
+        for (String name : names) {
+            MethodInfo setter = setters.get(name);
+            FieldInfo field = fields.get(name);
+            if (setter != null) {
+                properties.put(name, setter);
+            } else if (field != null && (Modifier.isPublic(field.flags()) || getters.containsKey(name))) {
+                // A field with a visible getter is used even if it is not visible itself
+                if (!Modifier.isPublic(field.flags()) || Modifier.isFinal(field.flags())) {
+                    return null;
+                }
+                properties.put(name, field);
+            } else if (getters.containsKey(name) && isCollectionOrMap(getters.get(name).returnType())) {
+                // Jackson adds the values to a collection or map returned from a getter
+                return null;
+            }
+            // Otherwise the property is unknown
+        }
+        return properties;
+    }
+
+    /**
+     *
+     * @param clazz
+     * @return the components of the record, or {@code null} if the record is not supported
+     */
+    private Map<String, AnnotationTarget> getRecordComponents(ClassInfo clazz) {
+        if (!RECORD.equals(clazz.superName())) {
+            return null;
+        }
+        Map<String, AnnotationTarget> properties = new LinkedHashMap<>();
+        for (RecordComponentInfo component : clazz.unsortedRecordComponents()) {
+            properties.put(component.name(), component);
+        }
+        // Only the canonical constructor is used
+        List<MethodInfo> constructors = clazz.constructors();
+        if (constructors.size() != 1 || getCanonicalConstructor(clazz, properties) == null) {
+            return null;
+        }
+        for (MethodInfo method : clazz.unsortedMethods()) {
+            if (Modifier.isStatic(method.flags()) ? method.returnType().name().equals(clazz.name())
+                    : method.parametersCount() == 1 && getSetterPropertyName(method) != null) {
+                return null;
+            }
+        }
+        return properties;
+    }
+
+    private MethodInfo getCanonicalConstructor(ClassInfo clazz, Map<String, AnnotationTarget> components) {
+        for (MethodInfo constructor : clazz.constructors()) {
+            if (constructor.parametersCount() != components.size()) {
+                continue;
+            }
+            int i = 0;
+            boolean matches = true;
+            for (AnnotationTarget component : components.values()) {
+                if (!constructor.parameterType(i++).name().equals(getType(component).name())) {
+                    matches = false;
+                    break;
+                }
+            }
+            if (matches) {
+                return constructor;
+            }
+        }
+        return null;
+    }
+
+    private boolean isSupportedType(Type type) {
+        switch (type.kind()) {
+            case PRIMITIVE:
+            case CLASS:
+                return true;
+            case ARRAY:
+                return isSupportedType(type.asArrayType().component());
+            case PARAMETERIZED_TYPE:
+                if (type.asParameterizedType().owner() != null) {
+                    return false;
+                }
+                for (Type argument : type.asParameterizedType().arguments()) {
+                    if (!isSupportedType(argument)) {
+                        return false;
+                    }
+                }
+                return true;
+            default:
+                // Type variables and wildcards
+                return false;
+        }
+    }
+
+    private boolean isCollectionOrMap(Type type) {
+        if (type.kind() == Type.Kind.PRIMITIVE || type.kind() == Type.Kind.ARRAY) {
+            return false;
+        }
+        return isCollectionOrMap(type.name());
+    }
+
+    private boolean isCollectionOrMap(DotName className) {
+        if (className.toString().startsWith("java.")) {
+            try {
+                Class<?> clazz = Class.forName(className.toString(), false,
+                        Thread.currentThread().getContextClassLoader());
+                return Collection.class.isAssignableFrom(clazz) || Map.class.isAssignableFrom(clazz);
+            } catch (ClassNotFoundException e) {
+                return true;
+            }
+        }
+        ClassInfo clazz = index.getClassByName(className);
+        if (clazz == null) {
+            // Not known, assume the worst
+            return true;
+        }
+        if (clazz.superName() != null && !OBJECT.equals(clazz.superName()) && isCollectionOrMap(clazz.superName())) {
+            return true;
+        }
+        for (DotName interfaceName : clazz.interfaceNames()) {
+            if (isCollectionOrMap(interfaceName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void generateDeserializer(ClassInfo clazz, String deserializerName, Map<String, AnnotationTarget> properties) {
+        String targetName = clazz.name().toString();
+        boolean record = clazz.isRecord();
+        List<String> names = new ArrayList<>(properties.keySet());
+        List<AnnotationTarget> mutators = new ArrayList<>(properties.values());
+
+        try (ClassCreator deserializer = ClassCreator.builder().classOutput(classOutput).className(deserializerName)
+                .superClass(record ? GeneratedCreatorBeanDeserializer.class : GeneratedSetterBeanDeserializer.class).build()) {
+
+            MethodCreator constructor = deserializer.getMethodCreator("<init>", void.class);
+            ResultHandle namesArray = constructor.newArray(String.class, names.size());
+            for (int i = 0; i < names.size(); i++) {
+                constructor.writeArrayValue(namesArray, i, constructor.load(names.get(i)));
+            }
+            constructor.invokeSpecialMethod(record ? CREATOR_SUPER_CONSTRUCTOR : SETTER_SUPER_CONSTRUCTOR,
+                    constructor.getThis(), constructor.loadClass(targetName), namesArray);
+            constructor.returnValue(null);
+
+            MethodCreator propertyTypes = deserializer.getMethodCreator("propertyTypes", JavaType[].class,
+                    TypeFactory.class).setModifiers(ACC_PROTECTED);
+            ResultHandle typesArray = propertyTypes.newArray(JavaType.class, mutators.size());
+            for (int i = 0; i < mutators.size(); i++) {
+                propertyTypes.writeArrayValue(typesArray, i,
+                        constructType(propertyTypes, propertyTypes.getMethodParam(0), getType(mutators.get(i))));
+            }
+            propertyTypes.returnValue(typesArray);
+
+            // The property names are matched by hash code first
+            MethodCreator propertyIndex = deserializer.getMethodCreator("propertyIndex", int.class, String.class)
+                    .setModifiers(ACC_PROTECTED);
+            ResultHandle name = propertyIndex.getMethodParam(0);
+            ResultHandle hashCode = propertyIndex.invokeVirtualMethod(STRING_HASH_CODE, name);
+            Map<Integer, List<Integer>> indexesByHashCode = new LinkedHashMap<>();
+            for (int i = 0; i < names.size(); i++) {
+                indexesByHashCode.computeIfAbsent(names.get(i).hashCode(), k -> new ArrayList<>()).add(i);
+            }
+            for (Map.Entry<Integer, List<Integer>> entry : indexesByHashCode.entrySet()) {
+                BytecodeCreator hashCodeMatches = propertyIndex
+                        .ifIntegerEqual(hashCode, propertyIndex.load(entry.getKey())).trueBranch();
+                for (Integer i : entry.getValue()) {
+                    BytecodeCreator nameMatches = hashCodeMatches.ifTrue(hashCodeMatches.invokeVirtualMethod(STRING_EQUALS,
+                            hashCodeMatches.load(names.get(i)), name)).trueBranch();
+                    nameMatches.returnValue(nameMatches.load(i.intValue()));
+                }
+            }
+            propertyIndex.returnValue(propertyIndex.load(-1));
+
+            if (record) {
+                MethodCreator createBean = deserializer.getMethodCreator("createBean", Object.class, Object[].class)
+                        .setModifiers(ACC_PROTECTED);
+                ResultHandle values = createBean.getMethodParam(0);
+                ResultHandle[] args = new ResultHandle[mutators.size()];
+                for (int i = 0; i < args.length; i++) {
+                    args[i] = convert(createBean, createBean.readArrayValue(values, i), getType(mutators.get(i)));
+                }
+                createBean.returnValue(createBean.newInstance(
+                        MethodDescriptor.of(getCanonicalConstructor(clazz, properties)), args));
+            } else {
+                MethodCreator createBean = deserializer.getMethodCreator("createBean", Object.class)
+                        .setModifiers(ACC_PROTECTED);
+                createBean.returnValue(createBean.newInstance(MethodDescriptor.ofConstructor(targetName)));
+
+                MethodCreator setProperty = deserializer.getMethodCreator("setProperty", void.class, Object.class,
+                        int.class, Object.class).setModifiers(ACC_PROTECTED);
+                ResultHandle bean = setProperty.checkCast(setProperty.getMethodParam(0), targetName);
+                ResultHandle index = setProperty.getMethodParam(1);
+                for (int i = 0; i < mutators.size(); i++) {
+                    AnnotationTarget mutator = mutators.get(i);
+                    BytecodeCreator matches = setProperty.ifIntegerEqual(index, setProperty.load(i)).trueBranch();
+                    ResultHandle value = convert(matches, setProperty.getMethodParam(2), getType(mutator));
+                    if (mutator.kind() == AnnotationTarget.Kind.FIELD) {
+                        matches.writeInstanceField(FieldDescriptor.of(mutator.asField()), bean, value);
+                    } else {
+                        matches.invokeVirtualMethod(MethodDescriptor.of(mutator.asMethod()), bean, value);
+                    }
+                    matches.returnValue(null);
+                }
+                setProperty.returnValue(null);
+            }
+        }
+    }
+
+    private ResultHandle constructType(BytecodeCreator method, ResultHandle typeFactory, Type type) {
+        switch (type.kind()) {
+            case PRIMITIVE:
+                return method.invokeVirtualMethod(CONSTRUCT_TYPE, typeFactory, method.readStaticField(
+                        FieldDescriptor.of(getBoxedClassName(type), "TYPE", Class.class)));
+            case ARRAY:
+                ResultHandle arrayType = constructType(method, typeFactory, type.asArrayType().component());
+                for (int i = 0; i < type.asArrayType().dimensions(); i++) {
+                    arrayType = method.invokeVirtualMethod(CONSTRUCT_ARRAY_TYPE, typeFactory, arrayType);
+                }
+                return arrayType;
+            case PARAMETERIZED_TYPE:
+                List<Type> arguments = type.asParameterizedType().arguments();
+                ResultHandle argumentTypes = method.newArray(JavaType.class, arguments.size());
+                for (int i = 0; i < arguments.size(); i++) {
+                    method.writeArrayValue(argumentTypes, i, constructType(method, typeFactory, arguments.get(i)));
+                }
+                return method.invokeVirtualMethod(CONSTRUCT_PARAMETRIC_TYPE, typeFactory,
+                        method.loadClass(type.name().toString()), argumentTypes);
+            default:
+                return method.invokeVirtualMethod(CONSTRUCT_TYPE, typeFactory, method.loadClass(type.name().toString()));
+        }
+    }
+
+    private static ResultHandle convert(BytecodeCreator method, ResultHandle value, Type type) {
+        if (type.kind() != Type.Kind.PRIMITIVE) {
+            return method.checkCast(value, type.name().toString());
+        }
+        String boxedClassName = getBoxedClassName(type);
+        String primitiveName = type.asPrimitiveType().primitive().name().toLowerCase(Locale.ROOT);
+        return method.invokeVirtualMethod(MethodDescriptor.ofMethod(boxedClassName, primitiveName + "Value", primitiveName),
+                method.checkCast(value, boxedClassName));
+    }
+
+    private static String getBoxedClassName(Type type) {
+        PrimitiveType.Primitive primitive = type.asPrimitiveType().primitive();
+        switch (primitive) {
+            case BOOLEAN:
+                return Boolean.class.getName();
+            case BYTE:
+                return Byte.class.getName();
+            case SHORT:
+                return Short.class.getName();
+            case INT:
+                return Integer.class.getName();
+            case LONG:
+                return Long.class.getName();
+            case FLOAT:
+                return Float.class.getName();
+            case DOUBLE:
+                return Double.class.getName();
+            case CHAR:
+                return Character.class.getName();
+            default:
+                throw new IllegalArgumentException("Unsupported primitive type: " + primitive);
+        }
+    }
+
+    private static Type getType(AnnotationTarget property) {
+        switch (property.kind()) {
+            case FIELD:
+                return property.asField().type();
+            case RECORD_COMPONENT:
+                return property.asRecordComponent().type();
+            default:
+                // Setter
+                return property.asMethod().parameterType(0);
+        }
+    }
+
+}
@@ -0,0 +1,37 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.processor;
+
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+@ConfigRoot(name = "resteasy-reactive.jackson.optimization")
+public class JacksonOptimizationConfig {
+
+    /**
+     * If enabled, a Jackson serializer is generated at build time for each simple class returned from a resource method
+     * that produces JSON, and for the classes of its properties. The generated serializers write the properties
+     * directly instead of using the reflection-based {@code BeanSerializer}.
+     * <p>
+     * A class is only considered if it is public, not generic, extends {@link Object} directly and neither the class nor
+     * its members are annotated with a Jackson annotation. The properties are detected with the default Jackson rules,
+     * i.e. public fields and public getters. The properties backed by a field are written in the order of declaration
+     * of the fields, the remaining ones in the order of declaration of the getters. Therefore, this feature should not be
+     * enabled if an {@code ObjectMapperCustomizer} changes the way properties are detected, named or included, or
+     * enables default typing.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean enableReflectionFreeSerializers;
+
+    /**
+     * If enabled, a Jackson deserializer is generated at build time for each simple class read from the body of a
+     * request by a resource method, and for the classes of its properties. The generated deserializers match the
+     * property names and set the values directly instead of using the reflection-based {@code BeanDeserializer}.
+     * <p>
+     * A class is only considered if it is public, not generic, extends {@link Object} directly, declares a public no-args
+     * constructor and neither the class nor its members are annotated with a Jackson annotation. The properties are set
+     * with the public setters or the public fields. Records are created with their canonical constructor. Therefore, this
+     * feature should not be enabled if an {@code ObjectMapperCustomizer} changes the way properties are detected or
+     * named, or enables default typing.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean enableReflectionFreeDeserializers;
+}
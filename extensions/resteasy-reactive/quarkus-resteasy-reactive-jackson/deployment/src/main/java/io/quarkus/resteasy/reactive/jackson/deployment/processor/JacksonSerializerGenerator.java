@@ -0,0 +1,231 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.processor;
+
+import static org.objectweb.asm.Opcodes.ACC_BRIDGE;
+import static org.objectweb.asm.Opcodes.ACC_FINAL;
+import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
+import static org.objectweb.asm.Opcodes.ACC_PROTECTED;
+import static org.objectweb.asm.Opcodes.ACC_SYNTHETIC;
+
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.PrimitiveType;
+import org.jboss.jandex.Type;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.gizmo.FieldDescriptor;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.GeneratedBeanSerializer;
+
+/**
+ * Generates a {@link GeneratedBeanSerializer} for each supported class found in the given types.
+ * <p>
+ * The properties of a class are detected with the default Jackson rules. A class is not supported if Jackson would
+ * detect or write the properties in a different way, e.g. because a Jackson annotation is used or because the class
+ * is the target of a mixin.
+ */
+class JacksonSerializerGenerator extends JacksonCodeGenerator {
+
+    static final String SUFFIX = "$quarkusjacksonserializer";
+
+    private static final MethodDescriptor WRITE_FIELD_NAME = MethodDescriptor.ofMethod(JsonGenerator.class,
+            "writeFieldName", void.class, SerializableString.class);
+    private static final MethodDescriptor WRITE_STRING = MethodDescriptor.ofMethod(JsonGenerator.class,
+            "writeString", void.class, String.class);
+    private static final MethodDescriptor WRITE_BOOLEAN = MethodDescriptor.ofMethod(JsonGenerator.class,
+            "writeBoolean", void.class, boolean.class);
+    private static final MethodDescriptor WRITE_INT = MethodDescriptor.ofMethod(JsonGenerator.class,
+            "writeNumber", void.class, int.class);
+    private static final MethodDescriptor WRITE_LONG = MethodDescriptor.ofMethod(JsonGenerator.class,
+            "writeNumber", void.class, long.class);
+    private static final MethodDescriptor WRITE_FLOAT = MethodDescriptor.ofMethod(JsonGenerator.class,
+            "writeNumber", void.class, float.class);
+    private static final MethodDescriptor WRITE_DOUBLE = MethodDescriptor.ofMethod(JsonGenerator.class,
+            "writeNumber", void.class, double.class);
+    private static final MethodDescriptor DEFAULT_SERIALIZE_VALUE = MethodDescriptor.ofMethod(SerializerProvider.class,
+            "defaultSerializeValue", void.class, Object.class, JsonGenerator.class);
+    private static final MethodDescriptor STRING_VALUE_OF = MethodDescriptor.ofMethod(String.class, "valueOf",
+            String.class, char.class);
+
+    JacksonSerializerGenerator(IndexView index, ClassOutput classOutput) {
+        super(index, classOutput);
+    }
+
+    @Override
+    protected String getSuffix() {
+        return SUFFIX;
+    }
+
+    @Override
+    protected Collection<Type> generateClass(ClassInfo clazz, String generatedName) {
+        Map<String, AnnotationTarget> properties = getProperties(clazz);
+        if (properties == null) {
+            return null;
+        }
+        generateSerializer(clazz, generatedName, properties);
+        List<Type> propertyTypes = new ArrayList<>(properties.size());
+        for (AnnotationTarget property : properties.values()) {
+            propertyTypes.add(getType(property));
+        }
+        return propertyTypes;
+    }
+
+    /**
+     *
+     * @param clazz
+     * @return the properties in the order used by Jackson, or {@code null} if the class is not supported
+     */
+    private Map<String, AnnotationTarget> getProperties(ClassInfo clazz) {
+        if (clazz.isRecord() || !OBJECT.equals(clazz.superName())) {
+            return null;
+        }
+        // Jackson collects the fields first, including the non-visible ones, and then the getters
+        // A getter takes precedence over a field but the property keeps its position
+        Map<String, AnnotationTarget> properties = new LinkedHashMap<>();
+        for (FieldInfo field : clazz.unsortedFields()) {
+            if (Modifier.isStatic(field.flags()) || (field.flags() & ACC_SYNTHETIC) != 0) {
+                continue;
+            }
+            boolean visible = Modifier.isPublic(field.flags()) && !Modifier.isTransient(field.flags());
+            properties.put(field.name(), visible ? field : null);
+        }
+        Set<String> getters = new HashSet<>();
+        for (MethodInfo method : clazz.unsortedMethods()) {
+            if (Modifier.isStatic(method.flags())
+                    || !Modifier.isPublic(method.flags())
+                    || (method.flags() & (ACC_SYNTHETIC | ACC_BRIDGE)) != 0
+                    || method.parametersCount() > 0
+                    || method.returnType().kind() == Type.Kind.VOID) {
+                continue;
+            }
+            if (method.name().equals("getCallbacks") || method.name().equals("getMetaClass")) {
+                // Jackson ignores these getters under some circumstances
+                return null;
+            }
+            String name = getPropertyName(method);
+            if (name == null) {
+                continue;
+            }
+            if (!getters.add(name)) {
+                // Conflicting getters, e.g. getActive() and isActive()
+                return null;
+            }
+            properties.put(name, method);
+        }
+        properties.values().removeIf(Objects::isNull);
+        if (properties.isEmpty()) {
+            return null;
+        }
+        List<Type> propertyTypes = new ArrayList<>(properties.size());
+        for (AnnotationTarget property : properties.values()) {
+            propertyTypes.add(getType(property));
+        }
+        return hasIgnoredType(propertyTypes) ? null : properties;
+    }
+
+    private void generateSerializer(ClassInfo clazz, String serializerName, Map<String, AnnotationTarget> properties) {
+        String targetName = clazz.name().toString();
+
+        try (ClassCreator serializer = ClassCreator.builder().classOutput(classOutput).className(serializerName)
+                .superClass(GeneratedBeanSerializer.class).build()) {
+
+            // The field names are encoded once
+            List<FieldDescriptor> names = new ArrayList<>(properties.size());
+            MethodCreator constructor = serializer.getMethodCreator("<init>", void.class);
+            constructor.invokeSpecialMethod(MethodDescriptor.ofConstructor(GeneratedBeanSerializer.class, Class.class),
+                    constructor.getThis(), constructor.loadClass(targetName));
+            for (String name : properties.keySet()) {
+                FieldDescriptor nameField = serializer.getFieldCreator("name" + names.size(), SerializedString.class)
+                        .setModifiers(ACC_PRIVATE | ACC_FINAL).getFieldDescriptor();
+                constructor.writeInstanceField(nameField, constructor.getThis(), constructor.newInstance(
+                        MethodDescriptor.ofConstructor(SerializedString.class, String.class), constructor.load(name)));
+                names.add(nameField);
+            }
+            constructor.returnValue(null);
+
+            MethodCreator serializeProperties = serializer.getMethodCreator("serializeProperties", void.class,
+                    Object.class, JsonGenerator.class, SerializerProvider.class).setModifiers(ACC_PROTECTED);
+            serializeProperties.addException(IOException.class);
+            ResultHandle bean = serializeProperties.checkCast(serializeProperties.getMethodParam(0), targetName);
+            ResultHandle gen = serializeProperties.getMethodParam(1);
+            ResultHandle provider = serializeProperties.getMethodParam(2);
+            int idx = 0;
+            for (AnnotationTarget property : properties.values()) {
+                serializeProperties.invokeVirtualMethod(WRITE_FIELD_NAME, gen,
+                        serializeProperties.readInstanceField(names.get(idx++), serializeProperties.getThis()));
+                ResultHandle value;
+                if (property.kind() == AnnotationTarget.Kind.FIELD) {
+                    value = serializeProperties.readInstanceField(FieldDescriptor.of(property.asField()), bean);
+                } else {
+                    value = serializeProperties.invokeVirtualMethod(MethodDescriptor.of(property.asMethod()), bean);
+                }
+                writeValue(serializeProperties, getType(property), value, gen, provider);
+            }
+            serializeProperties.returnValue(null);
+        }
+    }
+
+    private void writeValue(MethodCreator method, Type type, ResultHandle value, ResultHandle gen,
+            ResultHandle provider) {
+        if (type.kind() == Type.Kind.PRIMITIVE) {
+            PrimitiveType.Primitive primitive = type.asPrimitiveType().primitive();
+            switch (primitive) {
+                case BOOLEAN:
+                    method.invokeVirtualMethod(WRITE_BOOLEAN, gen, value);
+                    return;
+                case BYTE:
+                case SHORT:
+                case INT:
+                    method.invokeVirtualMethod(WRITE_INT, gen, value);
+                    return;
+                case LONG:
+                    method.invokeVirtualMethod(WRITE_LONG, gen, value);
+                    return;
+                case FLOAT:
+                    method.invokeVirtualMethod(WRITE_FLOAT, gen, value);
+                    return;
+                case DOUBLE:
+                    method.invokeVirtualMethod(WRITE_DOUBLE, gen, value);
+                    return;
+                case CHAR:
+                    method.invokeVirtualMethod(WRITE_STRING, gen, method.invokeStaticMethod(STRING_VALUE_OF, value));
+                    return;
+                default:
+                    throw new IllegalArgumentException("Unsupported primitive type: " + primitive);
+            }
+        } else if (type.name().equals(STRING)) {
+            // A null value is written as null
+            method.invokeVirtualMethod(WRITE_STRING, gen, value);
+            return;
+        }
+        // The serializer is looked up by the runtime type of the value
+        method.invokeVirtualMethod(DEFAULT_SERIALIZE_VALUE, provider, value, gen);
+    }
+
+    private static Type getType(AnnotationTarget property) {
+        return property.kind() == AnnotationTarget.Kind.FIELD ? property.asField().type()
+                : property.asMethod().returnType();
+    }
+
+}
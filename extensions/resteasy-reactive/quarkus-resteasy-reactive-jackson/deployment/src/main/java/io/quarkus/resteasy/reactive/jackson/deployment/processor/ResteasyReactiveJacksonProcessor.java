@@ -5,12 +5,15 @@
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
+import javax.inject.Singleton;
 import javax.ws.rs.Priorities;
 import javax.ws.rs.core.MediaType;
 
@@ -23,24 +26,44 @@
 import org.jboss.jandex.MethodInfo;
 import org.jboss.jandex.Type;
 import org.jboss.logging.Logger;
+import org.jboss.resteasy.reactive.common.model.MethodParameter;
+import org.jboss.resteasy.reactive.common.model.ParameterType;
 import org.jboss.resteasy.reactive.common.model.ResourceMethod;
 import org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNames;
 import org.jboss.resteasy.reactive.server.util.MethodId;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonView;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.module.SimpleDeserializers;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.module.SimpleSerializers;
 
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
+import io.quarkus.arc.deployment.GeneratedBeanBuildItem;
+import io.quarkus.arc.deployment.GeneratedBeanGizmoAdaptor;
 import io.quarkus.deployment.Feature;
+import io.quarkus.deployment.GeneratedClassGizmoAdaptor;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.ExecutionTime;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
 import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+import io.quarkus.jackson.ObjectMapperCustomizer;
+import io.quarkus.jackson.runtime.JacksonBuildTimeConfig;
 import io.quarkus.resteasy.reactive.common.deployment.JaxRsResourceIndexBuildItem;
 import io.quarkus.resteasy.reactive.common.deployment.ResourceScanningResultBuildItem;
 import io.quarkus.resteasy.reactive.common.deployment.ServerDefaultProducesHandlerBuildItem;
@@ -53,6 +76,8 @@
 import io.quarkus.resteasy.reactive.jackson.runtime.mappers.NativeInvalidDefinitionExceptionMapper;
 import io.quarkus.resteasy.reactive.jackson.runtime.security.SecurityCustomSerialization;
 import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.BasicServerJacksonMessageBodyWriter;
+import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.ExactTypeDeserializers;
+import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.ExactTypeSerializers;
 import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.FullyFeaturedServerJacksonMessageBodyWriter;
 import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.ServerJacksonMessageBodyReader;
 import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.vertx.VertxJsonArrayMessageBodyReader;
@@ -278,17 +303,7 @@ public void handleFieldSecurity(ResteasyReactiveResourceMethodEntriesBuildItem r
                 }
             }
 
-            ResourceMethod resourceInfo = entry.getResourceMethod();
-            boolean isJsonResponse = false;
-            if (resourceInfo.getProduces() != null) {
-                for (String produces : resourceInfo.getProduces()) {
-                    if (produces.toLowerCase(Locale.ROOT).contains(MediaType.APPLICATION_JSON)) {
-                        isJsonResponse = true;
-                        break;
-                    }
-                }
-            }
-            if (!isJsonResponse) {
+            if (!isJsonResponse(entry.getResourceMethod())) {
                 continue;
             }
 
@@ -353,6 +368,141 @@ public void handleFieldSecurity(ResteasyReactiveResourceMethodEntriesBuildItem r
         }
     }
 
+    @BuildStep
+    void generateSerializers(JacksonOptimizationConfig optimizationConfig, JacksonBuildTimeConfig jacksonConfig,
+            ResteasyReactiveResourceMethodEntriesBuildItem resourceMethodEntries, CombinedIndexBuildItem index,
+            BuildProducer<GeneratedClassBuildItem> generatedClasses, BuildProducer<GeneratedBeanBuildItem> generatedBeans) {
+        ClassOutput generatedClassOutput = new GeneratedClassGizmoAdaptor(generatedClasses, true);
+
+        Map<DotName, String> serializers = Collections.emptyMap();
+        if (optimizationConfig.enableReflectionFreeSerializers) {
+            if (jacksonConfig.serializationInclusion.isPresent()
+                    && jacksonConfig.serializationInclusion.get() != JsonInclude.Include.ALWAYS) {
+                log.warn("Reflection-free serializers are not generated because the properties of the beans are not always"
+                        + " included: quarkus.jackson.serialization-inclusion=" + jacksonConfig.serializationInclusion.get());
+            } else {
+                JacksonSerializerGenerator generator = new JacksonSerializerGenerator(index.getIndex(),
+                        generatedClassOutput);
+                for (ResteasyReactiveResourceMethodEntriesBuildItem.Entry entry : resourceMethodEntries.getEntries()) {
+                    if (isJsonResponse(entry.getResourceMethod())) {
+                        generator.generate(entry.getMethodInfo().returnType());
+                    }
+                }
+                serializers = generator.getGeneratedClasses();
+                log.debugf("Generated reflection-free serializers for: %s", serializers.keySet());
+            }
+        }
+
+        Map<DotName, String> deserializers = Collections.emptyMap();
+        if (optimizationConfig.enableReflectionFreeDeserializers) {
+            JacksonDeserializerGenerator generator = new JacksonDeserializerGenerator(index.getIndex(),
+                    generatedClassOutput);
+            for (ResteasyReactiveResourceMethodEntriesBuildItem.Entry entry : resourceMethodEntries.getEntries()) {
+                if (!isJsonRequest(entry.getResourceMethod())) {
+                    continue;
+                }
+                MethodParameter[] parameters = entry.getResourceMethod().getParameters();
+                MethodInfo methodInfo = entry.getMethodInfo();
+                for (int i = 0; i < parameters.length && i < methodInfo.parametersCount(); i++) {
+                    if (parameters[i].parameterType == ParameterType.BODY) {
+                        generator.generate(methodInfo.parameterType(i));
+                    }
+                }
+            }
+            deserializers = generator.getGeneratedClasses();
+            log.debugf("Generated reflection-free deserializers for: %s", deserializers.keySet());
+        }
+
+        if (serializers.isEmpty() && deserializers.isEmpty()) {
+            return;
+        }
+
+        ClassOutput classOutput = new GeneratedBeanGizmoAdaptor(generatedBeans);
+        try (ClassCreator classCreator = ClassCreator.builder().classOutput(classOutput)
+                .className("io.quarkus.resteasy.reactive.jackson.customizer.RegisterGeneratedSerializersCustomizer")
+                .interfaces(ObjectMapperCustomizer.class.getName())
+                .build()) {
+            classCreator.addAnnotation(Singleton.class);
+
+            try (MethodCreator customize = classCreator.getMethodCreator("customize", void.class, ObjectMapper.class)) {
+                /*
+                 * Create code similar to the following:
+                 *
+                 * ExactTypeSerializers serializers = new ExactTypeSerializers();
+                 * serializers.addSerializer(Foo.class, new Foo$quarkusjacksonserializer());
+                 * SimpleModule module = new SimpleModule("somename");
+                 * module.setSerializers(serializers);
+                 * ExactTypeDeserializers deserializers = new ExactTypeDeserializers();
+                 * deserializers.addDeserializer(Bar.class, new Bar$quarkusjacksondeserializer());
+                 * module.setDeserializers(deserializers);
+                 * objectMapper.registerModule(module);
+                 */
+                ResultHandle exactTypeSerializers = customize
+                        .newInstance(MethodDescriptor.ofConstructor(ExactTypeSerializers.class));
+                for (Map.Entry<DotName, String> serializer : serializers.entrySet()) {
+                    customize.invokeVirtualMethod(
+                            MethodDescriptor.ofMethod(SimpleSerializers.class, "addSerializer", void.class, Class.class,
+                                    JsonSerializer.class),
+                            exactTypeSerializers, customize.loadClassFromTCCL(serializer.getKey().toString()),
+                            customize.newInstance(MethodDescriptor.ofConstructor(serializer.getValue())));
+                }
+                ResultHandle module = customize.newInstance(
+                        MethodDescriptor.ofConstructor(SimpleModule.class, String.class),
+                        customize.load("ResteasyReactiveGeneratedSerializers"));
+                customize.invokeVirtualMethod(
+                        MethodDescriptor.ofMethod(SimpleModule.class, "setSerializers", void.class, SimpleSerializers.class),
+                        module, exactTypeSerializers);
+                ResultHandle exactTypeDeserializers = customize
+                        .newInstance(MethodDescriptor.ofConstructor(ExactTypeDeserializers.class));
+                for (Map.Entry<DotName, String> deserializer : deserializers.entrySet()) {
+                    customize.invokeVirtualMethod(
+                            MethodDescriptor.ofMethod(SimpleDeserializers.class, "addDeserializer", void.class, Class.class,
+                                    JsonDeserializer.class),
+                            exactTypeDeserializers, customize.loadClassFromTCCL(deserializer.getKey().toString()),
+                            customize.newInstance(MethodDescriptor.ofConstructor(deserializer.getValue())));
+                }
+                customize.invokeVirtualMethod(
+                        MethodDescriptor.ofMethod(SimpleModule.class, "setDeserializers", void.class,
+                                SimpleDeserializers.class),
+                        module, exactTypeDeserializers);
+                customize.invokeVirtualMethod(
+                        MethodDescriptor.ofMethod(ObjectMapper.class, "registerModule", ObjectMapper.class, Module.class),
+                        customize.getMethodParam(0), module);
+                customize.returnValue(null);
+            }
+
+            // Jackson uses the (de)serializer registered last, i.e. the generated ones must be registered before
+            // the ones added by the application customizers
+            try (MethodCreator priority = classCreator.getMethodCreator("priority", int.class)) {
+                priority.returnValue(priority.load(ObjectMapperCustomizer.DEFAULT_PRIORITY + 100));
+            }
+        }
+    }
+
+    private static boolean isJsonResponse(ResourceMethod resourceInfo) {
+        if (resourceInfo.getProduces() != null) {
+            for (String produces : resourceInfo.getProduces()) {
+                if (produces.toLowerCase(Locale.ROOT).contains(MediaType.APPLICATION_JSON)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isJsonRequest(ResourceMethod resourceInfo) {
+        if (resourceInfo.getConsumes() == null) {
+            // The reader is selected at runtime
+            return true;
+        }
+        for (String consumes : resourceInfo.getConsumes()) {
+            if (consumes.toLowerCase(Locale.ROOT).contains(MediaType.APPLICATION_JSON)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private String getMethodId(MethodInfo methodInfo) {
         return getMethodId(methodInfo, methodInfo.declaringClass());
     }
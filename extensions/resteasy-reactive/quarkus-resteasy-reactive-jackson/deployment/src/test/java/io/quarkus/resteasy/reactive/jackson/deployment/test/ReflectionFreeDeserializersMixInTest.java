@@ -0,0 +1,118 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.function.Supplier;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.core.MediaType;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.deser.DefaultDeserializationContext;
+
+import io.quarkus.jackson.ObjectMapperCustomizer;
+import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.GeneratedBeanDeserializer;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+
+public class ReflectionFreeDeserializersMixInTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(new Supplier<>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(PersonResource.class, Person.class, Address.class, PersonMixIn.class,
+                                    MixInCustomizer.class);
+                }
+            })
+            .overrideConfigKey("quarkus.resteasy-reactive.jackson.optimization.enable-reflection-free-deserializers", "true");
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Test
+    public void testMixIn() throws JsonMappingException {
+        // The generated deserializer would ignore the mixin
+        assertFalse(findDeserializer(Person.class) instanceof GeneratedBeanDeserializer);
+        RestAssured.with()
+                .contentType(ContentType.JSON)
+                .body("{\"first\":\"Bob\",\"lastName\":\"Builder\",\"address\":{\"city\":\"Brno\"}}")
+                .post("/person")
+                .then().statusCode(200)
+                .body(equalTo("Bob Builder Brno"));
+    }
+
+    @Test
+    public void testView() throws IOException {
+        assertTrue(findDeserializer(Address.class) instanceof GeneratedBeanDeserializer);
+        // The properties without a view are skipped, like with the standard bean deserializer
+        Address address = objectMapper.readerWithView(Address.class).forType(Address.class)
+                .readValue("{\"city\":\"Prague\"}");
+        assertEquals("Brno", address.city);
+        assertEquals("Prague", objectMapper.readValue("{\"city\":\"Prague\"}", Address.class).city);
+    }
+
+    private JsonDeserializer<Object> findDeserializer(Class<?> type) throws JsonMappingException {
+        return ((DefaultDeserializationContext) objectMapper.getDeserializationContext())
+                .createDummyInstance(objectMapper.getDeserializationConfig())
+                .findRootValueDeserializer(objectMapper.constructType(type));
+    }
+
+    @Path("person")
+    @Consumes(MediaType.APPLICATION_JSON)
+    public static class PersonResource {
+
+        @POST
+        public String post(Person person) {
+            return person.firstName + " " + person.lastName + " " + person.address.city;
+        }
+    }
+
+    public static class Person {
+
+        public String firstName;
+        public String lastName;
+        public Address address;
+    }
+
+    public static class Address {
+
+        public String city = "Brno";
+    }
+
+    public abstract static class PersonMixIn {
+
+        @JsonProperty("first")
+        public String firstName;
+    }
+
+    @Singleton
+    public static class MixInCustomizer implements ObjectMapperCustomizer {
+
+        @Override
+        public void customize(ObjectMapper objectMapper) {
+            objectMapper.addMixIn(Person.class, PersonMixIn.class);
+            objectMapper.disable(MapperFeature.DEFAULT_VIEW_INCLUSION);
+        }
+    }
+}
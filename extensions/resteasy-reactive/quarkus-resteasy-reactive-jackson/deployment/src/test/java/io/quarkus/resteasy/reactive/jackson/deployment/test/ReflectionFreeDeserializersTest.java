@@ -0,0 +1,195 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.function.Supplier;
+
+import javax.inject.Inject;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.core.MediaType;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.deser.DefaultDeserializationContext;
+
+import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.GeneratedBeanDeserializer;
+import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.GeneratedSetterBeanDeserializer;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+
+public class ReflectionFreeDeserializersTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(new Supplier<>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(OrdersResource.class, Order.class, Line.class, Tagged.class, Shipment.class,
+                                    Address.class);
+                }
+            })
+            .overrideConfigKey("quarkus.resteasy-reactive.jackson.optimization.enable-reflection-free-deserializers", "true");
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Test
+    public void testDeserializers() throws JsonMappingException {
+        assertTrue(findDeserializer(Order.class) instanceof GeneratedSetterBeanDeserializer);
+        assertTrue(findDeserializer(Line.class) instanceof GeneratedSetterBeanDeserializer);
+        // A class with a single-argument constructor is deserialized with the default deserializer
+        assertFalse(findDeserializer(Tagged.class) instanceof GeneratedBeanDeserializer);
+        // Also the body of a resource method, but the generated deserializer would ignore the @JsonIgnoreProperties of
+        // the property of Shipment
+        assertFalse(findDeserializer(Address.class) instanceof GeneratedBeanDeserializer);
+    }
+
+    @Test
+    public void testRequest() {
+        RestAssured.with()
+                .contentType(ContentType.JSON)
+                .body("{\"id\":1,\"customer\":\"alpha\",\"unknown\":{\"nested\":[1,2]},"
+                        + "\"lines\":[{\"product\":\"foo\",\"quantity\":2,\"price\":1.5},{\"product\":\"bar\"}]}")
+                .post("/orders")
+                .then().statusCode(200)
+                .body(equalTo("1:alpha:foo*2@1.5,bar*0@0.0"));
+        RestAssured.with()
+                .contentType(ContentType.JSON)
+                .body("{\"id\":\"notanumber\"}")
+                .post("/orders")
+                .then().statusCode(400);
+        RestAssured.with()
+                .contentType(ContentType.JSON)
+                .body("{\"tag\":\"baz\"}")
+                .post("/orders/tagged")
+                .then().statusCode(200)
+                .body(equalTo("baz"));
+        RestAssured.with()
+                .contentType(ContentType.JSON)
+                .body("{\"address\":{\"street\":\"main\",\"internal\":\"secret\"}}")
+                .post("/orders/shipment")
+                .then().statusCode(200)
+                .body(equalTo("main:null"));
+        RestAssured.with()
+                .contentType(ContentType.JSON)
+                .body("{\"street\":\"main\",\"internal\":\"visible\"}")
+                .post("/orders/address")
+                .then().statusCode(200)
+                .body(equalTo("main:visible"));
+    }
+
+    private JsonDeserializer<Object> findDeserializer(Class<?> type) throws JsonMappingException {
+        return ((DefaultDeserializationContext) objectMapper.getDeserializationContext())
+                .createDummyInstance(objectMapper.getDeserializationConfig())
+                .findRootValueDeserializer(objectMapper.constructType(type));
+    }
+
+    @Path("orders")
+    @Consumes(MediaType.APPLICATION_JSON)
+    public static class OrdersResource {
+
+        @POST
+        public String create(Order order) {
+            StringJoiner lines = new StringJoiner(",", order.id + ":" + order.customer + ":", "");
+            for (Line line : order.getLines()) {
+                lines.add(line.getProduct() + "*" + line.getQuantity() + "@" + line.price);
+            }
+            return lines.toString();
+        }
+
+        @POST
+        @Path("tagged")
+        public String tagged(Tagged tagged) {
+            return tagged.tag;
+        }
+
+        @POST
+        @Path("shipment")
+        public String shipment(Shipment shipment) {
+            return shipment.address.street + ":" + shipment.address.internal;
+        }
+
+        @POST
+        @Path("address")
+        public String address(Address address) {
+            return address.street + ":" + address.internal;
+        }
+    }
+
+    public static class Order {
+
+        public long id;
+        public String customer;
+        private List<Line> lines;
+
+        public List<Line> getLines() {
+            return lines;
+        }
+
+        public void setLines(List<Line> lines) {
+            this.lines = lines;
+        }
+    }
+
+    public static class Line {
+
+        private String product;
+        private int quantity;
+        public double price;
+
+        public String getProduct() {
+            return product;
+        }
+
+        public void setProduct(String product) {
+            this.product = product;
+        }
+
+        public int getQuantity() {
+            return quantity;
+        }
+
+        public void setQuantity(int quantity) {
+            this.quantity = quantity;
+        }
+    }
+
+    public static class Tagged {
+
+        public String tag;
+
+        public Tagged() {
+        }
+
+        public Tagged(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    public static class Shipment {
+
+        @JsonIgnoreProperties("internal")
+        public Address address;
+    }
+
+    public static class Address {
+
+        public String street;
+        public String internal;
+    }
+}
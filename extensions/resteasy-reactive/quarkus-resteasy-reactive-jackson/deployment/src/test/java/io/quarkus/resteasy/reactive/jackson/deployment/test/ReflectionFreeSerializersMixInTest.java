@@ -0,0 +1,104 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test;
+
+import static io.restassured.RestAssured.when;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.function.Supplier;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.quarkus.jackson.ObjectMapperCustomizer;
+import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.GeneratedBeanSerializer;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ReflectionFreeSerializersMixInTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(new Supplier<>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(PersonResource.class, Person.class, Address.class, PersonMixIn.class,
+                                    MixInCustomizer.class);
+                }
+            })
+            .overrideConfigKey("quarkus.resteasy-reactive.jackson.optimization.enable-reflection-free-serializers", "true");
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Test
+    public void testMixIn() throws JsonProcessingException {
+        // The generated serializer would ignore the mixin
+        assertFalse(objectMapper.getSerializerProviderInstance()
+                .findValueSerializer(Person.class) instanceof GeneratedBeanSerializer);
+        when().get("/person").then().statusCode(200)
+                .body(equalTo("{\"lastName\":\"Builder\",\"address\":{\"city\":\"Brno\"}}"));
+    }
+
+    @Test
+    public void testView() throws JsonProcessingException {
+        assertTrue(objectMapper.getSerializerProviderInstance()
+                .findValueSerializer(Address.class) instanceof GeneratedBeanSerializer);
+        // The properties without a view are excluded, like with the standard bean serializer
+        assertEquals("{}", objectMapper.writerWithView(Address.class).writeValueAsString(new Address()));
+        assertEquals("{\"city\":\"Brno\"}", objectMapper.writeValueAsString(new Address()));
+    }
+
+    @Path("person")
+    @Produces(MediaType.APPLICATION_JSON)
+    public static class PersonResource {
+
+        @GET
+        public Person get() {
+            return new Person();
+        }
+    }
+
+    public static class Person {
+
+        public String firstName = "Bob";
+        public String lastName = "Builder";
+        public Address address = new Address();
+    }
+
+    public static class Address {
+
+        public String city = "Brno";
+    }
+
+    public abstract static class PersonMixIn {
+
+        @JsonIgnore
+        public String firstName;
+    }
+
+    @Singleton
+    public static class MixInCustomizer implements ObjectMapperCustomizer {
+
+        @Override
+        public void customize(ObjectMapper objectMapper) {
+            objectMapper.addMixIn(Person.class, PersonMixIn.class);
+            objectMapper.disable(MapperFeature.DEFAULT_VIEW_INCLUSION);
+        }
+    }
+}
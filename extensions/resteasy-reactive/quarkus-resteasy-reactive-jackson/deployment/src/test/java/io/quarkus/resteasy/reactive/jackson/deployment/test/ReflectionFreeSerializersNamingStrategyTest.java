@@ -0,0 +1,78 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test;
+
+import static io.restassured.RestAssured.when;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.function.Supplier;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+
+import io.quarkus.jackson.ObjectMapperCustomizer;
+import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.GeneratedBeanSerializer;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ReflectionFreeSerializersNamingStrategyTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(new Supplier<>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(PersonResource.class, Person.class, SnakeCaseCustomizer.class);
+                }
+            })
+            .overrideConfigKey("quarkus.resteasy-reactive.jackson.optimization.enable-reflection-free-serializers", "true");
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Test
+    public void testNamingStrategy() throws JsonMappingException {
+        // The generated serializer would not rename the properties
+        assertFalse(objectMapper.getSerializerProviderInstance()
+                .findValueSerializer(Person.class) instanceof GeneratedBeanSerializer);
+        when().get("/person").then().statusCode(200)
+                .body(equalTo("{\"first_name\":\"Bob\",\"last_name\":\"Builder\"}"));
+    }
+
+    @Path("person")
+    @Produces(MediaType.APPLICATION_JSON)
+    public static class PersonResource {
+
+        @GET
+        public Person get() {
+            return new Person();
+        }
+    }
+
+    public static class Person {
+
+        public String firstName = "Bob";
+        public String lastName = "Builder";
+    }
+
+    @Singleton
+    public static class SnakeCaseCustomizer implements ObjectMapperCustomizer {
+
+        @Override
+        public void customize(ObjectMapper objectMapper) {
+            objectMapper.setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+        }
+    }
+}
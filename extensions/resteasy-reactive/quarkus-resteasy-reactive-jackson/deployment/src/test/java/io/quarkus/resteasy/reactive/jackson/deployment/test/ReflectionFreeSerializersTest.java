@@ -0,0 +1,189 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test;
+
+import static io.restassured.RestAssured.when;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import javax.inject.Inject;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.GeneratedBeanSerializer;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+
+public class ReflectionFreeSerializersTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(new Supplier<>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(OrdersResource.class, Order.class, Line.class, SpecialOrder.class, Annotated.class,
+                                    Invoice.class, Customer.class);
+                }
+            })
+            .overrideConfigKey("quarkus.resteasy-reactive.jackson.optimization.enable-reflection-free-serializers", "true");
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Test
+    public void testSerializers() throws JsonMappingException {
+        assertTrue(objectMapper.getSerializerProviderInstance()
+                .findValueSerializer(Order.class) instanceof GeneratedBeanSerializer);
+        assertTrue(objectMapper.getSerializerProviderInstance()
+                .findValueSerializer(Line.class) instanceof GeneratedBeanSerializer);
+        // Subclasses and annotated classes are serialized with the default serializer
+        assertFalse(objectMapper.getSerializerProviderInstance()
+                .findValueSerializer(SpecialOrder.class) instanceof GeneratedBeanSerializer);
+        assertFalse(objectMapper.getSerializerProviderInstance()
+                .findValueSerializer(Annotated.class) instanceof GeneratedBeanSerializer);
+        // A class used by a property annotated with @JsonIgnoreProperties is serialized with the default serializer
+        assertFalse(objectMapper.getSerializerProviderInstance()
+                .findValueSerializer(Customer.class) instanceof GeneratedBeanSerializer);
+    }
+
+    @Test
+    public void testResponse() {
+        when().get("/orders/1").then().statusCode(200)
+                .body(equalTo("{\"id\":1,\"customer\":null,"
+                        + "\"lines\":[{\"product\":\"foo\",\"quantity\":2,\"price\":1.5}],\"paid\":true}"));
+        when().get("/orders").then().statusCode(200)
+                .body(equalTo("[{\"id\":2,\"customer\":\"alpha\",\"lines\":[],\"paid\":true},"
+                        + "{\"id\":3,\"customer\":\"bravo\",\"lines\":[],\"note\":\"urgent\",\"paid\":true}]"));
+        when().get("/orders/annotated").then().statusCode(200)
+                .body(equalTo("{\"renamed\":\"bar\"}"));
+        when().get("/orders/customer").then().statusCode(200)
+                .body(equalTo("{\"name\":\"alpha\",\"email\":\"alpha@example.com\"}"));
+        when().get("/orders/invoice").then().statusCode(200)
+                .body(equalTo("{\"customer\":{\"name\":\"alpha\"}}"));
+    }
+
+    @Path("orders")
+    @Produces(MediaType.APPLICATION_JSON)
+    public static class OrdersResource {
+
+        @GET
+        @Path("1")
+        public Order get() {
+            Order order = new Order();
+            order.id = 1;
+            order.getLines().add(new Line("foo", 2, 1.5));
+            return order;
+        }
+
+        @GET
+        public Uni<List<Order>> list() {
+            Order order = new Order();
+            order.id = 2;
+            order.customer = "alpha";
+            SpecialOrder specialOrder = new SpecialOrder();
+            specialOrder.id = 3;
+            specialOrder.customer = "bravo";
+            specialOrder.note = "urgent";
+            return Uni.createFrom().item(List.of(order, specialOrder));
+        }
+
+        @GET
+        @Path("annotated")
+        public Annotated annotated() {
+            return new Annotated();
+        }
+
+        @GET
+        @Path("customer")
+        public Customer customer() {
+            return new Customer();
+        }
+
+        @GET
+        @Path("invoice")
+        public Invoice invoice() {
+            Invoice invoice = new Invoice();
+            invoice.customer = new Customer();
+            return invoice;
+        }
+    }
+
+    public static class Order {
+
+        public long id;
+        public String customer;
+        private final List<Line> lines = new ArrayList<>();
+
+        public List<Line> getLines() {
+            return lines;
+        }
+
+        public boolean isPaid() {
+            return true;
+        }
+    }
+
+    public static class SpecialOrder extends Order {
+
+        public String note;
+    }
+
+    public static class Line {
+
+        private final String product;
+        private final int quantity;
+        private final double price;
+
+        Line(String product, int quantity, double price) {
+            this.product = product;
+            this.quantity = quantity;
+            this.price = price;
+        }
+
+        public String getProduct() {
+            return product;
+        }
+
+        public int getQuantity() {
+            return quantity;
+        }
+
+        public double getPrice() {
+            return price;
+        }
+    }
+
+    public static class Annotated {
+
+        @JsonProperty("renamed")
+        public String value = "bar";
+    }
+
+    public static class Invoice {
+
+        @JsonIgnoreProperties("email")
+        public Customer customer;
+    }
+
+    public static class Customer {
+
+        public String name = "alpha";
+        public String email = "alpha@example.com";
+    }
+}
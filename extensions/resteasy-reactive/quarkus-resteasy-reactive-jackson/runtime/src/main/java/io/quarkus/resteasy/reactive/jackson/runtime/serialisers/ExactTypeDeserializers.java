@@ -0,0 +1,34 @@
+package io.quarkus.resteasy.reactive.jackson.runtime.serialisers;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.module.SimpleDeserializers;
+
+/**
+ * The registered deserializers are generated at build time and match the property names the way a default
+ * {@link com.fasterxml.jackson.databind.ObjectMapper} does. They are not used if the configuration of the mapper changes
+ * the names of the properties, how they are matched or how they are detected, e.g. if an {@code ObjectMapperCustomizer}
+ * sets a {@link com.fasterxml.jackson.databind.PropertyNamingStrategy}, registers a mixin or changes the auto-detect
+ * visibility. The standard bean deserializer is used instead.
+ * <p>
+ * Like {@link SimpleDeserializers} a deserializer registered here is only used for the exact type it was registered for.
+ */
+public class ExactTypeDeserializers extends SimpleDeserializers {
+
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    public JsonDeserializer<?> findBeanDeserializer(JavaType type, DeserializationConfig config, BeanDescription beanDesc)
+            throws JsonMappingException {
+        if (config.isEnabled(MapperFeature.ACCEPT_CASE_INSENSITIVE_PROPERTIES)
+                || !GeneratedCodeSupport.hasDefaultIntrospection(config, type.getRawClass(), beanDesc)) {
+            return null;
+        }
+        return super.findBeanDeserializer(type, config, beanDesc);
+    }
+
+}
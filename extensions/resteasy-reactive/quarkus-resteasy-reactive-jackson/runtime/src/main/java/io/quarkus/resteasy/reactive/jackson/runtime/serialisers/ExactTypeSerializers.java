@@ -0,0 +1,54 @@
+package io.quarkus.resteasy.reactive.jackson.runtime.serialisers;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.module.SimpleSerializers;
+import com.fasterxml.jackson.databind.type.ClassKey;
+
+/**
+ * Unlike {@link SimpleSerializers} a serializer registered here is only used for the exact type it was registered
+ * for, i.e. never for a subclass which may declare additional properties.
+ * <p>
+ * The registered serializers are generated at build time and write the properties the way a default
+ * {@link com.fasterxml.jackson.databind.ObjectMapper} does. They are not used if the configuration of the mapper changes
+ * the names, the order, the inclusion or the detection of the properties, e.g. if an {@code ObjectMapperCustomizer} sets a
+ * {@link com.fasterxml.jackson.databind.PropertyNamingStrategy}, registers a mixin or changes the auto-detect visibility.
+ * The standard bean serializer is used instead.
+ */
+public class ExactTypeSerializers extends SimpleSerializers {
+
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    public JsonSerializer<?> findSerializer(SerializationConfig config, JavaType type, BeanDescription beanDesc) {
+        if (_classMappings == null) {
+            return null;
+        }
+        JsonSerializer<?> serializer = _classMappings.get(new ClassKey(type.getRawClass()));
+        if (serializer == null || !isDefaultConfig(config, type.getRawClass(), beanDesc)) {
+            return null;
+        }
+        return serializer;
+    }
+
+    private static boolean isDefaultConfig(SerializationConfig config, Class<?> type, BeanDescription beanDesc) {
+        if (config.isEnabled(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+                || !GeneratedCodeSupport.hasDefaultIntrospection(config, type, beanDesc)) {
+            return false;
+        }
+        JsonInclude.Value inclusion = config.getDefaultPropertyInclusion(type);
+        if (inclusion == null) {
+            return true;
+        }
+        return isAlways(inclusion.getValueInclusion()) && isAlways(inclusion.getContentInclusion());
+    }
+
+    private static boolean isAlways(JsonInclude.Include include) {
+        return include == JsonInclude.Include.ALWAYS || include == JsonInclude.Include.USE_DEFAULTS;
+    }
+
+}
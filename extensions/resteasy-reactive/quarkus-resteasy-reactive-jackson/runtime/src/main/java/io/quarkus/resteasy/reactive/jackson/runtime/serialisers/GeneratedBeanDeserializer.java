@@ -0,0 +1,140 @@
+package io.quarkus.resteasy.reactive.jackson.runtime.serialisers;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.databind.util.ClassUtil;
+
+/**
+ * Base class of the deserializers generated at build time for the types of the request bodies.
+ * <p>
+ * A generated deserializer matches the property names without a lookup table and sets the values directly, i.e. without
+ * the reflection-based {@link com.fasterxml.jackson.databind.deser.BeanDeserializer}. The values of the properties are
+ * read with the deserializers provided by Jackson.
+ * <p>
+ * A bean is either created with the no-args constructor and the properties are set afterwards, see
+ * {@link GeneratedSetterBeanDeserializer}, or all the properties are read first and then passed to a constructor, e.g. the
+ * canonical constructor of a record, see {@link GeneratedCreatorBeanDeserializer}.
+ */
+public abstract class GeneratedBeanDeserializer<T> extends StdDeserializer<T> implements ResolvableDeserializer {
+
+    private static final long serialVersionUID = 1L;
+
+    final String[] propertyNames;
+    private final JsonDeserializer<Object>[] deserializers;
+    private final TypeDeserializer[] typeDeserializers;
+
+    @SuppressWarnings("unchecked")
+    GeneratedBeanDeserializer(Class<T> type, String[] propertyNames) {
+        super(type);
+        this.propertyNames = propertyNames;
+        this.deserializers = new JsonDeserializer[propertyNames.length];
+        this.typeDeserializers = new TypeDeserializer[propertyNames.length];
+    }
+
+    @Override
+    public void resolve(DeserializationContext ctxt) throws JsonMappingException {
+        JavaType[] types = propertyTypes(ctxt.getTypeFactory());
+        for (int i = 0; i < types.length; i++) {
+            deserializers[i] = ctxt.findContextualValueDeserializer(types[i], null);
+            typeDeserializers[i] = ctxt.getFactory().findTypeDeserializer(ctxt.getConfig(), types[i]);
+        }
+    }
+
+    @Override
+    public T deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken t = p.currentToken();
+        if (t == JsonToken.START_OBJECT) {
+            t = p.nextToken();
+        } else if (t == JsonToken.START_ARRAY) {
+            return _deserializeFromArray(p, ctxt);
+        } else if (t != JsonToken.FIELD_NAME && t != JsonToken.END_OBJECT) {
+            @SuppressWarnings("unchecked")
+            T result = (T) ctxt.handleUnexpectedToken(getValueType(ctxt), p);
+            return result;
+        }
+        return deserializeProperties(p, ctxt, t);
+    }
+
+    @Override
+    public boolean isCachable() {
+        // The deserializers of the properties are only resolved once
+        return true;
+    }
+
+    @Override
+    public Collection<Object> getKnownPropertyNames() {
+        return Collections.unmodifiableList(Arrays.asList((Object[]) propertyNames));
+    }
+
+    /**
+     * Reads the properties of the object and returns the bean.
+     *
+     * @param p the parser, positioned at the first field name or at the end of the object
+     * @param ctxt
+     * @param t the current token
+     * @return the new bean
+     */
+    abstract T deserializeProperties(JsonParser p, DeserializationContext ctxt, JsonToken t) throws IOException;
+
+    Object readProperty(int index, JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonDeserializer<Object> deserializer = deserializers[index];
+        if (p.hasToken(JsonToken.VALUE_NULL)) {
+            return deserializer.getNullValue(ctxt);
+        }
+        TypeDeserializer typeDeserializer = typeDeserializers[index];
+        return typeDeserializer == null ? deserializer.deserialize(p, ctxt)
+                : deserializer.deserializeWithType(p, ctxt, typeDeserializer);
+    }
+
+    // Follows BeanDeserializerBase#wrapAndThrow()
+    void wrapAndThrow(Throwable t, Object bean, String name, DeserializationContext ctxt) throws IOException {
+        while (t instanceof InvocationTargetException && t.getCause() != null) {
+            t = t.getCause();
+        }
+        ClassUtil.throwIfError(t);
+        boolean wrap = ctxt.isEnabled(DeserializationFeature.WRAP_EXCEPTIONS);
+        if (t instanceof IOException) {
+            if (!wrap || !(t instanceof JsonProcessingException)) {
+                throw (IOException) t;
+            }
+        } else if (!wrap) {
+            ClassUtil.throwIfRTE(t);
+        }
+        throw JsonMappingException.wrapWithPath(t, bean, name);
+    }
+
+    /**
+     *
+     * @param typeFactory
+     * @return the types of the properties, in the order of the property names
+     */
+    protected abstract JavaType[] propertyTypes(TypeFactory typeFactory);
+
+    /**
+     *
+     * @param name
+     * @return the index of the property with the given name, or -1 if there is no such property
+     */
+    protected abstract int propertyIndex(String name);
+
+    JsonDeserializer<Object> getPropertyDeserializer(int index) {
+        return deserializers[index];
+    }
+
+}
@@ -0,0 +1,58 @@
+package io.quarkus.resteasy.reactive.jackson.runtime.serialisers;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Base class of the serializers generated at build time for the types returned from resource methods.
+ * <p>
+ * A generated serializer writes the properties of a bean directly, i.e. without the reflection-based introspection
+ * performed by {@link com.fasterxml.jackson.databind.ser.BeanSerializer}.
+ */
+public abstract class GeneratedBeanSerializer<T> extends StdSerializer<T> {
+
+    protected GeneratedBeanSerializer(Class<T> type) {
+        super(type);
+    }
+
+    @Override
+    public final void serialize(T value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+        if (isIncluded(provider)) {
+            serializeProperties(value, gen, provider);
+        }
+        gen.writeEndObject();
+    }
+
+    @Override
+    public final void serializeWithType(T value, JsonGenerator gen, SerializerProvider provider, TypeSerializer typeSer)
+            throws IOException {
+        gen.setCurrentValue(value);
+        WritableTypeId typeId = typeSer.writeTypePrefix(gen, typeSer.typeId(value, JsonToken.START_OBJECT));
+        if (isIncluded(provider)) {
+            serializeProperties(value, gen, provider);
+        }
+        typeSer.writeTypeSuffix(gen, typeId);
+    }
+
+    /*
+     * A serializer is cached by the mapper and also used by the writers with an active view, so the view is checked for each
+     * value. No property is written if it excludes the properties, like the BeanSerializer does.
+     */
+    private static boolean isIncluded(SerializerProvider provider) {
+        return !GeneratedCodeSupport.isExcludedByView(provider.getConfig(), provider.getActiveView());
+    }
+
+    /**
+     * Writes the name and the value of each property of the given bean.
+     */
+    protected abstract void serializeProperties(T value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException;
+
+}
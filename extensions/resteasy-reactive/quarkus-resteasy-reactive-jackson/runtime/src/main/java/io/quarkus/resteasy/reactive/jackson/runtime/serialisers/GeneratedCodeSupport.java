@@ -0,0 +1,58 @@
+package io.quarkus.resteasy.reactive.jackson.runtime.serialisers;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.cfg.MapperConfig;
+import com.fasterxml.jackson.databind.introspect.VisibilityChecker;
+
+/**
+ * The checks shared by the generated serializers and deserializers. The generated code follows the default introspection
+ * of Jackson, so it must not be used if a customizer changed how the properties of a bean are found.
+ */
+final class GeneratedCodeSupport {
+
+    private GeneratedCodeSupport() {
+    }
+
+    /**
+     * @return {@code true} if the properties of the given type are found the same way as with a default
+     *         {@link com.fasterxml.jackson.databind.ObjectMapper}
+     */
+    static boolean hasDefaultIntrospection(MapperConfig<?> config, Class<?> type, BeanDescription beanDesc) {
+        if (config.getPropertyNamingStrategy() != null
+                || isExcludedByView(config, config.getActiveView())
+                || hasMixIn(config, type)) {
+            return false;
+        }
+        // The checker is only replaced if the visibility of a member kind differs from the default one
+        return beanDesc == null
+                || config.getDefaultVisibilityChecker(type, beanDesc.getClassInfo()) == VisibilityChecker.Std.defaultInstance();
+    }
+
+    /**
+     * The properties of the generated classes are never annotated with {@code @JsonView}, so if the default view inclusion
+     * is disabled an active view excludes all of them, like it would with the standard bean (de)serializers.
+     *
+     * @return {@code true} if the given active view excludes the properties without {@code @JsonView}
+     */
+    static boolean isExcludedByView(MapperConfig<?> config, Class<?> activeView) {
+        return activeView != null && !config.isEnabled(MapperFeature.DEFAULT_VIEW_INCLUSION);
+    }
+
+    // Jackson also applies the mixins of the supertypes
+    private static boolean hasMixIn(MapperConfig<?> config, Class<?> type) {
+        if (type == null || type == Object.class) {
+            return false;
+        }
+        if (config.findMixInClassFor(type) != null || hasMixIn(config, type.getSuperclass())) {
+            return true;
+        }
+        for (Class<?> interfaceType : type.getInterfaces()) {
+            if (hasMixIn(config, interfaceType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
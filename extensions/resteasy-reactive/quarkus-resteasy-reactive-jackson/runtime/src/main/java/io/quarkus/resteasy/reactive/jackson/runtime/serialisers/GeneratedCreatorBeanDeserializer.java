@@ -0,0 +1,74 @@
+package io.quarkus.resteasy.reactive.jackson.runtime.serialisers;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+
+/**
+ * Base class of the generated deserializers of the beans created from the values of all the properties, e.g. with the
+ * canonical constructor of a record.
+ */
+public abstract class GeneratedCreatorBeanDeserializer<T> extends GeneratedBeanDeserializer<T> {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Object MISSING = new Object();
+
+    protected GeneratedCreatorBeanDeserializer(Class<T> type, String[] propertyNames) {
+        super(type, propertyNames);
+    }
+
+    @Override
+    final T deserializeProperties(JsonParser p, DeserializationContext ctxt, JsonToken t) throws IOException {
+        Object[] values = new Object[propertyNames.length];
+        Arrays.fill(values, MISSING);
+        // The creator properties are read whatever the active view is, like the BeanDeserializer does
+        if (t == JsonToken.FIELD_NAME) {
+            String name = p.currentName();
+            do {
+                p.nextToken();
+                int index = propertyIndex(name);
+                if (index < 0) {
+                    handleUnknownProperty(p, ctxt, handledType(), name);
+                    continue;
+                }
+                try {
+                    values[index] = readProperty(index, p, ctxt);
+                } catch (Exception e) {
+                    wrapAndThrow(e, handledType(), name, ctxt);
+                }
+            } while ((name = p.nextFieldName()) != null);
+        }
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == MISSING) {
+                if (ctxt.isEnabled(DeserializationFeature.FAIL_ON_MISSING_CREATOR_PROPERTIES)) {
+                    ctxt.reportInputMismatch(this, "Missing creator property '%s' (index %d); "
+                            + "`DeserializationFeature.FAIL_ON_MISSING_CREATOR_PROPERTIES` enabled", propertyNames[i], i);
+                }
+                values[i] = getPropertyDeserializer(i).getAbsentValue(ctxt);
+            }
+            if (values[i] == null && ctxt.isEnabled(DeserializationFeature.FAIL_ON_NULL_CREATOR_PROPERTIES)) {
+                ctxt.reportInputMismatch(this, "Null value for creator property '%s' (index %d); "
+                        + "`DeserializationFeature.FAIL_ON_NULL_CREATOR_PROPERTIES` enabled", propertyNames[i], i);
+            }
+        }
+        try {
+            return createBean(values);
+        } catch (Exception e) {
+            throw ctxt.instantiationException(handledType(), e);
+        }
+    }
+
+    /**
+     * Creates a bean from the values of all properties.
+     *
+     * @param values the values, in the order of the property names
+     * @return the new bean
+     */
+    protected abstract T createBean(Object[] values);
+
+}
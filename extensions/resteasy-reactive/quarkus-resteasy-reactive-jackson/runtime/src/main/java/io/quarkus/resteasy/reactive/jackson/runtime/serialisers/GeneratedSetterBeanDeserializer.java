@@ -0,0 +1,68 @@
+package io.quarkus.resteasy.reactive.jackson.runtime.serialisers;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+
+/**
+ * Base class of the generated deserializers of the beans created with the no-args constructor, whose properties are set
+ * afterwards with the setters or the fields.
+ */
+public abstract class GeneratedSetterBeanDeserializer<T> extends GeneratedBeanDeserializer<T> {
+
+    private static final long serialVersionUID = 1L;
+
+    protected GeneratedSetterBeanDeserializer(Class<T> type, String[] propertyNames) {
+        super(type, propertyNames);
+    }
+
+    @Override
+    final T deserializeProperties(JsonParser p, DeserializationContext ctxt, JsonToken t) throws IOException {
+        T bean = createBean();
+        p.setCurrentValue(bean);
+        if (t == JsonToken.FIELD_NAME) {
+            // The deserializer is cached by the mapper and also used by the readers with an active view
+            boolean excludedByView = GeneratedCodeSupport.isExcludedByView(ctxt.getConfig(), ctxt.getActiveView());
+            String name = p.currentName();
+            do {
+                p.nextToken();
+                int index = propertyIndex(name);
+                if (index < 0) {
+                    handleUnknownProperty(p, ctxt, bean, name);
+                    continue;
+                }
+                if (excludedByView) {
+                    // Like the BeanDeserializer, the known properties which are not in the view are skipped
+                    p.skipChildren();
+                    continue;
+                }
+                try {
+                    setProperty(bean, index, readProperty(index, p, ctxt));
+                } catch (Exception e) {
+                    wrapAndThrow(e, bean, name, ctxt);
+                }
+            } while ((name = p.nextFieldName()) != null);
+        }
+        return bean;
+    }
+
+    /**
+     * Creates a bean whose properties are set afterwards.
+     *
+     * @return the new bean
+     * @see #setProperty(Object, int, Object)
+     */
+    protected abstract T createBean();
+
+    /**
+     * Sets a property of a bean created with {@link #createBean()}.
+     *
+     * @param bean the bean
+     * @param index the index of the property
+     * @param value the value read from the JSON
+     */
+    protected abstract void setProperty(T bean, int index, Object value);
+
+}
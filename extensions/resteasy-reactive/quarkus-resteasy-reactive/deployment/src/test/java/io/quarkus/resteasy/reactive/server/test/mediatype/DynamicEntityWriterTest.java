@@ -0,0 +1,142 @@
+package io.quarkus.resteasy.reactive.server.test.mediatype;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.startsWith;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.MessageBodyWriter;
+import javax.ws.rs.ext.Provider;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+/**
+ * Tests the writers resolved at runtime for a resource method returning different entity types, which are cached per
+ * resource method.
+ */
+public class DynamicEntityWriterTest {
+
+    private static final String CUSTOM_MEDIA_TYPE = "application/x-custom";
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Greeting.class, Farewell.class, TestResource.class, TextGreetingWriter.class,
+                            CustomGreetingWriter.class, FarewellWriter.class));
+
+    @Test
+    public void testEntityTypeAndMediaTypeChanges() {
+        // resolves the writers of Greeting for text/plain
+        get("greeting", MediaType.TEXT_PLAIN, "text-greeting:hello", MediaType.TEXT_PLAIN);
+        // same entity type and media type, the cached writers are used
+        get("greeting", MediaType.TEXT_PLAIN, "text-greeting:hello", MediaType.TEXT_PLAIN);
+        // another entity type, the writers are resolved again
+        get("farewell", MediaType.TEXT_PLAIN, "farewell:bye", MediaType.TEXT_PLAIN);
+        // the same entity type as the first request but another media type, the writers are resolved again
+        get("greeting", CUSTOM_MEDIA_TYPE, "custom-greeting:hello", CUSTOM_MEDIA_TYPE);
+        get("greeting", MediaType.TEXT_PLAIN, "text-greeting:hello", MediaType.TEXT_PLAIN);
+        get("farewell", CUSTOM_MEDIA_TYPE, "farewell:bye", CUSTOM_MEDIA_TYPE);
+    }
+
+    private static void get(String type, String accept, String expectedBody, String expectedContentType) {
+        RestAssured.given().accept(accept).queryParam("type", type)
+                .get("/dynamic")
+                .then()
+                .statusCode(200)
+                .contentType(startsWith(expectedContentType))
+                .body(equalTo(expectedBody));
+    }
+
+    @Path("/dynamic")
+    public static class TestResource {
+
+        @GET
+        @Produces({ MediaType.TEXT_PLAIN, CUSTOM_MEDIA_TYPE })
+        public Object get(@QueryParam("type") String type) {
+            if ("greeting".equals(type)) {
+                return new Greeting("hello");
+            }
+            return new Farewell("bye");
+        }
+    }
+
+    public static class Greeting {
+
+        final String message;
+
+        public Greeting(String message) {
+            this.message = message;
+        }
+    }
+
+    public static class Farewell {
+
+        final String message;
+
+        public Farewell(String message) {
+            this.message = message;
+        }
+    }
+
+    @Provider
+    @Produces(MediaType.TEXT_PLAIN)
+    public static class TextGreetingWriter implements MessageBodyWriter<Greeting> {
+
+        @Override
+        public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+            return Greeting.class.equals(type);
+        }
+
+        @Override
+        public void writeTo(Greeting entity, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+                MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream) throws IOException {
+            entityStream.write(("text-greeting:" + entity.message).getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Provider
+    @Produces(CUSTOM_MEDIA_TYPE)
+    public static class CustomGreetingWriter implements MessageBodyWriter<Greeting> {
+
+        @Override
+        public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+            return Greeting.class.equals(type);
+        }
+
+        @Override
+        public void writeTo(Greeting entity, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+                MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream) throws IOException {
+            entityStream.write(("custom-greeting:" + entity.message).getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Provider
+    @Produces({ MediaType.TEXT_PLAIN, CUSTOM_MEDIA_TYPE })
+    public static class FarewellWriter implements MessageBodyWriter<Farewell> {
+
+        @Override
+        public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+            return Farewell.class.equals(type);
+        }
+
+        @Override
+        public void writeTo(Farewell entity, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+                MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream) throws IOException {
+            entityStream.write(("farewell:" + entity.message).getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package io.quarkus.scheduler.test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class SubSecondIntervalTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Jobs.class)
+                    .addAsResource(new StringAsset("quarkus.scheduler.tick-period=50ms"),
+                            "application.properties"));
+
+    @Test
+    public void testSubSecondInterval() throws InterruptedException {
+        // With the default tick period the method would be executed at most three times within two seconds
+        assertTrue(Jobs.LATCH.await(2, TimeUnit.SECONDS));
+    }
+
+    public static class Jobs {
+
+        static final CountDownLatch LATCH = new CountDownLatch(5);
+
+        @Scheduled(every = "0.1s")
+        void ping() {
+            LATCH.countDown();
+        }
+
+    }
+
+}
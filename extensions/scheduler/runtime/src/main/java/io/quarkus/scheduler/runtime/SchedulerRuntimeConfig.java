@@ -20,4 +20,13 @@ public class SchedulerRuntimeConfig {
      */
     @ConfigItem(defaultValue = "1")
     public Duration overdueGracePeriod;
+
+    /**
+     * The period in which the simple scheduler checks for the tasks that are due, i.e. the precision of the scheduler.
+     * <p>
+     * The interval triggers that fire more often than this period cannot be honored precisely. A shorter period makes
+     * it possible to use sub-second intervals, e.g. {@code @Scheduled(every = "0.1s")}.
+     */
+    @ConfigItem(defaultValue = "1s")
+    public Duration tickPeriod;
 }
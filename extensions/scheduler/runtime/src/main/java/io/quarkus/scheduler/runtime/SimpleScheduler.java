@@ -2,7 +2,6 @@
 
 import java.time.Duration;
 import java.time.Instant;
-import java.time.LocalDateTime;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
@@ -12,6 +11,7 @@
 import java.util.OptionalLong;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import javax.annotation.PreDestroy;
@@ -62,10 +62,13 @@ public class SimpleScheduler implements Scheduler {
 
     private static final Logger LOG = Logger.getLogger(SimpleScheduler.class);
 
-    // milliseconds
-    private static final long CHECK_PERIOD = 1000L;
+    // the number of slots of the timing wheel
+    private static final int WHEEL_SIZE = 512;
 
     private final ScheduledExecutorService scheduledExecutor;
+    // milliseconds
+    private final long tickPeriod;
+    private final TimingWheel<ScheduledTask> wheel;
     private final Vertx vertx;
     private volatile boolean running;
     private final List<ScheduledTask> scheduledTasks;
@@ -78,6 +81,11 @@ public SimpleScheduler(SchedulerContext context, SchedulerRuntimeConfig schedule
         this.enabled = schedulerRuntimeConfig.enabled;
         this.scheduledTasks = new ArrayList<>();
         this.vertx = vertx;
+        this.tickPeriod = schedulerRuntimeConfig.tickPeriod.toMillis();
+        if (tickPeriod <= 0) {
+            throw new IllegalArgumentException("Invalid tick period: " + schedulerRuntimeConfig.tickPeriod);
+        }
+        this.wheel = new TimingWheel<>(tickPeriod, WHEEL_SIZE, System.currentTimeMillis());
 
         if (!schedulerRuntimeConfig.enabled) {
             this.scheduledExecutor = null;
@@ -125,11 +133,17 @@ void start(@Observes @Priority(Interceptor.Priority.PLATFORM_BEFORE) StartupEven
         if (scheduledExecutor == null) {
             return;
         }
-        // Try to compute the initial delay to execute the checks near to the whole second
+        // Try to compute the initial delay to execute the checks near to the tick boundary, e.g. the whole second
         // Note that this does not guarantee anything, it's just best effort
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime trunc = now.plusSeconds(1).truncatedTo(ChronoUnit.SECONDS);
-        scheduledExecutor.scheduleAtFixedRate(this::checkTriggers, ChronoUnit.MILLIS.between(now, trunc), CHECK_PERIOD,
+        long now = System.currentTimeMillis();
+        ZonedDateTime zonedNow = ZonedDateTime.now();
+        for (ScheduledTask task : scheduledTasks) {
+            long deadline = task.trigger.nextDeadline(zonedNow);
+            if (deadline >= 0) {
+                wheel.schedule(task, deadline);
+            }
+        }
+        scheduledExecutor.scheduleAtFixedRate(this::checkTriggers, tickPeriod - (now % tickPeriod), tickPeriod,
                 TimeUnit.MILLISECONDS);
     }
 
@@ -151,9 +165,20 @@ void checkTriggers() {
         }
         ZonedDateTime now = ZonedDateTime.now();
         LOG.tracef("Check triggers at %s", now);
-        for (ScheduledTask task : scheduledTasks) {
-            task.execute(now, vertx);
-        }
+        // Only the tasks that are due are evaluated
+        wheel.advance(now.toInstant().toEpochMilli(), new Consumer<ScheduledTask>() {
+            @Override
+            public void accept(ScheduledTask task) {
+                try {
+                    task.execute(now, vertx);
+                } finally {
+                    long deadline = task.trigger.nextDeadline(now);
+                    if (deadline >= 0) {
+                        wheel.schedule(task, deadline);
+                    }
+                }
+            }
+        });
     }
 
     @Override
@@ -261,8 +286,14 @@ Optional<SimpleTrigger> createTrigger(String invokerClass, CronParser parser, Sc
             if (!everyMillis.isPresent()) {
                 return Optional.empty();
             }
-            return Optional.of(new IntervalTrigger(id, start, everyMillis.getAsLong(),
-                    SchedulerUtils.parseOverdueGracePeriod(scheduled, defaultGracePeriod)));
+            long interval = everyMillis.getAsLong();
+            if (interval < tickPeriod) {
+                LOG.warnf("The interval of %s ms defined on %s is shorter than the tick period of the scheduler [%s ms]"
+                        + " - use the quarkus.scheduler.tick-period config property to increase the precision",
+                        interval, id, tickPeriod);
+            }
+            return Optional.of(new IntervalTrigger(id, start, interval,
+                    SchedulerUtils.parseOverdueGracePeriod(scheduled, defaultGracePeriod), tickPeriod));
         } else {
             throw new IllegalArgumentException("Invalid schedule configuration: " + scheduled);
         }
@@ -357,6 +388,13 @@ static abstract class SimpleTrigger implements Trigger {
          */
         abstract ZonedDateTime evaluate(ZonedDateTime now);
 
+        /**
+         * @param now
+         * @return the epoch millis of the next time the trigger should be evaluated, or {@code -1} if it never fires
+         *         again
+         */
+        abstract long nextDeadline(ZonedDateTime now);
+
         @Override
         public Instant getPreviousFireTime() {
             ZonedDateTime last = lastFireTime;
@@ -367,11 +405,11 @@ public String getId() {
             return id;
         }
 
-        synchronized boolean isRunning() {
+        boolean isRunning() {
             return running;
         }
 
-        synchronized void setRunning(boolean running) {
+        void setRunning(boolean running) {
             this.running = running;
         }
 
@@ -382,11 +420,29 @@ static class IntervalTrigger extends SimpleTrigger {
         // milliseconds
         private final long interval;
         private final Duration gracePeriod;
+        // milliseconds
+        private final long resolution;
 
-        IntervalTrigger(String id, ZonedDateTime start, long interval, Duration gracePeriod) {
+        IntervalTrigger(String id, ZonedDateTime start, long interval, Duration gracePeriod, long resolution) {
             super(id, start);
             this.interval = interval;
             this.gracePeriod = gracePeriod;
+            this.resolution = resolution;
+        }
+
+        @Override
+        long nextDeadline(ZonedDateTime now) {
+            ZonedDateTime last = lastFireTime;
+            if (last == null) {
+                return start.toInstant().toEpochMilli();
+            }
+            return last.toInstant().toEpochMilli() + interval;
+        }
+
+        private ZonedDateTime truncate(ZonedDateTime time) {
+            // Truncate to the resolution of the scheduler, e.g. to seconds by default
+            long millis = time.toInstant().toEpochMilli();
+            return Instant.ofEpochMilli(millis - Math.floorMod(millis, resolution)).atZone(time.getZone());
         }
 
         @Override
@@ -396,13 +452,13 @@ ZonedDateTime evaluate(ZonedDateTime now) {
             }
             if (lastFireTime == null) {
                 // First execution
-                lastFireTime = now.truncatedTo(ChronoUnit.SECONDS);
+                lastFireTime = truncate(now);
                 return now;
             }
             long diff = ChronoUnit.MILLIS.between(lastFireTime, now);
             if (diff >= interval) {
                 ZonedDateTime scheduledFireTime = lastFireTime.plus(Duration.ofMillis(interval));
-                lastFireTime = now.truncatedTo(ChronoUnit.SECONDS);
+                lastFireTime = truncate(now);
                 LOG.tracef("%s fired, diff=%s ms", this, diff);
                 return scheduledFireTime;
             }
@@ -457,6 +513,12 @@ public Instant getNextFireTime() {
             return nextFireTime.isPresent() ? nextFireTime.get().toInstant() : null;
         }
 
+        @Override
+        long nextDeadline(ZonedDateTime now) {
+            Optional<ZonedDateTime> nextFireTime = executionTime.nextExecution(lastFireTime);
+            return nextFireTime.isPresent() ? nextFireTime.get().toInstant().toEpochMilli() : -1;
+        }
+
         ZonedDateTime evaluate(ZonedDateTime now) {
             if (now.isBefore(start)) {
                 return null;
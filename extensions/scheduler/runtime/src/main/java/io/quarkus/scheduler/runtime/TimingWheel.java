@@ -0,0 +1,163 @@
+package io.quarkus.scheduler.runtime;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.jboss.logging.Logger;
+
+/**
+ * A hashed timing wheel used by the {@link SimpleScheduler} to find the tasks that are due.
+ * <p>
+ * The wheel consists of a fixed number of slots; each slot covers a single tick. An entry is placed in the slot that
+ * corresponds to its deadline and carries the number of full wheel rotations that must elapse before it expires. As a
+ * result, a tick only visits the entries of the current slot instead of evaluating every registered task.
+ * <p>
+ * This class is not thread-safe. It is only accessed from the scheduler thread.
+ *
+ * @param <T> the type of the scheduled element
+ */
+final class TimingWheel<T> {
+
+    private static final Logger LOG = Logger.getLogger(TimingWheel.class);
+
+    private final long tickMillis;
+    private final int mask;
+    private final Slot<T>[] slots;
+    private final List<T> due;
+    // the tick that will be processed next
+    private long currentTick;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    TimingWheel(long tickMillis, int slotCount, long startMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("Tick duration must be greater than zero: " + tickMillis);
+        }
+        this.tickMillis = tickMillis;
+        int normalized = normalize(slotCount);
+        this.mask = normalized - 1;
+        this.slots = new Slot[normalized];
+        for (int i = 0; i < normalized; i++) {
+            slots[i] = new Slot<>();
+        }
+        this.currentTick = startMillis / tickMillis;
+        this.due = new ArrayList<>();
+    }
+
+    /**
+     * Adds an element that should expire at the given deadline. A deadline in the past expires at the next tick.
+     *
+     * @param element
+     * @param deadlineMillis
+     */
+    void schedule(T element, long deadlineMillis) {
+        long deadlineTick = Math.max(ceilDiv(deadlineMillis, tickMillis), currentTick);
+        long rounds = (deadlineTick - currentTick) / slots.length;
+        slots[(int) (deadlineTick & mask)].add(new Entry<>(element, rounds));
+        size++;
+    }
+
+    /**
+     * Processes all ticks up to and including the tick of the given time. Expired elements are removed from the wheel
+     * and passed to the given action, which is free to re-schedule them. A failure of the action is logged and does not
+     * prevent the remaining expired elements from being processed.
+     *
+     * @param nowMillis
+     * @param action
+     * @return the number of expired elements
+     */
+    int advance(long nowMillis, Consumer<T> action) {
+        long targetTick = nowMillis / tickMillis;
+        if (targetTick < currentTick) {
+            return 0;
+        }
+        while (currentTick <= targetTick) {
+            slots[(int) (currentTick & mask)].expire(due);
+            currentTick++;
+        }
+        int expired = due.size();
+        size -= expired;
+        try {
+            for (T element : due) {
+                try {
+                    action.accept(element);
+                } catch (Throwable t) {
+                    LOG.errorf(t, "Error occurred while processing the expired element %s", element);
+                }
+            }
+        } finally {
+            due.clear();
+        }
+        return expired;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long getTickMillis() {
+        return tickMillis;
+    }
+
+    private static int normalize(int slotCount) {
+        if (slotCount <= 0 || slotCount > (1 << 30)) {
+            throw new IllegalArgumentException("Invalid number of slots: " + slotCount);
+        }
+        int normalized = 1;
+        while (normalized < slotCount) {
+            normalized <<= 1;
+        }
+        return normalized;
+    }
+
+    private static long ceilDiv(long x, long y) {
+        return -Math.floorDiv(-x, y);
+    }
+
+    static final class Entry<T> {
+
+        final T element;
+        long rounds;
+        Entry<T> next;
+
+        Entry(T element, long rounds) {
+            this.element = element;
+            this.rounds = rounds;
+        }
+
+    }
+
+    static final class Slot<T> {
+
+        private Entry<T> head;
+
+        void add(Entry<T> entry) {
+            entry.next = head;
+            head = entry;
+        }
+
+        void expire(List<T> due) {
+            Entry<T> prev = null;
+            Entry<T> entry = head;
+            while (entry != null) {
+                Entry<T> next = entry.next;
+                if (entry.rounds <= 0) {
+                    if (prev == null) {
+                        head = next;
+                    } else {
+                        prev.next = next;
+                    }
+                    entry.next = null;
+                    due.add(entry.element);
+                } else {
+                    entry.rounds--;
+                    prev = entry;
+                }
+                entry = next;
+            }
+        }
+
+    }
+
+}
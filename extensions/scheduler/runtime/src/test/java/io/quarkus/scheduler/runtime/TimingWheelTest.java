@@ -0,0 +1,111 @@
+package io.quarkus.scheduler.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class TimingWheelTest {
+
+    @Test
+    public void testExpiration() {
+        TimingWheel<String> wheel = new TimingWheel<>(10, 8, 1000);
+        wheel.schedule("a", 1010);
+        wheel.schedule("b", 1025);
+        // deadlines in the past expire at the next tick
+        wheel.schedule("c", 500);
+        assertEquals(3, wheel.size());
+
+        List<String> expired = new ArrayList<>();
+        assertEquals(2, wheel.advance(1010, expired::add));
+        assertEquals(List.of("a", "c"), sorted(expired));
+        assertEquals(1, wheel.size());
+
+        expired.clear();
+        assertEquals(0, wheel.advance(1020, expired::add));
+        // the deadline is rounded up to the next tick
+        assertEquals(1, wheel.advance(1030, expired::add));
+        assertEquals(List.of("b"), expired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void testWrapAroundAndRounds() {
+        // 8 slots of 10 ms, i.e. a rotation lasts 80 ms
+        TimingWheel<String> wheel = new TimingWheel<>(10, 8, 0);
+        // same slot as "near", but two rotations later
+        wheel.schedule("near", 30);
+        wheel.schedule("far", 30 + 2 * 80);
+        wheel.schedule("wrapped", 100);
+
+        List<String> expired = new ArrayList<>();
+        wheel.advance(30, expired::add);
+        assertEquals(List.of("near"), expired);
+
+        expired.clear();
+        // the slot index wraps around after the 8th tick
+        wheel.advance(100, expired::add);
+        assertEquals(List.of("wrapped"), expired);
+
+        expired.clear();
+        wheel.advance(110, expired::add);
+        assertTrue(expired.isEmpty());
+        // the entry stays in its slot until its last rotation
+        wheel.advance(189, expired::add);
+        assertTrue(expired.isEmpty());
+        wheel.advance(190, expired::add);
+        assertEquals(List.of("far"), expired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void testRescheduleFromAction() {
+        TimingWheel<String> wheel = new TimingWheel<>(10, 4, 0);
+        wheel.schedule("periodic", 10);
+        List<Long> executions = new ArrayList<>();
+        for (long now = 0; now <= 100; now += 10) {
+            long time = now;
+            wheel.advance(now, element -> {
+                executions.add(time);
+                wheel.schedule(element, time + 20);
+            });
+        }
+        assertEquals(List.of(10L, 30L, 50L, 70L, 90L), executions);
+        assertEquals(1, wheel.size());
+    }
+
+    @Test
+    public void testFailingAction() {
+        TimingWheel<String> wheel = new TimingWheel<>(10, 8, 0);
+        wheel.schedule("a", 10);
+        wheel.schedule("b", 10);
+        wheel.schedule("c", 10);
+
+        List<String> processed = new ArrayList<>();
+        assertEquals(3, wheel.advance(10, element -> {
+            processed.add(element);
+            if (processed.size() == 1) {
+                throw new IllegalStateException("Boom!");
+            }
+            wheel.schedule(element, 50);
+        }));
+        // the remaining elements are processed and re-scheduled despite the failure
+        assertEquals(3, processed.size());
+        assertEquals(2, wheel.size());
+
+        List<String> expired = new ArrayList<>();
+        wheel.advance(50, expired::add);
+        assertEquals(2, expired.size());
+        assertEquals(0, wheel.size());
+    }
+
+    private static List<String> sorted(List<String> list) {
+        List<String> sorted = new ArrayList<>(list);
+        sorted.sort(null);
+        return sorted;
+    }
+
+}
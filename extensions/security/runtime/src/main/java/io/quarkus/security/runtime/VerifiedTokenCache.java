@@ -0,0 +1,127 @@
+package io.quarkus.security.runtime;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A bounded cache of the results of a token verification, such as a parsed JWT token.
+ * <p>
+ * The entries are keyed by the SHA-256 digest of the token so that the tokens themselves are not retained. An entry
+ * expires when the token expires or when the time to live has elapsed, whichever comes first. When the cache is full, an
+ * arbitrary entry is evicted.
+ *
+ * @param <T> the type of the verification result
+ */
+public class VerifiedTokenCache<T> {
+
+    private final int maxSize;
+    private final long timeToLiveMillis;
+    private final Map<String, CacheEntry<T>> cacheMap;
+    private final AtomicInteger size;
+
+    public VerifiedTokenCache(int maxSize, Duration timeToLive) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("The maximum size must be positive: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.timeToLiveMillis = timeToLive.toMillis();
+        this.cacheMap = new ConcurrentHashMap<>();
+        this.size = new AtomicInteger();
+    }
+
+    /**
+     *
+     * @param token
+     * @return the verification result or {@code null} if the token is not cached or has expired
+     */
+    public T get(String token) {
+        String key = digest(token);
+        CacheEntry<T> entry = cacheMap.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt <= now()) {
+            remove(key, entry);
+            return null;
+        }
+        return entry.value;
+    }
+
+    /**
+     *
+     * @param token
+     * @param value the verification result
+     * @param tokenExpiresAt the expiry time of the token in milliseconds since the epoch, or {@code 0} if the token does
+     *        not expire
+     */
+    public void put(String token, T value, long tokenExpiresAt) {
+        long expiresAt = now() + timeToLiveMillis;
+        if (tokenExpiresAt > 0 && tokenExpiresAt < expiresAt) {
+            expiresAt = tokenExpiresAt;
+        }
+        String key = digest(token);
+        if (cacheMap.put(key, new CacheEntry<>(value, expiresAt)) == null && size.incrementAndGet() > maxSize) {
+            evict(key);
+        }
+    }
+
+    /**
+     * Removes all the entries, for example when the verification keys have been rotated.
+     */
+    public void clear() {
+        for (Iterator<Map.Entry<String, CacheEntry<T>>> it = cacheMap.entrySet().iterator(); it.hasNext();) {
+            Map.Entry<String, CacheEntry<T>> next = it.next();
+            remove(next.getKey(), next.getValue());
+        }
+    }
+
+    public int getCacheSize() {
+        return size.get();
+    }
+
+    private void evict(String newKey) {
+        for (Map.Entry<String, CacheEntry<T>> next : cacheMap.entrySet()) {
+            if (!next.getKey().equals(newKey) && remove(next.getKey(), next.getValue())) {
+                return;
+            }
+        }
+    }
+
+    private boolean remove(String key, CacheEntry<T> entry) {
+        if (cacheMap.remove(key, entry)) {
+            size.decrementAndGet();
+            return true;
+        }
+        return false;
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static long now() {
+        return System.currentTimeMillis();
+    }
+
+    private static class CacheEntry<T> {
+        final T value;
+        final long expiresAt;
+
+        CacheEntry(T value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package io.quarkus.security.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+public class VerifiedTokenCacheTest {
+
+    @Test
+    public void testExpiry() throws Exception {
+        VerifiedTokenCache<String> cache = new VerifiedTokenCache<>(10, Duration.ofMinutes(1));
+        cache.put("token1", "result1", 0);
+        cache.put("token2", "result2", System.currentTimeMillis() + 100);
+        cache.put("token3", "result3", System.currentTimeMillis() - 1);
+        assertEquals("result1", cache.get("token1"));
+        assertEquals("result2", cache.get("token2"));
+        // The token has already expired
+        assertNull(cache.get("token3"));
+        assertNull(cache.get("token4"));
+
+        Thread.sleep(150);
+        assertNull(cache.get("token2"));
+        assertEquals("result1", cache.get("token1"));
+        assertEquals(1, cache.getCacheSize());
+
+        VerifiedTokenCache<String> shortLived = new VerifiedTokenCache<>(10, Duration.ofMillis(50));
+        shortLived.put("token1", "result1", System.currentTimeMillis() + 60_000);
+        assertEquals("result1", shortLived.get("token1"));
+        Thread.sleep(100);
+        assertNull(shortLived.get("token1"));
+    }
+
+    @Test
+    public void testMaxSize() {
+        VerifiedTokenCache<String> cache = new VerifiedTokenCache<>(3, Duration.ofMinutes(1));
+        for (int i = 0; i < 10; i++) {
+            cache.put("token" + i, "result" + i, 0);
+            // The last token is never evicted
+            assertEquals("result" + i, cache.get("token" + i));
+        }
+        assertEquals(3, cache.getCacheSize());
+        // Replacing an entry does not change the size
+        cache.put("token9", "result9", 0);
+        assertEquals(3, cache.getCacheSize());
+
+        cache.clear();
+        assertEquals(0, cache.getCacheSize());
+        assertNull(cache.get("token9"));
+    }
+}
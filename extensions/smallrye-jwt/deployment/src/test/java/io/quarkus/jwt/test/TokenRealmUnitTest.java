@@ -7,7 +7,9 @@
 import java.security.PublicKey;
 import java.security.interfaces.RSAPublicKey;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.eclipse.microprofile.jwt.JsonWebToken;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -17,8 +19,10 @@
 import io.quarkus.security.runtime.QuarkusIdentityProviderManagerImpl;
 import io.quarkus.smallrye.jwt.runtime.auth.JsonWebTokenCredential;
 import io.quarkus.smallrye.jwt.runtime.auth.MpJwtValidator;
+import io.quarkus.smallrye.jwt.runtime.auth.SmallRyeJwtConfig;
 import io.smallrye.jwt.auth.principal.DefaultJWTParser;
 import io.smallrye.jwt.auth.principal.JWTAuthContextInfo;
+import io.smallrye.jwt.auth.principal.ParseException;
 
 /**
  * Validate usage of the bearer token based realm
@@ -49,6 +53,49 @@ public void execute(Runnable command) {
         Assertions.assertEquals("jdoe@example.com", securityIdentity.getPrincipal().getName());
     }
 
+    @Test
+    public void testVerifiedTokenCache() throws Exception {
+        KeyPair keyPair = generateKeyPair();
+        JWTAuthContextInfo contextInfo = new JWTAuthContextInfo((RSAPublicKey) keyPair.getPublic(),
+                "https://server.example.com");
+        AtomicInteger parsed = new AtomicInteger();
+        DefaultJWTParser parser = new DefaultJWTParser(contextInfo) {
+            @Override
+            public JsonWebToken parse(String token) throws ParseException {
+                parsed.incrementAndGet();
+                return super.parse(token);
+            }
+        };
+        SmallRyeJwtConfig config = new SmallRyeJwtConfig();
+        config.verifiedTokenCache.maxSize = 10;
+        MpJwtValidator jwtValidator = new MpJwtValidator(parser, config);
+        QuarkusIdentityProviderManagerImpl authenticator = QuarkusIdentityProviderManagerImpl.builder()
+                .addProvider(new AnonymousIdentityProvider())
+                .setBlockingExecutor(new Executor() {
+                    @Override
+                    public void execute(Runnable command) {
+                        command.run();
+                    }
+                })
+                .addProvider(jwtValidator).build();
+
+        String jwt = TokenUtils.generateTokenString("/Token1.json", keyPair.getPrivate(), "testTokenRealm");
+        SecurityIdentity first = authenticator.authenticate(new TokenAuthenticationRequest(new JsonWebTokenCredential(jwt)))
+                .await().indefinitely();
+        SecurityIdentity second = authenticator.authenticate(new TokenAuthenticationRequest(new JsonWebTokenCredential(jwt)))
+                .await().indefinitely();
+        Assertions.assertEquals(1, parsed.get());
+        Assertions.assertEquals("jdoe@example.com", second.getPrincipal().getName());
+        Assertions.assertSame(first.getPrincipal(), second.getPrincipal());
+        Assertions.assertEquals(first.getRoles(), second.getRoles());
+
+        // A token with a different signature is not served from the cache
+        String otherJwt = TokenUtils.generateTokenString("/Token1.json", generateKeyPair().getPrivate(), "testTokenRealm");
+        Assertions.assertThrows(Exception.class, () -> authenticator
+                .authenticate(new TokenAuthenticationRequest(new JsonWebTokenCredential(otherJwt))).await().indefinitely());
+        Assertions.assertEquals(2, parsed.get());
+    }
+
     private KeyPair generateKeyPair() throws NoSuchAlgorithmException {
         KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
         generator.initialize(2048); // because that's the minimal accepted size
@@ -14,6 +14,7 @@
 import io.quarkus.security.identity.SecurityIdentity;
 import io.quarkus.security.identity.request.TokenAuthenticationRequest;
 import io.quarkus.security.runtime.QuarkusSecurityIdentity;
+import io.quarkus.security.runtime.VerifiedTokenCache;
 import io.quarkus.vertx.http.runtime.security.HttpSecurityUtils;
 import io.smallrye.jwt.auth.principal.JWTParser;
 import io.smallrye.jwt.auth.principal.ParseException;
@@ -31,16 +32,20 @@ public class MpJwtValidator implements IdentityProvider<TokenAuthenticationReque
 
     final JWTParser parser;
     final boolean blockingAuthentication;
+    final VerifiedTokenCache<JsonWebToken> verifiedTokenCache;
 
     public MpJwtValidator() {
         this.parser = null;
         this.blockingAuthentication = false;
+        this.verifiedTokenCache = null;
     }
 
     @Inject
     public MpJwtValidator(JWTParser parser, SmallRyeJwtConfig config) {
         this.parser = parser;
         this.blockingAuthentication = config == null ? false : config.blockingAuthentication;
+        this.verifiedTokenCache = config == null || config.verifiedTokenCache.maxSize <= 0 ? null
+                : new VerifiedTokenCache<>(config.verifiedTokenCache.maxSize, config.verifiedTokenCache.timeToLive);
     }
 
     @Override
@@ -54,6 +59,13 @@ public Uni<SecurityIdentity> authenticate(TokenAuthenticationRequest request,
         if (!(request.getToken() instanceof JsonWebTokenCredential)) {
             return Uni.createFrom().nullItem();
         }
+        if (verifiedTokenCache != null) {
+            JsonWebToken jwtPrincipal = verifiedTokenCache.get(request.getToken().getToken());
+            if (jwtPrincipal != null) {
+                // Neither parsing nor signature verification is required
+                return Uni.createFrom().item(createSecurityIdentity(request, jwtPrincipal));
+            }
+        }
         if (!blockingAuthentication) {
             return Uni.createFrom().emitter(new Consumer<UniEmitter<? super SecurityIdentity>>() {
                 @Override
@@ -74,18 +86,26 @@ public void accept(UniEmitter<? super SecurityIdentity> uniEmitter) {
     private SecurityIdentity createSecurityIdentity(TokenAuthenticationRequest request) {
         try {
             JsonWebToken jwtPrincipal = parser.parse(request.getToken().getToken());
-            QuarkusSecurityIdentity.Builder builder = QuarkusSecurityIdentity.builder().setPrincipal(jwtPrincipal)
-                    .addCredential(request.getToken())
-                    .addRoles(jwtPrincipal.getGroups())
-                    .addAttribute(SecurityIdentity.USER_ATTRIBUTE, jwtPrincipal);
-            RoutingContext routingContext = HttpSecurityUtils.getRoutingContextAttribute(request);
-            if (routingContext != null) {
-                builder.addAttribute(RoutingContext.class.getName(), routingContext);
+            if (verifiedTokenCache != null) {
+                // 'exp' is in seconds
+                verifiedTokenCache.put(request.getToken().getToken(), jwtPrincipal, jwtPrincipal.getExpirationTime() * 1000);
             }
-            return builder.build();
+            return createSecurityIdentity(request, jwtPrincipal);
         } catch (ParseException e) {
             log.debug("Authentication failed", e);
             throw new AuthenticationFailedException(e);
         }
     }
+
+    private static SecurityIdentity createSecurityIdentity(TokenAuthenticationRequest request, JsonWebToken jwtPrincipal) {
+        QuarkusSecurityIdentity.Builder builder = QuarkusSecurityIdentity.builder().setPrincipal(jwtPrincipal)
+                .addCredential(request.getToken())
+                .addRoles(jwtPrincipal.getGroups())
+                .addAttribute(SecurityIdentity.USER_ATTRIBUTE, jwtPrincipal);
+        RoutingContext routingContext = HttpSecurityUtils.getRoutingContextAttribute(request);
+        if (routingContext != null) {
+            builder.addAttribute(RoutingContext.class.getName(), routingContext);
+        }
+        return builder.build();
+    }
 }
@@ -1,5 +1,8 @@
 package io.quarkus.smallrye.jwt.runtime.auth;
 
+import java.time.Duration;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigItem;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
@@ -13,4 +16,31 @@ public class SmallRyeJwtConfig {
      */
     @ConfigItem(defaultValue = "false")
     public boolean blockingAuthentication;
+
+    /**
+     * Verified token cache configuration.
+     */
+    @ConfigItem
+    public VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache();
+
+    /**
+     * The verified tokens are cached so that a token which is sent repeatedly is parsed and its signature is verified
+     * only once.
+     */
+    @ConfigGroup
+    public static class VerifiedTokenCache {
+        /**
+         * Maximum number of cache entries.
+         * Set it to a positive value if the cache has to be enabled.
+         */
+        @ConfigItem(defaultValue = "0")
+        public int maxSize = 0;
+
+        /**
+         * Maximum amount of time a given cache entry is valid for.
+         * A cache entry also expires when the token expires.
+         */
+        @ConfigItem(defaultValue = "3M")
+        public Duration timeToLive = Duration.ofMinutes(3);
+    }
 }
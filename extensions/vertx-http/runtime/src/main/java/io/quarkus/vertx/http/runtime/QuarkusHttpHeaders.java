@@ -8,10 +8,10 @@
 import static io.netty.util.AsciiString.CASE_SENSITIVE_HASHER;
 
 import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -48,7 +48,28 @@ public MultiMap setAll(Map<String, String> headers) {
 
     @Override
     public int size() {
-        return names().size();
+        // count the distinct names without materializing them: an entry is counted unless an older entry of its bucket
+        // has the same name
+        int size = 0;
+        QuarkusHttpHeaders.MapEntry e = head.after;
+        while (e != head) {
+            if (!hasOlderEntry(e)) {
+                size++;
+            }
+            e = e.after;
+        }
+        return size;
+    }
+
+    private static boolean hasOlderEntry(QuarkusHttpHeaders.MapEntry entry) {
+        QuarkusHttpHeaders.MapEntry e = entry.next;
+        while (e != null) {
+            if (e.hash == entry.hash && AsciiString.contentEqualsIgnoreCase(entry.key, e.key)) {
+                return true;
+            }
+            e = e.next;
+        }
+        return false;
     }
 
     private final QuarkusHttpHeaders.MapEntry[] entries = new QuarkusHttpHeaders.MapEntry[16];
@@ -220,7 +241,7 @@ public String get(String name) {
     public List<String> getAll(CharSequence name) {
         Objects.requireNonNull(name, "name");
 
-        LinkedList<String> values = new LinkedList<>();
+        List<String> values = new ArrayList<>(2);
 
         int h = AsciiString.hashCode(name);
         int i = h & 0x0000000F;
@@ -228,10 +249,12 @@ public List<String> getAll(CharSequence name) {
         while (e != null) {
             CharSequence key = e.key;
             if (e.hash == h && (name == key || AsciiString.contentEqualsIgnoreCase(name, key))) {
-                values.addFirst(e.getValue().toString());
+                values.add(e.getValue().toString());
             }
             e = e.next;
         }
+        // the bucket holds the most recent entries first
+        Collections.reverse(values);
         return values;
     }
 
@@ -0,0 +1,64 @@
+package io.quarkus.vertx.http.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class QuarkusHttpHeadersTest {
+
+    @Test
+    public void testSizeWithDuplicateNames() {
+        QuarkusHttpHeaders headers = new QuarkusHttpHeaders();
+        assertEquals(0, headers.size());
+        headers.add("X-Multi", "a");
+        headers.add("Accept", "text/plain");
+        headers.add("x-multi", "b");
+        headers.add("X-MULTI", "c");
+        assertEquals(2, headers.size());
+        assertEquals(headers.names().size(), headers.size());
+
+        headers.remove("x-multi");
+        assertEquals(1, headers.size());
+    }
+
+    @Test
+    public void testSizeWithSameBucket() {
+        QuarkusHttpHeaders headers = new QuarkusHttpHeaders();
+        // enough names to share the 16 buckets
+        for (int i = 0; i < 40; i++) {
+            headers.add("X-Header-" + i, "a");
+            headers.add("x-header-" + i, "b");
+        }
+        assertEquals(40, headers.size());
+        assertEquals(headers.names().size(), headers.size());
+    }
+
+    @Test
+    public void testGetAllOrder() {
+        QuarkusHttpHeaders headers = new QuarkusHttpHeaders();
+        headers.add("X-Multi", "a");
+        headers.add("Accept", "text/plain");
+        headers.add("x-multi", "b");
+        headers.add("X-MULTI", "c");
+        assertEquals(List.of("a", "b", "c"), headers.getAll("x-Multi"));
+        assertEquals(List.of(), headers.getAll("X-Missing"));
+
+        headers.set("X-Multi", "d");
+        assertEquals(List.of("d"), headers.getAll("x-multi"));
+    }
+
+    @Test
+    public void testCaseInsensitiveLookup() {
+        QuarkusHttpHeaders headers = new QuarkusHttpHeaders();
+        headers.add("Content-Type", "application/json");
+        assertEquals("application/json", headers.get("content-type"));
+        assertTrue(headers.contains("CONTENT-TYPE"));
+        assertFalse(headers.contains("Accept"));
+        assertNull(headers.get("Accept"));
+    }
+}
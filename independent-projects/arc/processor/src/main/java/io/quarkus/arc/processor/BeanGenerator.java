@@ -90,13 +90,15 @@ public class BeanGenerator extends AbstractGenerator {
     protected final Set<String> existingClasses;
     protected final Map<BeanInfo, String> beanToGeneratedName;
     protected final Map<BeanInfo, String> beanToGeneratedBaseName;
+    protected final Map<BeanInfo, Integer> requestContextSlots;
+    protected final Map<ObserverInfo, String> observerToGeneratedName;
     protected final Predicate<DotName> injectionPointAnnotationsPredicate;
     protected final List<Function<BeanInfo, Consumer<BytecodeCreator>>> suppressConditionGenerators;
 
     public BeanGenerator(AnnotationLiteralProcessor annotationLiterals, Predicate<DotName> applicationClassPredicate,
             PrivateMembersCollector privateMembers, boolean generateSources, ReflectionRegistration reflectionRegistration,
             Set<String> existingClasses, Map<BeanInfo, String> beanToGeneratedName,
-            Predicate<DotName> injectionPointAnnotationsPredicate,
+            Map<ObserverInfo, String> observerToGeneratedName, Predicate<DotName> injectionPointAnnotationsPredicate,
             List<Function<BeanInfo, Consumer<BytecodeCreator>>> suppressConditionGenerators) {
         super(generateSources, reflectionRegistration);
         this.annotationLiterals = annotationLiterals;
@@ -104,9 +106,11 @@ public BeanGenerator(AnnotationLiteralProcessor annotationLiterals, Predicate<Do
         this.privateMembers = privateMembers;
         this.existingClasses = existingClasses;
         this.beanToGeneratedName = beanToGeneratedName;
+        this.observerToGeneratedName = observerToGeneratedName;
         this.injectionPointAnnotationsPredicate = injectionPointAnnotationsPredicate;
         this.suppressConditionGenerators = suppressConditionGenerators;
         this.beanToGeneratedBaseName = new HashMap<>();
+        this.requestContextSlots = new HashMap<>();
     }
 
     /**
@@ -151,6 +155,19 @@ void precomputeGeneratedName(BeanInfo bean) {
         }
     }
 
+    /**
+     * Assigns a slot to a {@link javax.enterprise.context.RequestScoped} bean. The slots are assigned sequentially and must
+     * be precomputed before the beans are generated.
+     *
+     * @param bean
+     * @see InjectableBean#getRequestContextSlot()
+     */
+    void precomputeRequestContextSlot(BeanInfo bean) {
+        if (BuiltinScope.REQUEST.is(bean.getScope())) {
+            requestContextSlots.put(bean, requestContextSlots.size());
+        }
+    }
+
     private void generateProducerFieldBeanName(BeanInfo bean) {
         FieldInfo producerField = bean.getTarget().get().asField();
         ClassInfo declaringClass = producerField.declaringClass();
@@ -287,6 +304,7 @@ Collection<Resource> generateSyntheticBean(BeanInfo bean) {
         if (!BuiltinScope.isDefault(bean.getScope())) {
             implementGetScope(bean, beanCreator);
         }
+        implementGetRequestContextSlot(bean, beanCreator);
         if (qualifiers != null) {
             implementGetQualifiers(bean, beanCreator, qualifiers.getFieldDescriptor());
         }
@@ -373,6 +391,7 @@ Collection<Resource> generateClassBean(BeanInfo bean, ClassInfo beanClass) {
         if (!BuiltinScope.isDefault(bean.getScope())) {
             implementGetScope(bean, beanCreator);
         }
+        implementGetRequestContextSlot(bean, beanCreator);
         if (qualifiers != null) {
             implementGetQualifiers(bean, beanCreator, qualifiers.getFieldDescriptor());
         }
@@ -457,6 +476,7 @@ Collection<Resource> generateProducerMethodBean(BeanInfo bean, MethodInfo produc
         if (!BuiltinScope.isDefault(bean.getScope())) {
             implementGetScope(bean, beanCreator);
         }
+        implementGetRequestContextSlot(bean, beanCreator);
         if (qualifiers != null) {
             implementGetQualifiers(bean, beanCreator, qualifiers.getFieldDescriptor());
         }
@@ -537,6 +557,7 @@ Collection<Resource> generateProducerFieldBean(BeanInfo bean, FieldInfo producer
         if (!BuiltinScope.isDefault(bean.getScope())) {
             implementGetScope(bean, beanCreator);
         }
+        implementGetRequestContextSlot(bean, beanCreator);
         if (qualifiers != null) {
             implementGetQualifiers(bean, beanCreator, qualifiers.getFieldDescriptor());
         }
@@ -691,7 +712,7 @@ protected MethodCreator initConstructor(ClassOutput classOutput, ClassCreator be
                     builtinBean.getGenerator()
                             .generate(new GeneratorContext(classOutput, bean.getDeployment(), injectionPoint, beanCreator,
                                     constructor, injectionPointToProviderField.get(injectionPoint), annotationLiterals, bean,
-                                    reflectionRegistration, injectionPointAnnotationsPredicate));
+                                    reflectionRegistration, injectionPointAnnotationsPredicate, observerToGeneratedName));
                 } else {
                     // Not a built-in bean
                     if (BuiltinScope.DEPENDENT.is(injectionPoint.getResolvedBean().getScope())
@@ -1677,6 +1698,21 @@ protected void implementGetScope(BeanInfo bean, ClassCreator beanCreator) {
         getScope.returnValue(getScope.loadClass(bean.getScope().getDotName().toString()));
     }
 
+    /**
+     *
+     * @param bean
+     * @param beanCreator
+     * @see InjectableBean#getRequestContextSlot()
+     */
+    protected void implementGetRequestContextSlot(BeanInfo bean, ClassCreator beanCreator) {
+        Integer slot = requestContextSlots.get(bean);
+        if (slot != null) {
+            MethodCreator getRequestContextSlot = beanCreator.getMethodCreator("getRequestContextSlot", int.class)
+                    .setModifiers(ACC_PUBLIC);
+            getRequestContextSlot.returnValue(getRequestContextSlot.load(slot.intValue()));
+        }
+    }
+
     /**
      *
      * @param bean
@@ -169,18 +169,19 @@ public List<Resource> generateResources(ReflectionRegistration reflectionRegistr
         Map<ObserverInfo, String> observerToGeneratedName = new HashMap<>();
 
         BeanGenerator beanGenerator = new BeanGenerator(annotationLiterals, applicationClassPredicate, privateMembers,
-                generateSources, refReg, existingClasses, beanToGeneratedName,
+                generateSources, refReg, existingClasses, beanToGeneratedName, observerToGeneratedName,
                 injectionPointAnnotationsPredicate, suppressConditionGenerators);
         Collection<BeanInfo> beans = beanDeployment.getBeans();
         for (BeanInfo bean : beans) {
             beanGenerator.precomputeGeneratedName(bean);
+            beanGenerator.precomputeRequestContextSlot(bean);
         }
 
         ClientProxyGenerator clientProxyGenerator = new ClientProxyGenerator(applicationClassPredicate, generateSources,
                 allowMocking, refReg, existingClasses);
 
         InterceptorGenerator interceptorGenerator = new InterceptorGenerator(annotationLiterals, applicationClassPredicate,
-                privateMembers, generateSources, refReg, existingClasses, beanToGeneratedName,
+                privateMembers, generateSources, refReg, existingClasses, beanToGeneratedName, observerToGeneratedName,
                 injectionPointAnnotationsPredicate);
         Collection<InterceptorInfo> interceptors = beanDeployment.getInterceptors();
         for (InterceptorInfo interceptor : interceptors) {
@@ -189,7 +190,7 @@ public List<Resource> generateResources(ReflectionRegistration reflectionRegistr
         interceptors.forEach(interceptorGenerator::precomputeGeneratedName);
 
         DecoratorGenerator decoratorGenerator = new DecoratorGenerator(annotationLiterals, applicationClassPredicate,
-                privateMembers, generateSources, refReg, existingClasses, beanToGeneratedName,
+                privateMembers, generateSources, refReg, existingClasses, beanToGeneratedName, observerToGeneratedName,
                 injectionPointAnnotationsPredicate);
         Collection<DecoratorInfo> decorators = beanDeployment.getDecorators();
         for (DecoratorInfo decorator : decorators) {
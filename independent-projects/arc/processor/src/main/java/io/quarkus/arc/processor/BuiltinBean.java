@@ -3,7 +3,13 @@
 import static io.quarkus.arc.processor.IndexClassLookupUtils.getClassByName;
 
 import java.lang.reflect.Member;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.BiPredicate;
 import java.util.function.Consumer;
@@ -15,6 +21,8 @@
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.Type;
 import org.jboss.jandex.Type.Kind;
 
 import io.quarkus.arc.InjectableBean;
@@ -132,11 +140,13 @@ public static class GeneratorContext {
         final InjectionTargetInfo targetInfo;
         final ReflectionRegistration reflectionRegistration;
         final Predicate<DotName> injectionPointAnnotationsPredicate;
+        final Map<ObserverInfo, String> observerToGeneratedName;
 
         public GeneratorContext(ClassOutput classOutput, BeanDeployment beanDeployment, InjectionPointInfo injectionPoint,
                 ClassCreator clazzCreator, MethodCreator constructor, String providerName,
                 AnnotationLiteralProcessor annotationLiterals, InjectionTargetInfo targetInfo,
-                ReflectionRegistration reflectionRegistration, Predicate<DotName> injectionPointAnnotationsPredicate) {
+                ReflectionRegistration reflectionRegistration, Predicate<DotName> injectionPointAnnotationsPredicate,
+                Map<ObserverInfo, String> observerToGeneratedName) {
             this.classOutput = classOutput;
             this.beanDeployment = beanDeployment;
             this.injectionPoint = injectionPoint;
@@ -147,6 +157,7 @@ public GeneratorContext(ClassOutput classOutput, BeanDeployment beanDeployment,
             this.targetInfo = targetInfo;
             this.reflectionRegistration = reflectionRegistration;
             this.injectionPointAnnotationsPredicate = injectionPointAnnotationsPredicate;
+            this.observerToGeneratedName = observerToGeneratedName;
         }
     }
 
@@ -238,10 +249,25 @@ private static void generateEventBytecode(GeneratorContext ctx) {
             }
         }
         ResultHandle parameterizedType = Types.getTypeHandle(ctx.constructor, ctx.injectionPoint.getType());
-        ResultHandle eventProvider = ctx.constructor.newInstance(
-                MethodDescriptor.ofConstructor(EventProvider.class, java.lang.reflect.Type.class,
-                        Set.class),
-                parameterizedType, qualifiers);
+        List<ObserverInfo> observers = resolveObservers(ctx);
+        ResultHandle eventProvider;
+        if (observers != null) {
+            // The observers of the exact event type are resolved at build time
+            ResultHandle observerClassNames = ctx.constructor.newInstance(MethodDescriptor.ofConstructor(HashSet.class));
+            for (ObserverInfo observer : observers) {
+                ctx.constructor.invokeInterfaceMethod(MethodDescriptors.SET_ADD, observerClassNames,
+                        ctx.constructor.load(ctx.observerToGeneratedName.get(observer).replace('/', '.')));
+            }
+            eventProvider = ctx.constructor.newInstance(
+                    MethodDescriptor.ofConstructor(EventProvider.class, java.lang.reflect.Type.class,
+                            Set.class, Set.class),
+                    parameterizedType, qualifiers, observerClassNames);
+        } else {
+            eventProvider = ctx.constructor.newInstance(
+                    MethodDescriptor.ofConstructor(EventProvider.class, java.lang.reflect.Type.class,
+                            Set.class),
+                    parameterizedType, qualifiers);
+        }
         ResultHandle eventProviderSupplier = ctx.constructor.newInstance(
                 MethodDescriptors.FIXED_VALUE_SUPPLIER_CONSTRUCTOR, eventProvider);
         ctx.constructor.writeInstanceField(
@@ -250,6 +276,90 @@ private static void generateEventBytecode(GeneratorContext ctx) {
                 ctx.constructor.getThis(), eventProviderSupplier);
     }
 
+    /**
+     * Attempts to resolve the observers of an injected {@code Event<T>} where {@code T} is a non-generic class. The
+     * resolved observers are only used if the runtime type of the event object is {@code T}.
+     * <p>
+     * An observer is only resolved at build time if the result is the same as the result of the runtime resolution, i.e.
+     * the resolution is abandoned if an observed type needs the full assignability rules.
+     *
+     * @param ctx
+     * @return the resolved observers, or {@code null} if the observers cannot be resolved at build time
+     */
+    private static List<ObserverInfo> resolveObservers(GeneratorContext ctx) {
+        if (ctx.observerToGeneratedName == null || ctx.injectionPoint.getType().kind() != Kind.PARAMETERIZED_TYPE) {
+            return null;
+        }
+        Type eventType = ctx.injectionPoint.getType().asParameterizedType().arguments().get(0);
+        if (eventType.kind() != Kind.CLASS) {
+            return null;
+        }
+        IndexView index = ctx.beanDeployment.getBeanArchiveIndex();
+        ClassInfo eventClass = getClassByName(index, eventType.name(), false);
+        if (eventClass == null || eventClass.isInterface() || Modifier.isAbstract(eventClass.flags())
+                || !eventClass.typeParameters().isEmpty()) {
+            return null;
+        }
+        // Maps the types from the type closure to false if there is a parameterized type with the same raw type
+        Map<DotName, Boolean> typeClosure = new HashMap<>();
+        typeClosure.put(eventClass.name(), true);
+        if (!collectSupertypes(index, eventClass, typeClosure)) {
+            return null;
+        }
+        Set<AnnotationInstance> eventQualifiers = new HashSet<>(ctx.injectionPoint.getRequiredQualifiers());
+        eventQualifiers.add(AnnotationInstance.create(DotNames.ANY, null, Collections.emptyList()));
+
+        List<ObserverInfo> resolved = new ArrayList<>();
+        for (ObserverInfo observer : ctx.beanDeployment.getObservers()) {
+            Type observedType = observer.getObservedType();
+            if (observedType.kind() == Kind.ARRAY) {
+                continue;
+            }
+            if (observedType.kind() != Kind.CLASS && observedType.kind() != Kind.PARAMETERIZED_TYPE
+                    && observedType.kind() != Kind.PRIMITIVE) {
+                return null;
+            }
+            Boolean rawType = typeClosure.get(Types.box(observedType).name());
+            if (rawType == null) {
+                continue;
+            }
+            if (!rawType || observedType.kind() != Kind.CLASS) {
+                return null;
+            }
+            boolean matches = true;
+            for (AnnotationInstance qualifier : observer.getQualifiers()) {
+                if (ctx.beanDeployment.getQualifier(qualifier.name()) == null) {
+                    return null;
+                }
+                if (!Beans.hasQualifier(ctx.beanDeployment, qualifier, eventQualifiers)) {
+                    matches = false;
+                }
+            }
+            if (matches) {
+                resolved.add(observer);
+            }
+        }
+        return resolved;
+    }
+
+    private static boolean collectSupertypes(IndexView index, ClassInfo clazz, Map<DotName, Boolean> typeClosure) {
+        List<Type> supertypes = new ArrayList<>(clazz.interfaceTypes());
+        if (clazz.superClassType() != null) {
+            supertypes.add(clazz.superClassType());
+        }
+        for (Type supertype : supertypes) {
+            Boolean previous = typeClosure.get(supertype.name());
+            typeClosure.put(supertype.name(), (previous == null || previous) && supertype.kind() == Kind.CLASS);
+            if (previous == null) {
+                ClassInfo superClass = getClassByName(index, supertype.name(), false);
+                if (superClass == null || !collectSupertypes(index, superClass, typeClosure)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
     private static void generateInjectionPointBytecode(GeneratorContext ctx) {
         // this.injectionPointProvider1 = () -> new InjectionPointProvider();
         ResultHandle injectionPointProvider = ctx.constructor.newInstance(
@@ -46,9 +46,10 @@ public class DecoratorGenerator extends BeanGenerator {
     public DecoratorGenerator(AnnotationLiteralProcessor annotationLiterals, Predicate<DotName> applicationClassPredicate,
             PrivateMembersCollector privateMembers, boolean generateSources, ReflectionRegistration reflectionRegistration,
             Set<String> existingClasses, Map<BeanInfo, String> beanToGeneratedName,
-            Predicate<DotName> injectionPointAnnotationsPredicate) {
+            Map<ObserverInfo, String> observerToGeneratedName, Predicate<DotName> injectionPointAnnotationsPredicate) {
         super(annotationLiterals, applicationClassPredicate, privateMembers, generateSources, reflectionRegistration,
-                existingClasses, beanToGeneratedName, injectionPointAnnotationsPredicate, Collections.emptyList());
+                existingClasses, beanToGeneratedName, observerToGeneratedName, injectionPointAnnotationsPredicate,
+                Collections.emptyList());
     }
 
     /**
@@ -49,9 +49,10 @@ public class InterceptorGenerator extends BeanGenerator {
     public InterceptorGenerator(AnnotationLiteralProcessor annotationLiterals, Predicate<DotName> applicationClassPredicate,
             PrivateMembersCollector privateMembers, boolean generateSources, ReflectionRegistration reflectionRegistration,
             Set<String> existingClasses, Map<BeanInfo, String> beanToGeneratedName,
-            Predicate<DotName> injectionPointAnnotationsPredicate) {
+            Map<ObserverInfo, String> observerToGeneratedName, Predicate<DotName> injectionPointAnnotationsPredicate) {
         super(annotationLiterals, applicationClassPredicate, privateMembers, generateSources, reflectionRegistration,
-                existingClasses, beanToGeneratedName, injectionPointAnnotationsPredicate, Collections.emptyList());
+                existingClasses, beanToGeneratedName, observerToGeneratedName, injectionPointAnnotationsPredicate,
+                Collections.emptyList());
     }
 
     /**
@@ -538,7 +538,8 @@ protected void createConstructor(ClassOutput classOutput, ClassCreator observerC
                             .generate(new GeneratorContext(classOutput, observer.getDeclaringBean().getDeployment(),
                                     injectionPoint, observerCreator, constructor,
                                     injectionPointToProviderField.get(injectionPoint),
-                                    annotationLiterals, observer, reflectionRegistration, injectionPointAnnotationsPredicate));
+                                    annotationLiterals, observer, reflectionRegistration, injectionPointAnnotationsPredicate,
+                                    observerToGeneratedName));
                 } else {
                     if (injectionPoint.getResolvedBean().getAllInjectionPoints().stream()
                             .anyMatch(ip -> BuiltinBean.INJECTION_POINT.hasRawTypeDotName(ip.getRequiredType().name()))) {
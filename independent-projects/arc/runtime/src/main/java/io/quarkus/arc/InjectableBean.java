@@ -143,6 +143,16 @@ default int getPriority() {
         return 0;
     }
 
+    /**
+     * A {@link javax.enterprise.context.RequestScoped} bean may have a slot assigned at build time. The built-in request
+     * context stores the instance of such a bean in an array instead of a map.
+     *
+     * @return the slot, or {@code -1} if no slot is assigned
+     */
+    default int getRequestContextSlot() {
+        return -1;
+    }
+
     enum Kind {
 
         CLASS,
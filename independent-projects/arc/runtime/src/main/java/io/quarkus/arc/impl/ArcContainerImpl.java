@@ -8,6 +8,7 @@
 import java.lang.reflect.TypeVariable;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -111,9 +112,9 @@ public ArcContainerImpl(CurrentContextFactory currentContextFactory) {
         this.currentContextFactory = currentContextFactory == null ? new ThreadLocalCurrentContextFactory()
                 : currentContextFactory;
 
-        Contexts.Builder contextsBuilder = new Contexts.Builder(
-                new RequestContext(this.currentContextFactory.create(RequestScoped.class)), new ApplicationContext(),
-                new SingletonContext());
+        List<InjectableContext> customContexts = new ArrayList<>();
+        BitSet requestContextSlots = new BitSet();
+        boolean requestContextSlotsValid = true;
 
         for (ComponentsProvider componentsProvider : ServiceLoader.load(ComponentsProvider.class)) {
             Components components = componentsProvider.getComponents();
@@ -124,6 +125,14 @@ public ArcContainerImpl(CurrentContextFactory currentContextFactory) {
                     decorators.add((InjectableDecorator<?>) bean);
                 } else {
                     beans.add(bean);
+                    int slot = bean.getRequestContextSlot();
+                    if (slot >= 0) {
+                        if (requestContextSlots.get(slot)) {
+                            // The slots are only unique within a single deployment
+                            requestContextSlotsValid = false;
+                        }
+                        requestContextSlots.set(slot);
+                    }
                 }
             }
             removedBeans.add(components.getRemovedBeans());
@@ -138,13 +147,20 @@ public ArcContainerImpl(CurrentContextFactory currentContextFactory) {
                     throw new IllegalStateException(
                             "Failed to register a context - built-in singleton context is always active: " + context);
                 }
-                contextsBuilder.putContext(context);
+                customContexts.add(context);
             }
             transitiveInterceptorBindings.putAll(components.getTransitiveInterceptorBindings());
             qualifierNonbindingMembers.putAll(components.getQualifierNonbindingMembers());
             qualifiers.addAll(components.getQualifiers());
         }
 
+        Contexts.Builder contextsBuilder = new Contexts.Builder(
+                new RequestContext(this.currentContextFactory.create(RequestScoped.class),
+                        requestContextSlotsValid ? requestContextSlots.length() : 0),
+                new ApplicationContext(), new SingletonContext());
+        for (InjectableContext context : customContexts) {
+            contextsBuilder.putContext(context);
+        }
         this.contexts = contextsBuilder.build();
 
         // register built-in beans
@@ -736,6 +752,27 @@ <T> List<InjectableObserverMethod<? super T>> resolveObservers(Type eventType, S
         return resolvedObservers;
     }
 
+    /**
+     * The observers were already resolved at build time; the generated observer classes are used to identify them.
+     *
+     * @param observerClassNames
+     * @return the observers, sorted by priority
+     */
+    @SuppressWarnings("unchecked")
+    <T> List<InjectableObserverMethod<? super T>> resolveObservers(Set<String> observerClassNames) {
+        if (observerClassNames.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<InjectableObserverMethod<? super T>> resolvedObservers = new ArrayList<>(observerClassNames.size());
+        for (InjectableObserverMethod<?> observer : observers) {
+            if (observerClassNames.contains(observer.getClass().getName())) {
+                resolvedObservers.add((InjectableObserverMethod<? super T>) observer);
+            }
+        }
+        resolvedObservers.sort(InjectableObserverMethod::compare);
+        return resolvedObservers;
+    }
+
     List<Interceptor<?>> resolveInterceptors(InterceptionType type, Annotation... interceptorBindings) {
         if (interceptors.isEmpty()) {
             return Collections.emptyList();
@@ -63,11 +63,25 @@
     private static final Logger LOGGER = Logger.getLogger(EventImpl.class);
 
     EventImpl(Type eventType, Set<Annotation> qualifiers) {
+        this(eventType, qualifiers, null);
+    }
+
+    /**
+     *
+     * @param eventType
+     * @param qualifiers
+     * @param notifier the notifier for the exact event type, resolved at build time, may be {@code null}
+     */
+    EventImpl(Type eventType, Set<Annotation> qualifiers, Notifier<? super T> notifier) {
         this.eventType = initEventType(eventType);
         this.injectionPointTypeHierarchy = new HierarchyDiscovery(this.eventType);
         this.qualifiers = qualifiers;
         this.qualifiers.add(Any.Literal.INSTANCE);
         this.notifiers = new ConcurrentHashMap<>(DEFAULT_CACHE_CAPACITY);
+        if (notifier != null) {
+            this.notifiers.put(notifier.runtimeType, notifier);
+            this.lastNotifier = notifier;
+        }
     }
 
     @Override
@@ -167,7 +181,27 @@ static <T> Notifier<T> createNotifier(Class<?> runtimeType, Type eventType, Set<
         return new Notifier<>(runtimeType, notifierObserverMethods, metadata, activateRequestContext);
     }
 
-    private Type initEventType(Type type) {
+    /**
+     * Creates a notifier for the observers resolved at build time.
+     *
+     * @param eventType the type of the injection point
+     * @param qualifiers
+     * @param observerClassNames the names of the generated classes of the resolved observers
+     * @param container
+     * @return the notifier for the exact event type
+     */
+    static <T> Notifier<T> createNotifier(Type eventType, Set<Annotation> qualifiers, Set<String> observerClassNames,
+            ArcContainerImpl container) {
+        Type type = initEventType(eventType);
+        Set<Annotation> metadataQualifiers = new HashSet<>(qualifiers);
+        metadataQualifiers.add(Any.Literal.INSTANCE);
+        EventMetadata metadata = new EventMetadataImpl(metadataQualifiers, type);
+        List<ObserverMethod<? super T>> notifierObserverMethods = new ArrayList<>(
+                container.resolveObservers(observerClassNames));
+        return new Notifier<>(Types.getRawType(type), notifierObserverMethods, metadata, true);
+    }
+
+    private static Type initEventType(Type type) {
         if (type instanceof ParameterizedType) {
             ParameterizedType parameterizedType = (ParameterizedType) type;
             if (Event.class.isAssignableFrom(Types.getRawType(parameterizedType.getRawType()))) {
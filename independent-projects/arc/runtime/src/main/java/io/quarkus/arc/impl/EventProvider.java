@@ -8,6 +8,7 @@
 import javax.enterprise.event.Event;
 
 import io.quarkus.arc.InjectableReferenceProvider;
+import io.quarkus.arc.impl.EventImpl.Notifier;
 
 /**
  *
@@ -19,14 +20,32 @@
 
     private final Set<Annotation> eventQualifiers;
 
+    private final LazyValue<Notifier<T>> notifier;
+
     public EventProvider(Type eventType, Set<Annotation> eventQualifiers) {
         this.eventType = eventType;
         this.eventQualifiers = eventQualifiers;
+        this.notifier = null;
+    }
+
+    /**
+     * The observers of the exact event type were resolved at build time. The notifier is shared by all {@link Event}
+     * instances created by this provider.
+     *
+     * @param eventType
+     * @param eventQualifiers
+     * @param observerClassNames the names of the generated classes of the resolved observers
+     */
+    public EventProvider(Type eventType, Set<Annotation> eventQualifiers, Set<String> observerClassNames) {
+        this.eventType = eventType;
+        this.eventQualifiers = eventQualifiers;
+        this.notifier = new LazyValue<>(() -> EventImpl.createNotifier(eventType, eventQualifiers, observerClassNames,
+                ArcContainerImpl.instance()));
     }
 
     @Override
     public Event<T> get(CreationalContext<Event<T>> creationalContext) {
-        return new EventImpl<>(eventType, eventQualifiers);
+        return new EventImpl<>(eventType, eventQualifiers, notifier != null ? notifier.get() : null);
     }
 
 }
@@ -2,11 +2,17 @@
 
 import java.lang.annotation.Annotation;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -37,13 +43,21 @@ class RequestContext implements ManagedContext {
     private static final Logger LOG = Logger.getLogger("io.quarkus.arc.requestContext");
 
     private final CurrentContext<RequestContextState> currentContext;
+    private final int slots;
 
     private final LazyValue<Notifier<Object>> initializedNotifier;
     private final LazyValue<Notifier<Object>> beforeDestroyedNotifier;
     private final LazyValue<Notifier<Object>> destroyedNotifier;
 
-    public RequestContext(CurrentContext<RequestContextState> currentContext) {
+    /**
+     *
+     * @param currentContext
+     * @param slots the number of slots assigned to the request scoped beans
+     * @see InjectableBean#getRequestContextSlot()
+     */
+    public RequestContext(CurrentContext<RequestContextState> currentContext, int slots) {
         this.currentContext = currentContext;
+        this.slots = slots;
         this.initializedNotifier = new LazyValue<>(RequestContext::createInitializedNotifier);
         this.beforeDestroyedNotifier = new LazyValue<>(RequestContext::createBeforeDestroyedNotifier);
         this.destroyedNotifier = new LazyValue<>(RequestContext::createDestroyedNotifier);
@@ -68,13 +82,14 @@ public <T> T getIfActive(Contextual<T> contextual, Function<Contextual<T>, Creat
             // Context is not active!
             return null;
         }
-        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) ctxState.map.get(contextual);
+        int slot = slot(bean);
+        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) ctxState.get(contextual, slot);
         if (instance == null) {
             CreationalContext<T> creationalContext = creationalContextFun.apply(contextual);
             // Bean instance does not exist - create one if we have CreationalContext
             instance = new ContextInstanceHandleImpl<T>((InjectableBean<T>) contextual,
                     contextual.create(creationalContext), creationalContext);
-            ctxState.map.put(contextual, instance);
+            ctxState.put(contextual, slot, instance);
         }
         return instance.get();
     }
@@ -101,7 +116,7 @@ public <T> T get(Contextual<T> contextual) {
         if (state == null) {
             throw notActive();
         }
-        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) state.map.get(contextual);
+        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) state.get(contextual, slot(bean));
         return instance == null ? null : instance.get();
     }
 
@@ -117,7 +132,7 @@ public void destroy(Contextual<?> contextual) {
             // Context is not active
             throw notActive();
         }
-        ContextInstanceHandle<?> instance = state.map.remove(contextual);
+        ContextInstanceHandle<?> instance = state.remove(contextual, slot((InjectableBean<?>) contextual));
         if (instance != null) {
             instance.destroy();
         }
@@ -135,7 +150,7 @@ public void activate(ContextState initialState) {
                     initialState != null ? Integer.toHexString(initialState.hashCode()) : "new", stack);
         }
         if (initialState == null) {
-            currentContext.set(new RequestContextState(new ConcurrentHashMap<>()));
+            currentContext.set(new RequestContextState(slots));
             // Fire an event with qualifier @Initialized(RequestScoped.class) if there are any observers for it
             fireIfNotEmpty(initializedNotifier);
         } else {
@@ -197,29 +212,27 @@ public void destroy(ContextState state) {
             RequestContextState reqState = ((RequestContextState) state);
             reqState.isValid = false;
             synchronized (state) {
-                Map<Contextual<?>, ContextInstanceHandle<?>> map = ((RequestContextState) state).map;
                 // Fire an event with qualifier @BeforeDestroyed(RequestScoped.class) if there are any observers for it
                 try {
                     fireIfNotEmpty(beforeDestroyedNotifier);
                 } catch (Exception e) {
                     LOG.warn("An error occurred during delivery of the @BeforeDestroyed(RequestScoped.class) event", e);
                 }
-                //Performance: avoid an iterator on the map elements
-                map.forEach(this::destroyContextElement);
+                reqState.forEach(this::destroyContextElement);
                 // Fire an event with qualifier @Destroyed(RequestScoped.class) if there are any observers for it
                 try {
                     fireIfNotEmpty(destroyedNotifier);
                 } catch (Exception e) {
                     LOG.warn("An error occurred during delivery of the @Destroyed(RequestScoped.class) event", e);
                 }
-                map.clear();
+                reqState.clear();
             }
         } else {
             throw new IllegalArgumentException("Invalid state implementation: " + state.getClass().getName());
         }
     }
 
-    private void destroyContextElement(Contextual<?> contextual, ContextInstanceHandle<?> contextInstanceHandle) {
+    private void destroyContextElement(ContextInstanceHandle<?> contextInstanceHandle) {
         try {
             contextInstanceHandle.destroy();
         } catch (Exception e) {
@@ -234,6 +247,11 @@ private void fireIfNotEmpty(LazyValue<Notifier<Object>> value) {
         }
     }
 
+    private int slot(InjectableBean<?> bean) {
+        int slot = bean.getRequestContextSlot();
+        return slot < slots ? slot : -1;
+    }
+
     private ContextNotActiveException notActive() {
         String msg = "Request context is not active - you can activate the request context for a specific method using the @ActivateRequestContext interceptor binding";
         return new ContextNotActiveException(msg);
@@ -257,21 +275,120 @@ private static Notifier<Object> createDestroyedNotifier() {
                 ArcContainerImpl.instance(), false);
     }
 
+    /**
+     * The instances of the beans with a slot are stored in an array, the other ones in a map. Both are only created when
+     * the first bean instance is stored, and released when the state is cleared. Only the slots below the highest slot
+     * used so far are visited when iterating over the instances.
+     */
     static class RequestContextState implements ContextState {
 
-        private final Map<Contextual<?>, ContextInstanceHandle<?>> map;
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<RequestContextState, AtomicReferenceArray> INSTANCES = AtomicReferenceFieldUpdater
+                .newUpdater(RequestContextState.class, AtomicReferenceArray.class, "instances");
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<RequestContextState, ConcurrentMap> MAP = AtomicReferenceFieldUpdater
+                .newUpdater(RequestContextState.class, ConcurrentMap.class, "map");
+        private static final AtomicIntegerFieldUpdater<RequestContextState> USED_SLOTS = AtomicIntegerFieldUpdater
+                .newUpdater(RequestContextState.class, "usedSlots");
+
+        private final int slots;
+
+        private volatile AtomicReferenceArray<ContextInstanceHandle<?>> instances;
+
+        // The highest slot used so far + 1
+        private volatile int usedSlots;
+
+        private volatile ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> map;
 
         private volatile boolean isValid;
 
-        RequestContextState(ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> value) {
-            this.map = Objects.requireNonNull(value);
+        RequestContextState(int slots) {
+            this.slots = slots;
             this.isValid = true;
         }
 
+        ContextInstanceHandle<?> get(Contextual<?> contextual, int slot) {
+            if (slot >= 0) {
+                AtomicReferenceArray<ContextInstanceHandle<?>> instances = this.instances;
+                return instances != null ? instances.get(slot) : null;
+            }
+            Map<Contextual<?>, ContextInstanceHandle<?>> map = this.map;
+            return map != null ? map.get(contextual) : null;
+        }
+
+        void put(Contextual<?> contextual, int slot, ContextInstanceHandle<?> instance) {
+            if (slot >= 0) {
+                instances().set(slot, instance);
+                int used = usedSlots;
+                while (used <= slot && !USED_SLOTS.compareAndSet(this, used, slot + 1)) {
+                    used = usedSlots;
+                }
+            } else {
+                map().put(contextual, instance);
+            }
+        }
+
+        ContextInstanceHandle<?> remove(Contextual<?> contextual, int slot) {
+            if (slot >= 0) {
+                AtomicReferenceArray<ContextInstanceHandle<?>> instances = this.instances;
+                return instances != null ? instances.getAndSet(slot, null) : null;
+            }
+            Map<Contextual<?>, ContextInstanceHandle<?>> map = this.map;
+            return map != null ? map.remove(contextual) : null;
+        }
+
+        void forEach(Consumer<ContextInstanceHandle<?>> action) {
+            AtomicReferenceArray<ContextInstanceHandle<?>> instances = this.instances;
+            if (instances != null) {
+                for (int i = 0, used = usedSlots; i < used; i++) {
+                    ContextInstanceHandle<?> instance = instances.get(i);
+                    if (instance != null) {
+                        action.accept(instance);
+                    }
+                }
+            }
+            Map<Contextual<?>, ContextInstanceHandle<?>> map = this.map;
+            if (map != null) {
+                //Performance: avoid an iterator on the map elements
+                map.forEach((contextual, instance) -> action.accept(instance));
+            }
+        }
+
+        void clear() {
+            instances = null;
+            usedSlots = 0;
+            map = null;
+        }
+
+        @SuppressWarnings("unchecked")
+        private AtomicReferenceArray<ContextInstanceHandle<?>> instances() {
+            AtomicReferenceArray<ContextInstanceHandle<?>> value = instances;
+            if (value == null) {
+                value = new AtomicReferenceArray<>(slots);
+                if (!INSTANCES.compareAndSet(this, null, value)) {
+                    value = instances;
+                }
+            }
+            return value;
+        }
+
+        @SuppressWarnings("unchecked")
+        private ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> map() {
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> value = map;
+            if (value == null) {
+                value = new ConcurrentHashMap<>();
+                if (!MAP.compareAndSet(this, null, value)) {
+                    value = map;
+                }
+            }
+            return value;
+        }
+
         @Override
         public Map<InjectableBean<?>, Object> getContextualInstances() {
-            return map.values().stream()
-                    .collect(Collectors.toUnmodifiableMap(ContextInstanceHandle::getBean, ContextInstanceHandle::get));
+            Map<InjectableBean<?>, Object> result = new HashMap<>();
+            forEach(instance -> result.put(instance.getBean(), instance.get()));
+            return Collections.unmodifiableMap(result);
         }
 
         @Override
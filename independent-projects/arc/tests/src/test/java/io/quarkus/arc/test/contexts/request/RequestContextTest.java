@@ -4,6 +4,7 @@
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -17,6 +18,7 @@
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ArcContainer;
 import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.InjectableContext.ContextState;
 import io.quarkus.arc.ManagedContext;
 import io.quarkus.arc.impl.CreationalContextImpl;
 import io.quarkus.arc.test.ArcTestContainer;
@@ -204,6 +206,48 @@ public void testGet() {
         }
     }
 
+    @Test
+    public void testSlots() {
+        Controller.DESTROYED.set(false);
+        ArcContainer arc = Arc.container();
+        InjectableBean<Controller> controllerBean = arc.instance(Controller.class).getBean();
+        assertTrue(controllerBean.getRequestContextSlot() >= 0);
+        assertEquals(-1, arc.instance(Boom.class).getBean().getRequestContextSlot());
+
+        ManagedContext requestContext = arc.requestContext();
+        requestContext.activate();
+        try {
+            assertNull(requestContext.get(controllerBean));
+            String id = arc.instance(Controller.class).get().getId();
+            assertEquals(id, ((Controller) requestContext.getState().getContextualInstances().get(controllerBean)).getId());
+            requestContext.destroy(controllerBean);
+            assertTrue(Controller.DESTROYED.get());
+            assertNull(requestContext.get(controllerBean));
+            assertTrue(requestContext.getState().getContextualInstances().isEmpty());
+            assertNotEquals(id, arc.instance(Controller.class).get().getId());
+        } finally {
+            requestContext.terminate();
+        }
+    }
+
+    @Test
+    public void testSlotsReleasedOnDestroy() {
+        Controller.DESTROYED.set(false);
+        ArcContainer arc = Arc.container();
+        ManagedContext requestContext = arc.requestContext();
+        requestContext.activate();
+        ContextState state = requestContext.getState();
+        try {
+            arc.instance(Controller.class).get().getId();
+            assertEquals(1, state.getContextualInstances().size());
+        } finally {
+            requestContext.terminate();
+        }
+        assertTrue(Controller.DESTROYED.get());
+        assertFalse(state.isValid());
+        assertTrue(state.getContextualInstances().isEmpty());
+    }
+
     @ApplicationScoped
     public static class Boom {
 
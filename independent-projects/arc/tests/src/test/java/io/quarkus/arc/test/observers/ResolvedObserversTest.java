@@ -0,0 +1,150 @@
+package io.quarkus.arc.test.observers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import javax.annotation.Priority;
+import javax.enterprise.context.Dependent;
+import javax.enterprise.event.Event;
+import javax.enterprise.event.Observes;
+import javax.enterprise.event.ObservesAsync;
+import javax.inject.Inject;
+import javax.inject.Qualifier;
+import javax.inject.Singleton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class ResolvedObserversTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Loud.class, Signal.class, Ping.class, SpecialPing.class,
+            Pong.class,
+            PingObserver.class, PingProducer.class);
+
+    @Test
+    public void testObservers() throws InterruptedException, ExecutionException, TimeoutException {
+        PingProducer producer = Arc.container().instance(PingProducer.class).get();
+        PingObserver observer = Arc.container().instance(PingObserver.class).get();
+
+        producer.ping.fire(new Ping());
+        assertEquals(List.of("signal", "ping"), observer.events);
+        observer.events.clear();
+
+        producer.loudPing.fire(new Ping());
+        assertEquals(List.of("signal", "ping", "loudPing"), observer.events);
+        observer.events.clear();
+
+        // The runtime type of the event object differs
+        producer.ping.fire(new SpecialPing());
+        assertEquals(List.of("signal", "ping", "specialPing"), observer.events);
+        observer.events.clear();
+
+        // Dynamic selection
+        producer.ping.select(Loud.Literal.INSTANCE).fire(new Ping());
+        assertEquals(List.of("signal", "ping", "loudPing"), observer.events);
+        observer.events.clear();
+
+        producer.ping.fireAsync(new Ping()).toCompletableFuture().get(2, TimeUnit.SECONDS);
+        assertEquals(List.of("asyncPing"), observer.events);
+        observer.events.clear();
+
+        // Observers of parameterized supertypes are resolved at runtime
+        producer.pong.fire(new Pong());
+        assertEquals(List.of("signal", "comparable", "pong"), observer.events);
+    }
+
+    @Qualifier
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface Loud {
+
+        @SuppressWarnings("all")
+        final class Literal extends javax.enterprise.util.AnnotationLiteral<Loud> implements Loud {
+
+            static final Literal INSTANCE = new Literal();
+
+            private static final long serialVersionUID = 1L;
+
+        }
+
+    }
+
+    public interface Signal {
+    }
+
+    public static class Ping implements Signal {
+    }
+
+    public static class SpecialPing extends Ping {
+    }
+
+    public static class Pong implements Signal, Comparable<Pong> {
+
+        @Override
+        public int compareTo(Pong other) {
+            return 0;
+        }
+
+    }
+
+    @Singleton
+    static class PingObserver {
+
+        final List<String> events = new CopyOnWriteArrayList<>();
+
+        void observeSignal(@Observes @Priority(1) Signal event) {
+            events.add("signal");
+        }
+
+        void observePing(@Observes @Priority(2) Ping event) {
+            events.add("ping");
+        }
+
+        void observeLoudPing(@Observes @Priority(3) @Loud Ping event) {
+            events.add("loudPing");
+        }
+
+        void observeSpecialPing(@Observes @Priority(4) SpecialPing event) {
+            events.add("specialPing");
+        }
+
+        void observeAsyncPing(@ObservesAsync Ping event) {
+            events.add("asyncPing");
+        }
+
+        void observeComparable(@Observes @Priority(2) Comparable<Pong> event) {
+            events.add("comparable");
+        }
+
+        void observePong(@Observes @Priority(3) Pong event) {
+            events.add("pong");
+        }
+
+    }
+
+    @Dependent
+    static class PingProducer {
+
+        @Inject
+        Event<Ping> ping;
+
+        @Inject
+        @Loud
+        Event<Ping> loudPing;
+
+        @Inject
+        Event<Pong> pong;
+
+    }
+
+}
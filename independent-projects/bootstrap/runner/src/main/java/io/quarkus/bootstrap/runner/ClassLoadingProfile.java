@@ -0,0 +1,132 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.jboss.logging.Logger;
+
+/**
+ * The classes and resources loaded by the {@link RunnerClassLoader} while the application starts.
+ * <p>
+ * When the application is launched with {@code -Dquarkus.launch.record-class-loading-profile=true}, the classes and
+ * resources loaded until the application has started are recorded, and written in loading order to
+ * {@code quarkus/quarkus-class-loading.lst} when the startup is complete (or when the application stops, for command mode
+ * applications).
+ * <p>
+ * When that file exists, the following launches replay it: the same classes and resources are loaded on a background thread,
+ * in parallel with the boot of the application, so that the main thread mostly finds them already defined and the
+ * jars already opened.
+ * <p>
+ * Each line of the file is either {@code C <class name>} or {@code R <resource name>}.
+ */
+public final class ClassLoadingProfile {
+
+    private static final Logger log = Logger.getLogger(ClassLoadingProfile.class);
+
+    public static final String RECORD_SYSTEM_PROPERTY = "quarkus.launch.record-class-loading-profile";
+
+    private static final String CLASS_PREFIX = "C ";
+    private static final String RESOURCE_PREFIX = "R ";
+
+    private final Path file;
+    //Protected by synchronization on this, set to null once the profile is written
+    private Set<String> entries = new LinkedHashSet<>();
+
+    private ClassLoadingProfile(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Starts recording a profile if it was requested.
+     *
+     * @return the profile being recorded, or {@code null} if no recording was requested
+     */
+    static ClassLoadingProfile startRecording(Path file) {
+        if (!Boolean.getBoolean(RECORD_SYSTEM_PROPERTY)) {
+            return null;
+        }
+        return new ClassLoadingProfile(file);
+    }
+
+    synchronized void classLoaded(String name) {
+        if (entries != null) {
+            entries.add(CLASS_PREFIX + name);
+        }
+    }
+
+    synchronized void resourceLoaded(String name) {
+        if (entries != null) {
+            entries.add(RESOURCE_PREFIX + name);
+        }
+    }
+
+    /**
+     * Writes the recorded profile, the classes and resources loaded afterwards are ignored.
+     */
+    synchronized void stopRecording() {
+        if (entries == null) {
+            return;
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (String entry : entries) {
+                writer.write(entry);
+                writer.newLine();
+            }
+            log.infof("Recorded %d loaded classes and resources to %s", entries.size(), file);
+        } catch (IOException e) {
+            log.warn("Unable to write the class loading profile to " + file, e);
+        } finally {
+            entries = null;
+        }
+    }
+
+    /**
+     * Loads the classes and resources of the given profile on a background thread.
+     */
+    static void replay(Path file, RunnerClassLoader runnerClassLoader) throws IOException {
+        List<String> entries = Files.readAllLines(file, StandardCharsets.UTF_8);
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                for (String entry : entries) {
+                    try {
+                        if (entry.startsWith(CLASS_PREFIX)) {
+                            // the class is defined but not initialized, so that no code runs earlier than expected
+                            runnerClassLoader.loadClass(entry.substring(CLASS_PREFIX.length()), false);
+                        } else if (entry.startsWith(RESOURCE_PREFIX)) {
+                            runnerClassLoader.getResource(entry.substring(RESOURCE_PREFIX.length()));
+                        }
+                    } catch (ClassNotFoundException | LinkageError | RuntimeException e) {
+                        // the profile may be outdated, the main thread reports the problem if the class is really used
+                        log.debugf(e, "Unable to prefetch %s", entry);
+                    }
+                }
+            }
+        }, "quarkus-class-loading-prefetch");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Returns the names of the jar entries of the given profile, in loading order.
+     */
+    public static List<String> readEntryNames(Path file) throws IOException {
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        List<String> names = new ArrayList<>(lines.size());
+        for (String line : lines) {
+            if (line.startsWith(CLASS_PREFIX)) {
+                names.add(line.substring(CLASS_PREFIX.length()).replace('.', '/') + ".class");
+            } else if (line.startsWith(RESOURCE_PREFIX)) {
+                names.add(line.substring(RESOURCE_PREFIX.length()));
+            }
+        }
+        return names;
+    }
+}
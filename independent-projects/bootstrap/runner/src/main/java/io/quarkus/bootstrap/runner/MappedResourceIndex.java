@@ -0,0 +1,333 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarFile;
+import java.util.zip.ZipEntry;
+
+/**
+ * An index of every entry of the application jars, written when the application is packaged and memory-mapped when it
+ * starts.
+ * <p>
+ * The entries are located with a minimal perfect hash function (hash and displace): the entries are first grouped in
+ * buckets, then each bucket gets a seed which maps all its entries to distinct free slots. A lookup is therefore always
+ * made of two hash computations and a single name comparison, and a name which is not part of the application jars is
+ * rejected without opening any jar.
+ * <p>
+ * The content of the class files is stored uncompressed right after their name, so that {@link RunnerClassLoader} can
+ * define the classes straight from the mapped region. The other resources are only indexed with the jar containing them,
+ * as their URL must still point to that jar. Like the classes of multi-release jars, they are read from the jar itself.
+ * <p>
+ * When a name exists in several jars, only the first one in class path order is indexed.
+ * <p>
+ * Like {@link SerializedApplication}, this format is subject to change, and gives no compatibility guarantees, it is only
+ * intended to be used with the same version of Quarkus that created it.
+ */
+public final class MappedResourceIndex {
+
+    private static final int MAGIC = 0XF0315433;
+    private static final int VERSION = 1;
+
+    // magic, version, class path size, slot count, bucket count
+    private static final int HEADER_SIZE = 5 * Integer.BYTES;
+    private static final int EMPTY = -1;
+    private static final int NOT_STORED = -1;
+    private static final int MAX_SEED = 1 << 24;
+
+    private final ByteBuffer buffer;
+    private final int slotCount;
+    private final int bucketCount;
+    private final int slotsOffset;
+
+    private MappedResourceIndex(ByteBuffer buffer, int slotCount, int bucketCount) {
+        this.buffer = buffer;
+        this.slotCount = slotCount;
+        this.bucketCount = bucketCount;
+        this.slotsOffset = HEADER_SIZE + bucketCount * Integer.BYTES;
+    }
+
+    /**
+     * Maps the given index file.
+     *
+     * @return the index, or {@code null} if it was not written for a class path of the given size
+     */
+    public static MappedResourceIndex read(Path file, int classPathSize) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION || buffer.getInt(8) != classPathSize) {
+            return null;
+        }
+        return new MappedResourceIndex(buffer, buffer.getInt(12), buffer.getInt(16));
+    }
+
+    /**
+     * Returns the position of the entry with the given name, or {@code -1} if none of the application jars contains it.
+     */
+    public int find(String name) {
+        int seed = buffer.getInt(HEADER_SIZE + index(hash(name, 0), bucketCount) * Integer.BYTES);
+        if (seed == 0) {
+            // empty bucket
+            return -1;
+        }
+        int entry = buffer.getInt(slotsOffset + index(hash(name, seed), slotCount) * Integer.BYTES);
+        if (entry == EMPTY || !nameEquals(entry, name)) {
+            return -1;
+        }
+        return entry;
+    }
+
+    /**
+     * Returns the index, in the class path, of the jar containing the given entry.
+     */
+    public int getJarIndex(int entry) {
+        return Short.toUnsignedInt(buffer.getShort(entry + Short.BYTES + nameLength(entry)));
+    }
+
+    /**
+     * Returns a read-only buffer holding the content of the given entry, or {@code null} if the content must be read from
+     * the jar.
+     */
+    public ByteBuffer getData(int entry) {
+        int lengthPosition = entry + Short.BYTES + nameLength(entry) + Short.BYTES;
+        int length = buffer.getInt(lengthPosition);
+        if (length == NOT_STORED) {
+            return null;
+        }
+        ByteBuffer data = buffer.duplicate();
+        data.position(lengthPosition + Integer.BYTES);
+        data.limit(lengthPosition + Integer.BYTES + length);
+        return data;
+    }
+
+    private int nameLength(int entry) {
+        return Short.toUnsignedInt(buffer.getShort(entry));
+    }
+
+    private boolean nameEquals(int entry, String name) {
+        int length = nameLength(entry);
+        int start = entry + Short.BYTES;
+        if (length < name.length()) {
+            return false;
+        }
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c >= 0x80) {
+                // not ASCII, compare the decoded name instead
+                byte[] bytes = new byte[length];
+                ByteBuffer stored = buffer.duplicate();
+                stored.position(start);
+                stored.get(bytes);
+                return name.equals(new String(bytes, StandardCharsets.UTF_8));
+            }
+            if (buffer.get(start + i) != c) {
+                return false;
+            }
+        }
+        return length == name.length();
+    }
+
+    /**
+     * Writes the index of the given jars.
+     */
+    public static void write(Path file, List<Path> classPath) throws IOException {
+        write(file, classPath, List.of());
+    }
+
+    /**
+     * Writes the index of the given jars, the entries with the given names being written first and in the given order.
+     * When these names come from a {@link ClassLoadingProfile}, the classes loaded during startup are contiguous in the
+     * mapped file, and are read mostly sequentially.
+     */
+    public static void write(Path file, List<Path> classPath, List<String> firstEntries) throws IOException {
+        Map<String, Entry> allEntries = new LinkedHashMap<>();
+        for (int i = 0; i < classPath.size(); i++) {
+            collectEntries(classPath.get(i), i, allEntries);
+        }
+        List<Entry> entries = new ArrayList<>(allEntries.size());
+        for (String name : firstEntries) {
+            Entry entry = allEntries.remove(name);
+            if (entry != null) {
+                entries.add(entry);
+            }
+        }
+        entries.addAll(allEntries.values());
+        Entry[] slots = buildPerfectHash(entries);
+        int bucketCount = bucketCount(entries.size());
+
+        long position = HEADER_SIZE + (long) (bucketCount + slots.length) * Integer.BYTES;
+        for (Entry entry : entries) {
+            entry.position = position;
+            position += Short.BYTES + entry.name.length + Short.BYTES + Integer.BYTES
+                    + (entry.data == null ? 0 : entry.data.length);
+        }
+        if (position > Integer.MAX_VALUE) {
+            throw new IOException("The application jars are too large to be indexed in " + file);
+        }
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(classPath.size());
+            out.writeInt(slots.length);
+            out.writeInt(bucketCount);
+            int[] seeds = new int[bucketCount];
+            for (Entry entry : entries) {
+                seeds[entry.bucket] = entry.seed;
+            }
+            for (int seed : seeds) {
+                out.writeInt(seed);
+            }
+            for (Entry slot : slots) {
+                out.writeInt(slot == null ? EMPTY : (int) slot.position);
+            }
+            for (Entry entry : entries) {
+                out.writeShort(entry.name.length);
+                out.write(entry.name);
+                out.writeShort(entry.jarIndex);
+                if (entry.data == null) {
+                    out.writeInt(NOT_STORED);
+                } else {
+                    out.writeInt(entry.data.length);
+                    out.write(entry.data);
+                }
+            }
+        }
+    }
+
+    private static void collectEntries(Path jar, int jarIndex, Map<String, Entry> entries) throws IOException {
+        try (JarFile zip = new JarFile(jar.toFile())) {
+            // the content of a multi-release jar depends on the runtime version, it is always read from the jar
+            boolean multiRelease = zip.isMultiRelease();
+            Enumeration<? extends ZipEntry> zipEntries = zip.entries();
+            while (zipEntries.hasMoreElements()) {
+                ZipEntry zipEntry = zipEntries.nextElement();
+                String name = zipEntry.getName();
+                if (zipEntry.isDirectory() || entries.containsKey(name)) {
+                    continue;
+                }
+                byte[] data = null;
+                if (!multiRelease && name.endsWith(".class") && !name.startsWith("META-INF/")) {
+                    try (InputStream in = zip.getInputStream(zipEntry)) {
+                        data = in.readAllBytes();
+                    }
+                }
+                entries.put(name, new Entry(name, jarIndex, data));
+                if (multiRelease && name.startsWith(SerializedApplication.META_INF_VERSIONS)) {
+                    // the versioned entries are looked up with their unversioned name
+                    String part = name.substring(SerializedApplication.META_INF_VERSIONS.length());
+                    int slash = part.indexOf('/');
+                    if (slash != -1 && slash < part.length() - 1) {
+                        entries.putIfAbsent(part.substring(slash + 1), new Entry(part.substring(slash + 1), jarIndex, null));
+                    }
+                }
+            }
+        }
+    }
+
+    private static Entry[] buildPerfectHash(List<Entry> entries) throws IOException {
+        int slotCount = entries.size() + (entries.size() >> 2) + 1;
+        int bucketCount = bucketCount(entries.size());
+        List<List<Entry>> buckets = new ArrayList<>(bucketCount);
+        for (int i = 0; i < bucketCount; i++) {
+            buckets.add(new ArrayList<>(4));
+        }
+        for (Entry entry : entries) {
+            entry.bucket = index(hash(entry.stringName, 0), bucketCount);
+            buckets.get(entry.bucket).add(entry);
+        }
+        // the largest buckets are placed first, while most of the slots are still free
+        buckets.sort((b1, b2) -> Integer.compare(b2.size(), b1.size()));
+
+        Entry[] slots = new Entry[slotCount];
+        int[] bucketSlots = new int[buckets.isEmpty() ? 0 : buckets.get(0).size()];
+        for (List<Entry> bucket : buckets) {
+            if (bucket.isEmpty()) {
+                break;
+            }
+            int seed = 1;
+            while (!tryPlace(bucket, seed, slots, bucketSlots)) {
+                if (++seed == MAX_SEED) {
+                    throw new IOException("Unable to build the perfect hash of the application jars entries");
+                }
+            }
+        }
+        return slots;
+    }
+
+    private static boolean tryPlace(List<Entry> bucket, int seed, Entry[] slots, int[] bucketSlots) {
+        for (int i = 0; i < bucket.size(); i++) {
+            int slot = index(hash(bucket.get(i).stringName, seed), slots.length);
+            if (slots[slot] != null) {
+                return false;
+            }
+            for (int j = 0; j < i; j++) {
+                if (bucketSlots[j] == slot) {
+                    return false;
+                }
+            }
+            bucketSlots[i] = slot;
+        }
+        for (int i = 0; i < bucket.size(); i++) {
+            Entry entry = bucket.get(i);
+            entry.seed = seed;
+            slots[bucketSlots[i]] = entry;
+        }
+        return true;
+    }
+
+    private static int bucketCount(int entryCount) {
+        return Math.max(1, entryCount >> 2);
+    }
+
+    static int hash(String name, int seed) {
+        // FNV-1a over the chars, so that the lookups do not need to encode the name, followed by the murmur3 finalizer
+        int h = 0x811C9DC5 ^ (seed * 0x9E3779B9);
+        for (int i = 0; i < name.length(); i++) {
+            h ^= name.charAt(i);
+            h *= 0x01000193;
+        }
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    private static int index(int hash, int size) {
+        return (hash & 0x7FFFFFFF) % size;
+    }
+
+    private static final class Entry {
+
+        private final String stringName;
+        private final byte[] name;
+        private final int jarIndex;
+        private final byte[] data;
+        private int bucket;
+        private int seed;
+        private long position;
+
+        private Entry(String name, int jarIndex, byte[] data) {
+            this.stringName = name;
+            this.name = name.getBytes(StandardCharsets.UTF_8);
+            this.jarIndex = jarIndex;
+            this.data = data;
+        }
+    }
+}
@@ -20,6 +20,8 @@
 public class QuarkusEntryPoint {
 
     public static final String QUARKUS_APPLICATION_DAT = "quarkus/quarkus-application.dat";
+    public static final String QUARKUS_RESOURCES_DAT = "quarkus/quarkus-resources.dat";
+    public static final String QUARKUS_CLASS_LOADING_PROFILE = "quarkus/quarkus-class-loading.lst";
     public static final String LIB_DEPLOYMENT_DEPLOYMENT_CLASS_PATH_DAT = "lib/deployment/deployment-class-path.dat";
 
     public static void main(String... args) throws Throwable {
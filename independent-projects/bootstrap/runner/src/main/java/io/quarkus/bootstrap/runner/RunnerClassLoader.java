@@ -1,6 +1,7 @@
 package io.quarkus.bootstrap.runner;
 
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Enumeration;
@@ -38,6 +39,12 @@ public final class RunnerClassLoader extends ClassLoader {
     // normally this field would be a set, but it only contains 2 elements, so making it a list is actually better
     private final List<String> fullyIndexedDirectories;
     private final Map<String, ClassLoadingResource[]> directlyIndexedResourcesIndexMap;
+    // the following two fields are null unless the application was packaged with the mapped resource index,
+    // the jar indexes of the index are the positions of the resources in the array
+    private final MappedResourceIndex mappedResourceIndex;
+    private final ClassLoadingResource[] allResources;
+    // null unless a class loading profile is being recorded
+    private final ClassLoadingProfile classLoadingProfile;
 
     //Mutations protected by synchronization on the field value itself:
     private final ClassLoadingResource[] currentlyBufferedResources = new ClassLoadingResource[4];//Experimentally found to be a reasonable number
@@ -48,13 +55,18 @@ public final class RunnerClassLoader extends ClassLoader {
 
     RunnerClassLoader(ClassLoader parent, Map<String, ClassLoadingResource[]> resourceDirectoryMap,
             Set<String> parentFirstPackages, Set<String> nonExistentResources,
-            List<String> fullyIndexedDirectories, Map<String, ClassLoadingResource[]> directlyIndexedResourcesIndexMap) {
+            List<String> fullyIndexedDirectories, Map<String, ClassLoadingResource[]> directlyIndexedResourcesIndexMap,
+            MappedResourceIndex mappedResourceIndex, ClassLoadingResource[] allResources,
+            ClassLoadingProfile classLoadingProfile) {
         super(parent);
         this.resourceDirectoryMap = resourceDirectoryMap;
         this.parentFirstPackages = parentFirstPackages;
         this.nonExistentResources = nonExistentResources;
         this.fullyIndexedDirectories = fullyIndexedDirectories;
         this.directlyIndexedResourcesIndexMap = directlyIndexedResourcesIndexMap;
+        this.mappedResourceIndex = mappedResourceIndex;
+        this.allResources = allResources;
+        this.classLoadingProfile = classLoadingProfile;
 
         resource = new CracResource();
         org.crac.Core.getGlobalContext().register(resource);
@@ -92,8 +104,33 @@ public Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundExce
             String dirName = packageName.replace('.', '/');
             resources = resourceDirectoryMap.get(dirName);
         }
+        String classResource = name.replace('.', '/') + ".class";
+        if (mappedResourceIndex != null) {
+            int entry = mappedResourceIndex.find(classResource);
+            if (entry == -1) {
+                return getParent().loadClass(name);
+            }
+            ByteBuffer data = mappedResourceIndex.getData(entry);
+            if (data != null) {
+                // the class is defined from the mapped index, without opening the jar
+                ClassLoadingResource resource = allResources[mappedResourceIndex.getJarIndex(entry)];
+                definePackage(packageName, resources != null ? resources : new ClassLoadingResource[] { resource });
+                try {
+                    Class<?> defined = defineClass(name, data, resource.getProtectionDomain());
+                    if (classLoadingProfile != null) {
+                        classLoadingProfile.classLoaded(name);
+                    }
+                    return defined;
+                } catch (LinkageError e) {
+                    loaded = findLoadedClass(name);
+                    if (loaded != null) {
+                        return loaded;
+                    }
+                    throw e;
+                }
+            }
+        }
         if (resources != null) {
-            String classResource = name.replace('.', '/') + ".class";
             for (ClassLoadingResource resource : resources) {
                 accessingResource(resource);
                 byte[] data = resource.getResourceData(classResource);
@@ -102,7 +139,11 @@ public Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundExce
                 }
                 definePackage(packageName, resources);
                 try {
-                    return defineClass(name, data, 0, data.length, resource.getProtectionDomain());
+                    Class<?> defined = defineClass(name, data, 0, data.length, resource.getProtectionDomain());
+                    if (classLoadingProfile != null) {
+                        classLoadingProfile.classLoaded(name);
+                    }
+                    return defined;
                 } catch (LinkageError e) {
                     loaded = findLoadedClass(name);
                     if (loaded != null) {
@@ -150,10 +191,32 @@ private void accessingResource(final ClassLoadingResource resource) {
 
     @Override
     protected URL findResource(String name) {
+        URL url = doFindResource(name);
+        if (url != null && classLoadingProfile != null) {
+            classLoadingProfile.resourceLoaded(sanitizeName(name));
+        }
+        return url;
+    }
+
+    private URL doFindResource(String name) {
         name = sanitizeName(name);
         if (nonExistentResources.contains(name)) {
             return null;
         }
+        if (mappedResourceIndex != null) {
+            int entry = mappedResourceIndex.find(name);
+            if (entry != -1) {
+                ClassLoadingResource resource = allResources[mappedResourceIndex.getJarIndex(entry)];
+                accessingResource(resource);
+                URL data = resource.getResourceURL(name);
+                if (data != null) {
+                    return data;
+                }
+            } else if (!resourceDirectoryMap.containsKey(stripTrailingSlash(name))) {
+                // the index contains every file of the application jars, so only a directory can still be found
+                return null;
+            }
+        }
         ClassLoadingResource[] resources = getClassLoadingResources(name);
         if (resources == null)
             return null;
@@ -174,6 +237,13 @@ private String sanitizeName(final String name) {
         return name;
     }
 
+    private String stripTrailingSlash(final String name) {
+        if (name.length() > 0 && name.charAt(name.length() - 1) == '/') {
+            return name.substring(0, name.length() - 1);
+        }
+        return name;
+    }
+
     private ClassLoadingResource[] getClassLoadingResources(final String name) {
         ClassLoadingResource[] resources = directlyIndexedResourcesIndexMap.get(name);
         if (resources != null) {
@@ -281,6 +351,9 @@ protected Class<?> findClass(String moduleName, String name) {
     }
 
     public void close() {
+        if (classLoadingProfile != null) {
+            classLoadingProfile.stopRecording();
+        }
         for (Map.Entry<String, ClassLoadingResource[]> entry : resourceDirectoryMap.entrySet()) {
             for (ClassLoadingResource i : entry.getValue()) {
                 i.close();
@@ -289,6 +362,10 @@ public void close() {
     }
 
     public void resetInternalCaches() {
+        // the application has started, which is the end of the recorded profile
+        if (classLoadingProfile != null) {
+            classLoadingProfile.stopRecording();
+        }
         synchronized (this.currentlyBufferedResources) {
             for (Map.Entry<String, ClassLoadingResource[]> entry : resourceDirectoryMap.entrySet()) {
                 for (ClassLoadingResource i : entry.getValue()) {
@@ -157,16 +157,30 @@ public static SerializedApplication read(InputStream inputStream, Path appRoot)
                 }
                 directlyIndexedResourcesIndexMap.put(resource, matchingResources);
             }
+            Path profileFile = appRoot.resolve(QuarkusEntryPoint.QUARKUS_CLASS_LOADING_PROFILE);
+            ClassLoadingProfile classLoadingProfile = ClassLoadingProfile.startRecording(profileFile);
             RunnerClassLoader runnerClassLoader = new RunnerClassLoader(ClassLoader.getSystemClassLoader(),
                     resourceDirectoryTracker.getResult(), parentFirstPackages,
-                    nonExistentResources, FULLY_INDEXED_PATHS, directlyIndexedResourcesIndexMap);
+                    nonExistentResources, FULLY_INDEXED_PATHS, directlyIndexedResourcesIndexMap,
+                    readMappedResourceIndex(appRoot, numPaths), allClassLoadingResources, classLoadingProfile);
             for (ClassLoadingResource classLoadingResource : allClassLoadingResources) {
                 classLoadingResource.init(runnerClassLoader);
             }
+            if (classLoadingProfile == null && Files.exists(profileFile)) {
+                ClassLoadingProfile.replay(profileFile, runnerClassLoader);
+            }
             return new SerializedApplication(runnerClassLoader, mainClass);
         }
     }
 
+    private static MappedResourceIndex readMappedResourceIndex(Path appRoot, int numPaths) throws IOException {
+        Path indexFile = appRoot.resolve(QuarkusEntryPoint.QUARKUS_RESOURCES_DAT);
+        if (!Files.exists(indexFile)) {
+            return null;
+        }
+        return MappedResourceIndex.read(indexFile, numPaths);
+    }
+
     private static String readNullableString(DataInputStream in) throws IOException {
         if (in.readBoolean()) {
             return in.readUTF();
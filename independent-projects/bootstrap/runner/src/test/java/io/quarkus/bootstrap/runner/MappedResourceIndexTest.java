@@ -0,0 +1,105 @@
+package io.quarkus.bootstrap.runner;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.exporter.ZipExporter;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link MappedResourceIndex}
+ */
+public class MappedResourceIndexTest {
+
+    @Test
+    public void testIndex() throws Exception {
+        Path dir = Files.createTempDirectory("mapped-index");
+        JavaArchive first = ShrinkWrap.create(JavaArchive.class);
+        first.add(new StringAsset("first-class"), "org/acme/Foo.class");
+        first.add(new StringAsset("first"), "application.properties");
+        first.add(new StringAsset("été"), "org/acme/été.txt");
+        JavaArchive second = ShrinkWrap.create(JavaArchive.class);
+        second.add(new StringAsset("second-class"), "org/acme/Foo.class");
+        second.add(new StringAsset("bar-class"), "org/acme/Bar.class");
+        second.add(new StringAsset("second"), "application.properties");
+        second.add(new StringAsset("service"), "META-INF/services/org.acme.Service");
+        // enough entries to get several buckets
+        for (int i = 0; i < 500; i++) {
+            second.add(new StringAsset("class-" + i), "org/acme/generated/Class" + i + ".class");
+        }
+        Path firstJar = dir.resolve("first.jar");
+        Path secondJar = dir.resolve("second.jar");
+        first.as(ZipExporter.class).exportTo(firstJar.toFile(), true);
+        second.as(ZipExporter.class).exportTo(secondJar.toFile(), true);
+
+        Path indexFile = dir.resolve("quarkus-resources.dat");
+        MappedResourceIndex.write(indexFile, List.of(firstJar, secondJar));
+        Assertions.assertNull(MappedResourceIndex.read(indexFile, 3), "The class path size should be checked");
+        MappedResourceIndex index = MappedResourceIndex.read(indexFile, 2);
+        Assertions.assertNotNull(index);
+
+        // the first jar wins
+        int foo = index.find("org/acme/Foo.class");
+        Assertions.assertEquals(0, index.getJarIndex(foo));
+        Assertions.assertEquals("first-class", toString(index.getData(foo)));
+
+        int bar = index.find("org/acme/Bar.class");
+        Assertions.assertEquals(1, index.getJarIndex(bar));
+        Assertions.assertEquals("bar-class", toString(index.getData(bar)));
+        for (int i = 0; i < 500; i++) {
+            int entry = index.find("org/acme/generated/Class" + i + ".class");
+            Assertions.assertEquals("class-" + i, toString(index.getData(entry)));
+        }
+
+        // the resources are only located
+        int properties = index.find("application.properties");
+        Assertions.assertEquals(0, index.getJarIndex(properties));
+        Assertions.assertNull(index.getData(properties));
+        Assertions.assertEquals(1, index.getJarIndex(index.find("META-INF/services/org.acme.Service")));
+        Assertions.assertEquals(0, index.getJarIndex(index.find("org/acme/été.txt")));
+
+        Assertions.assertEquals(-1, index.find("org/acme/Missing.class"));
+        Assertions.assertEquals(-1, index.find("org/acme"));
+        Assertions.assertEquals(-1, index.find("org/acme/Foo.clas"));
+        Assertions.assertEquals(-1, index.find("org/acme/été.txt2"));
+    }
+
+    @Test
+    public void testProfileOrder() throws Exception {
+        Path dir = Files.createTempDirectory("mapped-index");
+        JavaArchive jar = ShrinkWrap.create(JavaArchive.class);
+        for (int i = 0; i < 10; i++) {
+            jar.add(new StringAsset("class-" + i), "org/acme/Class" + i + ".class");
+        }
+        Path jarFile = dir.resolve("app.jar");
+        jar.as(ZipExporter.class).exportTo(jarFile.toFile(), true);
+
+        Path indexFile = dir.resolve("quarkus-resources.dat");
+        MappedResourceIndex.write(indexFile, List.of(jarFile),
+                List.of("org/acme/Class7.class", "org/acme/Missing.class", "org/acme/Class3.class"));
+        MappedResourceIndex index = MappedResourceIndex.read(indexFile, 1);
+
+        // the profiled entries are written first, in loading order
+        int first = index.find("org/acme/Class7.class");
+        int second = index.find("org/acme/Class3.class");
+        Assertions.assertTrue(first < second);
+        for (int i = 0; i < 10; i++) {
+            if (i != 7 && i != 3) {
+                Assertions.assertTrue(second < index.find("org/acme/Class" + i + ".class"));
+            }
+        }
+    }
+
+    private static String toString(ByteBuffer data) {
+        byte[] bytes = new byte[data.remaining()];
+        data.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
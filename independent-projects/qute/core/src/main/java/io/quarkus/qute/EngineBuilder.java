@@ -32,6 +32,7 @@ public final class EngineBuilder {
     final List<TemplateInstance.Initializer> initializers;
     Function<String, SectionHelperFactory<?>> sectionHelperFunc;
     final List<ParserHook> parserHooks;
+    final Map<String, ValueResolver> boundValueResolvers;
     boolean removeStandaloneLines;
     boolean strictRendering;
     String iterationMetadataPrefix;
@@ -46,6 +47,7 @@ public final class EngineBuilder {
         this.resultMappers = new ArrayList<>();
         this.parserHooks = new ArrayList<>();
         this.initializers = new ArrayList<>();
+        this.boundValueResolvers = new HashMap<>();
         this.strictRendering = true;
         this.removeStandaloneLines = true;
         this.iterationMetadataPrefix = LoopSectionHelper.Factory.ITERATION_METADATA_PREFIX_ALIAS_UNDERSCORE;
@@ -188,6 +190,36 @@ public EngineBuilder addTemplateInstanceInitializer(TemplateInstance.Initializer
         return this;
     }
 
+    /**
+     * Binds the resolver to a specific part of an expression. The bound resolver is tried first when the part is evaluated. If
+     * it does not apply to the evaluated base object or if it does not find a result then the registered value resolvers are
+     * used instead.
+     * <p>
+     * The bound resolver is never used to resolve the first part of an expression.
+     *
+     * @param expressionPartKey The key obtained from {@link #expressionPartKey(String, Expression, int)}
+     * @param resolver
+     * @return self
+     */
+    public EngineBuilder bindValueResolver(String expressionPartKey, ValueResolver resolver) {
+        this.boundValueResolvers.put(expressionPartKey, resolver);
+        return this;
+    }
+
+    /**
+     *
+     * @param templateId
+     * @param expression
+     * @param partIndex
+     * @return the key that identifies the part of the expression found in the given template
+     * @see #bindValueResolver(String, ValueResolver)
+     */
+    public static String expressionPartKey(String templateId, Expression expression, int partIndex) {
+        TemplateNode.Origin origin = expression.getOrigin();
+        return templateId + ":" + origin.getLine() + ":" + origin.getLineCharacterStart() + ":"
+                + expression.toOriginalString() + ":" + partIndex;
+    }
+
     /**
      * The function is used if no section helper registered via {@link #addSectionHelper(SectionHelperFactory)} matches a
      * section name.
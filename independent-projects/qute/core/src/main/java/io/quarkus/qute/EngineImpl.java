@@ -34,6 +34,7 @@ class EngineImpl implements Engine {
     private final List<ResultMapper> resultMappers;
     private final AtomicLong idGenerator = new AtomicLong(0);
     private final List<ParserHook> parserHooks;
+    final Map<String, ValueResolver> boundValueResolvers;
     final List<TemplateInstance.Initializer> initializers;
     final boolean removeStandaloneLines;
     private final long timeout;
@@ -50,6 +51,7 @@ class EngineImpl implements Engine {
         this.resultMappers = sort(builder.resultMappers);
         this.sectionHelperFunc = builder.sectionHelperFunc;
         this.parserHooks = ImmutableList.copyOf(builder.parserHooks);
+        this.boundValueResolvers = Map.copyOf(builder.boundValueResolvers);
         this.removeStandaloneLines = builder.removeStandaloneLines;
         this.initializers = ImmutableList.copyOf(builder.initializers);
         this.timeout = builder.timeout;
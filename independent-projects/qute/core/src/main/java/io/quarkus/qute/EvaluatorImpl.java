@@ -122,15 +122,24 @@ private CompletionStage<Object> resolveNamespace(EvalContext context, Resolution
 
     private CompletionStage<Object> resolveReference(boolean tryParent, Object ref, Iterator<Part> parts,
             ResolutionContext resolutionContext, final Expression expression, int partIndex) {
-        Part part = parts.next();
-        EvalContextImpl evalContext = new EvalContextImpl(tryParent, ref, resolutionContext, part);
-        if (!parts.hasNext()) {
-            // The last part - no need to compose
-            return resolve(evalContext, null, true, expression, true, partIndex);
-        } else {
-            // Next part - no need to try the parent context/outer scope
-            return resolve(evalContext, null, true, expression, false, partIndex)
-                    .thenCompose(r -> resolveReference(false, r, parts, resolutionContext, expression, partIndex + 1));
+        for (;;) {
+            Part part = parts.next();
+            EvalContextImpl evalContext = new EvalContextImpl(tryParent, ref, resolutionContext, part);
+            if (!parts.hasNext()) {
+                // The last part - no need to compose
+                return resolve(evalContext, null, true, expression, true, partIndex);
+            }
+            CompletionStage<Object> result = resolve(evalContext, null, true, expression, false, partIndex);
+            if (isCompleted(result)) {
+                // Synchronous result - continue with the next part directly
+                ref = ((CompletedStage<Object>) result).get();
+                // Next part - no need to try the parent context/outer scope
+                tryParent = false;
+                partIndex++;
+            } else {
+                int nextPartIndex = partIndex + 1;
+                return result.thenCompose(r -> resolveReference(false, r, parts, resolutionContext, expression, nextPartIndex));
+            }
         }
     }
 
@@ -138,10 +147,25 @@ private CompletionStage<Object> resolve(EvalContextImpl evalContext, Iterator<Va
             boolean tryCachedResolver, final Expression expression, boolean isLastPart, int partIndex) {
 
         if (tryCachedResolver) {
-            // Try the cached resolver first
-            ValueResolver cachedResolver = evalContext.getCachedResolver();
-            if (cachedResolver != null && cachedResolver.appliesTo(evalContext)) {
-                return cachedResolver.resolve(evalContext).thenCompose(r -> {
+            // Try the resolver bound at build time first, then the cached resolver
+            ValueResolver resolver = evalContext.getBoundResolver();
+            if (resolver == null || !resolver.appliesTo(evalContext)) {
+                resolver = evalContext.getCachedResolver();
+                if (resolver != null && !resolver.appliesTo(evalContext)) {
+                    resolver = null;
+                }
+            }
+            if (resolver != null) {
+                CompletionStage<Object> result = resolver.resolve(evalContext);
+                if (isCompleted(result)) {
+                    // Synchronous result - no need to compose
+                    Object r = ((CompletedStage<Object>) result).get();
+                    if (Results.isNotFound(r)) {
+                        return resolve(evalContext, null, false, expression, isLastPart, partIndex);
+                    }
+                    return isAsync(r) ? toCompletionStage(r) : result;
+                }
+                return result.thenCompose(r -> {
                     if (Results.isNotFound(r)) {
                         return resolve(evalContext, null, false, expression, isLastPart, partIndex);
                     } else {
@@ -204,9 +228,22 @@ private CompletionStage<Object> resolve(EvalContextImpl evalContext, Iterator<Va
             return CompletedStage.of(notFound);
         }
 
+        CompletionStage<Object> result = applicableResolver.resolve(evalContext);
+        if (isCompleted(result)) {
+            // Synchronous result - no need to compose
+            Object r = ((CompletedStage<Object>) result).get();
+            if (Results.isNotFound(r)) {
+                // Result not found - try the next resolver
+                return resolve(evalContext, resolvers, false, expression, isLastPart, partIndex);
+            }
+            // Cache the first resolver where a result is found
+            evalContext.setCachedResolver(applicableResolver);
+            return isAsync(r) ? toCompletionStage(r) : result;
+        }
+
         final Iterator<ValueResolver> remainingResolvers = resolvers;
         final ValueResolver foundResolver = applicableResolver;
-        return applicableResolver.resolve(evalContext).thenCompose(r -> {
+        return result.thenCompose(r -> {
             if (Results.isNotFound(r)) {
                 // Result not found - try the next resolver
                 return resolve(evalContext, remainingResolvers, false, expression, isLastPart, partIndex);
@@ -218,6 +255,21 @@ private CompletionStage<Object> resolve(EvalContextImpl evalContext, Iterator<Va
         });
     }
 
+    /**
+     * Most resolvers are synchronous and return a {@link CompletedStage}. In that case the result can be obtained directly and
+     * there is no need to allocate a function for {@link CompletionStage#thenCompose(java.util.function.Function)}.
+     *
+     * @param result
+     * @return {@code true} if the given result is a successfully completed {@link CompletedStage}
+     */
+    private static boolean isCompleted(CompletionStage<Object> result) {
+        return result instanceof CompletedStage && !((CompletedStage<Object>) result).isFailure();
+    }
+
+    private static boolean isAsync(Object result) {
+        return result instanceof CompletionStage || result instanceof Uni;
+    }
+
     @SuppressWarnings("unchecked")
     private static CompletionStage<Object> toCompletionStage(Object result) {
         if (result instanceof CompletionStage) {
@@ -307,6 +359,10 @@ public Object getAttribute(String key) {
             return resolutionContext.getAttribute(key);
         }
 
+        ValueResolver getBoundResolver() {
+            return part.boundResolver;
+        }
+
         ValueResolver getCachedResolver() {
             return part.cachedResolver;
         }
@@ -161,6 +161,17 @@ static class VirtualMethodPartImpl extends PartImpl implements VirtualMethodPart
             this.parameters = parameters;
         }
 
+        private VirtualMethodPartImpl(String name, String typeInfo, List<Expression> parameters,
+                ValueResolver boundResolver) {
+            super(name, typeInfo, boundResolver);
+            this.parameters = parameters;
+        }
+
+        @Override
+        PartImpl bind(ValueResolver resolver) {
+            return new VirtualMethodPartImpl(name, typeInfo, parameters, resolver);
+        }
+
         public List<Expression> getParameters() {
             return parameters;
         }
@@ -226,11 +237,25 @@ static class PartImpl implements Part {
 
         protected final String name;
         protected final String typeInfo;
+        // The resolver bound to this part at build time, it is always tried first
+        protected final ValueResolver boundResolver;
         protected volatile ValueResolver cachedResolver;
 
         PartImpl(String name, String typeInfo) {
+            this(name, typeInfo, null);
+        }
+
+        PartImpl(String name, String typeInfo, ValueResolver boundResolver) {
             this.name = name;
             this.typeInfo = typeInfo;
+            this.boundResolver = boundResolver;
+        }
+
+        /**
+         * @return a copy of this part with the given bound resolver
+         */
+        PartImpl bind(ValueResolver resolver) {
+            return new PartImpl(name, typeInfo, resolver);
         }
 
         public String getName() {
@@ -1014,11 +1014,34 @@ static boolean isRightBracket(char character) {
     }
 
     ExpressionImpl createSectionBlockExpression(BlockInfo block, String value) {
-        return parseExpression(expressionIdGenerator::incrementAndGet, value, scopeStack.peek(), block.getOrigin());
+        return bindValueResolvers(
+                parseExpression(expressionIdGenerator::incrementAndGet, value, scopeStack.peek(), block.getOrigin()));
     }
 
     ExpressionImpl createExpression(String value) {
-        return parseExpression(expressionIdGenerator::incrementAndGet, value, scopeStack.peek(), origin(value.length() + 1));
+        return bindValueResolvers(
+                parseExpression(expressionIdGenerator::incrementAndGet, value, scopeStack.peek(), origin(value.length() + 1)));
+    }
+
+    private ExpressionImpl bindValueResolvers(ExpressionImpl expression) {
+        if (engine.boundValueResolvers.isEmpty() || expression.isLiteral()) {
+            return expression;
+        }
+        List<Part> parts = null;
+        // The first part is never resolved by a bound resolver
+        for (int i = 1; i < expression.getParts().size(); i++) {
+            ValueResolver resolver = engine.boundValueResolvers
+                    .get(EngineBuilder.expressionPartKey(templateId, expression, i));
+            if (resolver != null) {
+                if (parts == null) {
+                    parts = new ArrayList<>(expression.getParts());
+                }
+                parts.set(i, ((ExpressionImpl.PartImpl) parts.get(i)).bind(resolver));
+            }
+        }
+        return parts == null ? expression
+                : new ExpressionImpl(expression.getGeneratedId(), expression.getNamespace(), ImmutableList.copyOf(parts),
+                        Results.NotFound.EMPTY, expression.getOrigin());
     }
 
     Origin origin(int lineCharacterOffset) {
@@ -2,6 +2,8 @@
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import io.quarkus.qute.TemplateNode.Origin;
@@ -35,4 +37,39 @@ public String map(Object result, Expression expression) {
                 engine.mapResult("bar", test.getExpressions().iterator().next()));
     }
 
+    @Test
+    public void testBoundValueResolver() {
+        String content = "{item.length}::{item.length}::{item.toUpperCase}";
+        List<Expression> expressions = Engine.builder().addDefaults().build().parse(content, null, "bound")
+                .getExpressions();
+        Engine engine = Engine.builder().addDefaults().addValueResolver(new ReflectionValueResolver())
+                .bindValueResolver(EngineBuilder.expressionPartKey("bound", expressions.get(0), 1),
+                        ValueResolver.builder().applyToBaseClass(String.class).resolveSync(ec -> "bound").build())
+                .bindValueResolver(EngineBuilder.expressionPartKey("bound", expressions.get(2), 1),
+                        ValueResolver.builder().applyToBaseClass(Integer.class).resolveSync(ec -> "bound").build())
+                .build();
+        // The first expression uses the bound resolver, the second one is not bound and the bound resolver of the third
+        // one does not apply
+        assertEquals("bound::3::FOO",
+                engine.parse(content, null, "bound").data("item", "foo").render());
+        // Resolvers are bound only in the matching template
+        assertEquals("3::3::FOO", engine.parse(content, null, "other").data("item", "foo").render());
+    }
+
+    @Test
+    public void testBoundValueResolverAfterFallback() {
+        String content = "{item.length}";
+        Expression expression = Engine.builder().addDefaults().build().parse(content, null, "bound").getExpressions().get(0);
+        Engine engine = Engine.builder().addDefaults().addValueResolver(new ReflectionValueResolver())
+                .bindValueResolver(EngineBuilder.expressionPartKey("bound", expression, 1),
+                        ValueResolver.builder().applyToBaseClass(String.class).resolveSync(ec -> "bound").build())
+                .build();
+        Template template = engine.parse(content, null, "bound");
+        assertEquals("bound", template.data("item", "foo").render());
+        // The bound resolver does not apply, another resolver is used and cached
+        assertEquals("3", template.data("item", new StringBuilder("foo")).render());
+        // The bound resolver is still tried first
+        assertEquals("bound", template.data("item", "foo").render());
+    }
+
 }
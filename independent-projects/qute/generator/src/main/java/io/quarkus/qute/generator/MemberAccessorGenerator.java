@@ -0,0 +1,154 @@
+package io.quarkus.qute.generator;
+
+import static io.quarkus.qute.generator.ValueResolverGenerator.generatedNameFromTarget;
+import static io.quarkus.qute.generator.ValueResolverGenerator.packageName;
+import static io.quarkus.qute.generator.ValueResolverGenerator.simpleName;
+import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
+
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.Type;
+
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.gizmo.FieldDescriptor;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+import io.quarkus.qute.EngineBuilder;
+import io.quarkus.qute.EvalContext;
+import io.quarkus.qute.ValueResolver;
+
+/**
+ * Generates {@link ValueResolver}s that access a single member of a class directly, i.e. read a field or invoke a method
+ * with no parameters.
+ * <p>
+ * Unlike the resolvers generated by {@link ValueResolverGenerator} the generated resolver does not match the name of the
+ * member. Therefore, it should only be bound to a part of an expression that was validated against the member.
+ *
+ * @see EngineBuilder#bindValueResolver(String, ValueResolver)
+ */
+public class MemberAccessorGenerator {
+
+    public static final String SUFFIX = "_Accessor";
+
+    private final IndexView index;
+    private final ClassOutput classOutput;
+    private final Map<AnnotationTarget, String> generatedTypes;
+
+    public MemberAccessorGenerator(IndexView index, ClassOutput classOutput) {
+        this.index = index;
+        this.classOutput = classOutput;
+        this.generatedTypes = new HashMap<>();
+    }
+
+    /**
+     *
+     * @param member
+     * @return {@code true} if an accessor can be generated for the given member
+     */
+    public boolean isSupported(AnnotationTarget member) {
+        ClassInfo declaringClass;
+        Type type;
+        int flags;
+        switch (member.kind()) {
+            case FIELD:
+                FieldInfo field = member.asField();
+                declaringClass = field.declaringClass();
+                type = field.type();
+                flags = field.flags();
+                break;
+            case METHOD:
+                MethodInfo method = member.asMethod();
+                if (method.parametersCount() > 0 || method.returnType().kind() == Type.Kind.VOID) {
+                    return false;
+                }
+                declaringClass = method.declaringClass();
+                type = method.returnType();
+                flags = method.flags();
+                break;
+            default:
+                return false;
+        }
+        if (!Modifier.isPublic(flags) || Modifier.isStatic(flags) || !Modifier.isPublic(declaringClass.flags())) {
+            return false;
+        }
+        if ((type.kind() == Type.Kind.CLASS || type.kind() == Type.Kind.PARAMETERIZED_TYPE)
+                && ValueResolverGenerator.hasCompletionStageInTypeClosure(index.getClassByName(type.name()), index)) {
+            // The result must be returned as is
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     *
+     * @param member A supported member
+     * @return the name of the generated accessor class
+     * @see #isSupported(AnnotationTarget)
+     */
+    public String generate(AnnotationTarget member) {
+        String generatedType = generatedTypes.get(member);
+        if (generatedType != null) {
+            return generatedType;
+        }
+
+        ClassInfo declaringClass = member.kind() == AnnotationTarget.Kind.FIELD ? member.asField().declaringClass()
+                : member.asMethod().declaringClass();
+        String baseName;
+        if (declaringClass.enclosingClass() != null) {
+            baseName = simpleName(declaringClass.enclosingClass()) + ValueResolverGenerator.NESTED_SEPARATOR
+                    + simpleName(declaringClass);
+        } else {
+            baseName = simpleName(declaringClass);
+        }
+        if (member.kind() == AnnotationTarget.Kind.FIELD) {
+            baseName += "_field_" + member.asField().name();
+        } else {
+            baseName += "_method_" + member.asMethod().name();
+        }
+        String generatedName = generatedNameFromTarget(packageName(declaringClass.name()), baseName, SUFFIX);
+
+        ClassCreator accessor = ClassCreator.builder().classOutput(classOutput).className(generatedName)
+                .interfaces(ValueResolver.class).build();
+
+        MethodCreator appliesTo = accessor.getMethodCreator("appliesTo", boolean.class, EvalContext.class)
+                .setModifiers(ACC_PUBLIC);
+        ResultHandle base = appliesTo.invokeInterfaceMethod(Descriptors.GET_BASE, appliesTo.getMethodParam(0));
+        appliesTo.returnValue(appliesTo.instanceOf(base, declaringClass.name().toString()));
+
+        MethodCreator resolve = accessor.getMethodCreator("resolve", CompletionStage.class, EvalContext.class)
+                .setModifiers(ACC_PUBLIC);
+        base = resolve.invokeInterfaceMethod(Descriptors.GET_BASE, resolve.getMethodParam(0));
+        ResultHandle value;
+        if (member.kind() == AnnotationTarget.Kind.FIELD) {
+            value = resolve.readInstanceField(FieldDescriptor.of(member.asField()), base);
+        } else if (Modifier.isInterface(declaringClass.flags())) {
+            value = resolve.invokeInterfaceMethod(MethodDescriptor.of(member.asMethod()), base);
+        } else {
+            value = resolve.invokeVirtualMethod(MethodDescriptor.of(member.asMethod()), base);
+        }
+        resolve.returnValue(resolve.invokeStaticMethod(Descriptors.COMPLETED_STAGE, value));
+
+        accessor.close();
+
+        generatedType = generatedName.replace('/', '.');
+        generatedTypes.put(member, generatedType);
+        return generatedType;
+    }
+
+    public Set<String> getGeneratedTypes() {
+        return new HashSet<>(generatedTypes.values());
+    }
+
+}
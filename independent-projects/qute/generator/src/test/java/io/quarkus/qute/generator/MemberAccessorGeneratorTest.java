@@ -0,0 +1,70 @@
+package io.quarkus.qute.generator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.PrimitiveType;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.EngineBuilder;
+import io.quarkus.qute.Expression;
+import io.quarkus.qute.TestEvalContext;
+import io.quarkus.qute.ValueResolver;
+
+public class MemberAccessorGeneratorTest {
+
+    @Test
+    public void testGenerator() throws Exception {
+        Index index = SimpleGeneratorTest.index(MyService.class, MyItem.class, String.class, CompletionStage.class,
+                List.class);
+        ClassInfo myService = index.getClassByName(DotName.createSimple(MyService.class.getName()));
+        ClassInfo myItem = index.getClassByName(DotName.createSimple(MyItem.class.getName()));
+        MemberAccessorGenerator generator = new MemberAccessorGenerator(index, new TestClassOutput());
+
+        assertTrue(generator.isSupported(myService.method("getName")));
+        assertTrue(generator.isSupported(myItem.field("id")));
+        // Not public
+        assertFalse(generator.isSupported(myService.field("age")));
+        // Has params
+        assertFalse(generator.isSupported(myService.method("getList", PrimitiveType.INT)));
+
+        String getName = generator.generate(myService.method("getName"));
+        assertEquals("io.quarkus.qute.generator.MyService_method_getName_Accessor", getName);
+        // The accessor is only generated once
+        assertEquals(getName, generator.generate(myService.method("getName")));
+        String id = generator.generate(myItem.field("id"));
+        assertEquals(2, generator.getGeneratedTypes().size());
+
+        ValueResolver getNameResolver = newResolver(getName);
+        assertTrue(getNameResolver.appliesTo(new TestEvalContext(new MyService(), "getName", null)));
+        assertFalse(getNameResolver.appliesTo(new TestEvalContext(new MyItem(), "getName", null)));
+        assertEquals("Foo", getNameResolver.resolve(new TestEvalContext(new MyService(), "getName", null))
+                .toCompletableFuture().get(1, TimeUnit.SECONDS));
+        ValueResolver idResolver = newResolver(id);
+        assertEquals("foo", idResolver.resolve(new TestEvalContext(new MyItem(), "id", null))
+                .toCompletableFuture().get(1, TimeUnit.SECONDS));
+
+        // Bind the accessor to the part of an expression
+        String content = "{service.getName}";
+        Expression expression = Engine.builder().addDefaults().build().parse(content, null, "foo").getExpressions()
+                .get(0);
+        Engine engine = Engine.builder().addDefaults()
+                .bindValueResolver(EngineBuilder.expressionPartKey("foo", expression, 1), getNameResolver).build();
+        assertEquals("Foo", engine.parse(content, null, "foo").data("service", new MyService()).render());
+    }
+
+    private static ValueResolver newResolver(String className) throws Exception {
+        return (ValueResolver) MemberAccessorGeneratorTest.class.getClassLoader().loadClass(className)
+                .getDeclaredConstructor().newInstance();
+    }
+
+}
@@ -10,7 +10,6 @@
 import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.Deque;
 import java.util.LinkedList;
 import java.util.List;
@@ -208,7 +207,7 @@ public UriInfo getUriInfo() {
 
     public HttpHeadersImpl getHttpHeaders() {
         if (httpHeaders == null) {
-            httpHeaders = new HttpHeadersImpl(serverRequest().getAllRequestHeaders());
+            httpHeaders = new HttpHeadersImpl(serverRequest());
         }
         return httpHeaders;
     }
@@ -799,14 +798,9 @@ public Object getHeader(String name, boolean single) {
             return serverRequest().getAllRequestHeaders(name);
         } else {
             if (single)
-                return httpHeaders.getMutableHeaders().getFirst(name);
+                return httpHeaders.getFirstRequestHeader(name);
             // empty collections must not be turned to null
-            List<String> list = httpHeaders.getMutableHeaders().get(name);
-            if (list == null) {
-                return Collections.emptyList();
-            } else {
-                return list;
-            }
+            return httpHeaders.getRequestHeaderValues(name);
         }
     }
 
@@ -2,6 +2,7 @@
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Objects;
 
 import javax.ws.rs.InternalServerErrorException;
 import javax.ws.rs.RuntimeType;
@@ -14,6 +15,7 @@
 import org.jboss.resteasy.reactive.server.core.EncodedMediaType;
 import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
 import org.jboss.resteasy.reactive.server.core.ServerSerialisers;
+import org.jboss.resteasy.reactive.server.mapping.RuntimeResource;
 import org.jboss.resteasy.reactive.server.spi.ServerHttpRequest;
 import org.jboss.resteasy.reactive.server.spi.ServerHttpResponse;
 
@@ -43,23 +45,10 @@ public void write(ResteasyReactiveRequestContext context, Object entity) throws
             if ((context.getTarget() != null) && (context.getTarget().getProduces() != null)) {
                 MediaType negotiatedMediaType = context.getTarget().getProduces()
                         .negotiateProduces(vertxRequest.getRequestHeader(HttpHeaders.ACCEPT)).getKey();
-                List<MessageBodyWriter<?>> writersList = serialisers.findWriters(null, entity.getClass(), negotiatedMediaType,
-                        RuntimeType.SERVER);
-                if (!writersList.isEmpty()) {
-                    writers = writersList.toArray(EMPTY_ARRAY);
-                    // use the actual type the method declares as this is what the spec expects despite the fact that we might
-                    // have used the suffix of the subtype to determine a MessageBodyWriter
-                    MediaType[] sortedOriginalMediaTypes = context.getTarget().getProduces().getSortedOriginalMediaTypes();
-                    for (MediaType methodMediaType : sortedOriginalMediaTypes) {
-                        if (methodMediaType.isCompatible(negotiatedMediaType)) {
-                            selectedMediaType = methodMediaType;
-                            break;
-                        }
-                    }
-                    if (selectedMediaType == null) {
-                        // this should never happen
-                        selectedMediaType = sortedOriginalMediaTypes[0];
-                    }
+                CachedWriters cached = findWriters(context.getTarget(), entity.getClass(), negotiatedMediaType);
+                if (cached.writers.length > 0) {
+                    writers = cached.writers;
+                    selectedMediaType = cached.selectedMediaType;
                 }
             } else if (vertxRequest.getRequestHeader(HttpHeaders.ACCEPT) != null
                     && !MediaType.WILDCARD.equals(vertxRequest.getRequestHeader(HttpHeaders.ACCEPT))) {
@@ -98,9 +87,7 @@ public void write(ResteasyReactiveRequestContext context, Object entity) throws
                 }
             }
         } else {
-            writers = serialisers
-                    .findWriters(null, entity.getClass(), producesMediaType.getMediaType(), RuntimeType.SERVER)
-                    .toArray(ServerSerialisers.NO_WRITER);
+            writers = findWriters(context.getTarget(), entity.getClass(), producesMediaType.getMediaType()).writers;
         }
         for (MessageBodyWriter<?> w : writers) {
             if (ServerSerialisers.invokeWriter(context, entity, w, serialisers, serverSerializersMediaType)) {
@@ -111,4 +98,66 @@ public void write(ResteasyReactiveRequestContext context, Object entity) throws
                 Response.serverError().build());
     }
 
+    /**
+     * Finds the writers for the given entity type and media type, using the inline cache of the resource: when a
+     * resource keeps returning entities of the same class with the same media type, which is the common case, the
+     * writers are only resolved once.
+     */
+    private CachedWriters findWriters(RuntimeResource target, Class<?> entityType, MediaType mediaType) {
+        if (target != null) {
+            CachedWriters cached = target.getCachedWriters();
+            if (cached != null && cached.matches(entityType, mediaType)) {
+                return cached;
+            }
+        }
+        List<MessageBodyWriter<?>> writersList = serialisers.findWriters(null, entityType, mediaType, RuntimeType.SERVER);
+        MediaType selectedMediaType = null;
+        if (!writersList.isEmpty() && (target != null) && (target.getProduces() != null)) {
+            // use the actual type the method declares as this is what the spec expects despite the fact that we might
+            // have used the suffix of the subtype to determine a MessageBodyWriter
+            MediaType[] sortedOriginalMediaTypes = target.getProduces().getSortedOriginalMediaTypes();
+            for (MediaType methodMediaType : sortedOriginalMediaTypes) {
+                if (methodMediaType.isCompatible(mediaType)) {
+                    selectedMediaType = methodMediaType;
+                    break;
+                }
+            }
+            if (selectedMediaType == null) {
+                // this should never happen
+                selectedMediaType = sortedOriginalMediaTypes[0];
+            }
+        }
+        CachedWriters result = new CachedWriters(entityType, mediaType, writersList.toArray(EMPTY_ARRAY),
+                selectedMediaType);
+        if (target != null) {
+            target.setCachedWriters(result);
+        }
+        return result;
+    }
+
+    /**
+     * The writers resolved for an entity type and a media type.
+     */
+    public static final class CachedWriters {
+
+        final Class<?> entityType;
+        final MediaType mediaType;
+        final MessageBodyWriter<?>[] writers;
+        /**
+         * The media type declared by the resource method which is compatible with {@link #mediaType}
+         */
+        final MediaType selectedMediaType;
+
+        CachedWriters(Class<?> entityType, MediaType mediaType, MessageBodyWriter<?>[] writers,
+                MediaType selectedMediaType) {
+            this.entityType = entityType;
+            this.mediaType = mediaType;
+            this.writers = writers;
+            this.selectedMediaType = selectedMediaType;
+        }
+
+        boolean matches(Class<?> entityType, MediaType mediaType) {
+            return this.entityType == entityType && Objects.equals(this.mediaType, mediaType);
+        }
+    }
 }
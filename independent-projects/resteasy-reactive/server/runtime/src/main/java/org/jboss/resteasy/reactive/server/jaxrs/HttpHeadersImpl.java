@@ -1,10 +1,12 @@
 package org.jboss.resteasy.reactive.server.jaxrs;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 
 import javax.ws.rs.core.Cookie;
 import javax.ws.rs.core.HttpHeaders;
@@ -14,6 +16,7 @@
 import org.jboss.resteasy.reactive.common.headers.HeaderUtil;
 import org.jboss.resteasy.reactive.common.util.CaseInsensitiveMap;
 import org.jboss.resteasy.reactive.common.util.UnmodifiableMultivaluedMap;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpRequest;
 
 /**
  * @author <a href="mailto:bill@burkecentral.com">Bill Burke</a>
@@ -21,15 +24,18 @@
  */
 public class HttpHeadersImpl implements HttpHeaders {
 
+    private final ServerHttpRequest serverRequest;
+    /**
+     * The copy of the request headers, only made when they are modified or iterated
+     */
+    private CaseInsensitiveMap<String> mutableHeaders;
     private final MultivaluedMap<String, String> requestHeaders;
     private final MultivaluedMap<String, String> unmodifiableRequestHeaders;
     private Map<String, Cookie> cookies;
 
-    public HttpHeadersImpl(Iterable<Map.Entry<String, String>> vertxHeaders) {
-        requestHeaders = new CaseInsensitiveMap<>();
-        for (Map.Entry<String, String> entry : vertxHeaders) {
-            requestHeaders.add(entry.getKey(), entry.getValue());
-        }
+    public HttpHeadersImpl(ServerHttpRequest serverRequest) {
+        this.serverRequest = serverRequest;
+        this.requestHeaders = new LazyRequestHeaders();
         this.unmodifiableRequestHeaders = new UnmodifiableMultivaluedMap<>(requestHeaders, false);
     }
 
@@ -38,8 +44,35 @@ public MultivaluedMap<String, String> getRequestHeaders() {
         return unmodifiableRequestHeaders;
     }
 
+    /**
+     * Returns the request headers, which can be modified by the request filters. The headers of the underlying request
+     * are copied the first time this method is called.
+     */
     public MultivaluedMap<String, String> getMutableHeaders() {
-        return requestHeaders;
+        if (mutableHeaders == null) {
+            CaseInsensitiveMap<String> headers = new CaseInsensitiveMap<>();
+            for (Map.Entry<String, String> entry : serverRequest.getAllRequestHeaders()) {
+                headers.add(entry.getKey(), entry.getValue());
+            }
+            mutableHeaders = headers;
+        }
+        return mutableHeaders;
+    }
+
+    /**
+     * Returns the first value of the given header, without copying the request headers if they were not modified.
+     */
+    public String getFirstRequestHeader(String name) {
+        return requestHeaders.getFirst(name);
+    }
+
+    /**
+     * Returns the values of the given header, without copying the request headers if they were not modified. The returned
+     * list can not be modified.
+     */
+    public List<String> getRequestHeaderValues(String name) {
+        List<String> values = requestHeaders.get(name);
+        return values == null ? Collections.<String> emptyList() : Collections.unmodifiableList(values);
     }
 
     @Override
@@ -110,4 +143,135 @@ public List<MediaType> getModifiableAcceptableMediaTypes() {
     public List<Locale> getAcceptableLanguages() {
         return HeaderUtil.getAcceptableLanguages(requestHeaders);
     }
+
+    /**
+     * A view of the request headers which reads the headers of the underlying request, until they are copied by
+     * {@link #getMutableHeaders()}. Only the lookups by name are served without copying the headers.
+     */
+    private final class LazyRequestHeaders implements MultivaluedMap<String, String> {
+
+        @Override
+        public String getFirst(String key) {
+            if (mutableHeaders != null) {
+                return mutableHeaders.getFirst(key);
+            }
+            return serverRequest.getRequestHeader(key);
+        }
+
+        @Override
+        public List<String> get(Object key) {
+            if (mutableHeaders != null) {
+                return mutableHeaders.get(key);
+            }
+            if (!(key instanceof String)) {
+                return null;
+            }
+            List<String> values = serverRequest.getAllRequestHeaders((String) key);
+            // like a map, return null when the header is absent
+            return values == null || values.isEmpty() ? null : values;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            if (mutableHeaders != null) {
+                return mutableHeaders.containsKey(key);
+            }
+            return key instanceof String && serverRequest.containsRequestHeader((String) key);
+        }
+
+        @Override
+        public void putSingle(String key, String value) {
+            getMutableHeaders().putSingle(key, value);
+        }
+
+        @Override
+        public void add(String key, String value) {
+            getMutableHeaders().add(key, value);
+        }
+
+        @Override
+        public void addAll(String key, String... newValues) {
+            getMutableHeaders().addAll(key, newValues);
+        }
+
+        @Override
+        public void addAll(String key, List<String> valueList) {
+            getMutableHeaders().addAll(key, valueList);
+        }
+
+        @Override
+        public void addFirst(String key, String value) {
+            getMutableHeaders().addFirst(key, value);
+        }
+
+        @Override
+        public boolean equalsIgnoreValueOrder(MultivaluedMap<String, String> otherMap) {
+            return getMutableHeaders().equalsIgnoreValueOrder(otherMap);
+        }
+
+        @Override
+        public int size() {
+            return getMutableHeaders().size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return getMutableHeaders().isEmpty();
+        }
+
+        @Override
+        public boolean containsValue(Object value) {
+            return getMutableHeaders().containsValue(value);
+        }
+
+        @Override
+        public List<String> put(String key, List<String> value) {
+            return getMutableHeaders().put(key, value);
+        }
+
+        @Override
+        public List<String> remove(Object key) {
+            return getMutableHeaders().remove(key);
+        }
+
+        @Override
+        public void putAll(Map<? extends String, ? extends List<String>> m) {
+            getMutableHeaders().putAll(m);
+        }
+
+        @Override
+        public void clear() {
+            getMutableHeaders().clear();
+        }
+
+        @Override
+        public Set<String> keySet() {
+            return getMutableHeaders().keySet();
+        }
+
+        @Override
+        public Collection<List<String>> values() {
+            return getMutableHeaders().values();
+        }
+
+        @Override
+        public Set<Entry<String, List<String>>> entrySet() {
+            return getMutableHeaders().entrySet();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return getMutableHeaders().equals(o);
+        }
+
+        @Override
+        public int hashCode() {
+            return getMutableHeaders().hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return getMutableHeaders().toString();
+        }
+    }
 }
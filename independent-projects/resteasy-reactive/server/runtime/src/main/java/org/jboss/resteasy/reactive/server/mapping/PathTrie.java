@@ -0,0 +1,210 @@
+package org.jboss.resteasy.reactive.server.mapping;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A radix tree of path prefixes, which finds the longest registered prefix of a path.
+ * <p>
+ * Each node holds the characters shared by all the prefixes below it, so a lookup reads every character of the path at
+ * most once, and does not allocate. The prefix {@code /} is never stored in the tree, it is the default value, matched
+ * when no other prefix is.
+ */
+class PathTrie<T> implements Dumpable {
+
+    private final Node<T> root;
+    private final Node<T> defaultNode;
+
+    private PathTrie(Node<T> root, Node<T> defaultNode) {
+        this.root = root;
+        this.defaultNode = defaultNode;
+    }
+
+    /**
+     * Returns the node of the longest prefix of the given path, or the default node if no prefix matches.
+     * <p>
+     * Note that the prefixes are matched character by character, the prefix {@code /foo} matches the path {@code /foobar}.
+     */
+    Node<T> match(String path) {
+        int length = path.length();
+        Node<T> best = defaultNode;
+        Node<T> node = root;
+        int pos = 0;
+        for (;;) {
+            if (node.value != null) {
+                best = node;
+            }
+            if (pos == length) {
+                return best;
+            }
+            Node<T> next = node.child(path.charAt(pos));
+            if (next == null) {
+                return best;
+            }
+            String label = next.label;
+            if (pos + label.length() > length || !path.regionMatches(pos + 1, label, 1, label.length() - 1)) {
+                return best;
+            }
+            pos += label.length();
+            node = next;
+        }
+    }
+
+    @Override
+    public void dump(int level) {
+        root.dump(level);
+        indent(level);
+        System.err.println("Default value: ");
+        if (defaultNode.value != null) {
+            dumpValue(defaultNode.value, level + 1);
+        }
+    }
+
+    private static void dumpValue(Object value, int level) {
+        if (value instanceof Object[]) {
+            for (Object x : (Object[]) value) {
+                if (x instanceof Dumpable)
+                    ((Dumpable) x).dump(level);
+            }
+        }
+    }
+
+    static final class Node<T> implements Dumpable {
+
+        private static final char[] NO_CHARS = new char[0];
+
+        private String label;
+        private T value;
+        /**
+         * The length of the prefix ending at this node
+         */
+        private final int length;
+        private char[] firstChars = NO_CHARS;
+        private Node<T>[] children;
+        private List<Node<T>> childList = new ArrayList<>();
+
+        private Node(String label, int length) {
+            this.label = label;
+            this.length = length;
+        }
+
+        T getValue() {
+            return value;
+        }
+
+        /**
+         * Returns the length of the prefix this node matched.
+         */
+        int getLength() {
+            return length;
+        }
+
+        private Node<T> child(char c) {
+            char[] firstChars = this.firstChars;
+            for (int i = 0; i < firstChars.length; ++i) {
+                if (firstChars[i] == c) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        private Node<T> findChild(char c) {
+            for (Node<T> child : childList) {
+                if (child.label.charAt(0) == c) {
+                    return child;
+                }
+            }
+            return null;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void freeze() {
+            firstChars = new char[childList.size()];
+            children = new Node[childList.size()];
+            for (int i = 0; i < children.length; ++i) {
+                Node<T> child = childList.get(i);
+                firstChars[i] = child.label.charAt(0);
+                children[i] = child;
+                child.freeze();
+            }
+            childList = null;
+        }
+
+        @Override
+        public void dump(int level) {
+            indent(level);
+            System.err.println("Node: " + label);
+            if (value != null) {
+                indent(level + 1);
+                System.err.println("value: ");
+                dumpValue(value, level + 2);
+            }
+            for (Node<T> child : children) {
+                child.dump(level + 1);
+            }
+        }
+    }
+
+    static class Builder<T> {
+
+        private static final String STRING_PATH_SEPARATOR = "/";
+
+        private final Node<T> root = new Node<>("", 0);
+        private final Node<T> defaultNode = new Node<>(STRING_PATH_SEPARATOR, 1);
+
+        /**
+         * Adds a path prefix and its value. If {@code /} is specified as the path then it will replace the default value.
+         *
+         * @param path The path
+         * @param value The value
+         */
+        void addPrefixPath(String path, T value) {
+            if (path.isEmpty()) {
+                throw new IllegalArgumentException("Path not specified");
+            }
+
+            if (STRING_PATH_SEPARATOR.equals(path)) {
+                defaultNode.value = value;
+                return;
+            } else if (path.endsWith(STRING_PATH_SEPARATOR)) {
+                throw new RuntimeException("Prefix path cannot end with /");
+            }
+
+            Node<T> node = root;
+            int pos = 0;
+            while (pos < path.length()) {
+                Node<T> child = node.findChild(path.charAt(pos));
+                if (child == null) {
+                    child = new Node<>(path.substring(pos), path.length());
+                    node.childList.add(child);
+                    node = child;
+                    break;
+                }
+                String label = child.label;
+                int common = 1;
+                while (common < label.length() && pos + common < path.length()
+                        && label.charAt(common) == path.charAt(pos + common)) {
+                    common++;
+                }
+                if (common < label.length()) {
+                    // split the child at the end of the common part
+                    Node<T> split = new Node<>(label.substring(0, common), pos + common);
+                    node.childList.set(node.childList.indexOf(child), split);
+                    child.label = label.substring(common);
+                    split.childList.add(child);
+                    child = split;
+                }
+                pos += common;
+                node = child;
+            }
+            node.value = value;
+        }
+
+        PathTrie<T> build() {
+            root.freeze();
+            defaultNode.freeze();
+            return new PathTrie<>(root, defaultNode);
+        }
+    }
+}
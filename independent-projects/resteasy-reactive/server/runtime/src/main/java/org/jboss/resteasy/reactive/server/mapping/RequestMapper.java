@@ -6,21 +6,29 @@
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiConsumer;
 import java.util.regex.Matcher;
 
 import org.jboss.resteasy.reactive.common.util.URIDecoder;
 
+/**
+ * Maps a path to the template which matches it.
+ * <p>
+ * The candidate templates are grouped by their stem, the literal text they start with, and the stems are stored in a
+ * {@link PathTrie}, so the candidates are found in a single pass over the path whatever the number of templates. The
+ * candidates are then tried in order, the literal and the single segment components being matched in place, and the
+ * parameters being captured in a single array per lookup.
+ */
 public class RequestMapper<T> {
 
     private static final String[] EMPTY_STRING_ARRAY = new String[0];
 
-    private final PathMatcher<List<RequestPath<T>>> requestPaths;
-    private final PathMatcher.Builder<List<RequestPath<T>>> pathMatcherBuilder;
+    private final PathTrie<RequestPath<T>[]> requestPaths;
     private final List<RequestPath<T>> templates;
     final int maxParams;
 
     public RequestMapper(List<RequestPath<T>> templates) {
-        pathMatcherBuilder = new PathMatcher.Builder<>();
+        PathTrie.Builder<RequestPath<T>[]> pathTrieBuilder = new PathTrie.Builder<>();
         this.templates = templates;
         int max = 0;
         Map<String, List<RequestPath<T>>> aggregates = new HashMap<>();
@@ -33,9 +41,15 @@ public RequestMapper(List<RequestPath<T>> templates) {
             max = Math.max(max, i.template.countPathParamNames());
         }
         aggregates.forEach(this::sortAggregates);
-        aggregates.forEach(this::addPrefixPaths);
+        aggregates.forEach(new BiConsumer<String, List<RequestPath<T>>>() {
+            @SuppressWarnings("unchecked")
+            @Override
+            public void accept(String stem, List<RequestPath<T>> list) {
+                pathTrieBuilder.addPrefixPath(stem, list.toArray(new RequestPath[0]));
+            }
+        });
         maxParams = max;
-        requestPaths = pathMatcherBuilder.build();
+        requestPaths = pathTrieBuilder.build();
     }
 
     private void sortAggregates(String stem, List<RequestPath<T>> list) {
@@ -47,33 +61,31 @@ public int compare(RequestPath<T> t1, RequestPath<T> t2) {
         });
     }
 
-    private void addPrefixPaths(String stem, List<RequestPath<T>> list) {
-        pathMatcherBuilder.addPrefixPath(stem, list);
-    }
-
     @SuppressWarnings({ "rawtypes", "unchecked" })
     public RequestMatch<T> map(String path) {
         int pathLength = path.length();
-        PathMatcher.PathMatch<List<RequestPath<T>>> initialMatch = requestPaths.match(path);
-        if (initialMatch.getValue() == null) {
+        PathTrie.Node<RequestPath<T>[]> initialMatch = requestPaths.match(path);
+        RequestPath<T>[] value = initialMatch.getValue();
+        if (value == null) {
             return null;
         }
 
-        List<RequestPath<T>> value = initialMatch.getValue();
-        for (int index = 0; index < value.size(); index++) {
-            RequestPath<T> potentialMatch = value.get(index);
-            String[] params = (maxParams > 0) ? new String[maxParams] : EMPTY_STRING_ARRAY;
+        // the parameters of the candidates which did not match are overwritten by the next ones
+        String[] params = (maxParams > 0) ? new String[maxParams] : EMPTY_STRING_ARRAY;
+        int usedParams = 0;
+        candidates: for (int index = 0; index < value.length; index++) {
+            RequestPath<T> potentialMatch = value[index];
             int paramCount = 0;
-            boolean matched = true;
             boolean prefixAllowed = potentialMatch.prefixTemplate;
-            int matchPos = initialMatch.getMatched().length();
-            for (int i = 1; i < potentialMatch.template.components.length; ++i) {
-                URITemplate.TemplateComponent segment = potentialMatch.template.components[i];
+            int matchPos = initialMatch.getLength();
+            URITemplate.TemplateComponent[] components = potentialMatch.template.components;
+            for (int i = 1; i < components.length; ++i) {
+                URITemplate.TemplateComponent segment = components[i];
                 if (segment.type == URITemplate.Type.CUSTOM_REGEX) {
                     Matcher matcher = segment.pattern.matcher(path);
-                    matched = matcher.find(matchPos);
-                    if (!matched || matcher.start() != matchPos) {
-                        break;
+                    if (!matcher.find(matchPos) || matcher.start() != matchPos) {
+                        usedParams = Math.max(usedParams, paramCount);
+                        continue candidates;
                     }
                     matchPos = matcher.end();
                     for (String group : segment.groups) {
@@ -81,20 +93,16 @@ public RequestMatch<T> map(String path) {
                     }
                 } else if (segment.type == URITemplate.Type.LITERAL) {
                     //make sure the literal text is the same
-                    if (matchPos + segment.literalText.length() > pathLength) {
-                        matched = false;
-                        break; //too long
-                    }
-                    for (int pos = 0; pos < segment.literalText.length(); ++pos) {
-                        if (path.charAt(matchPos++) != segment.literalText.charAt(pos)) {
-                            matched = false;
-                            break;
-                        }
+                    String literalText = segment.literalText;
+                    if (!path.regionMatches(matchPos, literalText, 0, literalText.length())) {
+                        usedParams = Math.max(usedParams, paramCount);
+                        continue candidates;
                     }
+                    matchPos += literalText.length();
                 } else if (segment.type == URITemplate.Type.DEFAULT_REGEX) {
                     if (matchPos == pathLength) {
-                        matched = false;
-                        break;
+                        usedParams = Math.max(usedParams, paramCount);
+                        continue candidates;
                     }
                     int start = matchPos;
                     while (matchPos < pathLength && path.charAt(matchPos) != '/') {
@@ -103,9 +111,7 @@ public RequestMatch<T> map(String path) {
                     params[paramCount++] = URIDecoder.decodeURIComponent(path.substring(start, matchPos), false);
                 }
             }
-            if (paramCount < params.length) {
-                params[paramCount] = null;
-            }
+            usedParams = Math.max(usedParams, paramCount);
             boolean fullMatch = matchPos == pathLength;
             boolean doPrefixMatch = false;
             if (!fullMatch) {
@@ -113,7 +119,10 @@ public RequestMatch<T> map(String path) {
                 doPrefixMatch = (matchPos == 1 || path.charAt(matchPos) == '/') //matchPos == 1 corresponds to '/' as a root level match
                         && (prefixAllowed || matchPos == pathLength - 1); //if prefix is allowed, or the remainder is only a trailing /
             }
-            if (matched && (fullMatch || doPrefixMatch)) {
+            if (fullMatch || doPrefixMatch) {
+                if (paramCount < usedParams) {
+                    Arrays.fill(params, paramCount, usedParams, null);
+                }
                 String remaining;
                 if (fullMatch) {
                     remaining = "";
@@ -187,10 +196,6 @@ public void dump() {
         this.requestPaths.dump(0);
     }
 
-    public PathMatcher<List<RequestPath<T>>> getRequestPaths() {
-        return requestPaths;
-    }
-
     public List<RequestPath<T>> getTemplates() {
         return templates;
     }
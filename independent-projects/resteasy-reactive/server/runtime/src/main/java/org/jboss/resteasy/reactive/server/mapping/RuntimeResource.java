@@ -10,6 +10,7 @@
 import org.jboss.resteasy.reactive.common.util.ServerMediaType;
 import org.jboss.resteasy.reactive.server.SimpleResourceInfo;
 import org.jboss.resteasy.reactive.server.core.ResteasyReactiveSimplifiedResourceInfo;
+import org.jboss.resteasy.reactive.server.core.serialization.DynamicEntityWriter;
 import org.jboss.resteasy.reactive.server.spi.EndpointInvoker;
 import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveResourceInfo;
 import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
@@ -37,6 +38,12 @@ public class RuntimeResource {
     private final Map<ScoreSystem.Category, List<ScoreSystem.Diagnostic>> score;
     private final MediaType streamElementType;
     private final Map<Class<? extends Throwable>, ResourceExceptionMapper<? extends Throwable>> classExceptionMappers;
+    /**
+     * The writers resolved at runtime for the last entity written by this resource, see {@link DynamicEntityWriter}.
+     * <p>
+     * This is racy, but the cached value is immutable, so the worst case is a redundant resolution.
+     */
+    private DynamicEntityWriter.CachedWriters cachedWriters;
 
     public RuntimeResource(String httpMethod, URITemplate path, URITemplate classPath, ServerMediaType produces,
             List<MediaType> consumes,
@@ -154,6 +161,14 @@ public Map<Class<? extends Throwable>, ResourceExceptionMapper<? extends Throwab
         return classExceptionMappers;
     }
 
+    public DynamicEntityWriter.CachedWriters getCachedWriters() {
+        return cachedWriters;
+    }
+
+    public void setCachedWriters(DynamicEntityWriter.CachedWriters cachedWriters) {
+        this.cachedWriters = cachedWriters;
+    }
+
     @Override
     public String toString() {
         return "RuntimeResource{ method: " + javaMethodName + ", path: " + path + "}";
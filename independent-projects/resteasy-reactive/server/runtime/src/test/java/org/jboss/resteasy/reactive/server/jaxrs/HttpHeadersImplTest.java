@@ -0,0 +1,128 @@
+package org.jboss.resteasy.reactive.server.jaxrs;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.ws.rs.core.MultivaluedMap;
+
+import org.jboss.resteasy.reactive.server.spi.ServerHttpRequest;
+import org.junit.jupiter.api.Test;
+
+public class HttpHeadersImplTest {
+
+    private final List<Map.Entry<String, String>> headers = new ArrayList<>();
+    private final AtomicInteger copies = new AtomicInteger();
+
+    @Test
+    public void testLookupWithoutCopy() {
+        addHeader("Accept", "text/plain");
+        addHeader("X-Multi", "a");
+        addHeader("Content-Type", "application/json");
+        addHeader("x-multi", "b");
+        HttpHeadersImpl httpHeaders = new HttpHeadersImpl(request());
+
+        assertEquals(List.of("a", "b"), httpHeaders.getRequestHeader("X-MULTI"));
+        assertEquals(List.of("a", "b"), httpHeaders.getRequestHeaderValues("x-Multi"));
+        assertEquals("a", httpHeaders.getFirstRequestHeader("x-multi"));
+        assertEquals("application/json", httpHeaders.getHeaderString("content-type"));
+        assertTrue(httpHeaders.getRequestHeaders().containsKey("ACCEPT"));
+        assertFalse(httpHeaders.getRequestHeaders().containsKey("X-Missing"));
+        assertNull(httpHeaders.getRequestHeaders().get("X-Missing"));
+        assertEquals(List.of(), httpHeaders.getRequestHeader("X-Missing"));
+        assertEquals(0, copies.get());
+    }
+
+    @Test
+    public void testUnmodifiableValues() {
+        addHeader("X-Multi", "a");
+        HttpHeadersImpl httpHeaders = new HttpHeadersImpl(request());
+
+        assertThrows(UnsupportedOperationException.class, () -> httpHeaders.getRequestHeaderValues("X-Multi").add("b"));
+        assertThrows(UnsupportedOperationException.class, () -> httpHeaders.getRequestHeader("X-Multi").add("b"));
+        assertThrows(UnsupportedOperationException.class, () -> httpHeaders.getRequestHeaders().add("X-Multi", "b"));
+        assertEquals(List.of("a"), httpHeaders.getRequestHeaderValues("X-Multi"));
+    }
+
+    @Test
+    public void testIteration() {
+        addHeader("X-Multi", "a");
+        addHeader("Accept", "text/plain");
+        addHeader("x-multi", "b");
+        addHeader("X-MULTI", "c");
+        HttpHeadersImpl httpHeaders = new HttpHeadersImpl(request());
+
+        // the names which only differ by their case are the same header
+        assertEquals(2, httpHeaders.getRequestHeaders().size());
+        assertEquals(1, copies.get());
+        assertEquals(List.of("a", "b", "c"), httpHeaders.getRequestHeaders().get("x-multi"));
+        // the headers are only copied once
+        assertEquals(List.of("a", "b", "c"), httpHeaders.getRequestHeaderValues("X-Multi"));
+        assertEquals(2, httpHeaders.getRequestHeaders().keySet().size());
+        assertEquals(1, copies.get());
+    }
+
+    @Test
+    public void testMutableHeaders() {
+        addHeader("X-Multi", "a");
+        addHeader("x-multi", "b");
+        HttpHeadersImpl httpHeaders = new HttpHeadersImpl(request());
+
+        MultivaluedMap<String, String> mutableHeaders = httpHeaders.getMutableHeaders();
+        mutableHeaders.add("X-MULTI", "c");
+        mutableHeaders.putSingle("X-Added", "added");
+
+        // the lookups now read the modified copy
+        assertEquals(List.of("a", "b", "c"), httpHeaders.getRequestHeader("x-multi"));
+        assertEquals("added", httpHeaders.getFirstRequestHeader("x-added"));
+        assertEquals(2, httpHeaders.getRequestHeaders().size());
+        assertEquals(1, copies.get());
+    }
+
+    private void addHeader(String name, String value) {
+        headers.add(new AbstractMap.SimpleEntry<>(name, value));
+    }
+
+    /**
+     * A request which looks up the headers by name ignoring the case, like the Vert.x headers.
+     */
+    private ServerHttpRequest request() {
+        return (ServerHttpRequest) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] { ServerHttpRequest.class }, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getRequestHeader":
+                            List<String> values = getAll(args[0].toString());
+                            return values.isEmpty() ? null : values.get(0);
+                        case "getAllRequestHeaders":
+                            if (args == null) {
+                                copies.incrementAndGet();
+                                return headers;
+                            }
+                            return getAll(args[0].toString());
+                        case "containsRequestHeader":
+                            return !getAll(args[0].toString()).isEmpty();
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    private List<String> getAll(String name) {
+        List<String> values = new ArrayList<>();
+        for (Map.Entry<String, String> header : headers) {
+            if (header.getKey().equalsIgnoreCase(name)) {
+                values.add(header.getValue());
+            }
+        }
+        return values;
+    }
+}
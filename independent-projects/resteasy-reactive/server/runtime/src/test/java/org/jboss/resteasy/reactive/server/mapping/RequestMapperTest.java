@@ -0,0 +1,91 @@
+package org.jboss.resteasy.reactive.server.mapping;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class RequestMapperTest {
+
+    @Test
+    public void testLongestStem() {
+        RequestMapper<String> mapper = mapper("/", "/hello", "/hello/world", "/help", "/hello/{name}");
+        assertMatch(mapper, "/hello", "/hello", "");
+        assertMatch(mapper, "/hello/world", "/hello/world", "");
+        assertMatch(mapper, "/hello/bob", "/hello/{name}", "", "bob");
+        assertMatch(mapper, "/help", "/help", "");
+        assertMatch(mapper, "/", "/", "");
+        assertNull(mapper.map("/other"));
+        // prefixes are not matched on segment boundaries, so /help wins, and then fails
+        assertNull(mapper.map("/helpme"));
+    }
+
+    @Test
+    public void testParameters() {
+        RequestMapper<String> mapper = mapper("/users/{id}", "/users/{id}/orders/{order}", "/users/{id:\\d+}/items",
+                "/users/me");
+        assertMatch(mapper, "/users/me", "/users/me", "");
+        assertMatch(mapper, "/users/42", "/users/{id}", "", "42");
+        assertMatch(mapper, "/users/a%20b", "/users/{id}", "", "a b");
+        assertMatch(mapper, "/users/42/orders/7", "/users/{id}/orders/{order}", "", "42", "7");
+        assertMatch(mapper, "/users/42/items", "/users/{id:\\d+}/items", "", "42");
+        assertNull(mapper.map("/users/abc/items"));
+        // the values captured by a candidate which failed do not leak
+        RequestMapper.RequestMatch<String> match = mapper.map("/users/abc");
+        assertNull(match.pathParamValues[1]);
+    }
+
+    @Test
+    public void testPrefix() {
+        List<RequestMapper.RequestPath<String>> paths = new ArrayList<>();
+        paths.add(new RequestMapper.RequestPath<>(true, new URITemplate("/locator/{id}", true), "/locator/{id}"));
+        paths.add(new RequestMapper.RequestPath<>(false, new URITemplate("/exact", false), "/exact"));
+        RequestMapper<String> mapper = new RequestMapper<>(paths);
+        assertMatch(mapper, "/locator/1/sub/resource", "/locator/{id}", "/sub/resource", "1");
+        assertMatch(mapper, "/exact/", "/exact", "/");
+        assertNull(mapper.map("/exact/more"));
+        assertNull(mapper.map("/exac"));
+    }
+
+    @Test
+    public void testSharedPrefixes() {
+        List<String> templates = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            templates.add("/api/v" + (i % 3) + "/resource" + i);
+            templates.add("/api/v" + (i % 3) + "/resource" + i + "/{id}");
+        }
+        RequestMapper<String> mapper = mapper(templates.toArray(new String[0]));
+        for (int i = 0; i < 100; i++) {
+            String template = "/api/v" + (i % 3) + "/resource" + i;
+            assertMatch(mapper, template, template, "");
+            assertMatch(mapper, template + "/x", template + "/{id}", "", "x");
+        }
+        assertNull(mapper.map("/api/v3/resource1"));
+        assertNull(mapper.map("/api"));
+    }
+
+    private static RequestMapper<String> mapper(String... templates) {
+        List<RequestMapper.RequestPath<String>> paths = new ArrayList<>();
+        for (String template : templates) {
+            paths.add(new RequestMapper.RequestPath<>(false, new URITemplate(template, false), template));
+        }
+        return new RequestMapper<>(paths);
+    }
+
+    private static void assertMatch(RequestMapper<String> mapper, String path, String template, String remaining,
+            String... params) {
+        RequestMapper.RequestMatch<String> match = mapper.map(path);
+        assertEquals(template, match.value);
+        assertEquals(remaining, match.remaining);
+        String[] values = new String[params.length];
+        System.arraycopy(match.pathParamValues, 0, values, 0, params.length);
+        assertArrayEquals(params, values);
+        if (params.length < match.pathParamValues.length) {
+            assertNull(match.pathParamValues[params.length]);
+        }
+    }
+}